@@ -1,9 +1,8 @@
 package com.pulse.member.adapter.in.grpc;
 
 import com.pulse.member.adapter.in.web.dto.response.MemberResponseDTO;
-import com.pulse.member.adapter.out.event.MemberCreateEvent;
 import com.pulse.member.application.port.in.member.FindMemberUseCase;
-import com.pulse.member.application.port.in.outbox.MemberOutboxUseCase;
+import com.pulse.member.config.grpc.interceptor.GrpcAuthContext;
 import com.pulse.member.config.trace.annotation.TraceGrpcServer;
 import com.pulse.member.domain.Member;
 import com.pulse.member.grpc.MemberProto;
@@ -29,7 +28,6 @@ public class MemberGrpcServiceAdapter extends MemberServiceGrpc.MemberServiceImp
 
     private final FindMemberUseCase memberUseCase;
     private final MemberMapper memberMapper;
-    private final MemberOutboxUseCase memberOutboxUseCase;
 
 
     /**
@@ -45,7 +43,9 @@ public class MemberGrpcServiceAdapter extends MemberServiceGrpc.MemberServiceImp
             MemberProto.MemberIdRequest request,
             StreamObserver<MemberProto.MemberRetrieveResponse> responseObserver
     ) {
-        MemberCreateEvent event = new MemberCreateEvent(request.getId());
+        log.debug("GetMemberById called by {}", GrpcAuthContext.currentPrincipal()
+                .map(principal -> "member " + principal.getMemberId())
+                .orElse("internal service"));
         try {
             Member member = Member.of(request.getId());
             MemberResponseDTO findMember = memberUseCase.findMemberById(member);
@@ -53,12 +53,7 @@ public class MemberGrpcServiceAdapter extends MemberServiceGrpc.MemberServiceImp
 
             responseObserver.onNext(response);
             responseObserver.onCompleted();
-
-            // outbox 이벤트 성공 처리
-            memberOutboxUseCase.markOutboxEventSuccess(event);
         } catch (Exception e) {
-            // 예외 발생 시 outbox 이벤트 실패 처리
-            memberOutboxUseCase.markOutboxEventFailed(event);
             responseObserver.onError(e);
             throw e; // 예외를 다시 던져 AOP에서 처리되도록 함
         }
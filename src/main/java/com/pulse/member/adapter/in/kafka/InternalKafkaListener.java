@@ -1,25 +1,45 @@
 package com.pulse.member.adapter.in.kafka;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pulse.member.adapter.out.event.MemberCreateEvent;
 import com.pulse.member.adapter.out.event.NicknameChangeEvent;
 import com.pulse.member.adapter.out.event.ProfileImageChangeEvent;
 import com.pulse.member.adapter.out.event.outbox.OutboxEvent;
 import com.pulse.member.application.port.in.outbox.MemberOutboxUseCase;
+import com.pulse.member.config.kafka.KeyOrderedBatchExecutor;
 import com.pulse.member.config.trace.annotation.TraceOutboxKafka;
+import com.pulse.member.grpc.MemberEventProto.MemberOutboxEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.springframework.core.log.LogAccessor;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import static com.pulse.member.util.Constant.OUTBOX_CREATED_AT_HEADER;
+import static com.pulse.member.util.Constant.OUTBOX_ID_HEADER;
+
 /**
  * Outbox 테이블의 상태를 업데이트하는 리스너 (Transactional Outbox Pattern 내부 Kafka 리스너)
  * Outbox 테이블에 message_status와 processed_at 컬럼을 업데이트한다.
+ * relay가 전송한 메시지에는 outbox-id 헤더가 있으므로, Outbox 행을 조회하지 않고 PK로 바로 업데이트한다.
+ * record 값은 컨테이너에서 protobuf(MemberEventProto.MemberOutboxEvent)로 역직렬화되어 전달된다. (MemberOutboxEventDeserializer)
+ * poll 한 번에 수신한 메시지를 batch로 받아 UPDATE ... WHERE id IN (...) 한 번으로 처리하고 오프셋도 한 번만 커밋한다.
+ * 처리완료 건수와 Outbox 생성부터 처리완료까지의 지연(outbox-created-at 헤더 기준)을 이벤트 타입별 메트릭으로 남긴다. (MemberOutboxUseCase를 통해 기록)
+ * relay는 회원 ID를 key로 전송하므로, outbox.ackKeyParallelism이 2 이상이면 batch를 회원별 lane으로 나누어 회원별 순서를 유지하며 병렬로 처리한다.
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -27,90 +47,181 @@ import org.springframework.stereotype.Service;
 public class InternalKafkaListener {
 
     private final MemberOutboxUseCase memberOutboxUseCase;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final KeyOrderedBatchExecutor keyOrderedBatchExecutor;
+    private final LogAccessor logAccessor = new LogAccessor(InternalKafkaListener.class);
 
 
     /**
-     * Kafka 내부 리스너
+     * Kafka 내부 리스너 (batch)
      * Outbox 테이블에 message_status와 processed_at 컬럼을 업데이트한다.
      */
     @TraceOutboxKafka
     @KafkaListener(
             topics = {"member-created-outbox"},
             groupId = "member-group-member-create",
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "batchKafkaListenerContainerFactory"
     )
     public void listenInternalMemberCreate(
-            ConsumerRecord<String, String> record,
-            Acknowledgment acknowledgment,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset
-    ) throws JsonProcessingException {
-        // 1. record 값을 이벤트 객체로 변환한다.
-        String jsonValue = record.value();
-        OutboxEvent event = objectMapper.readValue(jsonValue, MemberCreateEvent.class);
-
-        // 2. outbox 테이블에 이벤트 처리 상태를 업데이트한다.
-        memberOutboxUseCase.markOutboxEventProcessed(event);
-
-        // 3. ack 처리
+            List<ConsumerRecord<String, MemberOutboxEvent>> records,
+            Acknowledgment acknowledgment
+    ) {
+        // 1. outbox 테이블에 batch 전체의 처리 상태를 업데이트한다.
+        markProcessed(records, MemberCreateEvent::new);
+
+        // 2. batch 전체의 오프셋을 한 번에 커밋한다.
         acknowledgment.acknowledge();
     }
 
 
     /**
-     * @apiNote Kafka 내부 리스너
+     * @apiNote Kafka 내부 리스너 (batch)
      * Outbox 테이블에 message_status와 processed_at 컬럼을 업데이트한다.
      */
     @TraceOutboxKafka
     @KafkaListener(
             topics = {"member-nickname-change-outbox"},
             groupId = "member-group-nickname-change",
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "batchKafkaListenerContainerFactory"
     )
     public void listenInternalNicknameChange(
-            ConsumerRecord<String, String> record,
-            Acknowledgment acknowledgment,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset
-    ) throws JsonProcessingException {
-        // 1. record 값을 이벤트 객체로 변환한다.
-        String jsonValue = record.value();
-        OutboxEvent event = objectMapper.readValue(jsonValue, NicknameChangeEvent.class);
-
-        // 2. outbox 테이블에 이벤트 처리 상태를 업데이트한다.
-        memberOutboxUseCase.markOutboxEventProcessed(event);
-
-        // 3. ack 처리
+            List<ConsumerRecord<String, MemberOutboxEvent>> records,
+            Acknowledgment acknowledgment
+    ) {
+        // 1. outbox 테이블에 batch 전체의 처리 상태를 업데이트한다.
+        markProcessed(records, NicknameChangeEvent::new);
+
+        // 2. batch 전체의 오프셋을 한 번에 커밋한다.
         acknowledgment.acknowledge();
     }
 
 
     /**
-     * @apiNote Kafka 내부 리스너
+     * @apiNote Kafka 내부 리스너 (batch)
      * Outbox 테이블에 message_status와 processed_at 컬럼을 업데이트한다.
      */
     @TraceOutboxKafka
     @KafkaListener(
             topics = {"member-profile-image-change-outbox"},
             groupId = "member-group-profile-image-change",
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "batchKafkaListenerContainerFactory"
     )
     public void listenInternalProfileImageChange(
-            ConsumerRecord<String, String> record,
-            Acknowledgment acknowledgment,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset
-    ) throws JsonProcessingException {
-        // 1. record 값을 이벤트 객체로 변환한다.
-        String jsonValue = record.value();
-        OutboxEvent event = objectMapper.readValue(jsonValue, ProfileImageChangeEvent.class);
-
-        // 2. outbox 테이블에 이벤트 처리 상태를 업데이트한다.
-        memberOutboxUseCase.markOutboxEventProcessed(event);
-
-        // 3. ack 처리
+            List<ConsumerRecord<String, MemberOutboxEvent>> records,
+            Acknowledgment acknowledgment
+    ) {
+        // 1. outbox 테이블에 batch 전체의 처리 상태를 업데이트한다.
+        markProcessed(records, ProfileImageChangeEvent::new);
+
+        // 2. batch 전체의 오프셋을 한 번에 커밋한다.
         acknowledgment.acknowledge();
     }
 
+
+    /**
+     * @param records      poll 한 번에 수신한 Kafka 메시지 목록 (토픽이 같으므로 이벤트 타입도 같음)
+     * @param eventFactory outbox-id 헤더가 없는 경우 회원 ID로 이벤트를 생성하는 함수
+     * @apiNote batch를 회원 ID(key)별 lane으로 나누어 처리하고 (병렬 수가 1이면 batch 전체를 한 번에), 처리완료 메트릭을 기록한다.
+     */
+    private void markProcessed(
+            List<ConsumerRecord<String, MemberOutboxEvent>> records,
+            LongFunction<OutboxEvent> eventFactory
+    ) {
+        // 1. lane마다 처리 상태를 업데이트한다. (실패하면 원래 batch에서의 위치로 BatchListenerFailedException)
+        keyOrderedBatchExecutor.execute(records, lane -> markProcessedInOrder(lane, eventFactory));
+
+        // 2. 처리완료 건수와 생성부터 처리완료까지의 지연을 기록한다.
+        recordProcessed(records);
+    }
+
+
+    /**
+     * @param records      같은 lane에 속한 Kafka 메시지 목록 (오프셋 순서)
+     * @param eventFactory outbox-id 헤더가 없는 경우 회원 ID로 이벤트를 생성하는 함수
+     * @apiNote outbox-id 헤더가 있는 메시지는 모아서 UPDATE 한 번으로 처리하고, 헤더가 없는 이전 메시지는 payload와 이벤트 타입으로 처리한다.
+     * 역직렬화에 실패한 레코드가 있으면 그 앞까지 처리한 뒤 BatchListenerFailedException으로 위치를 알려, 오류 핸들러가 해당 레코드를 DLT로 보내도록 한다.
+     */
+    private void markProcessedInOrder(
+            List<ConsumerRecord<String, MemberOutboxEvent>> records,
+            LongFunction<OutboxEvent> eventFactory
+    ) {
+        List<Long> outboxIds = new ArrayList<>();
+        List<OutboxEvent> headerlessEvents = new ArrayList<>();
+
+        // 1. 레코드마다 outbox-id 헤더를 읽고, 헤더가 없으면 역직렬화된 회원 ID로 이벤트 객체를 생성한다.
+        for (int index = 0; index < records.size(); index++) {
+            ConsumerRecord<String, MemberOutboxEvent> record = records.get(index);
+            try {
+                if (record.value() == null) {
+                    throw deserializationFailure(record);
+                }
+                Header outboxIdHeader = record.headers().lastHeader(OUTBOX_ID_HEADER);
+                if (outboxIdHeader != null) {
+                    outboxIds.add(Long.valueOf(new String(outboxIdHeader.value(), StandardCharsets.UTF_8)));
+                } else {
+                    headerlessEvents.add(eventFactory.apply(record.value().getMemberId()));
+                }
+            } catch (SerializationException | NumberFormatException e) {
+                // exception: 실패한 레코드 앞까지 처리하고, 실패한 레코드의 위치를 오류 핸들러에 전달한다.
+                log.warn("Failed to decode outbox record - topic: {}, offset: {}", record.topic(), record.offset());
+                markProcessed(outboxIds, headerlessEvents);
+                throw new BatchListenerFailedException("Failed to decode outbox record", e, index);
+            }
+        }
+
+        // 2. lane 전체의 처리 상태를 업데이트한다.
+        markProcessed(outboxIds, headerlessEvents);
+    }
+
+
+    /**
+     * @param record 값이 비어 있는 Kafka 메시지
+     * @return 역직렬화 실패 예외 (ErrorHandlingDeserializer가 헤더에 남긴 예외, 없으면 빈 메시지 예외)
+     */
+    private SerializationException deserializationFailure(ConsumerRecord<String, MemberOutboxEvent> record) {
+        DeserializationException cause = SerializationUtils.getExceptionFromHeader(
+                record, SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, logAccessor);
+        return cause == null
+                ? new SerializationException("Empty outbox record")
+                : new SerializationException(cause.getMessage(), cause);
+    }
+
+
+    /**
+     * @param records 처리완료로 기록한 Kafka 메시지 목록
+     * @apiNote 이벤트 타입(토픽)별 처리완료 건수와, outbox-created-at 헤더가 있는 메시지의 생성부터 처리완료까지의 지연을 기록한다.
+     */
+    private void recordProcessed(List<ConsumerRecord<String, MemberOutboxEvent>> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        List<LocalDateTime> createdAts = new ArrayList<>();
+        for (ConsumerRecord<String, MemberOutboxEvent> record : records) {
+            Header createdAtHeader = record.headers().lastHeader(OUTBOX_CREATED_AT_HEADER);
+            if (createdAtHeader == null) {
+                continue;
+            }
+            try {
+                long createdAt = Long.parseLong(new String(createdAtHeader.value(), StandardCharsets.UTF_8));
+                createdAts.add(LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAt), ZoneId.systemDefault()));
+            } catch (NumberFormatException e) {
+                // exception: 지연 측정용 헤더이므로 잘못된 값은 무시한다.
+                log.debug("Invalid outbox-created-at header - topic: {}, offset: {}", record.topic(), record.offset());
+            }
+        }
+        memberOutboxUseCase.recordOutboxEventsProcessed(records.get(0).topic(), records.size(), createdAts);
+    }
+
+
+    /**
+     * @param outboxIds        outbox-id 헤더로 전달된 Outbox ID 목록
+     * @param headerlessEvents outbox-id 헤더가 없는 이벤트 목록
+     * @apiNote Outbox ID 목록은 UPDATE 한 번으로, 헤더가 없는 이벤트는 한 건씩 처리완료(PROCESSED)로 변경한다.
+     */
+    private void markProcessed(List<Long> outboxIds, List<OutboxEvent> headerlessEvents) {
+        if (!outboxIds.isEmpty()) {
+            memberOutboxUseCase.markOutboxEventsProcessed(outboxIds);
+        }
+        headerlessEvents.forEach(memberOutboxUseCase::markOutboxEventProcessed);
+    }
+
 }
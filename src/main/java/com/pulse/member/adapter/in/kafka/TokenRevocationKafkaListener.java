@@ -0,0 +1,75 @@
+package com.pulse.member.adapter.in.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pulse.member.adapter.out.event.TokenRevocationEvent;
+import com.pulse.member.application.port.in.refreshtoken.DeleteRefreshTokenUseCase;
+import com.pulse.member.config.jwt.TokenRevocationRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.AcknowledgingMessageListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+/**
+ * access 토큰 폐기 이벤트를 받아서 현재 인스턴스의 폐기 레지스트리에 반영하는 리스너
+ * 모든 인스턴스가 모든 폐기 이벤트를 받아야 하므로 컨슈머 그룹 없이 토픽의 모든 파티션을 직접 할당받습니다. (offset 커밋 없음)
+ * 파티션 할당과 파티션 수 변경에 따른 재할당은 TokenRevocationListenerContainer가 담당합니다.
+ * 폐기된 회원의 refresh 토큰이 이 인스턴스의 캐시(jwt.refreshTokenStore: memory)에 남아 access 토큰을 재발급하지 않도록 캐시에서도 제거합니다.
+ * 파티션이 할당되면 access 토큰 수명만큼 이전 시점으로 이동하여, 재시작한 인스턴스도 아직 유효한 토큰의 폐기 정보를 복구합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TokenRevocationKafkaListener implements AcknowledgingMessageListener<String, String>, ConsumerSeekAware {
+
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final DeleteRefreshTokenUseCase deleteRefreshTokenUseCase;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${jwt.jwtExpirationMs}")
+    private long jwtExpirationMs;
+
+
+    /**
+     * @param record         토큰 폐기 record
+     * @param acknowledgment 사용하지 않음 (그룹이 없어 offset을 커밋하지 않음)
+     * @apiNote Kafka 토큰 폐기 리스너
+     * 폐기 레지스트리에 회원의 토큰 폐기 시각을 반영하고, 캐시된 refresh 토큰을 제거한다.
+     */
+    @Override
+    public void onMessage(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        // 1. record 값을 이벤트 객체로 변환한다.
+        TokenRevocationEvent event;
+        try {
+            event = objectMapper.readValue(record.value(), TokenRevocationEvent.class);
+        } catch (JsonProcessingException e) {
+            // exception: 다시 읽어도 변환할 수 없으므로 기록만 하고 넘어간다.
+            log.error("Failed to deserialize token revocation event - partition: {}, offset: {}, reason: {}", record.partition(), record.offset(), e.getMessage());
+            return;
+        }
+
+        // 2. 폐기 레지스트리에 반영한다.
+        tokenRevocationRegistry.revoke(event.getMemberId(), event.getRevokedAtMs());
+
+        // 3. 이 인스턴스에 캐시된 refresh 토큰을 제거한다. (DB의 토큰은 폐기한 인스턴스가 이미 삭제)
+        deleteRefreshTokenUseCase.evictCachedRefreshTokens(event.getMemberId());
+    }
+
+
+    /**
+     * @param assignments 할당된 파티션과 현재 offset
+     * @param callback    offset 이동 콜백
+     * @apiNote 할당된 파티션을 access 토큰 수명만큼 이전 시점의 offset으로 이동한다.
+     */
+    @Override
+    public void onPartitionsAssigned(Map<org.apache.kafka.common.TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        callback.seekToTimestamp(assignments.keySet(), System.currentTimeMillis() - jwtExpirationMs);
+    }
+
+}
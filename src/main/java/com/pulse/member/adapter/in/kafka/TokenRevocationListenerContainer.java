@@ -0,0 +1,121 @@
+package com.pulse.member.adapter.in.kafka;
+
+import com.pulse.member.config.kafka.KafkaPartitionFinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.support.TopicPartitionOffset;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static com.pulse.member.util.Constant.TOKEN_REVOCATION_TOPIC;
+
+/**
+ * 토큰 폐기 리스너(TokenRevocationKafkaListener)에 토픽의 모든 파티션을 직접 할당하는 리스너 컨테이너 관리자
+ * 시작할 때 파티션 목록을 조회하지 못하면 예외로 애플리케이션 시작을 중단합니다. (일부 파티션의 폐기 이벤트만 받는 상태로 동작하지 않음)
+ * 실행 중에는 kafka.partitionRefreshIntervalMs 마다 파티션 목록을 다시 조회하고, 바뀌었으면 새 파티션 목록으로 컨테이너를 다시 시작합니다.
+ * 다시 시작하면 리스너가 모든 파티션을 access 토큰 수명만큼 이전 시점부터 다시 읽으므로, 늘어난 파티션의 폐기 이벤트도 복구됩니다. (폐기 시각은 가장 늦은 값만 유지하므로 중복 수신은 무해)
+ */
+@Slf4j
+@Component
+public class TokenRevocationListenerContainer implements SmartLifecycle {
+
+    private final KafkaPartitionFinder kafkaPartitionFinder;
+    private final ConcurrentKafkaListenerContainerFactory<String, String> containerFactory;
+    private final TokenRevocationKafkaListener tokenRevocationKafkaListener;
+
+    private volatile ConcurrentMessageListenerContainer<String, String> container;
+    private volatile List<Integer> assignedPartitions = List.of();
+
+
+    public TokenRevocationListenerContainer(
+            KafkaPartitionFinder kafkaPartitionFinder,
+            @Qualifier("broadcastKafkaListenerContainerFactory") ConcurrentKafkaListenerContainerFactory<String, String> containerFactory,
+            TokenRevocationKafkaListener tokenRevocationKafkaListener
+    ) {
+        this.kafkaPartitionFinder = kafkaPartitionFinder;
+        this.containerFactory = containerFactory;
+        this.tokenRevocationKafkaListener = tokenRevocationKafkaListener;
+    }
+
+
+    /**
+     * @apiNote 토픽의 모든 파티션을 조회하여 할당하고 컨테이너를 시작합니다. (조회에 실패하면 IllegalStateException)
+     */
+    @Override
+    public synchronized void start() {
+        assign(kafkaPartitionFinder.partitions(TOKEN_REVOCATION_TOPIC));
+    }
+
+
+    /**
+     * @apiNote 파티션 목록을 다시 조회하고, 할당된 목록과 다르면 새 목록으로 컨테이너를 다시 시작합니다. (조회에 실패하면 기존 할당 유지)
+     */
+    @Scheduled(
+            initialDelayString = "${kafka.partitionRefreshIntervalMs:60000}",
+            fixedDelayString = "${kafka.partitionRefreshIntervalMs:60000}"
+    )
+    public synchronized void refreshAssignment() {
+        if (container == null) {
+            return;
+        }
+        kafkaPartitionFinder.findPartitions(TOKEN_REVOCATION_TOPIC)
+                .filter(partitions -> !partitions.equals(assignedPartitions))
+                .ifPresent(partitions -> {
+                    log.info("Token revocation partitions changed - from: {}, to: {}", assignedPartitions, partitions);
+                    assign(partitions);
+                });
+    }
+
+
+    /**
+     * @param partitions 할당할 파티션 번호 목록
+     * @apiNote 실행 중인 컨테이너를 멈추고 파티션 목록으로 새 컨테이너를 만들어 시작합니다.
+     */
+    private void assign(List<Integer> partitions) {
+        // 1. 기존 컨테이너를 멈춥니다.
+        stopContainer();
+
+        // 2. 파티션을 직접 할당한 컨테이너를 만들어 시작합니다. (시작 offset은 리스너가 ConsumerSeekAware로 정함)
+        TopicPartitionOffset[] topicPartitions = partitions.stream()
+                .map(partition -> new TopicPartitionOffset(TOKEN_REVOCATION_TOPIC, partition))
+                .toArray(TopicPartitionOffset[]::new);
+        ConcurrentMessageListenerContainer<String, String> newContainer = containerFactory.createContainer(topicPartitions);
+        newContainer.setupMessageListener(tokenRevocationKafkaListener);
+        newContainer.start();
+
+        container = newContainer;
+        assignedPartitions = partitions;
+        log.info("Token revocation listener assigned - topic: {}, partitions: {}", TOKEN_REVOCATION_TOPIC, partitions);
+    }
+
+
+    @Override
+    public synchronized void stop() {
+        stopContainer();
+    }
+
+
+    @Override
+    public boolean isRunning() {
+        ConcurrentMessageListenerContainer<String, String> current = container;
+        return current != null && current.isRunning();
+    }
+
+
+    /**
+     * @apiNote 실행 중인 컨테이너가 있으면 멈춥니다.
+     */
+    private void stopContainer() {
+        if (container != null) {
+            container.stop();
+            container = null;
+            assignedPartitions = List.of();
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.pulse.member.adapter.in.scheduler;
+
+import com.pulse.member.adapter.out.persistence.entity.constant.MessageStatus;
+import com.pulse.member.application.port.in.outbox.MemberOutboxUseCase;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Outbox backlog 메트릭을 주기적으로 갱신하는 스케줄러
+ * scrape 마다 조회하지 않고 outbox.metricsRefreshMs마다 인덱스만 읽는 쿼리로 값을 갱신하며, gauge는 마지막 값을 반환합니다.
+ * - outbox.rows{status}: PENDING/SENT/FAIL 상태별 행 수 (상태마다 (message_status, id) 인덱스에서 최대 outbox.metricsRowCountCap 건까지만 셈, PROCESSED는 backlog가 아니므로 세지 않음)
+ * - outbox.oldest.age{status}: PENDING/FAIL 중 가장 오래된 행의 대기 시간 (인덱스의 맨 앞 행 한 건, scrape 시점 기준으로 계산)
+ */
+@Component
+public class MemberOutboxMetricsScheduler {
+
+    static final List<MessageStatus> BACKLOG_STATUSES = List.of(MessageStatus.PENDING, MessageStatus.SENT, MessageStatus.FAIL);
+    static final List<MessageStatus> AGE_STATUSES = List.of(MessageStatus.PENDING, MessageStatus.FAIL);
+
+    private final MemberOutboxUseCase memberOutboxUseCase;
+    private final Map<MessageStatus, AtomicLong> rowCounts = new EnumMap<>(MessageStatus.class);
+    private final Map<MessageStatus, AtomicReference<LocalDateTime>> oldestCreatedAts = new EnumMap<>(MessageStatus.class);
+
+
+    public MemberOutboxMetricsScheduler(MemberOutboxUseCase memberOutboxUseCase, MeterRegistry meterRegistry) {
+        this.memberOutboxUseCase = memberOutboxUseCase;
+        for (MessageStatus status : BACKLOG_STATUSES) {
+            AtomicLong rowCount = new AtomicLong();
+            rowCounts.put(status, rowCount);
+            Gauge.builder("outbox.rows", rowCount, AtomicLong::get)
+                    .description("Outbox rows per message status")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+        for (MessageStatus status : AGE_STATUSES) {
+            AtomicReference<LocalDateTime> oldestCreatedAt = new AtomicReference<>();
+            oldestCreatedAts.put(status, oldestCreatedAt);
+            Gauge.builder("outbox.oldest.age", oldestCreatedAt, MemberOutboxMetricsScheduler::ageSeconds)
+                    .description("Age of the oldest outbox row per message status")
+                    .tag("status", status.name())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+
+
+    /**
+     * @apiNote backlog 상태별 행 수와 PENDING/FAIL 중 가장 오래된 행의 생성 시각을 갱신
+     */
+    @Scheduled(
+            initialDelayString = "${outbox.metricsInitialDelayMs:10000}",
+            fixedDelayString = "${outbox.metricsRefreshMs:15000}"
+    )
+    public void refreshBacklogMetrics() {
+        // 1. backlog 상태별 행 수를 갱신
+        memberOutboxUseCase.countOutboxEventsByStatus(BACKLOG_STATUSES)
+                .forEach((status, count) -> rowCounts.get(status).set(count));
+
+        // 2. 가장 오래된 PENDING/FAIL 행의 생성 시각을 갱신 (없으면 대기 시간 0)
+        for (MessageStatus status : AGE_STATUSES) {
+            oldestCreatedAts.get(status).set(memberOutboxUseCase.findOldestOutboxCreatedAt(status).orElse(null));
+        }
+    }
+
+
+    /**
+     * @param oldestCreatedAt 가장 오래된 행의 생성 시각
+     * @return 지금까지의 대기 시간(초), 행이 없으면 0
+     */
+    private static double ageSeconds(AtomicReference<LocalDateTime> oldestCreatedAt) {
+        LocalDateTime createdAt = oldestCreatedAt.get();
+        if (createdAt == null) {
+            return 0;
+        }
+        return Math.max(0, Duration.between(createdAt, LocalDateTime.now()).toMillis() / 1000.0);
+    }
+
+}
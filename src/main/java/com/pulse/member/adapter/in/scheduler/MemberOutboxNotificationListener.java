@@ -0,0 +1,125 @@
+package com.pulse.member.adapter.in.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import static com.pulse.member.util.Constant.OUTBOX_NOTIFY_CHANNEL;
+
+/**
+ * PostgreSQL LISTEN으로 Outbox 저장 알림(NOTIFY)을 기다렸다가 relay를 깨우는 리스너 (outbox.relayWakeup: listen)
+ * 전용 스레드가 커넥션 하나를 점유하고 알림이 올 때까지 블로킹하므로, 커밋 직후 바로 전송되면서도 빈 polling 쿼리가 발생하지 않습니다.
+ * 연결이 끊기면 relay를 적응형 polling으로 전환하고, relayListenReconnectDelayMs 뒤 다시 연결합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.relayWakeup", havingValue = "listen")
+public class MemberOutboxNotificationListener implements SmartLifecycle {
+
+    private final DataSource dataSource;
+    private final MemberOutboxRelayScheduler memberOutboxRelayScheduler;
+
+    private volatile boolean running;
+    private Thread listenThread;
+
+    @Value("${outbox.relayListenTimeoutMs:10000}")
+    private int listenTimeoutMs;
+
+    @Value("${outbox.relayListenReconnectDelayMs:5000}")
+    private long reconnectDelayMs;
+
+
+    public MemberOutboxNotificationListener(DataSource dataSource, MemberOutboxRelayScheduler memberOutboxRelayScheduler) {
+        this.dataSource = dataSource;
+        this.memberOutboxRelayScheduler = memberOutboxRelayScheduler;
+    }
+
+
+    /**
+     * @return 연결이 끊기지 않고 종료되었으면 true, 연결에 실패하거나 끊겼으면 false
+     * @apiNote LISTEN 연결을 열고 종료되거나 끊길 때까지 알림을 받아 relay를 깨웁니다. 끊기면 relay를 polling으로 전환합니다.
+     */
+    boolean listenUntilDisconnected() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            // 1. 채널을 LISTEN 하고 relay를 LISTEN 모드로 전환합니다.
+            statement.execute("LISTEN " + OUTBOX_NOTIFY_CHANNEL);
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            memberOutboxRelayScheduler.changeListening(true);
+            log.info("Listening for outbox notifications on channel {}", OUTBOX_NOTIFY_CHANNEL);
+
+            // 2. 알림이 오면 relay를 깨우고, 알림 없이 대기 시간이 지나면 연결이 살아있는지 확인합니다.
+            while (running) {
+                PGNotification[] notifications = pgConnection.getNotifications(listenTimeoutMs);
+                if (notifications != null && notifications.length > 0) {
+                    memberOutboxRelayScheduler.wakeUp();
+                } else if (!connection.isValid(1)) {
+                    throw new SQLException("LISTEN connection is no longer valid");
+                }
+            }
+            return true;
+        } catch (SQLException e) {
+            // exception: 연결이 끊기면 relay를 적응형 polling으로 전환합니다.
+            memberOutboxRelayScheduler.changeListening(false);
+            log.warn("Outbox LISTEN connection lost, falling back to polling: {}", e.getMessage());
+            return false;
+        }
+    }
+
+
+    /**
+     * @apiNote LISTEN 전용 스레드를 시작합니다.
+     */
+    @Override
+    public void start() {
+        running = true;
+        listenThread = new Thread(this::listenLoop, "outbox-listen");
+        listenThread.setDaemon(true);
+        listenThread.start();
+    }
+
+
+    /**
+     * @apiNote LISTEN 전용 스레드를 종료합니다. (블로킹 중인 대기는 listenTimeoutMs 안에 끝남)
+     */
+    @Override
+    public void stop() {
+        running = false;
+        listenThread.interrupt();
+        memberOutboxRelayScheduler.changeListening(false);
+    }
+
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+
+    /**
+     * @apiNote LISTEN 연결이 끊기면 relayListenReconnectDelayMs 뒤 다시 연결하는 루프
+     */
+    private void listenLoop() {
+        while (running) {
+            if (!listenUntilDisconnected() && running) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(reconnectDelayMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+}
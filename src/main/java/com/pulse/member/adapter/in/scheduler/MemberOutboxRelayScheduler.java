@@ -0,0 +1,223 @@
+package com.pulse.member.adapter.in.scheduler;
+
+import com.pulse.member.application.port.in.outbox.MemberOutboxUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PENDING 상태의 Outbox를 Kafka로 전송하는 스케줄러
+ * 요청 스레드의 AFTER_COMMIT에서 한 건씩 전송하던 방식을 대신하여, batchSize 건씩 SKIP LOCKED로 가져와 전송합니다.
+ * 인스턴스마다 서로 다른 행을 가져가므로 여러 인스턴스가 동시에 Outbox를 비울 수 있습니다.
+ * <p>
+ * 전용 스레드에서 실행되며, 다음 두 가지 방식으로 깨어납니다.
+ * - LISTEN 연결 중: MemberOutboxNotificationListener가 NOTIFY를 받으면 wakeUp()으로 바로 깨우고, relayListenIntervalMs마다 안전망으로 조회합니다.
+ * - LISTEN 미사용(H2 등) 또는 연결 끊김: relayMinIntervalMs부터 시작하여 빈 조회마다 두 배씩 relayMaxIntervalMs까지 늘어나는 주기로 polling 합니다.
+ * 병합 대상 이벤트 타입이 있으면 NOTIFY 직후에는 병합 구간이 끝나지 않아 전송되지 않으므로, LISTEN 중에도 coalesceWindowMs마다 조회합니다.
+ * 한 번의 실행이 relayBatchSize * relayMaxBatches 건을 모두 채웠다면 backlog가 남아 있으므로, 방식과 관계없이 relayMinIntervalMs 뒤에 다시 실행합니다.
+ */
+@Slf4j
+@Component
+public class MemberOutboxRelayScheduler implements SmartLifecycle {
+
+    private final MemberOutboxUseCase memberOutboxUseCase;
+    private final Counter relayedCounter;
+    private final Timer relayTimer;
+    private final Semaphore wakeUps = new Semaphore(0);
+
+    private volatile boolean listening;
+    private volatile boolean running;
+    private Thread relayThread;
+
+    @Value("${outbox.relayBatchSize:100}")
+    private int batchSize;
+
+    @Value("${outbox.relayMaxBatches:10}")
+    private int maxBatches;
+
+    @Value("${outbox.relayMinIntervalMs:50}")
+    private long minIntervalMs;
+
+    @Value("${outbox.relayMaxIntervalMs:2000}")
+    private long maxIntervalMs;
+
+    @Value("${outbox.relayListenIntervalMs:30000}")
+    private long listenIntervalMs;
+
+    @Value("${outbox.coalesceEventTypes:}")
+    private Set<String> coalesceEventTypes;
+
+    @Value("${outbox.coalesceWindowMs:1000}")
+    private long coalesceWindowMs;
+
+
+    public MemberOutboxRelayScheduler(MemberOutboxUseCase memberOutboxUseCase, MeterRegistry meterRegistry) {
+        this.memberOutboxUseCase = memberOutboxUseCase;
+        this.relayedCounter = Counter.builder("outbox.relay.relayed")
+                .description("Outbox rows claimed and sent by the relay")
+                .register(meterRegistry);
+        this.relayTimer = Timer.builder("outbox.relay.duration")
+                .description("Time spent per outbox relay run")
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * @apiNote 대기 중인 relay 스레드를 바로 깨웁니다. (이미 깨울 예정이면 합쳐짐)
+     */
+    public void wakeUp() {
+        if (wakeUps.availablePermits() == 0) {
+            wakeUps.release();
+        }
+    }
+
+
+    /**
+     * @param listening LISTEN 연결 여부
+     * @apiNote LISTEN 연결 상태를 변경하고 relay를 깨웁니다. (연결이 끊긴 동안 저장된 Outbox도 바로 조회)
+     */
+    public void changeListening(boolean listening) {
+        this.listening = listening;
+        wakeUp();
+    }
+
+
+    /**
+     * @return 이번 실행에서 전송한 Outbox 건수
+     * @apiNote PENDING Outbox를 batch 단위로 전송 (가져온 건수가 batchSize보다 적거나 maxBatches에 도달하면 종료)
+     */
+    public int relayPendingOutboxEvents() {
+        long startNanos = System.nanoTime();
+        int totalRelayed = 0;
+        int batches = 0;
+
+        // 1. batch 단위로 전송 (batch마다 별도 트랜잭션)
+        while (batches < maxBatches) {
+            int relayed = memberOutboxUseCase.relayPendingOutboxEvents(batchSize);
+            totalRelayed += relayed;
+            batches++;
+
+            if (relayed < batchSize) {
+                break;
+            }
+        }
+
+        // 2. 전송 건수와 소요 시간 기록 (빈 실행은 로그를 남기지 않음)
+        long elapsedNanos = System.nanoTime() - startNanos;
+        relayTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (totalRelayed > 0) {
+            relayedCounter.increment(totalRelayed);
+            log.debug("Outbox relay finished - relayed: {}, batches: {}, elapsed: {} ms",
+                    totalRelayed, batches, elapsedNanos / 1_000_000);
+        }
+        return totalRelayed;
+    }
+
+
+    /**
+     * @param currentIntervalMs 현재 polling 주기
+     * @param relayed           이번 실행에서 전송한 건수
+     * @return 다음 polling 주기 (전송한 건이 있으면 최소 주기, 없으면 두 배로 늘리되 최대 주기를 넘지 않음)
+     * @apiNote LISTEN을 사용할 수 없을 때의 적응형 polling 주기 계산
+     */
+    long nextIntervalMs(long currentIntervalMs, int relayed) {
+        return relayed > 0 ? minIntervalMs : Math.min(currentIntervalMs * 2, maxIntervalMs);
+    }
+
+
+    /**
+     * @param intervalMs 현재 polling 주기
+     * @param relayed    직전 실행에서 전송한 건수
+     * @return 다음 실행까지 대기할 시간
+     * @apiNote 직전 실행이 최대 건수(batchSize * maxBatches)를 채웠다면 NOTIFY를 기다리지 않고 최소 주기 뒤에 이어서 전송합니다.
+     * (장애 복구나 burst 이후 쌓인 backlog를 안전망 조회 주기마다 한 번씩만 처리하지 않도록)
+     */
+    long nextWaitMs(long intervalMs, int relayed) {
+        if (relayed >= batchSize * maxBatches) {
+            return minIntervalMs;
+        }
+        return listening ? listenWaitMs() : intervalMs;
+    }
+
+
+    /**
+     * @return LISTEN 연결 중 NOTIFY 없이 다시 조회하기까지의 대기 시간 (병합 대상 이벤트 타입이 있으면 병합 구간을 넘지 않음)
+     * @apiNote 병합 구간이 끝난 Outbox는 NOTIFY가 다시 오지 않으므로 병합 구간마다 조회합니다.
+     */
+    long listenWaitMs() {
+        return coalesceEventTypes.isEmpty() ? listenIntervalMs : Math.min(listenIntervalMs, coalesceWindowMs);
+    }
+
+
+    /**
+     * @apiNote relay 전용 스레드를 시작합니다.
+     */
+    @Override
+    public void start() {
+        running = true;
+        relayThread = new Thread(this::relayLoop, "outbox-relay");
+        relayThread.setDaemon(true);
+        relayThread.start();
+    }
+
+
+    /**
+     * @apiNote relay 전용 스레드를 종료합니다. (진행 중인 batch는 끝까지 처리)
+     */
+    @Override
+    public void stop() {
+        running = false;
+        wakeUp();
+        try {
+            relayThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+
+    /**
+     * @apiNote 깨어날 때까지(또는 주기가 지날 때까지) 대기한 뒤 PENDING Outbox를 전송하는 루프
+     */
+    private void relayLoop() {
+        long intervalMs = minIntervalMs;
+        int relayed = 0;
+        while (running) {
+            try {
+                // 1. NOTIFY로 깨어나거나 주기가 지날 때까지 대기합니다. (대기 중 쌓인 깨우기 요청은 한 번으로 합침, backlog가 남았으면 최소 주기만 대기)
+                wakeUps.tryAcquire(nextWaitMs(intervalMs, relayed), TimeUnit.MILLISECONDS);
+                wakeUps.drainPermits();
+                if (!running) {
+                    return;
+                }
+
+                // 2. PENDING Outbox를 전송하고 다음 polling 주기를 계산합니다.
+                relayed = relayPendingOutboxEvents();
+                intervalMs = nextIntervalMs(intervalMs, relayed);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // exception: DB 장애 등으로 실패하면 최대 주기만큼 쉬었다가 다시 시도합니다.
+                log.error("Outbox relay failed: {}", e.getMessage());
+                relayed = 0;
+                intervalMs = maxIntervalMs;
+            }
+        }
+    }
+
+}
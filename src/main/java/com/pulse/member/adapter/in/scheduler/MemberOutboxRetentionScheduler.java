@@ -0,0 +1,132 @@
+package com.pulse.member.adapter.in.scheduler;
+
+import com.pulse.member.application.port.in.outbox.MemberOutboxUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox 파티션을 미리 준비하고 보존 기간이 지난 Outbox를 정리하는 스케줄러
+ * 파티션 저장소는 오래된 일자별 파티션을 통째로 DROP 하고, 행 단위 저장소는 chunkSize 건씩 삭제합니다.
+ * 실행마다 정리한 행 수와 소요 시간을 로그와 메트릭(outbox.retention.*)으로 남깁니다.
+ * 처리완료(PROCESSED)된 행만 정리하며, 보존 기간이 지나도 처리되지 않아 남긴 행은 outbox.retention.unprocessed 메트릭과 WARN 로그로 남깁니다.
+ * 기본 파티션이 없으므로 웹/gRPC 서버와 Kafka 리스너가 요청을 받기 전(가장 먼저 시작하는 lifecycle 단계)에 파티션을 생성합니다.
+ */
+@Slf4j
+@Component
+public class MemberOutboxRetentionScheduler implements SmartLifecycle {
+
+    private final MemberOutboxUseCase memberOutboxUseCase;
+    private final Counter reclaimedCounter;
+    private final Counter unprocessedCounter;
+    private final Timer retentionTimer;
+
+    private volatile boolean running;
+
+    @Value("${outbox.retentionDays:7}")
+    private int retentionDays;
+
+    @Value("${outbox.partitionPrecreateDays:3}")
+    private int partitionPrecreateDays;
+
+    @Value("${outbox.retentionChunkSize:1000}")
+    private int chunkSize;
+
+    @Value("${outbox.retentionMaxChunks:100}")
+    private int maxChunks;
+
+
+    public MemberOutboxRetentionScheduler(MemberOutboxUseCase memberOutboxUseCase, MeterRegistry meterRegistry) {
+        this.memberOutboxUseCase = memberOutboxUseCase;
+        this.reclaimedCounter = Counter.builder("outbox.retention.reclaimed")
+                .description("Outbox rows reclaimed by the retention job")
+                .register(meterRegistry);
+        this.unprocessedCounter = Counter.builder("outbox.retention.unprocessed")
+                .description("Outbox rows past retention kept because they were not processed (counted per run)")
+                .register(meterRegistry);
+        this.retentionTimer = Timer.builder("outbox.retention.duration")
+                .description("Time spent per outbox retention run")
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * @apiNote 요청을 받기 전에 오늘 이후의 파티션을 생성 (첫 정기 실행 전에 들어오는 행이 저장될 파티션이 없어 실패하지 않도록)
+     */
+    @Override
+    public void start() {
+        memberOutboxUseCase.prepareOutboxPartitions(partitionPrecreateDays);
+        running = true;
+    }
+
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+
+    /**
+     * @return 다른 lifecycle(웹 서버, gRPC 서버, Kafka 리스너 컨테이너)보다 먼저 시작하도록 가장 작은 phase
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+
+    /**
+     * @apiNote 파티션을 미리 생성하고, 보존 기간이 지난 Outbox를 chunk 단위로 정리 (정리 건수가 chunkSize보다 적거나 maxChunks에 도달하면 종료)
+     */
+    @Scheduled(
+            initialDelayString = "${outbox.retentionInitialDelayMs:60000}",
+            fixedDelayString = "${outbox.retentionIntervalMs:3600000}"
+    )
+    public void purgeExpiredOutboxEvents() {
+        long startNanos = System.nanoTime();
+        int totalReclaimed = 0;
+        int chunks = 0;
+
+        // 1. 앞으로 사용할 일자별 파티션을 미리 생성
+        memberOutboxUseCase.prepareOutboxPartitions(partitionPrecreateDays);
+
+        // 2. 보존 기간이 지난 Outbox를 정리 (chunk마다 별도 트랜잭션)
+        while (chunks < maxChunks) {
+            int reclaimed = memberOutboxUseCase.purgeExpiredOutboxEvents(retentionDays, chunkSize);
+            totalReclaimed += reclaimed;
+            chunks++;
+
+            if (reclaimed < chunkSize) {
+                break;
+            }
+        }
+
+        // 3. 보존 기간이 지났지만 처리되지 않아 남긴 행 기록
+        long unprocessed = memberOutboxUseCase.countUnprocessedExpiredOutboxEvents(retentionDays);
+        if (unprocessed > 0) {
+            unprocessedCounter.increment(unprocessed);
+            log.warn("Outbox retention kept {} rows older than {} days that are not processed yet", unprocessed, retentionDays);
+        }
+
+        // 4. 정리 건수와 소요 시간 기록
+        long elapsedNanos = System.nanoTime() - startNanos;
+        reclaimedCounter.increment(totalReclaimed);
+        retentionTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.info("Outbox retention finished - reclaimed: {}, chunks: {}, elapsed: {} ms",
+                totalReclaimed, chunks, elapsedNanos / 1_000_000);
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.pulse.member.adapter.in.scheduler;
+
+import com.pulse.member.application.port.in.refreshtoken.DeleteRefreshTokenUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만료된 refresh 토큰을 주기적으로 삭제하는 스케줄러
+ * 한 번에 chunkSize 건씩 삭제하고 chunk마다 커밋하여, 대량 삭제로 테이블 잠금이 길어지지 않도록 합니다.
+ * 실행마다 삭제 건수와 소요 시간을 로그와 메트릭(refresh.token.sweep.*)으로 남깁니다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenSweepScheduler {
+
+    private final DeleteRefreshTokenUseCase deleteRefreshTokenUseCase;
+    private final Counter deletedCounter;
+    private final Timer sweepTimer;
+
+    @Value("${jwt.refreshTokenSweepChunkSize:1000}")
+    private int chunkSize;
+
+    @Value("${jwt.refreshTokenSweepMaxChunks:100}")
+    private int maxChunks;
+
+
+    public RefreshTokenSweepScheduler(DeleteRefreshTokenUseCase deleteRefreshTokenUseCase, MeterRegistry meterRegistry) {
+        this.deleteRefreshTokenUseCase = deleteRefreshTokenUseCase;
+        this.deletedCounter = Counter.builder("refresh.token.sweep.deleted")
+                .description("Expired refresh tokens deleted by the sweeper")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("refresh.token.sweep.duration")
+                .description("Time spent per refresh token sweep run")
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * @apiNote 만료된 refresh 토큰을 chunk 단위로 삭제 (삭제 건수가 chunkSize보다 적거나 maxChunks에 도달하면 종료)
+     */
+    @Scheduled(
+            initialDelayString = "${jwt.refreshTokenSweepInitialDelayMs:60000}",
+            fixedDelayString = "${jwt.refreshTokenSweepIntervalMs:600000}"
+    )
+    public void sweepExpiredRefreshTokens() {
+        long startNanos = System.nanoTime();
+        int totalDeleted = 0;
+        int chunks = 0;
+
+        // 1. chunk 단위로 삭제 (chunk마다 별도 트랜잭션)
+        while (chunks < maxChunks) {
+            int deleted = deleteRefreshTokenUseCase.deleteExpiredRefreshTokens(chunkSize);
+            totalDeleted += deleted;
+            chunks++;
+
+            if (deleted < chunkSize) {
+                break;
+            }
+        }
+
+        // 2. 삭제 건수와 소요 시간 기록
+        long elapsedNanos = System.nanoTime() - startNanos;
+        deletedCounter.increment(totalDeleted);
+        sweepTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.info("Refresh token sweep finished - deleted: {}, chunks: {}, elapsed: {} ms",
+                totalDeleted, chunks, elapsedNanos / 1_000_000);
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.pulse.member.adapter.in.web;
+
+import com.pulse.member.config.jwt.JwtKeyRing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * JWT 검증용 공개키(JWKS) 제공 컨트롤러
+ * 다른 서비스는 이 공개키를 캐시해두고 member 서비스 호출 없이 access 토큰을 직접 검증합니다.
+ * 표준 JWKS 형식을 유지해야 하므로 ApiResponse로 감싸지 않습니다.
+ */
+@RequiredArgsConstructor
+@RestController
+public class JwksController {
+
+    private final JwtKeyRing jwtKeyRing;
+
+    @Value("${jwt.jwksMaxAgeSeconds:3600}")
+    private long jwksMaxAgeSeconds;
+
+
+    /**
+     * @return 공개키 JWK Set
+     * @apiNote JWKS 조회 (Cache-Control 헤더로 클라이언트/프록시 캐시 허용)
+     */
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(jwksMaxAgeSeconds)).cachePublic())
+                .body(jwtKeyRing.getPublicJwkSet());
+    }
+
+}
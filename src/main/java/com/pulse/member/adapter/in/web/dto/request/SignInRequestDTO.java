@@ -10,5 +10,6 @@ public class SignInRequestDTO {
 
     private String email;
     private String password;
+    private String deviceId; // 로그인한 기기 ID (없으면 기본 기기)
 
 }
@@ -11,7 +11,8 @@ import lombok.Getter;
 @AllArgsConstructor
 public enum InternalEventType {
 
-    ACTIVITY_LOG("ActivityLogEvent", "활동 로그 이벤트"),
+    MEMBER_DELETE("MemberDeleteEvent", "회원 삭제 이벤트"),
+    TOKEN_REVOCATION("TokenRevocationEvent", "access 토큰 폐기 이벤트"),
 
     ;
 
@@ -7,18 +7,16 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-public class ActivityLogEvent {
+public class MemberDeleteEvent {
 
     private Long id;
 
-    private String action;
-
-    public static Object of(Long id, String action) {
-        return new ActivityLogEvent(id, action);
+    public static MemberDeleteEvent of(Long id) {
+        return new MemberDeleteEvent(id);
     }
 
     public String getEventType() {
-        return InternalEventType.ACTIVITY_LOG.getEventType();
+        return InternalEventType.MEMBER_DELETE.getEventType();
     }
 
 }
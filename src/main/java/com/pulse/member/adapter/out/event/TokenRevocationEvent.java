@@ -0,0 +1,28 @@
+package com.pulse.member.adapter.out.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Getter
+@JsonIgnoreProperties(ignoreUnknown = true) // kafka 메시지에 포함된 eventType은 무시
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevocationEvent {
+
+    private Long memberId;
+
+    private long revokedAtMs; // 폐기 시각 (epoch 밀리초)
+
+    public static TokenRevocationEvent of(Long memberId) {
+        return new TokenRevocationEvent(memberId, Instant.now().toEpochMilli());
+    }
+
+    public String getEventType() {
+        return InternalEventType.TOKEN_REVOCATION.getEventType();
+    }
+
+}
@@ -14,26 +14,27 @@ import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * KafkaProducerAdapter는 Kafka 메시지 전송을 처리하는 어댑터입니다.
  * 이 어댑터는 비즈니스 로직, 트레이싱, 재시도 등의 모든 로직을 포함하고 있습니다.
+ * 재시도는 KafkaSendRetrier가 전송 스레드를 막지 않고 비동기로 수행합니다.
  */
 @RequiredArgsConstructor
 @Slf4j
 @MessagingAdapter
 public class KafkaProducerAdapter implements KafkaProducerPort {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final KafkaSendRetrier kafkaSendRetrier;
     private final Tracer tracer = GlobalOpenTelemetry.getTracer("kafka-producer");
 
     // Kafka 메시지에 트레이스 컨텍스트를 주입하기 위한 TextMapSetter
-    private static final TextMapSetter<ProducerRecord<String, String>> setter =
+    private static final TextMapSetter<ProducerRecord<String, byte[]>> setter =
             (carrier, key, value) -> carrier.headers().add(key, value.getBytes(StandardCharsets.UTF_8));
 
     /**
@@ -45,7 +46,7 @@ public class KafkaProducerAdapter implements KafkaProducerPort {
      * @return 전송 결과를 나타내는 CompletableFuture
      */
     @Override
-    public CompletableFuture<SendResult<String, String>> sendMessageWithoutKey(
+    public CompletableFuture<SendResult<String, byte[]>> sendMessageWithoutKey(
             String topic,
             String payloadJson,
             Context context
@@ -64,18 +65,62 @@ public class KafkaProducerAdapter implements KafkaProducerPort {
      * @return 전송 결과를 나타내는 CompletableFuture
      */
     @Override
-    public CompletableFuture<SendResult<String, String>> sendMessageWithKey(
+    public CompletableFuture<SendResult<String, byte[]>> sendMessageWithKey(
             String topic,
             String key,
             String payloadJson,
             Context context
+    ) {
+        return sendMessageWithHeaders(topic, key, payloadJson, Map.of(), context);
+    }
+
+    /**
+     * Kafka로 메시지를 전송합니다. 레코드 헤더가 포함된 경우입니다.
+     *
+     * @param topic       - 전송할 Kafka 토픽
+     * @param key         - Kafka 메시지 키 (없으면 null)
+     * @param payloadJson - 전송할 메시지
+     * @param headers     - 레코드에 추가할 헤더
+     * @param context     - 전송에 사용될 컨텍스트
+     * @return 전송 결과를 나타내는 CompletableFuture
+     */
+    @Override
+    public CompletableFuture<SendResult<String, byte[]>> sendMessageWithHeaders(
+            String topic,
+            String key,
+            String payloadJson,
+            Map<String, String> headers,
+            Context context
+    ) {
+        // 문자열 메시지는 UTF-8 bytes로 전송합니다.
+        return sendMessageWithHeaders(topic, key, payloadJson.getBytes(StandardCharsets.UTF_8), headers, context);
+    }
+
+    /**
+     * Kafka로 bytes 메시지를 전송합니다. 레코드 헤더가 포함된 경우입니다.
+     *
+     * @param topic   - 전송할 Kafka 토픽
+     * @param key     - Kafka 메시지 키 (없으면 null)
+     * @param payload - 전송할 메시지 (예: protobuf로 직렬화한 이벤트)
+     * @param headers - 레코드에 추가할 헤더
+     * @param context - 전송에 사용될 컨텍스트
+     * @return 전송 결과를 나타내는 CompletableFuture
+     */
+    @Override
+    public CompletableFuture<SendResult<String, byte[]>> sendMessageWithHeaders(
+            String topic,
+            String key,
+            byte[] payload,
+            Map<String, String> headers,
+            Context context
     ) {
         // OpenTelemetry Span 생성 및 설정
         Span span = tracer.spanBuilder("[kafka] : message-produce").setParent(context).startSpan();
 
         try (Scope scope = span.makeCurrent()) {
             // Kafka 메시지 레코드를 생성합니다.
-            ProducerRecord<String, String> record = new ProducerRecord<>(topic, key, payloadJson);
+            ProducerRecord<String, byte[]> record = new ProducerRecord<>(topic, key, payload);
+            headers.forEach((name, value) -> record.headers().add(name, value.getBytes(StandardCharsets.UTF_8)));
 
             // Traceparent 헤더를 Kafka 레코드에 주입하여 트레이스를 연결합니다. (리스너에서 가져다 사용)
             GlobalOpenTelemetry.getPropagators().getTextMapPropagator().inject(context, record, setter);
@@ -94,17 +139,15 @@ public class KafkaProducerAdapter implements KafkaProducerPort {
      * @param topic       - 전송할 Kafka 토픽
      * @param payloadJson - 전송할 메시지
      * @param context     - 전송에 사용될 컨텍스트
+     * @return 최종 성공 또는 재시도 후 최종 실패 시 완료되는 CompletableFuture
      */
-    @Retryable(retryFor = Exception.class, maxAttempts = 3, backoff = @Backoff(delay = 5000))
     @Override
-    public void sendWithRetryWithoutKey(
+    public CompletableFuture<SendResult<String, byte[]>> sendWithRetryWithoutKey(
             String topic,
             String payloadJson,
             Context context
     ) {
-        sendMessageWithoutKey(topic, payloadJson, context).whenComplete((result, ex) -> {
-            handleSendResult(topic, payloadJson, ex, result);
-        });
+        return sendWithRetryWithKey(topic, null, payloadJson, context);
     }
 
     /**
@@ -114,22 +157,30 @@ public class KafkaProducerAdapter implements KafkaProducerPort {
      * @param key         - Kafka 메시지 키
      * @param payloadJson - 전송할 메시지
      * @param context     - 전송에 사용될 컨텍스트
+     * @return 최종 성공 또는 재시도 후 최종 실패 시 완료되는 CompletableFuture
      */
-    @Retryable(retryFor = Exception.class, maxAttempts = 3, backoff = @Backoff(delay = 5000))
     @Override
-    public void sendWithRetryWithKey(
+    public CompletableFuture<SendResult<String, byte[]>> sendWithRetryWithKey(
             String topic,
             String key,
             String payloadJson,
             Context context
     ) {
-        sendMessageWithKey(topic, key, payloadJson, context).whenComplete((result, ex) -> {
-            handleSendResult(topic, payloadJson, ex, result);
-        });
+        return kafkaSendRetrier.execute(topic, () -> sendMessageWithKey(topic, key, payloadJson, context))
+                .whenComplete((result, ex) -> handleSendResult(topic, payloadJson, ex, result));
+    }
+
+    /**
+     * 버퍼에 쌓인 Kafka 메시지를 즉시 전송합니다.
+     */
+    @Override
+    public void flush() {
+        kafkaTemplate.flush();
     }
 
     /**
-     * 메시지 전송 결과를 처리합니다.
+     * 메시지 전송 결과를 로그로 남깁니다.
+     * 최종 실패는 반환한 CompletableFuture로 호출한 쪽에 전달되므로 여기서 다시 던지지 않습니다.
      *
      * @param topic       - 전송된 Kafka 토픽
      * @param payloadJson - 전송된 메시지
@@ -140,12 +191,12 @@ public class KafkaProducerAdapter implements KafkaProducerPort {
             String topic,
             String payloadJson,
             Throwable ex,
-            SendResult<String, String> result
+            SendResult<String, byte[]> result
     ) {
         if (ex != null) {
             log.error("Failed to send message to Kafka topic {}: {}", topic, ex.getMessage());
             // 알림 시스템을 통한 예외 처리 (slack, email, etc...)
-            throw new RuntimeException("Failed to send message to Kafka", ex);
+            return;
         }
 
         // 성공 시 전송된 메시지의 오프셋을 로그에 기록합니다.
@@ -0,0 +1,175 @@
+package com.pulse.member.adapter.out.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.RetriableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Kafka 전송을 비동기로 재시도하는 컴포넌트
+ * 전송 결과(CompletableFuture)가 실패하면 호출한 스레드를 막지 않고, jitter를 준 지수 backoff 뒤 전용 스케줄러 스레드에서 다시 전송합니다.
+ * 재시도해도 결과가 같은 예외(직렬화 실패, 레코드 크기 초과 등 RetriableException이 아닌 예외)는 바로 실패로 완료합니다.
+ * 멱등 프로듀서는 delivery.timeout.ms 안에서 같은 레코드를 이미 재전송하므로, 여기서의 재시도는 그 시간이 지난 뒤 새 레코드로 다시 전송합니다.
+ * 따라서 at-least-once 전송이며 중복, 순서 뒤바뀜이 생길 수 있으므로 순서가 필요 없고 중복 수신이 안전한 메시지(토큰 폐기 전파 등)에만 사용합니다.
+ * 시도 결과는 kafka.producer.send.retry{topic, result} 카운터로 기록합니다. (retried, exhausted, not_retryable)
+ */
+@Slf4j
+@Component
+public class KafkaSendRetrier {
+
+    private final ScheduledExecutorService scheduler;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+
+
+    public KafkaSendRetrier(
+            @Value("${kafka.sendRetryMaxAttempts:3}") int maxAttempts,
+            @Value("${kafka.sendRetryInitialBackoffMs:200}") long initialBackoffMs,
+            @Value("${kafka.sendRetryMaxBackoffMs:2000}") long maxBackoffMs,
+            MeterRegistry meterRegistry
+    ) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.meterRegistry = meterRegistry;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kafka-send-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+
+    /**
+     * @param topic 전송할 Kafka 토픽 (메트릭 태그, 로그용)
+     * @param send  한 번 전송하고 결과를 반환하는 함수 (재시도마다 다시 호출)
+     * @return 최종 성공 또는 최종 실패(재시도 소진, 재시도 불가 예외) 시 완료되는 CompletableFuture
+     * @apiNote 첫 전송은 호출한 스레드에서, 재시도는 backoff 뒤 스케줄러 스레드에서 실행합니다.
+     */
+    public <T> CompletableFuture<T> execute(String topic, Supplier<CompletableFuture<T>> send) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attempt(topic, send, 1, result);
+        return result;
+    }
+
+
+    /**
+     * @param attempt 실패한 시도 번호 (1부터)
+     * @return 다음 시도까지 기다릴 시간 (initialBackoffMs * 2^(attempt-1)을 maxBackoffMs로 제한한 값의 절반 ~ 전체 사이 임의 값)
+     * @apiNote 여러 인스턴스가 같은 브로커 장애로 동시에 실패해도 재시도가 한 시점에 몰리지 않도록 jitter를 줍니다.
+     */
+    long backoffMs(int attempt) {
+        long ceiling = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+    }
+
+
+    /**
+     * @param throwable 전송 실패 예외
+     * @return 원인 중에 RetriableException(타임아웃, 리더 변경 등 일시적인 오류)이 있으면 true
+     */
+    static boolean isRetryable(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RetriableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * 애플리케이션 종료 시 재시도 스케줄러 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+
+    /**
+     * @param topic   전송할 Kafka 토픽
+     * @param send    한 번 전송하고 결과를 반환하는 함수
+     * @param attempt 현재 시도 번호 (1부터)
+     * @param result  최종 결과를 전달할 CompletableFuture
+     */
+    private <T> void attempt(String topic, Supplier<CompletableFuture<T>> send, int attempt, CompletableFuture<T> result) {
+        // 1. 전송합니다. (버퍼가 가득 차는 등 send 호출 자체가 실패해도 같은 방식으로 처리)
+        CompletableFuture<T> future;
+        try {
+            future = send.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        // 2. 성공하면 완료하고, 실패하면 재시도 여부를 판단합니다.
+        future.whenComplete((value, ex) -> {
+            if (ex == null) {
+                result.complete(value);
+                return;
+            }
+            Throwable cause = unwrap(ex);
+            if (!isRetryable(cause) || attempt >= maxAttempts) {
+                // exception: 재시도할 수 없거나 재시도를 모두 소진하면 실패로 완료합니다.
+                String outcome = isRetryable(cause) ? "exhausted" : "not_retryable";
+                retryCounter(topic, outcome).increment();
+                log.warn("Kafka send failed - topic: {}, attempts: {}, outcome: {}, reason: {}", topic, attempt, outcome, cause.getMessage());
+                result.completeExceptionally(cause);
+                return;
+            }
+
+            // 3. backoff 뒤 스케줄러 스레드에서 다시 전송합니다.
+            long delayMs = backoffMs(attempt);
+            retryCounter(topic, "retried").increment();
+            log.debug("Retrying Kafka send - topic: {}, attempt: {}, delay: {} ms", topic, attempt + 1, delayMs);
+            try {
+                scheduler.schedule(() -> attempt(topic, send, attempt + 1, result), delayMs, TimeUnit.MILLISECONDS);
+            } catch (RuntimeException e) {
+                // exception: 종료 중이라 스케줄할 수 없으면 실패로 완료합니다.
+                result.completeExceptionally(cause);
+            }
+        });
+    }
+
+
+    /**
+     * @param throwable CompletableFuture가 전달한 예외
+     * @return CompletionException/ExecutionException을 벗겨낸 원인 예외
+     */
+    private Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+
+    /**
+     * @param topic   Kafka 토픽
+     * @param outcome 시도 결과 (retried, exhausted, not_retryable)
+     * @return 토픽, 결과별 재시도 카운터
+     */
+    private Counter retryCounter(String topic, String outcome) {
+        return Counter.builder("kafka.producer.send.retry")
+                .description("Kafka send attempts that were retried or finally failed")
+                .tag("topic", topic)
+                .tag("result", outcome)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.pulse.member.adapter.out.metrics;
+
+import com.pulse.member.application.port.out.outbox.RecordMemberOutboxMetricsPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * relay의 이벤트 타입별 전송 건수와 전송 지연(Outbox 생성 -> Kafka ack)을 Micrometer로 기록하는 어댑터
+ * 수신 측 리스너가 처리완료로 기록한 건수와 지연(Outbox 생성 -> 처리완료)도 같은 메트릭으로 기록합니다.
+ * 조회 없이 전송 결과마다 카운터와 히스토그램을 증가시키므로 scrape 비용이 없습니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class MemberOutboxMetricsAdapter implements RecordMemberOutboxMetricsPort {
+
+    public static final String EVENTS_METRIC = "outbox.events";
+    public static final String DISPATCH_LAG_METRIC = "outbox.dispatch.lag";
+
+    private final MeterRegistry meterRegistry;
+
+
+    /**
+     * @param eventType Outbox 이벤트 타입 (토픽)
+     * @param createdAt Outbox 생성 시각 (없으면 지연을 기록하지 않음)
+     * @param ackedAt   Kafka ack 시각
+     * @apiNote 전송 성공 건수와 생성부터 Kafka ack까지의 지연을 기록합니다.
+     */
+    @Override
+    public void recordMemberOutboxSent(String eventType, LocalDateTime createdAt, LocalDateTime ackedAt) {
+        eventCounter(eventType, "sent").increment();
+        if (createdAt != null) {
+            recordDispatchLag(eventType, "sent", createdAt, ackedAt);
+        }
+    }
+
+
+    /**
+     * @param eventType Outbox 이벤트 타입 (토픽)
+     * @apiNote 전송 실패 건수를 기록합니다.
+     */
+    @Override
+    public void recordMemberOutboxFailed(String eventType) {
+        eventCounter(eventType, "failed").increment();
+    }
+
+
+    /**
+     * @param eventType Outbox 이벤트 타입 (토픽)
+     * @param merged    최신 Outbox로 합쳐져 전송하지 않은 건수
+     * @apiNote 병합된 건수를 기록합니다. (수정 횟수 - 전송 건수)
+     */
+    @Override
+    public void recordMemberOutboxMerged(String eventType, int merged) {
+        eventCounter(eventType, "merged").increment(merged);
+    }
+
+
+    /**
+     * @param eventType   Outbox 이벤트 타입 (토픽)
+     * @param processed   처리완료로 수신한 건수
+     * @param createdAts  처리완료로 수신한 Outbox의 생성 시각 목록
+     * @param processedAt 처리완료 시각
+     * @apiNote 수신 측 리스너가 처리완료로 기록한 건수와 생성부터 처리완료까지의 지연을 기록합니다.
+     */
+    @Override
+    public void recordMemberOutboxProcessed(String eventType, int processed, List<LocalDateTime> createdAts, LocalDateTime processedAt) {
+        eventCounter(eventType, "processed").increment(processed);
+        createdAts.forEach(createdAt -> recordDispatchLag(eventType, "processed", createdAt, processedAt));
+    }
+
+
+    /**
+     * @param eventType Outbox 이벤트 타입 (토픽)
+     * @param stage     지연을 측정한 단계 (sent: Kafka ack, processed: 처리완료)
+     * @param createdAt Outbox 생성 시각
+     * @param reachedAt 해당 단계에 도달한 시각
+     * @apiNote Outbox 생성부터 해당 단계까지의 지연을 기록합니다. (서버 간 시계 차이로 음수이면 0)
+     */
+    private void recordDispatchLag(String eventType, String stage, LocalDateTime createdAt, LocalDateTime reachedAt) {
+        Duration lag = Duration.between(createdAt, reachedAt);
+        Timer.builder(DISPATCH_LAG_METRIC)
+                .description("Time from outbox row creation to each dispatch stage")
+                .tag("event_type", eventType)
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(lag.isNegative() ? Duration.ZERO : lag);
+    }
+
+
+    /**
+     * @param eventType Outbox 이벤트 타입 (토픽)
+     * @param result    처리 결과 (sent, failed, merged, processed)
+     * @return 이벤트 타입별 처리 건수 카운터
+     */
+    private Counter eventCounter(String eventType, String result) {
+        return Counter.builder(EVENTS_METRIC)
+                .description("Outbox events handled per event type and result")
+                .tag("event_type", eventType)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+}
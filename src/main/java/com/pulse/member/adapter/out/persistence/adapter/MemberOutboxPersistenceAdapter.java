@@ -1,22 +1,41 @@
 package com.pulse.member.adapter.out.persistence.adapter;
 
 import com.pulse.member.adapter.out.persistence.entity.MemberOutboxEntity;
+import com.pulse.member.adapter.out.persistence.entity.constant.MessageStatus;
+import com.pulse.member.adapter.out.persistence.outbox.MemberOutboxNotifier;
+import com.pulse.member.adapter.out.persistence.outbox.MemberOutboxRetentionStore;
 import com.pulse.member.adapter.out.persistence.repository.MemberOutboxRepository;
 import com.pulse.member.application.port.out.outbox.CreateMemberOutboxPort;
 import com.pulse.member.application.port.out.outbox.FindMemberOutboxPort;
+import com.pulse.member.application.port.out.outbox.MemberOutboxRetentionPort;
+import com.pulse.member.application.port.out.outbox.NotifyMemberOutboxPort;
+import com.pulse.member.application.port.out.outbox.UpdateMemberOutboxPort;
 import com.pulse.member.common.annotation.PersistenceAdapter;
 import com.pulse.member.domain.MemberOutbox;
-import com.pulse.member.exception.ErrorCode;
-import com.pulse.member.exception.MemberException;
 import com.pulse.member.mapper.MemberOutboxMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Slf4j
 @RequiredArgsConstructor
 @PersistenceAdapter
-public class MemberOutboxPersistenceAdapter implements FindMemberOutboxPort, CreateMemberOutboxPort {
+public class MemberOutboxPersistenceAdapter implements FindMemberOutboxPort, CreateMemberOutboxPort, UpdateMemberOutboxPort, MemberOutboxRetentionPort, NotifyMemberOutboxPort {
 
     private final MemberOutboxRepository memberOutboxRepository;
     private final MemberOutboxMapper memberOutboxMapper;
+    private final MemberOutboxRetentionStore memberOutboxRetentionStore;
+    private final MemberOutboxNotifier memberOutboxNotifier;
+    private final MeterRegistry meterRegistry;
 
 
     /**
@@ -33,16 +52,150 @@ public class MemberOutboxPersistenceAdapter implements FindMemberOutboxPort, Cre
 
 
     /**
-     * @param payload   MemberOutbox의 payload
-     * @param eventType MemberOutbox의 eventType
-     * @return 조회된 MemberOutbox
-     * @apiNote MemberOutbox를 payload와 eventType으로 조회합니다.
+     * @param limit           한 번에 가져올 최대 건수
+     * @param failRetryBefore 이 시각 이전에 실패한 FAIL 행만 다시 가져옴 (재전송 간격)
+     * @param failRetryAfter  이 시각 이후에 생성된 FAIL 행만 다시 가져옴 (재전송 기한)
+     * @return 잠금을 획득한 PENDING, 재전송할 FAIL 상태의 MemberOutbox 목록
+     * @apiNote PENDING 상태와 재전송할 FAIL 상태의 MemberOutbox를 FOR UPDATE SKIP LOCKED로 가져옵니다. (잠금은 호출한 트랜잭션이 끝날 때까지 유지)
+     */
+    @Override
+    public List<MemberOutbox> claimPendingMemberOutboxes(int limit, LocalDateTime failRetryBefore, LocalDateTime failRetryAfter) {
+        return memberOutboxRepository.claimPending(limit, failRetryBefore, failRetryAfter).stream()
+                .map(memberOutboxMapper::entityToDomain)
+                .toList();
+    }
+
+
+    /**
+     * @param limit              한 번에 가져올 최대 건수
+     * @param failRetryBefore    이 시각 이전에 실패한 FAIL 행만 다시 가져옴 (재전송 간격)
+     * @param failRetryAfter     이 시각 이후에 생성된 FAIL 행만 다시 가져옴 (재전송 기한)
+     * @param coalesceEventTypes 병합 대상 이벤트 타입 (비어 있지 않아야 함)
+     * @param coalesceBefore     병합 구간의 끝 (같은 회원/이벤트 타입의 가장 오래된 PENDING 행이 이 시각 이전에 생성되어야 가져옴)
+     * @return 잠금을 획득한 PENDING, 재전송할 FAIL 상태의 MemberOutbox 목록
+     * @apiNote 병합 대상 이벤트 타입은 병합 구간이 끝난 (payload, eventType)의 행만 모두 가져옵니다. 나머지 타입은 바로 가져옵니다.
+     */
+    @Override
+    public List<MemberOutbox> claimPendingMemberOutboxes(int limit, LocalDateTime failRetryBefore, LocalDateTime failRetryAfter,
+                                                         Set<String> coalesceEventTypes, LocalDateTime coalesceBefore) {
+        return memberOutboxRepository.claimPendingCoalesced(limit, failRetryBefore, failRetryAfter, coalesceEventTypes, coalesceBefore).stream()
+                .map(memberOutboxMapper::entityToDomain)
+                .toList();
+    }
+
+
+    /**
+     * @param statuses 집계할 메시지 상태 목록
+     * @param cap      상태별로 셀 최대 건수
+     * @return 상태별 MemberOutbox 건수 (cap을 넘으면 cap)
+     * @apiNote 상태마다 (message_status, id) 인덱스에서 최대 cap 건까지만 읽는 쿼리로 셉니다.
+     */
+    @Override
+    public Map<MessageStatus, Long> countMemberOutboxesByStatus(Collection<MessageStatus> statuses, int cap) {
+        Map<MessageStatus, Long> counts = new EnumMap<>(MessageStatus.class);
+        for (MessageStatus status : statuses) {
+            counts.put(status, memberOutboxRepository.countByStatusUpTo(status.name(), cap));
+        }
+        return counts;
+    }
+
+
+    /**
+     * @param status 메시지 상태
+     * @return 해당 상태에서 가장 오래된 MemberOutbox의 생성 시각 (없으면 empty)
+     * @apiNote (message_status, id) 인덱스의 맨 앞 행만 조회합니다. (id 순서를 생성 순서로 간주)
+     */
+    @Override
+    public Optional<LocalDateTime> findOldestMemberOutboxCreatedAt(MessageStatus status) {
+        return memberOutboxRepository.findFirstByStatusOrderByIdAsc(status)
+                .map(MemberOutboxEntity::getCreatedAt);
+    }
+
+
+    /**
+     * @param ids         MemberOutbox ID 목록
+     * @param status      변경할 상태
+     * @param processedAt 처리 시각
+     * @return 변경된 건수 (허용된 이전 상태가 아닌 행은 제외)
+     * @apiNote MemberOutbox를 조회하지 않고 UPDATE ... WHERE id IN (...) AND status IN (허용된 이전 상태) 한 번으로 상태를 전이합니다.
+     */
+    @Override
+    public int updateMemberOutboxStatus(List<Long> ids, MessageStatus status, LocalDateTime processedAt) {
+        int updated = memberOutboxRepository.updateStatusByIdInAndStatusIn(ids, status, processedAt, MemberOutbox.predecessorsOf(status));
+        recordOutOfOrder(status, ids.size() - updated);
+        return updated;
+    }
+
+
+    /**
+     * @param payload     MemberOutbox의 payload
+     * @param eventType   MemberOutbox의 eventType
+     * @param processedAt 처리 시각
+     * @return 변경된 건수 (0 또는 1)
+     * @apiNote outbox-id 헤더가 없는 이전 메시지용입니다. 같은 payload, eventType 중 이미 전송된(SENT, FAIL) 가장 오래된 행 하나만 PROCESSED로 변경합니다.
+     * 아직 전송하지 않은 PENDING 행은 변경하지 않으므로, 같은 회원의 새 이벤트가 전송되지 않은 채 처리완료로 바뀌지 않습니다.
+     */
+    @Override
+    public int markOldestDispatchedMemberOutboxProcessed(Long payload, String eventType, LocalDateTime processedAt) {
+        int updated = memberOutboxRepository.markOldestDispatchedProcessed(payload, eventType, processedAt);
+        recordOutOfOrder(MessageStatus.PROCESSED, updated == 0 ? 1 : 0);
+        return updated;
+    }
+
+
+    /**
+     * @param from 시작 일자
+     * @param days 시작 일자 이후로 미리 준비할 일 수
+     * @apiNote Outbox 일자별 파티션을 미리 생성합니다. (파티션을 사용하지 않는 저장소는 무시)
+     */
+    @Override
+    public void prepareMemberOutboxPartitions(LocalDate from, int days) {
+        memberOutboxRetentionStore.preparePartitions(from, days);
+    }
+
+
+    /**
+     * @param cutoff    이 시각 이전에 생성된 Outbox를 삭제
+     * @param chunkSize 행 단위로 삭제하는 경우 한 번에 삭제할 최대 건수
+     * @return 정리된 행 수
+     * @apiNote 보존 기간이 지난 처리완료(PROCESSED) Outbox를 정리합니다.
+     */
+    @Override
+    public int deleteMemberOutboxesCreatedBefore(LocalDateTime cutoff, int chunkSize) {
+        return memberOutboxRetentionStore.deleteCreatedBefore(cutoff, chunkSize);
+    }
+
+
+    /**
+     * @param cutoff 이 시각 이전에 생성된 Outbox를 확인
+     * @return 보존 기간이 지났지만 처리완료되지 않아 정리하지 않은 행 수
      */
     @Override
-    public MemberOutbox findMemberOutboxBy(Long payload, String eventType) {
-        MemberOutboxEntity entity = memberOutboxRepository.findByPayloadAndEventType(payload, eventType)
-                .orElseThrow(() -> new MemberException(ErrorCode.Not_FOUND_MEMBER_OUTBOX));
-        return memberOutboxMapper.entityToDomain(entity);
+    public long countUnprocessedMemberOutboxesCreatedBefore(LocalDateTime cutoff) {
+        return memberOutboxRetentionStore.countUnprocessedCreatedBefore(cutoff);
+    }
+
+
+    /**
+     * @apiNote 현재 트랜잭션이 커밋되면 Outbox가 저장되었음을 relay에 알립니다. (poll 설정이면 무시)
+     */
+    @Override
+    public void notifyMemberOutboxSaved() {
+        memberOutboxNotifier.notifySaved();
+    }
+
+
+    /**
+     * @param status   변경하려던 상태
+     * @param rejected 허용된 이전 상태가 아니어서(또는 행이 없어서) 변경되지 않은 건수
+     * @apiNote 늦게 도착하거나 중복된 상태 변경 건수를 기록합니다.
+     */
+    private void recordOutOfOrder(MessageStatus status, int rejected) {
+        if (rejected <= 0) {
+            return;
+        }
+        meterRegistry.counter("outbox.status.out_of_order", "status", status.name()).increment(rejected);
+        log.debug("Outbox status transition skipped - status: {}, rejected: {}", status, rejected);
     }
 
 }
@@ -13,6 +13,9 @@ import com.pulse.member.exception.MemberException;
 import com.pulse.member.mapper.MemberMapper;
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
+import java.util.Objects;
+
 @RequiredArgsConstructor
 @PersistenceAdapter
 public class MemberPersistenceAdapter implements CreateMemberPort, FindMemberPort, DeleteMemberPort, UpdateMemberPort {
@@ -60,7 +63,30 @@ public class MemberPersistenceAdapter implements CreateMemberPort, FindMemberPor
         MemberEntity memberEntity = memberRepository.findMemberEntityByEmail(email)
                 .orElseThrow(() -> new MemberException(ErrorCode.MEMBER_NOT_FOUND));
 
-        return Member.of(memberEntity.getId(), memberEntity.getEmail(), memberEntity.getName(), memberEntity.getLastLogin());
+        return memberMapper.toDomain(memberEntity);
+    }
+
+
+    /**
+     * @param email 이메일
+     * @return 권한 이름 목록을 포함한 회원
+     * @apiNote 이메일로 회원과 권한 이름을 한 번의 쿼리로 조회 (로그인 시 DB 왕복을 줄이기 위해 사용)
+     */
+    @Override
+    public Member findMemberWithRoleNamesByEmail(String email) {
+        // 1. 회원과 권한 이름을 함께 조회
+        List<Object[]> rows = memberRepository.findMemberEntityWithRoleNamesByEmail(email);
+        if (rows.isEmpty()) {
+            throw new MemberException(ErrorCode.MEMBER_NOT_FOUND);
+        }
+
+        // 2. 회원 도메인으로 변환하고 권한 이름 목록 설정
+        Member member = memberMapper.toDomain((MemberEntity) rows.get(0)[0]);
+        member.changeRoleNames(rows.stream()
+                .map(row -> (String) row[1])
+                .filter(Objects::nonNull)
+                .toList());
+        return member;
     }
 
 
@@ -91,6 +117,18 @@ public class MemberPersistenceAdapter implements CreateMemberPort, FindMemberPor
     }
 
 
+    /**
+     * 회원 비밀번호 수정 (비밀번호 컬럼만 갱신)
+     *
+     * @param memberId        회원 ID
+     * @param encodedPassword 암호화된 비밀번호
+     */
+    @Override
+    public void updatePassword(Long memberId, String encodedPassword) {
+        memberRepository.updatePassword(memberId, encodedPassword);
+    }
+
+
     /**
      * 회원 삭제
      *
@@ -5,6 +5,7 @@ import com.pulse.member.adapter.out.persistence.entity.MemberRoleEntity;
 import com.pulse.member.adapter.out.persistence.entity.RoleEntity;
 import com.pulse.member.adapter.out.persistence.repository.MemberRoleRepository;
 import com.pulse.member.application.port.out.role.map.CreateMemberRolePort;
+import com.pulse.member.application.port.out.role.map.FindMemberRolePort;
 import com.pulse.member.common.annotation.PersistenceAdapter;
 import com.pulse.member.domain.Member;
 import com.pulse.member.domain.Role;
@@ -16,9 +17,11 @@ import com.pulse.member.mapper.RoleMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.util.ObjectUtils;
 
+import java.util.List;
+
 @RequiredArgsConstructor
 @PersistenceAdapter
-public class MemberRolePersistenceAdapter implements CreateMemberRolePort {
+public class MemberRolePersistenceAdapter implements CreateMemberRolePort, FindMemberRolePort {
 
     private final MemberRoleRepository memberRoleRepository;
 
@@ -53,6 +56,17 @@ public class MemberRolePersistenceAdapter implements CreateMemberRolePort {
     }
 
 
+    /**
+     * @param memberId 회원 ID
+     * @return 회원이 가진 권한 코드 목록
+     * @apiNote 회원의 권한 코드 목록 조회 (JWT 클레임에 담기 위해 사용)
+     */
+    @Override
+    public List<String> findRoleNamesByMemberId(Long memberId) {
+        return memberRoleRepository.findRoleNamesByMemberId(memberId);
+    }
+
+
     /**
      * @param memberEntity MemberEntity
      * @apiNote MemberEntity 유효성 검사
@@ -1,8 +1,6 @@
 package com.pulse.member.adapter.out.persistence.adapter;
 
-import com.pulse.member.adapter.out.persistence.entity.MemberEntity;
-import com.pulse.member.adapter.out.persistence.entity.RefreshTokenEntity;
-import com.pulse.member.adapter.out.persistence.repository.RefreshTokenRepository;
+import com.pulse.member.adapter.out.persistence.refreshtoken.RefreshTokenStore;
 import com.pulse.member.application.port.out.refreshtoken.CreateRefreshTokenPort;
 import com.pulse.member.application.port.out.refreshtoken.DeleteRefreshTokenPort;
 import com.pulse.member.application.port.out.refreshtoken.FindRefreshTokenPort;
@@ -12,18 +10,20 @@ import com.pulse.member.domain.Member;
 import com.pulse.member.domain.RefreshToken;
 import com.pulse.member.exception.ErrorCode;
 import com.pulse.member.exception.MemberException;
-import com.pulse.member.mapper.MemberMapper;
-import com.pulse.member.mapper.RefreshTokenMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.util.ObjectUtils;
 
+import java.time.LocalDateTime;
+
+/**
+ * Refresh 토큰 port 구현체
+ * 실제 저장/조회는 설정(jwt.refreshTokenStore)으로 선택된 RefreshTokenStore에 위임합니다.
+ */
 @RequiredArgsConstructor
 @PersistenceAdapter
 public class RefreshTokenPersistenceAdapter implements CreateRefreshTokenPort, FindRefreshTokenPort, DeleteRefreshTokenPort, UpdateRefreshTokenPort {
 
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final MemberMapper memberMapper;
-    private final RefreshTokenMapper refreshTokenMapper;
+    private final RefreshTokenStore refreshTokenStore;
 
 
     /**
@@ -33,11 +33,9 @@ public class RefreshTokenPersistenceAdapter implements CreateRefreshTokenPort, F
      */
     @Override
     public RefreshToken createRefreshToken(RefreshToken refreshToken) {
-        RefreshTokenEntity refreshTokenEntity = refreshTokenMapper.domainToEntity(refreshToken);
-        validRefreshTokenEntity(refreshTokenEntity);
-        // RefreshToken 생성 및 저장
-        RefreshTokenEntity savedRefreshTokenEntity = refreshTokenRepository.save(refreshTokenEntity);
-        return refreshTokenMapper.entityToDomain(savedRefreshTokenEntity);
+        validRefreshToken(refreshToken);
+        validMember(refreshToken.getMember());
+        return refreshTokenStore.save(refreshToken);
     }
 
 
@@ -48,59 +46,92 @@ public class RefreshTokenPersistenceAdapter implements CreateRefreshTokenPort, F
      */
     @Override
     public Boolean deleteRefreshToken(Member member) {
-        MemberEntity memberEntity = memberMapper.toEntity(member);
-        validMemberEntity(memberEntity);
+        validMember(member);
         // 회원의 RefreshToken 삭제
-        refreshTokenRepository.deleteByMemberEntity(memberEntity);
+        refreshTokenStore.deleteByMemberId(member.getId());
         return true;
     }
 
 
+    /**
+     * @param now       기준 시각
+     * @param chunkSize 한 번에 삭제할 최대 건수
+     * @return 삭제된 건수
+     * @apiNote 만료된 RefreshToken 삭제
+     */
+    @Override
+    public int deleteExpiredRefreshTokens(LocalDateTime now, int chunkSize) {
+        return refreshTokenStore.deleteExpired(now, chunkSize);
+    }
+
+
+    /**
+     * @param memberId 회원 ID
+     * @apiNote 이 인스턴스에 캐시된 회원의 RefreshToken 제거 (DB는 변경하지 않음)
+     */
+    @Override
+    public void evictCachedRefreshTokens(Long memberId) {
+        refreshTokenStore.evictCached(memberId);
+    }
+
+
     /**
      * @param refreshToken RefreshToken
      * @return 조회된 RefreshToken
-     * @apiNote RefreshToken 조회
+     * @apiNote 토큰 값으로 RefreshToken 조회 (회원 정보 포함)
      */
     @Override
     public RefreshToken findRefreshToken(RefreshToken refreshToken) {
-        RefreshTokenEntity refreshTokenEntity = refreshTokenMapper.domainToEntity(refreshToken);
-        validRefreshTokenEntity(refreshTokenEntity);
+        validRefreshToken(refreshToken);
+        return refreshTokenStore.findByToken(refreshToken.getToken())
+                .orElseThrow(() -> new MemberException(ErrorCode.REFRESH_TOKEN_NOT_EXIST));
+    }
 
-        // 이메일을 통해 RefreshToken 조회
-        String email = refreshTokenEntity.getMemberEntity().getEmail();
-        RefreshTokenEntity findRefreshTokenEntity = refreshTokenRepository.findRefreshTokenEntityByMemberEntity_Email(email)
-                .orElseThrow(() -> new MemberException(ErrorCode.DATA_NOT_FOUND));
 
-        return refreshTokenMapper.entityToDomain(findRefreshTokenEntity);
+    /**
+     * @param refreshToken RefreshToken
+     * @return 교체된 RefreshToken
+     * @apiNote 회원+기기의 RefreshToken을 새 토큰으로 교체 (없으면 생성, 조회 없이 upsert 한 번으로 처리)
+     */
+    @Override
+    public RefreshToken updateRefreshToken(RefreshToken refreshToken) {
+        validRefreshToken(refreshToken);
+        validMember(refreshToken.getMember());
+        return refreshTokenStore.save(refreshToken);
     }
 
 
     /**
      * @param refreshToken RefreshToken
-     * @return 갱신된 RefreshToken
-     * @apiNote RefreshToken 갱신
+     * @param loginAt      로그인 시각
+     * @return 교체된 RefreshToken
+     * @apiNote 로그인 시 RefreshToken 교체와 로그인 기록(활동 로그, 마지막 로그인 시각) 저장을 한 번의 DB 왕복으로 처리
      */
     @Override
-    public RefreshToken updateRefreshToken(RefreshToken refreshToken) {
-        return null;
+    public RefreshToken updateRefreshTokenOnSignIn(RefreshToken refreshToken, LocalDateTime loginAt) {
+        validRefreshToken(refreshToken);
+        validMember(refreshToken.getMember());
+        return refreshTokenStore.saveOnSignIn(refreshToken, loginAt);
     }
 
 
     /**
-     * @param refreshTokenEntity RefreshTokenEntity
-     * @apiNote RefreshTokenEntity 유효성 검사
+     * @param refreshToken RefreshToken
+     * @apiNote RefreshToken 유효성 검사
      */
-    private void validRefreshTokenEntity(RefreshTokenEntity refreshTokenEntity) {
-        if (ObjectUtils.isEmpty(refreshTokenEntity)) throw new MemberException(ErrorCode.DATA_NOT_FOUND);
+    private void validRefreshToken(RefreshToken refreshToken) {
+        if (ObjectUtils.isEmpty(refreshToken) || ObjectUtils.isEmpty(refreshToken.getToken())) {
+            throw new MemberException(ErrorCode.DATA_NOT_FOUND);
+        }
     }
 
 
     /**
-     * @param memberEntity MemberEntity
-     * @apiNote MemberEntity 유효성 검사
+     * @param member 회원
+     * @apiNote 회원 유효성 검사
      */
-    private void validMemberEntity(MemberEntity memberEntity) {
-        if (ObjectUtils.isEmpty(memberEntity)) throw new MemberException(ErrorCode.DATA_NOT_FOUND);
+    private void validMember(Member member) {
+        if (ObjectUtils.isEmpty(member) || member.getId() == null) throw new MemberException(ErrorCode.DATA_NOT_FOUND);
     }
 
 }
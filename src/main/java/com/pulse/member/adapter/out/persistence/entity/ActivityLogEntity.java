@@ -7,6 +7,7 @@ import java.util.Objects;
 
 /**
  * 활동 로그 엔티티
+ * 로그인 활동 로그는 SignInJdbcRepository가 로그인 쓰기와 같은 SQL 문으로 저장합니다. (별도의 이벤트/리스너로 저장하지 않음)
  */
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
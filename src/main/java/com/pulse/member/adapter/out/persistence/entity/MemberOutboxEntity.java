@@ -18,7 +18,11 @@ import java.util.Objects;
 @NoArgsConstructor
 @Getter
 @Entity
-@Table(name = "member_outbox")
+@Table(name = "member_outbox", indexes = {
+        @Index(name = "idx_member_outbox_status_id", columnList = "message_status, id"), // relay의 PENDING 행 조회용 인덱스
+        @Index(name = "idx_member_outbox_payload_event_type", columnList = "payload, event_type"), // outbox-id 헤더가 없는 메시지의 조회용 인덱스
+        @Index(name = "idx_member_outbox_created_at", columnList = "created_at") // 보존 기간이 지난 행 삭제용 인덱스 (파티션 테이블에서는 사용하지 않음)
+})
 public class MemberOutboxEntity extends BaseEntity {
 
     @Id
@@ -36,11 +40,14 @@ public class MemberOutboxEntity extends BaseEntity {
 
     @Enumerated(EnumType.STRING)
     @Column(name = "message_status", nullable = false)
-    private MessageStatus status;      // Kafka 메시지 처리 상태 (예: PENDING, PROCESSED, SUCCESS, FAIL)
+    private MessageStatus status;      // Kafka 메시지 처리 상태 (예: PENDING, SENT, PROCESSED, SUCCESS, FAIL, MERGED)
 
     @Column(name = "processed_at")
     private LocalDateTime processedAt; // Kafka 메시지 처리 시간 (처리된 경우)
 
+    @Column(name = "snapshot", length = 10240)
+    private byte[] snapshot;           // fat event의 회원 스냅샷 (MemberProto.MemberRetrieveResponse, thin event면 null)
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -18,7 +18,13 @@ import java.util.Objects;
 @NoArgsConstructor
 @Getter
 @Entity
-@Table(name = "refresh_token")
+@Table(name = "refresh_token",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_refresh_token_member_device", columnNames = {"member_id", "device_id"}) // 회원+기기당 토큰 1개 (upsert 충돌 키)
+        },
+        indexes = {
+                @Index(name = "idx_refresh_token_expiry_date", columnList = "expiry_date") // 만료 토큰 정리(sweeper)용 인덱스
+        })
 public class RefreshTokenEntity extends BaseEntity {
 
     @Id
@@ -29,6 +35,9 @@ public class RefreshTokenEntity extends BaseEntity {
     @JoinColumn(name = "member_id", nullable = false)
     private MemberEntity memberEntity;
 
+    @Column(name = "device_id", nullable = false)
+    private String deviceId;
+
     @Column(name = "token", nullable = false, unique = true)
     private String token;
 
@@ -12,8 +12,10 @@ import java.util.Arrays;
 public enum MessageStatus {
 
     PENDING("PENDING", "대기"),
+    SENT("SENT", "전송완료"),
     PROCESSED("PROCESSED", "처리완료"),
     SUCCESS("SUCCESS", "성공"),
+    MERGED("MERGED", "병합"),
     FAIL("FAIL", "실패");
 
     private final String code;
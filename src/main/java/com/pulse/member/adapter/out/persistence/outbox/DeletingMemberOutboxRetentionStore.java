@@ -0,0 +1,50 @@
+package com.pulse.member.adapter.out.persistence.outbox;
+
+import com.pulse.member.adapter.out.persistence.repository.MemberOutboxRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 파티션을 사용하지 않는 DB(H2 테스트 프로필 등)를 위한 Outbox 정리 구현체
+ * created_at 인덱스로 보존 기간이 지난 처리완료(PROCESSED) 행을 chunkSize 건씩 삭제합니다. (미처리 행은 남김)
+ */
+@RequiredArgsConstructor
+public class DeletingMemberOutboxRetentionStore implements MemberOutboxRetentionStore {
+
+    private final MemberOutboxRepository memberOutboxRepository;
+
+
+    /**
+     * @param from 시작 일자
+     * @param days 미리 생성할 일 수
+     * @apiNote 파티션을 사용하지 않으므로 아무것도 하지 않습니다.
+     */
+    @Override
+    public void preparePartitions(LocalDate from, int days) {
+    }
+
+
+    /**
+     * @param cutoff    이 시각 이전에 생성된 Outbox를 삭제
+     * @param chunkSize 한 번에 삭제할 최대 건수
+     * @return 삭제된 건수
+     * @apiNote 보존 기간이 지난 처리완료(PROCESSED) Outbox를 chunkSize 건 삭제합니다.
+     */
+    @Override
+    public int deleteCreatedBefore(LocalDateTime cutoff, int chunkSize) {
+        return memberOutboxRepository.deleteCreatedBefore(cutoff, chunkSize);
+    }
+
+
+    /**
+     * @param cutoff 이 시각 이전에 생성된 Outbox를 확인
+     * @return 보존 기간이 지났지만 처리완료되지 않아 남긴 행 수
+     */
+    @Override
+    public long countUnprocessedCreatedBefore(LocalDateTime cutoff) {
+        return memberOutboxRepository.countUnprocessedCreatedBefore(cutoff);
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.pulse.member.adapter.out.persistence.outbox;
+
+/**
+ * Outbox가 저장되었음을 relay에 알리는 추상화
+ * outbox.relayWakeup 설정이 listen이면 PostgreSQL NOTIFY를 보내고, poll이면 아무것도 하지 않습니다. (relay가 polling으로 조회)
+ */
+@FunctionalInterface
+public interface MemberOutboxNotifier {
+
+    void notifySaved();
+
+}
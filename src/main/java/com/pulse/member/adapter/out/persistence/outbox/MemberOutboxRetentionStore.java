@@ -0,0 +1,19 @@
+package com.pulse.member.adapter.out.persistence.outbox;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 보존 기간이 지난 Outbox를 정리하는 저장소 추상화
+ * outbox.retentionStore 설정에 따라 파티션 단위 삭제(partition) 또는 chunk 단위 행 삭제(delete) 구현체가 사용됩니다.
+ * 두 구현체 모두 처리완료(PROCESSED)된 행만 정리하며, 보존 기간이 지나도 전송/처리되지 않은 행(PENDING, FAIL, SENT)은 남깁니다.
+ */
+public interface MemberOutboxRetentionStore {
+
+    void preparePartitions(LocalDate from, int days);
+
+    int deleteCreatedBefore(LocalDateTime cutoff, int chunkSize);
+
+    long countUnprocessedCreatedBefore(LocalDateTime cutoff);
+
+}
@@ -0,0 +1,177 @@
+package com.pulse.member.adapter.out.persistence.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * created_at 기준 일 단위로 파티션된 member_outbox(PostgreSQL)를 위한 Outbox 정리 구현체
+ * 일자별 파티션(member_outbox_pYYYYMMDD)을 미리 생성하고, 보존 기간이 지난 파티션은 행 단위 DELETE 없이 통째로 DROP 합니다.
+ * 처리완료(PROCESSED)되지 않은 행이 남아 있는 파티션은 전송/처리될 수 있도록 분리하지 않고 남깁니다.
+ * 모든 문장은 트랜잭션 밖에서(autocommit) 하나씩 실행되어야 합니다.
+ * - 파티션 생성이 실패해도 트랜잭션이 중단(25P02)되지 않고 다음 일자를 계속 생성합니다.
+ * - DETACH PARTITION ... CONCURRENTLY는 트랜잭션 블록 안에서 실행할 수 없습니다.
+ * 부모 테이블에 ACCESS EXCLUSIVE 잠금을 잡는 DROP 대신 CONCURRENTLY로 먼저 분리하므로, 열려 있는 relay 트랜잭션 뒤에서 INSERT가 대기하지 않습니다.
+ * 테이블 구조는 schema-postgresql.sql을 참고하세요.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PartitionedMemberOutboxRetentionStore implements MemberOutboxRetentionStore {
+
+    public static final String PARTITION_PREFIX = "member_outbox_p";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE; // yyyyMMdd
+
+    private static final String CREATE_PARTITION =
+            "CREATE TABLE IF NOT EXISTS %s PARTITION OF member_outbox FOR VALUES FROM ('%s') TO ('%s')";
+
+    // 분리 중(detach pending)이거나 분리만 되고 DROP 되지 못한 테이블까지 함께 조회
+    private static final String FIND_PARTITIONS = """
+            SELECT child.relname AS name, child.relispartition AS attached, coalesce(pg_inherits.inhdetachpending, false) AS detach_pending
+            FROM pg_class child
+            LEFT JOIN pg_inherits ON pg_inherits.inhrelid = child.oid
+            WHERE child.relkind = 'r' AND child.relname LIKE 'member\\_outbox\\_p%'
+            """;
+
+    private static final String COUNT_UNPROCESSED_CREATED_BEFORE =
+            "SELECT count(*) FROM member_outbox WHERE created_at < ? AND message_status <> 'PROCESSED'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    /**
+     * Outbox 일자별 파티션 테이블
+     *
+     * @param name          테이블 이름
+     * @param attached      member_outbox에 파티션으로 연결되어 있는지 여부
+     * @param detachPending DETACH ... CONCURRENTLY가 중단되어 분리 중 상태로 남았는지 여부
+     */
+    record OutboxPartition(String name, boolean attached, boolean detachPending) {
+    }
+
+
+    /**
+     * @param from 시작 일자
+     * @param days 시작 일자 이후로 미리 생성할 일 수
+     * @apiNote from부터 from + days까지의 일자별 파티션을 생성합니다. (이미 있으면 생략)
+     * 문장마다 자체 트랜잭션으로 실행되므로 한 일자의 생성이 실패해도 나머지 일자는 생성됩니다.
+     */
+    @Override
+    public void preparePartitions(LocalDate from, int days) {
+        for (int i = 0; i <= days; i++) {
+            LocalDate day = from.plusDays(i);
+            try {
+                jdbcTemplate.execute(String.format(CREATE_PARTITION, partitionName(day), day, day.plusDays(1)));
+            } catch (DataAccessException e) {
+                // exception: 생성에 실패한 일자는 다음 실행에서 다시 생성합니다.
+                log.warn("Failed to create outbox partition {}: {}", partitionName(day), e.getMessage());
+            }
+        }
+    }
+
+
+    /**
+     * @param cutoff    이 시각 이전에 생성된 Outbox를 삭제
+     * @param chunkSize 사용하지 않음 (파티션 단위로 정리)
+     * @return 정리된 행 수 (DROP한 파티션의 행 수)
+     * @apiNote 모든 행이 cutoff 이전에 생성된 파티션을 CONCURRENTLY로 분리한 뒤 DROP 합니다. (처리완료되지 않은 행이 있는 파티션은 남김)
+     * 이전 실행에서 분리가 중단된 파티션은 FINALIZE로 분리를 마치고, 분리만 되고 남은 테이블은 바로 DROP 합니다.
+     */
+    @Override
+    public int deleteCreatedBefore(LocalDateTime cutoff, int chunkSize) {
+        int reclaimed = 0;
+
+        for (OutboxPartition partition : findPartitions()) {
+            LocalDate day = partitionDay(partition.name());
+            if (day == null || day.plusDays(1).atStartOfDay().isAfter(cutoff)) {
+                continue;
+            }
+
+            try {
+                // 1. 처리완료되지 않은 행이 있으면 분리하지 않습니다. (분리 중이거나 분리된 테이블은 분리 전에 확인함)
+                if (partition.attached() && !partition.detachPending()) {
+                    Integer unprocessed = jdbcTemplate.queryForObject(
+                            "SELECT count(*) FROM " + partition.name() + " WHERE message_status <> 'PROCESSED'", Integer.class);
+                    if (unprocessed != null && unprocessed > 0) {
+                        log.warn("Kept expired outbox partition {} - {} rows are not processed yet", partition.name(), unprocessed);
+                        continue;
+                    }
+                }
+
+                // 2. 삭제할 행 수를 기록합니다.
+                Integer rows = jdbcTemplate.queryForObject("SELECT count(*) FROM " + partition.name(), Integer.class);
+
+                // 3. 부모 테이블에서 분리합니다. (CONCURRENTLY는 INSERT/UPDATE를 막지 않고 진행 중인 트랜잭션이 끝나기를 기다림)
+                if (partition.detachPending()) {
+                    jdbcTemplate.execute("ALTER TABLE member_outbox DETACH PARTITION " + partition.name() + " FINALIZE");
+                } else if (partition.attached()) {
+                    jdbcTemplate.execute("ALTER TABLE member_outbox DETACH PARTITION " + partition.name() + " CONCURRENTLY");
+                }
+
+                // 4. 분리된 테이블을 DROP 합니다. (부모 테이블 잠금 없음)
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition.name());
+                reclaimed += rows != null ? rows : 0;
+                log.info("Dropped outbox partition {} ({} rows)", partition.name(), rows);
+            } catch (DataAccessException e) {
+                // exception: 분리 중 상태로 남은 파티션은 다음 실행에서 FINALIZE 후 DROP 합니다.
+                log.warn("Failed to drop outbox partition {}: {}", partition.name(), e.getMessage());
+            }
+        }
+        return reclaimed;
+    }
+
+
+    /**
+     * @param cutoff 이 시각 이전에 생성된 Outbox를 확인
+     * @return 보존 기간이 지났지만 처리완료되지 않아 남긴 행 수
+     */
+    @Override
+    public long countUnprocessedCreatedBefore(LocalDateTime cutoff) {
+        Long unprocessed = jdbcTemplate.queryForObject(COUNT_UNPROCESSED_CREATED_BEFORE, Long.class, cutoff);
+        return unprocessed != null ? unprocessed : 0;
+    }
+
+
+    /**
+     * @return member_outbox의 일자별 파티션 (분리 중이거나 분리된 테이블 포함)
+     */
+    private List<OutboxPartition> findPartitions() {
+        return jdbcTemplate.query(FIND_PARTITIONS, (rs, rowNum) -> new OutboxPartition(
+                rs.getString("name"), rs.getBoolean("attached"), rs.getBoolean("detach_pending")));
+    }
+
+
+    /**
+     * @param day 파티션 일자
+     * @return 파티션 테이블 이름 (예: member_outbox_p20250101)
+     * @apiNote 일자별 파티션 이름 생성
+     */
+    static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + day.format(PARTITION_SUFFIX);
+    }
+
+
+    /**
+     * @param partition 파티션 테이블 이름
+     * @return 파티션 일자, 일자별 파티션이 아니면 null
+     * @apiNote 파티션 이름에서 일자 추출
+     */
+    static LocalDate partitionDay(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+}
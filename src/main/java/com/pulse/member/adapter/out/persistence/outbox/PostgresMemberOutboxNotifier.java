@@ -0,0 +1,27 @@
+package com.pulse.member.adapter.out.persistence.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static com.pulse.member.util.Constant.OUTBOX_NOTIFY_CHANNEL;
+
+/**
+ * PostgreSQL NOTIFY로 Outbox 저장을 알리는 구현체
+ * Outbox를 저장한 트랜잭션 안에서 실행되므로, 알림은 커밋될 때만 LISTEN 중인 relay에 전달되고 롤백되면 버려집니다.
+ * 한 트랜잭션에서 여러 번 보내도 같은 채널/내용의 알림은 하나로 합쳐집니다.
+ */
+@RequiredArgsConstructor
+public class PostgresMemberOutboxNotifier implements MemberOutboxNotifier {
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    /**
+     * @apiNote 현재 트랜잭션에 NOTIFY를 추가합니다.
+     */
+    @Override
+    public void notifySaved() {
+        jdbcTemplate.execute("NOTIFY " + OUTBOX_NOTIFY_CHANNEL);
+    }
+
+}
@@ -0,0 +1,214 @@
+package com.pulse.member.adapter.out.persistence.refreshtoken;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.pulse.member.domain.RefreshToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인메모리 TTL 맵 + DB write-through Refresh 토큰 저장소
+ * 토큰 값 -> RefreshToken 해시 조회로 재발급을 처리하고, 캐시 미스일 때만 DB(JpaRefreshTokenStore)를 조회합니다.
+ * 캐시는 Caffeine(내부적으로 해시 버킷 단위로 잠금을 나누는 ConcurrentHashMap 기반)이며, 항목은 토큰 만료 시각 또는 localTtl 중 이른 시점에 제거됩니다.
+ * 같은 회원+기기로 새 토큰이 저장되면 이 인스턴스에 캐시된 이전 토큰은 즉시 제거합니다.
+ * 다른 인스턴스의 로그아웃/회원 삭제는 토큰 폐기 이벤트(evictCached)로 반영되지만, 다른 인스턴스에서 교체된 토큰은 localTtl 동안 남아 있으므로 단일 인스턴스 배포에서만 사용합니다.
+ */
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenStore delegate;
+    private final Duration localTtl;
+    private final Cache<String, RefreshToken> tokens;
+    private final Map<Long, Map<String, String>> tokensByMemberId = new ConcurrentHashMap<>(); // 회원 ID -> (기기 ID -> 토큰)
+
+
+    public InMemoryRefreshTokenStore(RefreshTokenStore delegate, long maxSize, Duration localTtl, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.localTtl = localTtl;
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpireAtTokenExpiration())
+                .removalListener(this::removeIndex)
+                .recordStats()
+                .build();
+
+        // 캐시 적중률, 제거 횟수 등을 actuator 메트릭으로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, tokens, "refreshToken");
+    }
+
+
+    /**
+     * @param refreshToken 저장할 RefreshToken
+     * @return 저장된 RefreshToken
+     * @apiNote DB에 먼저 저장하고(write-through), 트랜잭션이 커밋되면 캐시에 반영합니다.
+     */
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+        RefreshToken savedRefreshToken = delegate.save(refreshToken);
+        afterCommit(() -> cache(savedRefreshToken));
+        return savedRefreshToken;
+    }
+
+
+    /**
+     * @param refreshToken 저장할 RefreshToken
+     * @param loginAt      로그인 시각
+     * @return 저장된 RefreshToken
+     * @apiNote 로그인 기록과 함께 DB에 먼저 저장하고(write-through), 트랜잭션이 커밋되면 캐시에 반영합니다.
+     */
+    @Override
+    public RefreshToken saveOnSignIn(RefreshToken refreshToken, LocalDateTime loginAt) {
+        RefreshToken savedRefreshToken = delegate.saveOnSignIn(refreshToken, loginAt);
+        afterCommit(() -> cache(savedRefreshToken));
+        return savedRefreshToken;
+    }
+
+
+    /**
+     * @param token refresh 토큰 값
+     * @return 조회된 RefreshToken
+     * @apiNote 캐시에서 조회하고, 없으면 DB에서 조회 후 캐시에 저장합니다.
+     */
+    @Override
+    public Optional<RefreshToken> findByToken(String token) {
+        // 1. 캐시 조회 (만료된 항목은 Caffeine이 반환하지 않음)
+        RefreshToken cachedRefreshToken = tokens.getIfPresent(token);
+        if (cachedRefreshToken != null) {
+            return Optional.of(cachedRefreshToken);
+        }
+
+        // 2. 캐시 미스면 DB 조회 후 캐시에 저장
+        Optional<RefreshToken> findRefreshToken = delegate.findByToken(token);
+        findRefreshToken.ifPresent(this::cache);
+        return findRefreshToken;
+    }
+
+
+    /**
+     * @param memberId 회원 ID
+     * @apiNote 회원의 토큰을 캐시에서 즉시 제거하고 DB에서도 삭제합니다.
+     */
+    @Override
+    public void deleteByMemberId(Long memberId) {
+        evictMember(memberId);
+        delegate.deleteByMemberId(memberId);
+    }
+
+
+    /**
+     * @param memberId 회원 ID
+     * @apiNote 다른 인스턴스에서 폐기된 회원의 토큰을 캐시에서 제거합니다. (DB 삭제는 폐기한 인스턴스가 이미 수행)
+     */
+    @Override
+    public void evictCached(Long memberId) {
+        evictMember(memberId);
+    }
+
+
+    /**
+     * @param now   기준 시각
+     * @param limit 한 번에 삭제할 최대 건수
+     * @return 삭제된 건수
+     * @apiNote 만료된 토큰은 캐시에서 TTL로 제거되므로 DB에서만 삭제합니다.
+     */
+    @Override
+    public int deleteExpired(LocalDateTime now, int limit) {
+        return delegate.deleteExpired(now, limit);
+    }
+
+
+    /**
+     * @param refreshToken 캐시할 RefreshToken
+     * @apiNote 토큰을 캐시에 저장하고 회원별 인덱스에 등록합니다. 같은 기기의 이전 토큰은 캐시에서 제거합니다.
+     */
+    private void cache(RefreshToken refreshToken) {
+        String previousToken = tokensByMemberId.computeIfAbsent(refreshToken.getMember().getId(), id -> new ConcurrentHashMap<>())
+                .put(refreshToken.getDeviceId(), refreshToken.getToken());
+        tokens.put(refreshToken.getToken(), refreshToken);
+
+        if (previousToken != null && !previousToken.equals(refreshToken.getToken())) {
+            tokens.invalidate(previousToken);
+        }
+    }
+
+
+    /**
+     * @param memberId 회원 ID
+     * @apiNote 회원별 인덱스를 사용해서 회원의 모든 토큰을 캐시에서 제거합니다.
+     */
+    private void evictMember(Long memberId) {
+        Map<String, String> memberTokens = tokensByMemberId.remove(memberId);
+        if (memberTokens != null) {
+            tokens.invalidateAll(memberTokens.values());
+        }
+    }
+
+
+    /**
+     * @param token        제거된 토큰 값
+     * @param refreshToken 제거된 RefreshToken
+     * @param cause        제거 원인
+     * @apiNote 캐시 항목이 만료/제거되면 회원별 인덱스에서도 제거합니다. (같은 기기에 이미 새 토큰이 등록되었다면 유지)
+     */
+    private void removeIndex(String token, RefreshToken refreshToken, RemovalCause cause) {
+        if (refreshToken == null || cause == RemovalCause.REPLACED) {
+            return;
+        }
+        tokensByMemberId.computeIfPresent(refreshToken.getMember().getId(), (id, memberTokens) -> {
+            memberTokens.remove(refreshToken.getDeviceId(), token);
+            return memberTokens.isEmpty() ? null : memberTokens;
+        });
+    }
+
+
+    /**
+     * @param action 커밋 후 실행할 작업
+     * @apiNote 트랜잭션 안이라면 커밋 후에, 아니라면 즉시 실행합니다. (롤백된 토큰이 캐시에 남지 않도록)
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+
+    /**
+     * 캐시 항목의 수명을 토큰 만료 시각과 localTtl 중 이른 시점으로 제한하는 Expiry 구현
+     */
+    private class ExpireAtTokenExpiration implements Expiry<String, RefreshToken> {
+
+        @Override
+        public long expireAfterCreate(String token, RefreshToken refreshToken, long currentTime) {
+            long untilExpiry = Duration.between(LocalDateTime.now(), refreshToken.getExpiryDate()).toNanos();
+            return Math.max(Math.min(untilExpiry, localTtl.toNanos()), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, RefreshToken refreshToken, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, refreshToken, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, RefreshToken refreshToken, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.pulse.member.adapter.out.persistence.refreshtoken;
+
+import com.pulse.member.adapter.out.persistence.entity.MemberEntity;
+import com.pulse.member.adapter.out.persistence.entity.RefreshTokenEntity;
+import com.pulse.member.adapter.out.persistence.repository.RefreshTokenRepository;
+import com.pulse.member.adapter.out.persistence.repository.SignInJdbcRepository;
+import com.pulse.member.domain.Member;
+import com.pulse.member.domain.RefreshToken;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * refresh_token 테이블을 사용하는 Refresh 토큰 저장소
+ * 토큰 조회는 unique 인덱스가 걸린 token 컬럼으로 조회하고, 회원 정보는 fetch join으로 함께 가져옵니다.
+ * 저장은 (member_id, device_id) unique 제약을 충돌 키로 하는 INSERT ... ON CONFLICT DO UPDATE 한 번으로 처리하므로
+ * 같은 기기로 다시 로그인하면 새 행을 만들지 않고 기존 행의 토큰을 교체합니다.
+ */
+@RequiredArgsConstructor
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SignInJdbcRepository signInJdbcRepository;
+
+
+    /**
+     * @param refreshToken 저장할 RefreshToken
+     * @return 저장된 RefreshToken
+     * @apiNote (member_id, device_id) 기준 upsert 한 번으로 토큰을 저장하거나 교체 (조회 후 저장하지 않음)
+     */
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+        refreshTokenRepository.upsert(
+                refreshToken.getMember().getId(),
+                refreshToken.getDeviceId(),
+                refreshToken.getToken(),
+                refreshToken.getExpiryDate()
+        );
+        return refreshToken;
+    }
+
+
+    /**
+     * @param refreshToken 저장할 RefreshToken
+     * @param loginAt      로그인 시각
+     * @return 저장된 RefreshToken
+     * @apiNote 토큰 upsert, 활동 로그 저장, 마지막 로그인 시각 갱신을 하나의 SQL 문(DB 왕복 1회)으로 처리
+     */
+    @Override
+    public RefreshToken saveOnSignIn(RefreshToken refreshToken, LocalDateTime loginAt) {
+        signInJdbcRepository.upsertRefreshTokenAndRecordSignIn(
+                refreshToken.getMember().getId(),
+                refreshToken.getDeviceId(),
+                refreshToken.getToken(),
+                refreshToken.getExpiryDate(),
+                loginAt
+        );
+        return refreshToken;
+    }
+
+
+    /**
+     * @param token refresh 토큰 값
+     * @return 조회된 RefreshToken (회원 정보 포함)
+     * @apiNote 토큰 값으로 RefreshToken 조회
+     */
+    @Override
+    public Optional<RefreshToken> findByToken(String token) {
+        return refreshTokenRepository.findWithMemberByToken(token)
+                .map(JpaRefreshTokenStore::toDomain);
+    }
+
+
+    /**
+     * @param memberId 회원 ID
+     * @apiNote 회원의 RefreshToken 전체 삭제
+     */
+    @Override
+    public void deleteByMemberId(Long memberId) {
+        refreshTokenRepository.deleteByMemberId(memberId);
+    }
+
+
+    /**
+     * @param now   기준 시각
+     * @param limit 한 번에 삭제할 최대 건수
+     * @return 삭제된 건수
+     * @apiNote expiry_date 인덱스를 사용해서 만료된 토큰을 limit 건까지 삭제
+     */
+    @Override
+    public int deleteExpired(LocalDateTime now, int limit) {
+        return refreshTokenRepository.deleteExpired(now, limit);
+    }
+
+
+    /**
+     * @param entity RefreshTokenEntity
+     * @return RefreshToken 도메인 (재발급에 필요한 회원 ID, 이메일, 닉네임만 포함)
+     * @apiNote 엔티티를 도메인으로 변환
+     */
+    private static RefreshToken toDomain(RefreshTokenEntity entity) {
+        MemberEntity memberEntity = entity.getMemberEntity();
+        Member member = Member.builder()
+                .id(memberEntity.getId())
+                .email(memberEntity.getEmail())
+                .nickname(memberEntity.getNickname())
+                .build();
+
+        return RefreshToken.builder()
+                .id(entity.getId())
+                .member(member)
+                .deviceId(entity.getDeviceId())
+                .token(entity.getToken())
+                .expiryDate(entity.getExpiryDate())
+                .build();
+    }
+
+}
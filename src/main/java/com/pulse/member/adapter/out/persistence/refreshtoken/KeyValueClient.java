@@ -0,0 +1,22 @@
+package com.pulse.member.adapter.out.persistence.refreshtoken;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * RedisRefreshTokenStore가 사용하는 최소한의 key-value 명령 집합 (SET EX, GET, DEL, SADD, SMEMBERS)
+ * 운영에서는 RedisKeyValueClient를 사용하고, 테스트에서는 인메모리 구현으로 대체할 수 있습니다.
+ */
+public interface KeyValueClient {
+
+    void set(String key, String value, Duration ttl);
+
+    String get(String key);
+
+    void delete(Set<String> keys);
+
+    void addToSet(String key, String value, Duration ttl);
+
+    Set<String> getSet(String key);
+
+}
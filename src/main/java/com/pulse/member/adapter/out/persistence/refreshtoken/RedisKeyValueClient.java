@@ -0,0 +1,46 @@
+package com.pulse.member.adapter.out.persistence.refreshtoken;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * StringRedisTemplate 기반 KeyValueClient 구현
+ */
+@RequiredArgsConstructor
+public class RedisKeyValueClient implements KeyValueClient {
+
+    private final StringRedisTemplate redisTemplate;
+
+
+    @Override
+    public void set(String key, String value, Duration ttl) {
+        redisTemplate.opsForValue().set(key, value, ttl);
+    }
+
+    @Override
+    public String get(String key) {
+        return redisTemplate.opsForValue().get(key);
+    }
+
+    @Override
+    public void delete(Set<String> keys) {
+        redisTemplate.delete(keys);
+    }
+
+    // 회원별 토큰 인덱스의 TTL은 새로 추가된 토큰 기준으로 갱신 (가장 최근 토큰이 가장 늦게 만료됨)
+    @Override
+    public void addToSet(String key, String value, Duration ttl) {
+        redisTemplate.opsForSet().add(key, value);
+        redisTemplate.expire(key, ttl);
+    }
+
+    @Override
+    public Set<String> getSet(String key) {
+        Set<String> members = redisTemplate.opsForSet().members(key);
+        return members == null ? Set.of() : members;
+    }
+
+}
@@ -0,0 +1,173 @@
+package com.pulse.member.adapter.out.persistence.refreshtoken;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pulse.member.adapter.out.persistence.repository.SignInJdbcRepository;
+import com.pulse.member.domain.Member;
+import com.pulse.member.domain.RefreshToken;
+import com.pulse.member.exception.ErrorCode;
+import com.pulse.member.exception.MemberException;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Redis(key-value) Refresh 토큰 저장소
+ * refresh-token:{token} 키에 재발급에 필요한 회원 정보를 JSON으로 저장하고, 토큰 만료 시각을 TTL로 지정합니다.
+ * 로그아웃 시 회원의 토큰을 모두 지우기 위해 refresh-token:member:{memberId} Set에 토큰 값을 인덱싱합니다.
+ * 회원+기기당 토큰 하나만 유지하기 위해 refresh-token:device:{memberId}:{deviceId} 키에 현재 토큰 값을 저장하고, 새 토큰 저장 시 이전 토큰을 삭제합니다.
+ */
+@RequiredArgsConstructor
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String TOKEN_KEY_PREFIX = "refresh-token:";
+    private static final String MEMBER_KEY_PREFIX = "refresh-token:member:";
+    private static final String DEVICE_KEY_PREFIX = "refresh-token:device:";
+
+    private final KeyValueClient keyValueClient;
+    private final ObjectMapper objectMapper;
+    private final SignInJdbcRepository signInJdbcRepository;
+
+
+    /**
+     * @param refreshToken 저장할 RefreshToken
+     * @return 저장된 RefreshToken
+     * @apiNote 토큰을 TTL과 함께 저장하고 회원별 인덱스에 등록합니다. 같은 기기의 이전 토큰은 삭제합니다.
+     */
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+        // 1. 남은 유효 시간을 TTL로 계산
+        Duration ttl = Duration.between(LocalDateTime.now(), refreshToken.getExpiryDate());
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new MemberException(ErrorCode.REFRESH_TOKEN_EXPIRED);
+        }
+
+        // 2. 같은 기기의 이전 토큰 삭제
+        Member member = refreshToken.getMember();
+        String deviceKey = DEVICE_KEY_PREFIX + member.getId() + ":" + refreshToken.getDeviceId();
+        String previousToken = keyValueClient.get(deviceKey);
+        if (previousToken != null && !previousToken.equals(refreshToken.getToken())) {
+            keyValueClient.delete(Set.of(TOKEN_KEY_PREFIX + previousToken));
+        }
+
+        // 3. 토큰 저장 및 회원별/기기별 인덱스 등록
+        keyValueClient.set(TOKEN_KEY_PREFIX + refreshToken.getToken(), serialize(refreshToken), ttl);
+        keyValueClient.set(deviceKey, refreshToken.getToken(), ttl);
+        keyValueClient.addToSet(MEMBER_KEY_PREFIX + member.getId(), refreshToken.getToken(), ttl);
+        return refreshToken;
+    }
+
+
+    /**
+     * @param refreshToken 저장할 RefreshToken
+     * @param loginAt      로그인 시각
+     * @return 저장된 RefreshToken
+     * @apiNote 토큰은 redis에 저장하고, 로그인 기록(활동 로그, 마지막 로그인 시각)만 하나의 SQL 문으로 DB에 저장합니다.
+     */
+    @Override
+    public RefreshToken saveOnSignIn(RefreshToken refreshToken, LocalDateTime loginAt) {
+        signInJdbcRepository.recordSignIn(refreshToken.getMember().getId(), loginAt);
+        return save(refreshToken);
+    }
+
+
+    /**
+     * @param token refresh 토큰 값
+     * @return 조회된 RefreshToken
+     * @apiNote 토큰 키 하나로 조회합니다. (만료된 토큰은 TTL로 이미 제거됨)
+     */
+    @Override
+    public Optional<RefreshToken> findByToken(String token) {
+        String value = keyValueClient.get(TOKEN_KEY_PREFIX + token);
+        return Optional.ofNullable(value).map(v -> deserialize(token, v));
+    }
+
+
+    /**
+     * @param memberId 회원 ID
+     * @apiNote 회원별 인덱스에 등록된 토큰과 인덱스를 함께 삭제합니다.
+     */
+    @Override
+    public void deleteByMemberId(Long memberId) {
+        String memberKey = MEMBER_KEY_PREFIX + memberId;
+        Set<String> keys = new HashSet<>();
+        keyValueClient.getSet(memberKey).forEach(token -> keys.add(TOKEN_KEY_PREFIX + token));
+        keys.add(memberKey);
+        keyValueClient.delete(keys);
+    }
+
+
+    /**
+     * @param now   기준 시각
+     * @param limit 한 번에 삭제할 최대 건수
+     * @return 삭제된 건수 (만료된 토큰은 redis TTL로 제거되므로 항상 0)
+     * @apiNote 만료 토큰 정리는 redis TTL에 맡깁니다.
+     */
+    @Override
+    public int deleteExpired(LocalDateTime now, int limit) {
+        return 0;
+    }
+
+
+    /**
+     * @param refreshToken 직렬화할 RefreshToken
+     * @return JSON 문자열
+     * @apiNote 재발급에 필요한 회원 ID, 이메일, 닉네임, 기기 ID, 만료 시각만 저장합니다.
+     */
+    private String serialize(RefreshToken refreshToken) {
+        Member member = refreshToken.getMember();
+        StoredRefreshToken storedRefreshToken = new StoredRefreshToken(
+                member.getId(),
+                member.getEmail(),
+                member.getNickname(),
+                refreshToken.getDeviceId(),
+                refreshToken.getExpiryDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+        );
+        try {
+            return objectMapper.writeValueAsString(storedRefreshToken);
+        } catch (JsonProcessingException e) {
+            throw new MemberException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+
+    /**
+     * @param token refresh 토큰 값
+     * @param value 저장된 JSON 문자열
+     * @return RefreshToken 도메인
+     * @apiNote 저장된 JSON을 RefreshToken 도메인으로 변환합니다.
+     */
+    private RefreshToken deserialize(String token, String value) {
+        try {
+            StoredRefreshToken storedRefreshToken = objectMapper.readValue(value, StoredRefreshToken.class);
+            Member member = Member.builder()
+                    .id(storedRefreshToken.memberId())
+                    .email(storedRefreshToken.email())
+                    .nickname(storedRefreshToken.nickname())
+                    .build();
+
+            return RefreshToken.builder()
+                    .member(member)
+                    .deviceId(storedRefreshToken.deviceId())
+                    .token(token)
+                    .expiryDate(LocalDateTime.ofInstant(Instant.ofEpochMilli(storedRefreshToken.expiresAt()), ZoneId.systemDefault()))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new MemberException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+
+    /**
+     * redis에 저장되는 refresh 토큰 값
+     */
+    private record StoredRefreshToken(Long memberId, String email, String nickname, String deviceId, long expiresAt) {
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.pulse.member.adapter.out.persistence.refreshtoken;
+
+import com.pulse.member.domain.RefreshToken;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Refresh 토큰 저장소
+ * refresh 토큰 port(생성/조회/삭제)는 이 저장소에 위임하며, jwt.refreshTokenStore 설정으로 구현체를 선택합니다.
+ * - jpa: refresh_token 테이블만 사용
+ * - memory: 토큰 해시 조회용 인메모리 TTL 맵 + DB write-through (단일 인스턴스 전용)
+ * - redis: redis(key-value) 저장소
+ * 토큰은 회원+기기(deviceId)당 하나만 유지되며, save는 같은 기기의 기존 토큰을 새 토큰으로 교체합니다.
+ */
+public interface RefreshTokenStore {
+
+    RefreshToken save(RefreshToken refreshToken);
+
+    // 로그인 시 토큰 교체와 함께 로그인 기록(활동 로그, member.last_login)을 저장
+    RefreshToken saveOnSignIn(RefreshToken refreshToken, LocalDateTime loginAt);
+
+    Optional<RefreshToken> findByToken(String token);
+
+    void deleteByMemberId(Long memberId);
+
+    int deleteExpired(LocalDateTime now, int limit);
+
+    // 다른 인스턴스에서 전파된 토큰 폐기 시 이 인스턴스에 캐시된 회원의 토큰만 제거 (로컬 캐시가 없는 저장소는 할 일 없음)
+    default void evictCached(Long memberId) {
+    }
+
+}
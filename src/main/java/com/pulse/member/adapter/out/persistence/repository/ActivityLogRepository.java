@@ -1,8 +0,0 @@
-package com.pulse.member.adapter.out.persistence.repository;
-
-import com.pulse.member.adapter.out.persistence.entity.ActivityLogEntity;
-import org.springframework.data.jpa.repository.JpaRepository;
-
-public interface ActivityLogRepository extends JpaRepository<ActivityLogEntity, Long> {
-
-}
@@ -1,12 +1,108 @@
 package com.pulse.member.adapter.out.persistence.repository;
 
 import com.pulse.member.adapter.out.persistence.entity.MemberOutboxEntity;
+import com.pulse.member.adapter.out.persistence.entity.constant.MessageStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberOutboxRepository extends JpaRepository<MemberOutboxEntity, Long> {
 
-    Optional<MemberOutboxEntity> findByPayloadAndEventType(Long id, String eventType);
+    // (message_status, id) 인덱스의 맨 앞 행만 읽음 (상태별 가장 오래된 Outbox)
+    Optional<MemberOutboxEntity> findFirstByStatusOrderByIdAsc(MessageStatus status);
+
+    // 한 상태의 행 수를 (message_status, id) 인덱스에서 최대 cap 건까지만 셈 (PROCESSED처럼 많은 상태도 인덱스 전체를 읽지 않음)
+    @Query(value = "SELECT count(*) FROM (SELECT 1 FROM member_outbox WHERE message_status = :status LIMIT :cap) o", nativeQuery = true)
+    long countByStatusUpTo(@Param("status") String status, @Param("cap") int cap);
+
+    // 다른 트랜잭션이 잠근 행은 건너뛰고 PENDING 행을 잠금과 함께 조회 (여러 인스턴스가 서로 다른 행을 가져감)
+    // 전송에 실패한 FAIL 행은 failRetryBefore 이전에 실패했고 failRetryAfter 이후에 생성된 경우에만 다시 가져옴 (재전송 간격, 재전송 기한)
+    @Query(value = """
+            SELECT * FROM member_outbox
+            WHERE message_status = 'PENDING'
+               OR (message_status = 'FAIL' AND processed_at < :failRetryBefore AND created_at >= :failRetryAfter)
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<MemberOutboxEntity> claimPending(
+            @Param("limit") int limit,
+            @Param("failRetryBefore") LocalDateTime failRetryBefore,
+            @Param("failRetryAfter") LocalDateTime failRetryAfter
+    );
+
+    // claimPending과 같지만, 병합 대상 이벤트 타입은 같은 (event_type, payload)의 가장 오래된 PENDING 행이 cutoff 이전에 생성된 경우에만 함께 가져옴
+    // 병합 구간이 끝나기 전에는 전송하지 않고, 끝나면 구간 안에 쌓인 행을 한 번에 가져가 하나로 합침 ((payload, event_type) 인덱스 사용)
+    // 다시 가져가는 FAIL 행은 이미 병합 구간이 지났으므로 바로 가져옴
+    @Query(value = """
+            SELECT * FROM member_outbox o
+            WHERE (o.message_status = 'PENDING'
+                   OR (o.message_status = 'FAIL' AND o.processed_at < :failRetryBefore AND o.created_at >= :failRetryAfter))
+              AND (o.event_type NOT IN (:coalesceEventTypes)
+                   OR o.message_status = 'FAIL'
+                   OR EXISTS (SELECT 1 FROM member_outbox f
+                              WHERE f.payload = o.payload
+                                AND f.event_type = o.event_type
+                                AND f.message_status = 'PENDING'
+                                AND f.created_at < :cutoff))
+            ORDER BY o.id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<MemberOutboxEntity> claimPendingCoalesced(
+            @Param("limit") int limit,
+            @Param("failRetryBefore") LocalDateTime failRetryBefore,
+            @Param("failRetryAfter") LocalDateTime failRetryAfter,
+            @Param("coalesceEventTypes") Collection<String> coalesceEventTypes,
+            @Param("cutoff") LocalDateTime cutoff
+    );
+
+    // 허용된 이전 상태인 행만 변경 (행 잠금 없이 조건부 UPDATE 한 번으로 상태 전이, 늦게 도착한 변경은 0건 변경)
+    // 트랜잭션 밖(전송 완료 callback)에서 호출되어도 자체 트랜잭션으로 실행
+    @Transactional
+    @Modifying
+    @Query("update MemberOutboxEntity o set o.status = :status, o.processedAt = :processedAt where o.id in :ids and o.status in :predecessors")
+    int updateStatusByIdInAndStatusIn(
+            @Param("ids") List<Long> ids,
+            @Param("status") MessageStatus status,
+            @Param("processedAt") LocalDateTime processedAt,
+            @Param("predecessors") Collection<MessageStatus> predecessors
+    );
+
+    // outbox-id 헤더가 없는 이전 메시지용: 같은 (payload, event_type) 중 이미 전송된(SENT, FAIL) 가장 오래된 행 하나만 PROCESSED로 변경
+    // 아직 전송하지 않은 PENDING 행은 변경하지 않음 (같은 회원의 새 이벤트가 전송되지 않은 채 처리완료로 바뀌지 않도록)
+    // 바깥 조건에도 상태를 다시 확인하므로, 같은 행을 동시에 변경하면 늦은 쪽은 0건 변경
+    @Modifying
+    @Query(value = """
+            UPDATE member_outbox SET message_status = 'PROCESSED', processed_at = :processedAt
+            WHERE message_status IN ('SENT', 'FAIL')
+              AND id = (SELECT d.id FROM member_outbox d
+                        WHERE d.payload = :payload
+                          AND d.event_type = :eventType
+                          AND d.message_status IN ('SENT', 'FAIL')
+                        ORDER BY d.id
+                        LIMIT 1)
+            """, nativeQuery = true)
+    int markOldestDispatchedProcessed(
+            @Param("payload") Long payload,
+            @Param("eventType") String eventType,
+            @Param("processedAt") LocalDateTime processedAt
+    );
+
+    // 보존 기간 정리는 트랜잭션 밖에서 호출되므로 chunk마다 자체 트랜잭션으로 실행 (처리완료된 행만 삭제)
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM member_outbox WHERE id IN (SELECT id FROM member_outbox WHERE created_at < :cutoff AND message_status = 'PROCESSED' LIMIT :limit)", nativeQuery = true)
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Query(value = "SELECT count(*) FROM member_outbox WHERE created_at < :cutoff AND message_status <> 'PROCESSED'", nativeQuery = true)
+    long countUnprocessedCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
 
 }
@@ -2,13 +2,23 @@ package com.pulse.member.adapter.out.persistence.repository;
 
 import com.pulse.member.adapter.out.persistence.entity.MemberEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<MemberEntity, Long> {
 
     Optional<MemberEntity> findMemberEntityByEmail(String email);
 
+    // 로그인용: 회원과 권한 이름을 한 번에 조회 (회원 1행 x 권한 수, 권한이 없으면 권한 이름이 null인 1행)
+    @Query("select m, r.name from MemberEntity m left join MemberRoleEntity mr on mr.memberEntity = m left join mr.roleEntity r where m.email = :email")
+    List<Object[]> findMemberEntityWithRoleNamesByEmail(@Param("email") String email);
+
+    @Modifying
+    @Query("update MemberEntity m set m.password = :password where m.id = :memberId")
+    int updatePassword(@Param("memberId") Long memberId, @Param("password") String password);
+
 }
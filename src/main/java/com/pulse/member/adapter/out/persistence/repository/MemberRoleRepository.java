@@ -2,7 +2,10 @@ package com.pulse.member.adapter.out.persistence.repository;
 
 import com.pulse.member.adapter.out.persistence.entity.MemberRoleEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -10,4 +13,7 @@ import java.util.Optional;
  */
 public interface MemberRoleRepository extends JpaRepository<MemberRoleEntity, Long> {
 
+    @Query("select r.name from MemberRoleEntity mr join mr.roleEntity r where mr.memberEntity.id = :memberId")
+    List<String> findRoleNamesByMemberId(@Param("memberId") Long memberId);
+
 }
@@ -1,17 +1,41 @@
 package com.pulse.member.adapter.out.persistence.repository;
 
-import com.pulse.member.adapter.out.persistence.entity.MemberEntity;
 import com.pulse.member.adapter.out.persistence.entity.RefreshTokenEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, Long> {
 
     Optional<RefreshTokenEntity> findByToken(String token);
 
-    Optional<RefreshTokenEntity> findRefreshTokenEntityByMemberEntity_Email(String email);
+    @Query("select rt from RefreshTokenEntity rt join fetch rt.memberEntity where rt.token = :token")
+    Optional<RefreshTokenEntity> findWithMemberByToken(@Param("token") String token);
 
-    void deleteByMemberEntity(MemberEntity memberEntity);
+    @Modifying
+    @Query("delete from RefreshTokenEntity rt where rt.memberEntity.id = :memberId")
+    int deleteByMemberId(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO refresh_token (member_id, device_id, token, expiry_date, created_at, updated_at)
+            VALUES (:memberId, :deviceId, :token, :expiryDate, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            ON CONFLICT (member_id, device_id)
+            DO UPDATE SET token = EXCLUDED.token, expiry_date = EXCLUDED.expiry_date, updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    int upsert(
+            @Param("memberId") Long memberId,
+            @Param("deviceId") String deviceId,
+            @Param("token") String token,
+            @Param("expiryDate") LocalDateTime expiryDate
+    );
+
+    @Modifying
+    @Query(value = "DELETE FROM refresh_token WHERE id IN (SELECT id FROM refresh_token WHERE expiry_date < :now LIMIT :limit)", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
 
 }
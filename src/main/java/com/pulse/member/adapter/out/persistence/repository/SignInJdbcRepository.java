@@ -0,0 +1,96 @@
+package com.pulse.member.adapter.out.persistence.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+import static com.pulse.member.util.Constant.LOGIN;
+
+/**
+ * 로그인 시 발생하는 쓰기(refresh 토큰 교체, 활동 로그 저장, member.last_login 갱신)를 한 번의 DB 왕복으로 처리하는 Repository
+ * 각 쓰기를 PostgreSQL data-modifying CTE(WITH ... INSERT/UPDATE)로 묶어 하나의 SQL 문으로 전송합니다.
+ * IDENTITY 키를 사용하는 엔티티는 Hibernate가 insert를 batch로 묶지 못하므로 JDBC로 직접 실행합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SignInJdbcRepository {
+
+    private static final String UPSERT_REFRESH_TOKEN_AND_RECORD_SIGN_IN = """
+            WITH refresh_token_upsert AS (
+                INSERT INTO refresh_token (member_id, device_id, token, expiry_date, created_at, updated_at)
+                VALUES (:memberId, :deviceId, :token, :expiryDate, :loginAt, :loginAt)
+                ON CONFLICT (member_id, device_id)
+                DO UPDATE SET token = EXCLUDED.token, expiry_date = EXCLUDED.expiry_date, updated_at = EXCLUDED.updated_at
+                RETURNING id
+            ), activity_log_insert AS (
+                INSERT INTO activity_log (member_id, action, created_at, updated_at)
+                VALUES (:memberId, :action, :loginAt, :loginAt)
+                RETURNING id
+            )
+            UPDATE member SET last_login = :loginAt WHERE id = :memberId
+            """;
+
+    private static final String RECORD_SIGN_IN = """
+            WITH activity_log_insert AS (
+                INSERT INTO activity_log (member_id, action, created_at, updated_at)
+                VALUES (:memberId, :action, :loginAt, :loginAt)
+                RETURNING id
+            )
+            UPDATE member SET last_login = :loginAt WHERE id = :memberId
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+
+    /**
+     * @param memberId   회원 ID
+     * @param deviceId   기기 ID
+     * @param token      새 refresh 토큰 값
+     * @param expiryDate refresh 토큰 만료 시각
+     * @param loginAt    로그인 시각
+     * @return 갱신된 회원 수
+     * @apiNote refresh 토큰 upsert, 로그인 활동 로그 저장, 마지막 로그인 시각 갱신을 하나의 SQL 문으로 실행
+     */
+    public int upsertRefreshTokenAndRecordSignIn(
+            Long memberId,
+            String deviceId,
+            String token,
+            LocalDateTime expiryDate,
+            LocalDateTime loginAt
+    ) {
+        MapSqlParameterSource params = signInParams(memberId, loginAt)
+                .addValue("deviceId", deviceId)
+                .addValue("token", token)
+                .addValue("expiryDate", expiryDate);
+        return jdbcTemplate.update(UPSERT_REFRESH_TOKEN_AND_RECORD_SIGN_IN, params);
+    }
+
+
+    /**
+     * @param memberId 회원 ID
+     * @param loginAt  로그인 시각
+     * @return 갱신된 회원 수
+     * @apiNote refresh 토큰을 DB 밖에 저장하는 경우 로그인 활동 로그 저장과 마지막 로그인 시각 갱신만 하나의 SQL 문으로 실행
+     */
+    public int recordSignIn(Long memberId, LocalDateTime loginAt) {
+        return jdbcTemplate.update(RECORD_SIGN_IN, signInParams(memberId, loginAt));
+    }
+
+
+    /**
+     * @param memberId 회원 ID
+     * @param loginAt  로그인 시각
+     * @return 공통 파라미터
+     * @apiNote 로그인 기록에 공통으로 사용하는 파라미터 생성
+     */
+    private static MapSqlParameterSource signInParams(Long memberId, LocalDateTime loginAt) {
+        return new MapSqlParameterSource()
+                .addValue("memberId", memberId)
+                .addValue("action", LOGIN)
+                .addValue("loginAt", loginAt);
+    }
+
+}
@@ -11,6 +11,7 @@ public class SignInCommand {
 
     private String email;
     private String password;
+    private String deviceId;
 
 
     // factory method
@@ -18,6 +19,7 @@ public class SignInCommand {
         return SignInCommand.builder()
                 .email(signInRequestDTO.getEmail())
                 .password(signInRequestDTO.getPassword())
+                .deviceId(signInRequestDTO.getDeviceId())
                 .build();
     }
 
@@ -2,11 +2,7 @@ package com.pulse.member.application.listener;
 
 import com.pulse.member.adapter.out.event.outbox.OutboxEvent;
 import com.pulse.member.application.port.in.outbox.MemberOutboxUseCase;
-import com.pulse.member.application.port.out.kafka.KafkaProducerPort;
 import com.pulse.member.config.trace.annotation.TraceOutboxEvent;
-import io.opentelemetry.api.GlobalOpenTelemetry;
-import io.opentelemetry.api.trace.Tracer;
-import io.opentelemetry.context.Context;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
@@ -14,14 +10,13 @@ import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * Outbox 테이블과 관련된 스프링 이벤트를 처리하는 리스너
+ * Kafka 전송은 요청 스레드에서 하지 않고, MemberOutboxRelayScheduler가 PENDING 행을 모아서 전송합니다.
  */
 @RequiredArgsConstructor
 @Component
 public class MemberOutboxEventListener {
 
     private final MemberOutboxUseCase memberOutboxUseCase;
-    private final KafkaProducerPort kafkaProducerPort;
-    private final Tracer tracer = GlobalOpenTelemetry.getTracer("outbox-event-listener");
 
 
     /**
@@ -35,28 +30,4 @@ public class MemberOutboxEventListener {
         memberOutboxUseCase.saveOutboxEvent(event);
     }
 
-
-    /**
-     * @param event 전송할 Outbox 이벤트
-     * @apiNote 트랜잭션이 성공적으로 커밋되면 Kafka 메시지를 전송합니다.
-     */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @TraceOutboxEvent(phase = TransactionPhase.AFTER_COMMIT)
-    public void sendToKafka(OutboxEvent event) {
-        try {
-            // 1. 메시지로 보낼 payload와 전송할 Kafka의 토픽 정보를 가져옵니다.
-            Long message = event.getPayload();
-            String topic = memberOutboxUseCase.getKafkaTopic(event);
-
-            // 2. 추출한 토픽에 Kafka 메시지를 전송합니다.
-            kafkaProducerPort.sendWithRetryWithoutKey(topic, String.valueOf(message), Context.current());
-
-            // 3. Outbox 이벤트를 처리 대기 상태로 변경합니다.
-            memberOutboxUseCase.markOutboxEventPending(event);
-        } catch (Exception e) {
-            // exception: 예외 발생 시 Outbox 이벤트를 실패 상태로 변경하고 Span에 예외를 기록합니다.
-            memberOutboxUseCase.markOutboxEventFailed(event);
-        }
-    }
-
 }
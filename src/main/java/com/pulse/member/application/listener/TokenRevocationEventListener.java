@@ -0,0 +1,60 @@
+package com.pulse.member.application.listener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pulse.member.adapter.out.event.MemberDeleteEvent;
+import com.pulse.member.adapter.out.event.TokenRevocationEvent;
+import com.pulse.member.application.port.out.kafka.KafkaProducerPort;
+import com.pulse.member.config.jwt.TokenRevocationRegistry;
+import io.opentelemetry.context.Context;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import static com.pulse.member.util.Constant.TOKEN_REVOCATION_TOPIC;
+
+/**
+ * access 토큰 폐기 이벤트를 처리하는 리스너
+ * 트랜잭션 커밋 후 현재 인스턴스의 폐기 레지스트리에 즉시 반영하고, 다른 인스턴스에 전파하기 위해 Kafka로 전송합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TokenRevocationEventListener {
+
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final KafkaProducerPort kafkaProducerPort;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+
+    /**
+     * @param event access 토큰 폐기 이벤트
+     * @apiNote 로그아웃 등으로 토큰이 폐기되면 레지스트리에 반영하고 전파한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void revoke(TokenRevocationEvent event) {
+        // 1. 현재 인스턴스에 즉시 반영
+        tokenRevocationRegistry.revoke(event.getMemberId(), event.getRevokedAtMs());
+
+        // 2. 다른 인스턴스에 전파 (회원 ID를 키로 사용)
+        try {
+            String payloadJson = objectMapper.writeValueAsString(event);
+            kafkaProducerPort.sendWithRetryWithKey(TOKEN_REVOCATION_TOPIC, String.valueOf(event.getMemberId()), payloadJson, Context.current());
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize token revocation event for member {}: {}", event.getMemberId(), e.getMessage());
+        }
+    }
+
+
+    /**
+     * @param event 회원 삭제 이벤트
+     * @apiNote 회원이 삭제되면 해당 회원의 토큰을 폐기한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void revokeOnMemberDelete(MemberDeleteEvent event) {
+        revoke(TokenRevocationEvent.of(event.getId()));
+    }
+
+}
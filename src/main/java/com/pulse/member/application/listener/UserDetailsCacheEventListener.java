@@ -0,0 +1,52 @@
+package com.pulse.member.application.listener;
+
+import com.pulse.member.adapter.out.event.MemberDeleteEvent;
+import com.pulse.member.adapter.out.event.NicknameChangeEvent;
+import com.pulse.member.adapter.out.event.ProfileImageChangeEvent;
+import com.pulse.member.config.security.http.user.UserDetailsCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 회원 정보 변경 이벤트를 받아서 UserDetails 캐시를 무효화하는 리스너
+ * 커밋된 변경만 반영하기 위해 트랜잭션 커밋 후에 캐시 항목을 제거합니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class UserDetailsCacheEventListener {
+
+    private final UserDetailsCache userDetailsCache;
+
+
+    /**
+     * @param event 닉네임 변경 이벤트
+     * @apiNote 닉네임이 변경되면 해당 회원의 캐시 항목을 제거한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictOnNicknameChange(NicknameChangeEvent event) {
+        userDetailsCache.evictByMemberId(event.getPayload());
+    }
+
+
+    /**
+     * @param event 프로필 이미지 변경 이벤트
+     * @apiNote 프로필 이미지가 변경되면 해당 회원의 캐시 항목을 제거한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictOnProfileImageChange(ProfileImageChangeEvent event) {
+        userDetailsCache.evictByMemberId(event.getPayload());
+    }
+
+
+    /**
+     * @param event 회원 삭제 이벤트
+     * @apiNote 회원이 삭제되면 해당 회원의 캐시 항목을 제거한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictOnMemberDelete(MemberDeleteEvent event) {
+        userDetailsCache.evictByMemberId(event.getId());
+    }
+
+}
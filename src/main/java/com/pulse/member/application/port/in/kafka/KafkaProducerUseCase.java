@@ -7,12 +7,12 @@ import java.util.concurrent.CompletableFuture;
 
 public interface KafkaProducerUseCase {
 
-    CompletableFuture<SendResult<String, String>> send(String topic, String payloadJson, Context context);
+    CompletableFuture<SendResult<String, byte[]>> send(String topic, String payloadJson, Context context);
 
-    CompletableFuture<SendResult<String, String>> send(String topic, String key, String payloadJson, Context context);
+    CompletableFuture<SendResult<String, byte[]>> send(String topic, String key, String payloadJson, Context context);
 
-    void sendWithRetry(String topic, String payloadJson, Context context);
+    CompletableFuture<SendResult<String, byte[]>> sendWithRetry(String topic, String payloadJson, Context context);
 
-    void sendWithRetry(String topic, String key, String payloadJson, Context context);
+    CompletableFuture<SendResult<String, byte[]>> sendWithRetry(String topic, String key, String payloadJson, Context context);
 
 }
@@ -1,19 +1,36 @@
 package com.pulse.member.application.port.in.outbox;
 
 import com.pulse.member.adapter.out.event.outbox.OutboxEvent;
+import com.pulse.member.adapter.out.persistence.entity.constant.MessageStatus;
 
-public interface MemberOutboxUseCase {
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
-    void markOutboxEventPending(OutboxEvent event);
+public interface MemberOutboxUseCase {
 
     Long saveOutboxEvent(OutboxEvent event);
 
-    void markOutboxEventSuccess(OutboxEvent event);
-
-    void markOutboxEventFailed(OutboxEvent event);
-
     String getKafkaTopic(OutboxEvent event);
 
     void markOutboxEventProcessed(OutboxEvent event);
 
+    int markOutboxEventsProcessed(List<Long> outboxIds);
+
+    void recordOutboxEventsProcessed(String eventType, int processed, List<LocalDateTime> createdAts);
+
+    int relayPendingOutboxEvents(int batchSize);
+
+    Map<MessageStatus, Long> countOutboxEventsByStatus(Collection<MessageStatus> statuses);
+
+    Optional<LocalDateTime> findOldestOutboxCreatedAt(MessageStatus status);
+
+    void prepareOutboxPartitions(int days);
+
+    int purgeExpiredOutboxEvents(int retentionDays, int chunkSize);
+
+    long countUnprocessedExpiredOutboxEvents(int retentionDays);
+
 }
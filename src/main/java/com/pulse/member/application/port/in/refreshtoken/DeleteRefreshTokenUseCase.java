@@ -6,4 +6,8 @@ public interface DeleteRefreshTokenUseCase {
 
     Boolean deleteRefreshToken(Member member);
 
+    int deleteExpiredRefreshTokens(int chunkSize);
+
+    void evictCachedRefreshTokens(Long memberId);
+
 }
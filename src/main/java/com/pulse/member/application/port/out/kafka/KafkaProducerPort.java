@@ -3,6 +3,7 @@ package com.pulse.member.application.port.out.kafka;
 import io.opentelemetry.context.Context;
 import org.springframework.kafka.support.SendResult;
 
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 public interface KafkaProducerPort {
@@ -16,7 +17,7 @@ public interface KafkaProducerPort {
      * @return 전송 결과를 나타내는 CompletableFuture
      * @apiNote 메시지 키가 없는 Kafka 메시지를 전송하는 경우 사용합니다.
      */
-    CompletableFuture<SendResult<String, String>> sendMessageWithoutKey(
+    CompletableFuture<SendResult<String, byte[]>> sendMessageWithoutKey(
             String topic,
             String payloadJson,
             Context context
@@ -32,22 +33,63 @@ public interface KafkaProducerPort {
      * @return 전송 결과를 나타내는 CompletableFuture
      * @apiNote 메시지 키가 포함된 Kafka 메시지를 전송하는 경우 사용합니다.
      */
-    CompletableFuture<SendResult<String, String>> sendMessageWithKey(
+    CompletableFuture<SendResult<String, byte[]>> sendMessageWithKey(
             String topic,
             String key,
             String payloadJson,
             Context context
     );
 
+    /**
+     * Kafka로 메시지를 전송합니다 (헤더 포함).
+     *
+     * @param topic       - 전송할 Kafka 토픽
+     * @param key         - Kafka 메시지 키 (없으면 null)
+     * @param payloadJson - 전송할 메시지
+     * @param headers     - 레코드에 추가할 헤더 (예: outbox-id)
+     * @param context     - 전송에 사용될 컨텍스트
+     * @return 전송 결과를 나타내는 CompletableFuture
+     * @apiNote 수신 측에서 사용할 헤더를 함께 전송하는 경우 사용합니다.
+     */
+    CompletableFuture<SendResult<String, byte[]>> sendMessageWithHeaders(
+            String topic,
+            String key,
+            String payloadJson,
+            Map<String, String> headers,
+            Context context
+    );
+
+    /**
+     * Kafka로 bytes 메시지를 전송합니다 (헤더 포함).
+     *
+     * @param topic   - 전송할 Kafka 토픽
+     * @param key     - Kafka 메시지 키 (없으면 null)
+     * @param payload - 전송할 메시지 (예: protobuf로 직렬화한 이벤트)
+     * @param headers - 레코드에 추가할 헤더 (예: outbox-id, schema-version)
+     * @param context - 전송에 사용될 컨텍스트
+     * @return 전송 결과를 나타내는 CompletableFuture
+     * @apiNote 문자열로 변환하지 않고 직렬화된 bytes를 그대로 전송하는 경우 사용합니다.
+     */
+    CompletableFuture<SendResult<String, byte[]>> sendMessageWithHeaders(
+            String topic,
+            String key,
+            byte[] payload,
+            Map<String, String> headers,
+            Context context
+    );
+
     /**
      * Kafka 메시지를 재시도 로직을 포함하여 전송합니다 (메시지 키 없이).
      *
      * @param topic       - 전송할 Kafka 토픽
      * @param payloadJson - 전송할 메시지
      * @param context     - 전송에 사용될 컨텍스트
+     * @return 최종 성공 또는 재시도 후 최종 실패 시 완료되는 CompletableFuture
      * @apiNote 재시도 로직을 포함하여 키 없이 Kafka로 메시지를 전송하는 경우 사용합니다.
+     * 일시적인 오류(RetriableException)만 jitter를 준 지수 backoff로 재시도하며, 재시도는 호출한 스레드를 막지 않습니다.
+     * 재시도는 새 레코드로 다시 전송하므로 at-least-once이며 중복, 순서 뒤바뀜이 생길 수 있습니다. (순서가 필요한 Outbox relay에서는 사용하지 않음)
      */
-    void sendWithRetryWithoutKey(
+    CompletableFuture<SendResult<String, byte[]>> sendWithRetryWithoutKey(
             String topic,
             String payloadJson,
             Context context
@@ -60,13 +102,21 @@ public interface KafkaProducerPort {
      * @param key         - Kafka 메시지 키
      * @param payloadJson - 전송할 메시지
      * @param context     - 전송에 사용될 컨텍스트
+     * @return 최종 성공 또는 재시도 후 최종 실패 시 완료되는 CompletableFuture
      * @apiNote 재시도 로직을 포함하여 키가 있는 Kafka 메시지를 전송하는 경우 사용합니다.
      */
-    void sendWithRetryWithKey(
+    CompletableFuture<SendResult<String, byte[]>> sendWithRetryWithKey(
             String topic,
             String key,
             String payloadJson,
             Context context
     );
 
+    /**
+     * 버퍼에 쌓인 Kafka 메시지를 즉시 전송합니다.
+     *
+     * @apiNote 여러 메시지를 비동기로 전송한 뒤 한 번에 전송을 마무리할 때 사용합니다. (linger.ms 대기 없이 전송)
+     */
+    void flush();
+
 }
\ No newline at end of file
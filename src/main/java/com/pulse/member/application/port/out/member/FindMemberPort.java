@@ -8,6 +8,8 @@ public interface FindMemberPort {
 
     Member findMemberByEmail(String email);
 
+    Member findMemberWithRoleNamesByEmail(String email);
+
     Member findMemberById(Long memberId);
 
 }
@@ -6,4 +6,6 @@ public interface UpdateMemberPort {
 
     Member updateMember(Member member);
 
+    void updatePassword(Long memberId, String encodedPassword);
+
 }
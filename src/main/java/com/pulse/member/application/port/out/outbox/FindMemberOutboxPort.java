@@ -1,9 +1,24 @@
 package com.pulse.member.application.port.out.outbox;
 
+import com.pulse.member.adapter.out.persistence.entity.constant.MessageStatus;
 import com.pulse.member.domain.MemberOutbox;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
 public interface FindMemberOutboxPort {
 
-    MemberOutbox findMemberOutboxBy(Long payload, String eventType);
+    List<MemberOutbox> claimPendingMemberOutboxes(int limit, LocalDateTime failRetryBefore, LocalDateTime failRetryAfter);
+
+    List<MemberOutbox> claimPendingMemberOutboxes(int limit, LocalDateTime failRetryBefore, LocalDateTime failRetryAfter,
+                                                  Set<String> coalesceEventTypes, LocalDateTime coalesceBefore);
+
+    Map<MessageStatus, Long> countMemberOutboxesByStatus(Collection<MessageStatus> statuses, int cap);
+
+    Optional<LocalDateTime> findOldestMemberOutboxCreatedAt(MessageStatus status);
 
 }
@@ -0,0 +1,14 @@
+package com.pulse.member.application.port.out.outbox;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface MemberOutboxRetentionPort {
+
+    void prepareMemberOutboxPartitions(LocalDate from, int days);
+
+    int deleteMemberOutboxesCreatedBefore(LocalDateTime cutoff, int chunkSize);
+
+    long countUnprocessedMemberOutboxesCreatedBefore(LocalDateTime cutoff);
+
+}
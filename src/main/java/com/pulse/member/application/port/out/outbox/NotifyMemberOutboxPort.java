@@ -0,0 +1,7 @@
+package com.pulse.member.application.port.out.outbox;
+
+public interface NotifyMemberOutboxPort {
+
+    void notifyMemberOutboxSaved();
+
+}
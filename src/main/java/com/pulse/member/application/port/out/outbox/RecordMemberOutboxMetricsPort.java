@@ -0,0 +1,16 @@
+package com.pulse.member.application.port.out.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RecordMemberOutboxMetricsPort {
+
+    void recordMemberOutboxSent(String eventType, LocalDateTime createdAt, LocalDateTime ackedAt);
+
+    void recordMemberOutboxFailed(String eventType);
+
+    void recordMemberOutboxMerged(String eventType, int merged);
+
+    void recordMemberOutboxProcessed(String eventType, int processed, List<LocalDateTime> createdAts, LocalDateTime processedAt);
+
+}
@@ -0,0 +1,14 @@
+package com.pulse.member.application.port.out.outbox;
+
+import com.pulse.member.adapter.out.persistence.entity.constant.MessageStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UpdateMemberOutboxPort {
+
+    int updateMemberOutboxStatus(List<Long> ids, MessageStatus status, LocalDateTime processedAt);
+
+    int markOldestDispatchedMemberOutboxProcessed(Long payload, String eventType, LocalDateTime processedAt);
+
+}
@@ -2,8 +2,14 @@ package com.pulse.member.application.port.out.refreshtoken;
 
 import com.pulse.member.domain.Member;
 
+import java.time.LocalDateTime;
+
 public interface DeleteRefreshTokenPort {
 
     Boolean deleteRefreshToken(Member member);
 
+    int deleteExpiredRefreshTokens(LocalDateTime now, int chunkSize);
+
+    void evictCachedRefreshTokens(Long memberId);
+
 }
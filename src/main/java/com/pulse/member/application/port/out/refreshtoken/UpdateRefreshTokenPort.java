@@ -2,8 +2,12 @@ package com.pulse.member.application.port.out.refreshtoken;
 
 import com.pulse.member.domain.RefreshToken;
 
+import java.time.LocalDateTime;
+
 public interface UpdateRefreshTokenPort {
 
     RefreshToken updateRefreshToken(RefreshToken refreshToken);
 
+    RefreshToken updateRefreshTokenOnSignIn(RefreshToken refreshToken, LocalDateTime loginAt);
+
 }
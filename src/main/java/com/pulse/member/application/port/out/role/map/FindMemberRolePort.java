@@ -0,0 +1,9 @@
+package com.pulse.member.application.port.out.role.map;
+
+import java.util.List;
+
+public interface FindMemberRolePort {
+
+    List<String> findRoleNamesByMemberId(Long memberId);
+
+}
@@ -2,8 +2,8 @@ package com.pulse.member.application.service;
 
 import com.pulse.member.adapter.in.web.dto.response.JwtResponseDTO;
 import com.pulse.member.adapter.in.web.dto.response.MemberResponseDTO;
-import com.pulse.member.adapter.out.event.ActivityLogEvent;
 import com.pulse.member.adapter.out.event.MemberCreateEvent;
+import com.pulse.member.adapter.out.event.TokenRevocationEvent;
 import com.pulse.member.adapter.out.persistence.entity.constant.RoleName;
 import com.pulse.member.application.command.auth.ReIssueAccessTokenCommand;
 import com.pulse.member.application.command.auth.SignInCommand;
@@ -12,11 +12,13 @@ import com.pulse.member.application.command.auth.SignUpCommand;
 import com.pulse.member.application.port.in.auth.AuthUseCase;
 import com.pulse.member.application.port.out.member.CreateMemberPort;
 import com.pulse.member.application.port.out.member.FindMemberPort;
-import com.pulse.member.application.port.out.refreshtoken.CreateRefreshTokenPort;
+import com.pulse.member.application.port.out.member.UpdateMemberPort;
 import com.pulse.member.application.port.out.refreshtoken.DeleteRefreshTokenPort;
 import com.pulse.member.application.port.out.refreshtoken.FindRefreshTokenPort;
+import com.pulse.member.application.port.out.refreshtoken.UpdateRefreshTokenPort;
 import com.pulse.member.application.port.out.role.FindRolePort;
 import com.pulse.member.application.port.out.role.map.CreateMemberRolePort;
+import com.pulse.member.application.port.out.role.map.FindMemberRolePort;
 import com.pulse.member.common.annotation.UseCase;
 import com.pulse.member.config.jwt.JwtTokenProvider;
 import com.pulse.member.config.security.http.user.UserDetailsImpl;
@@ -34,9 +36,13 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
-import static com.pulse.member.util.Constant.LOGIN;
 
 /**
  * 회원 인증 관련 비즈니스 로직을 처리하는 서비스 클래스
@@ -49,14 +55,17 @@ import static com.pulse.member.util.Constant.LOGIN;
 public class AuthService implements AuthUseCase {
 
     private final CreateMemberPort createMemberPort;
-    private final CreateRefreshTokenPort createRefreshTokenPort;
     private final CreateMemberRolePort createMemberRolePort;
     private final FindMemberPort findMemberPort;
+    private final UpdateMemberPort updateMemberPort;
     private final FindRefreshTokenPort findRefreshTokenPort;
     private final FindRolePort findRolePort;
+    private final FindMemberRolePort findMemberRolePort;
     private final DeleteRefreshTokenPort deleteRefreshTokenPort;
+    private final UpdateRefreshTokenPort updateRefreshTokenPort;
 
     private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
 
@@ -71,29 +80,47 @@ public class AuthService implements AuthUseCase {
      * @param signInCommand 로그인 요청 도메인
      * @return JWT 토큰 발급 응답 DTO
      * @apiNote 로그인 요청을 처리하는 메서드
+     * 회원/권한 조회 1회, 로그인 쓰기(refresh 토큰 교체, 활동 로그, 마지막 로그인 시각) 1회로 DB 왕복 2회에 처리합니다.
+     * 비밀번호 검증(해시 풀 대기 + bcrypt)은 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 실행하고, 쓰기만 별도 트랜잭션으로 실행합니다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Override
     public JwtResponseDTO signInAndPublishJwt(SignInCommand signInCommand) {
         // 1. 로그인 요청 도메인을 생성
         Member member = memberMapper.commandToDomain(signInCommand);
 
-        // 2. db에서 회원 조회
-        Member findMember = findMemberPort.findMemberByEmail(member.getEmail());
+        // 2. db에서 회원과 권한 이름을 함께 조회 (조회가 끝나면 커넥션 반환)
+        Member findMember = findMemberPort.findMemberWithRoleNamesByEmail(member.getEmail());
 
-        // 3. JWT access 토큰 생성
-        String accessToken = jwtTokenProvider.generateAccessToken(findMember.getEmail(), findMember.getNickname());
-
-        // 4. JWT refresh 토큰을 생성하고 저장
-        RefreshToken refreshToken = RefreshToken.of(findMember, refreshTokenDurationMinutes);
-        RefreshToken savedRefreshToken = createRefreshTokenPort.createRefreshToken(refreshToken);
+        // 3. 비밀번호 검증 (해시 연산은 전용 스레드 풀에서 실행, 트랜잭션 밖)
+        if (!passwordEncoder.matches(member.getPassword(), findMember.getPassword())) {
+            throw new MemberException(ErrorCode.MEMBER_PASSWORD_NOT_MATCH);
+        }
 
-        // 5. JWT 도메인을 생성하고 조회해온 회원 도메인에 저장
+        // 4. 저장된 해시의 cost가 설정값보다 낮으면 현재 cost로 재해시 (저장은 6번 트랜잭션에서)
+        String upgradedPassword = passwordEncoder.upgradeEncoding(findMember.getPassword())
+                ? passwordEncoder.encode(member.getPassword())
+                : null;
+
+        // 5. JWT access 토큰 생성 (회원 ID, 닉네임, 권한을 클레임에 포함)
+        String accessToken = jwtTokenProvider.generateAccessToken(
+                findMember.getId(), findMember.getEmail(), findMember.getNickname(), findMember.getRoleNames()
+        );
+
+        // 6. JWT refresh 토큰을 생성하고, 재해시한 비밀번호와 기기의 기존 토큰 교체 + 활동 로그 + 마지막 로그인 시각을 한 트랜잭션으로 저장
+        RefreshToken refreshToken = RefreshToken.of(findMember, signInCommand.getDeviceId(), refreshTokenDurationMinutes);
+        RefreshToken savedRefreshToken = transactionTemplate.execute(status -> {
+            if (upgradedPassword != null) {
+                updateMemberPort.updatePassword(findMember.getId(), upgradedPassword);
+            }
+            return updateRefreshTokenPort.updateRefreshTokenOnSignIn(refreshToken, LocalDateTime.now());
+        });
+
+        // 7. JWT 도메인을 생성하고 조회해온 회원 도메인에 저장
         Jwt jwt = Jwt.of(accessToken, savedRefreshToken.getToken(), findMember.getEmail());
         findMember.changeMemberInsideJwt(jwt);
 
-        // 6. 활동 로그 저장 이벤트를 발행하고 JWT 토큰 발급 응답 DTO 반환
-        eventPublisher.publishEvent(ActivityLogEvent.of(findMember.getId(), LOGIN));
+        // 8. JWT 토큰 발급 응답 DTO 반환
         return jwtMapper.domainToResponseDTO(jwt);
     }
 
@@ -102,36 +129,43 @@ public class AuthService implements AuthUseCase {
      * @return 가입한 회원의 이메일
      * @Param signUpCommand 회원가입 요청 도메인
      * @apiNote 회원 생성 + (이벤트 발행)
+     * 비밀번호 암호화는 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 먼저 실행하고, 저장만 트랜잭션으로 실행합니다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Override
     public MemberResponseDTO signUp(SignUpCommand signUpCommand) {
         // 1. 회원가입 요청 도메인을 생성
         Member member = memberMapper.commandToDomain(signUpCommand);
 
-        // 2. 비밀번호 암호화
+        // 2. 비밀번호 암호화 (해시 연산은 전용 스레드 풀에서 실행, 트랜잭션 밖)
         String encodedPassword = passwordEncoder.encode(member.getPassword());
         member.changePasswordEncryption(encodedPassword);
 
-        // 3. 회원 저장
-        Member savedMember = createMemberPort.createMember(member);
+        // 3. 회원, 회원 권한 저장과 이벤트 발행을 한 트랜잭션으로 실행
+        Member savedMember = transactionTemplate.execute(status -> {
+            // 3-1. 회원 저장
+            Member createdMember = createMemberPort.createMember(member);
+
+            // 3-2. 회원 권한을 지정하고 DB에 존재하는게 맞는지 조회한다. (여기서 내가 원하는 권한을 지정해서 저장한다.)
+            Role role = Role.of(RoleName.MEMBER.getRoleCode());
+            Role findRole = findRolePort.findRoleByName(role);
 
-        // 4. 회원 권한을 지정하고 DB에 존재하는게 맞는지 조회한다. (여기서 내가 원하는 권한을 지정해서 저장한다.)
-        Role role = Role.of(RoleName.MEMBER.getRoleCode());
-        Role findRole = findRolePort.findRoleByName(role);
+            // 3-3. 회원 권한을 저장한다. (회원과 역할의 map 테이블에 저장)
+            createMemberRolePort.createMemberRole(createdMember, findRole);
 
-        // 5. 회원 권한을 저장한다. (회원과 역할의 map 테이블에 저장)
-        Long savedMemberRoleId = createMemberRolePort.createMemberRole(savedMember, findRole);
+            // 3-4. MemberCreateEvent 발행 (outbox 저장은 같은 트랜잭션의 커밋 전에 실행)
+            eventPublisher.publishEvent(new MemberCreateEvent(createdMember.getId()));
+            return createdMember;
+        });
 
-        // 6. MemberCreateEvent 발행하고 회원가입 응답 DTO 반환
-        eventPublisher.publishEvent(new MemberCreateEvent(savedMember.getId()));
+        // 4. 회원가입 응답 DTO 반환
         return memberMapper.domainToResponseDTO(savedMember);
     }
 
 
     /**
      * @param signOutCommand 로그아웃 요청 도메인
-     * @apiNote 로그아웃 + JWT 삭제 + 활동 로그 저장 event 발행
+     * @apiNote 로그아웃 + JWT 삭제 + access 토큰 폐기 event 발행
      */
     @Transactional
     @Override
@@ -148,6 +182,9 @@ public class AuthService implements AuthUseCase {
             Member findMember = findMemberPort.findMemberByEmail(member.getEmail());
             deleteRefreshTokenPort.deleteRefreshToken(findMember);
 
+            // 이미 발급된 access 토큰 폐기 (커밋 후 모든 인스턴스에 전파)
+            eventPublisher.publishEvent(TokenRevocationEvent.of(findMember.getId()));
+
             // SecurityContext에서 인증 정보 삭제
             SecurityContextHolder.clearContext();
         }
@@ -179,8 +216,11 @@ public class AuthService implements AuthUseCase {
         // 4. 토큰 내부의 회원정보 추출
         Member member = findRefreshToken.getMember();
 
-        // 5. 새로운 access 토큰 생성
-        String newAccessToken = jwtTokenProvider.regenerateAccessToken(member.getEmail(), member.getNickname());
+        // 5. 회원 권한을 조회하고 새로운 access 토큰 생성
+        List<String> roleCodes = findMemberRolePort.findRoleNamesByMemberId(member.getId());
+        String newAccessToken = jwtTokenProvider.regenerateAccessToken(
+                member.getId(), member.getEmail(), member.getNickname(), roleCodes
+        );
 
         // 6. 갱신된 JWT 토큰 정보를 DTO에 담아 반환
         return JwtResponseDTO.of(newAccessToken, findRefreshToken.getToken());
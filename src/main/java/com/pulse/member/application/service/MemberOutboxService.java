@@ -1,21 +1,61 @@
 package com.pulse.member.application.service;
 
+import com.google.protobuf.InvalidProtocolBufferException;
 import com.pulse.member.adapter.out.event.outbox.OutboxEvent;
 import com.pulse.member.adapter.out.persistence.entity.constant.MessageStatus;
 import com.pulse.member.application.port.in.outbox.MemberOutboxUseCase;
+import com.pulse.member.application.port.out.kafka.KafkaProducerPort;
+import com.pulse.member.application.port.out.member.FindMemberPort;
 import com.pulse.member.application.port.out.outbox.CreateMemberOutboxPort;
 import com.pulse.member.application.port.out.outbox.FindMemberOutboxPort;
+import com.pulse.member.application.port.out.outbox.MemberOutboxRetentionPort;
+import com.pulse.member.application.port.out.outbox.NotifyMemberOutboxPort;
+import com.pulse.member.application.port.out.outbox.RecordMemberOutboxMetricsPort;
+import com.pulse.member.application.port.out.outbox.UpdateMemberOutboxPort;
 import com.pulse.member.common.annotation.UseCase;
+import com.pulse.member.domain.Member;
 import com.pulse.member.domain.MemberOutbox;
+import com.pulse.member.grpc.MemberEventProto.MemberOutboxEvent;
+import com.pulse.member.grpc.MemberProto;
+import com.pulse.member.mapper.MemberMapper;
 import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static com.pulse.member.util.Constant.MEMBER_OUTBOX_EVENT_SCHEMA_VERSION;
+import static com.pulse.member.util.Constant.OUTBOX_CREATED_AT_HEADER;
+import static com.pulse.member.util.Constant.OUTBOX_ID_HEADER;
+import static com.pulse.member.util.Constant.OUTBOX_PAYLOAD_TYPE_HEADER;
+import static com.pulse.member.util.Constant.PAYLOAD_TYPE_MEMBER_SNAPSHOT;
+import static com.pulse.member.util.Constant.PAYLOAD_TYPE_THIN;
+import static com.pulse.member.util.Constant.SCHEMA_VERSION_HEADER;
 
 /**
  * 이벤트 발행여부를 핸들링하는 OutboxService의 구현체
  */
+@Slf4j
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 @UseCase
@@ -23,11 +63,46 @@ public class MemberOutboxService implements MemberOutboxUseCase {
 
     private final CreateMemberOutboxPort createMemberOutboxPort;
     private final FindMemberOutboxPort findMemberOutboxPort;
+    private final UpdateMemberOutboxPort updateMemberOutboxPort;
+    private final KafkaProducerPort kafkaProducerPort;
+    private final MemberOutboxRetentionPort memberOutboxRetentionPort;
+    private final NotifyMemberOutboxPort notifyMemberOutboxPort;
+    private final RecordMemberOutboxMetricsPort recordMemberOutboxMetricsPort;
+    private final FindMemberPort findMemberPort;
+    private final MemberMapper memberMapper;
+
+    @Value("${outbox.relaySendTimeoutMs:10000}")
+    private long relaySendTimeoutMs;
+
+    // 회원 스냅샷을 함께 저장/전송할 이벤트 타입 (나머지는 회원 ID만 전송하는 thin event)
+    @Value("${outbox.fatEventTypes:}")
+    private Set<String> fatEventTypes;
+
+    // 같은 회원의 연속된 이벤트를 하나로 합쳐 전송할 이벤트 타입 (비어 있으면 병합하지 않음)
+    @Value("${outbox.coalesceEventTypes:}")
+    private Set<String> coalesceEventTypes;
+
+    // 병합 구간 (첫 Outbox 생성 후 이 시간 동안 쌓인 같은 회원/이벤트 타입의 Outbox를 하나로 합침)
+    @Value("${outbox.coalesceWindowMs:1000}")
+    private long coalesceWindowMs;
+
+    // 전송에 실패한 FAIL Outbox를 다시 가져가기까지 기다리는 시간 (Kafka 전송 재시도를 모두 소진한 뒤의 재전송 간격)
+    @Value("${outbox.relayFailRetryDelayMs:30000}")
+    private long relayFailRetryDelayMs;
+
+    // FAIL Outbox를 다시 전송하는 기한 (생성 후 이 시간이 지난 FAIL Outbox는 더 이상 가져가지 않음)
+    @Value("${outbox.relayFailRetryMaxAgeMs:3600000}")
+    private long relayFailRetryMaxAgeMs;
+
+    // backlog 메트릭(outbox.rows)에서 상태별로 셀 최대 행 수 (이 값을 넘는 backlog는 이 값으로 보고)
+    @Value("${outbox.metricsRowCountCap:100000}")
+    private int metricsRowCountCap;
 
 
     /**
      * @param event OutboxEvent
      * @apiNote OutboxEvent를 저장한다. 상태는 PENDING(대기)으로 저장
+     * fat event로 설정된 이벤트 타입이면 같은 트랜잭션에서 회원을 조회하여 스냅샷을 함께 저장한다. (수신 측이 GetMemberById를 호출하지 않도록)
      */
     @Transactional
     @Override
@@ -39,103 +114,323 @@ public class MemberOutboxService implements MemberOutboxUseCase {
         // 2. 이벤트 타입에 따라 적절한 토픽 이름을 반환합니다.
         String eventType = getKafkaTopic(event);
 
-        // 3. MemberOutbox 도메인을 생성합니다.
-        MemberOutbox memberOutbox = MemberOutbox.of(eventType, event.getPayload(), nowTraceId, MessageStatus.PENDING);
+        // 3. MemberOutbox 도메인을 생성합니다. (fat event면 회원 스냅샷 포함)
+        MemberOutbox memberOutbox = fatEventTypes.contains(eventType)
+                ? MemberOutbox.of(eventType, event.getPayload(), nowTraceId, MessageStatus.PENDING, createMemberSnapshot(event.getPayload()))
+                : MemberOutbox.of(eventType, event.getPayload(), nowTraceId, MessageStatus.PENDING);
 
         // 4. MemberOutbox 도메인을 저장합니다.
-        return createMemberOutboxPort.saveMemberOutboxEvent(memberOutbox);
+        Long outboxId = createMemberOutboxPort.saveMemberOutboxEvent(memberOutbox);
+
+        // 5. 커밋되면 relay가 바로 전송하도록 알립니다. (LISTEN/NOTIFY)
+        notifyMemberOutboxPort.notifyMemberOutboxSaved();
+        return outboxId;
     }
 
 
     /**
      * @param event OutboxEvent
-     * @apiNote OutboxEvent를 처리대기(PENDING)로 변경
+     * @return String
+     * @apiNote OutboxEvent의 이벤트 타입(ENUM)에 따라 적절한 토픽 이름을 반환한다. (kafka topic 으로 사용)
+     */
+    @Override
+    public String getKafkaTopic(OutboxEvent event) {
+        return event.getEventType();
+    }
+
+
+    /**
+     * @param event OutboxEvent
+     * @apiNote outbox-id 헤더가 없는 이전 메시지의 Outbox를 처리완료(PROCESSED)로 변경
+     * payload와 이벤트 타입만으로는 행을 특정할 수 없으므로, 이미 전송된 가장 오래된 Outbox 하나만 변경한다.
      */
     @Transactional
     @Override
-    public void markOutboxEventPending(OutboxEvent event) {
+    public void markOutboxEventProcessed(OutboxEvent event) {
         // 1. 이벤트 타입에 따라 적절한 토픽 이름을 반환합니다.
         String eventType = getKafkaTopic(event);
 
-        // 2. 영속화를 위해 OutboxEvent를 찾습니다.
-        MemberOutbox memberOutbox = findMemberOutboxPort.findMemberOutboxBy(event.getPayload(), eventType);
-
-        // 3. OutboxEvent의 상태를 PENDING로 변경합니다.
-        memberOutbox.changeStatus(MessageStatus.PENDING);
-        memberOutbox.changeProcessedAt(LocalDateTime.now());
-        createMemberOutboxPort.saveMemberOutboxEvent(memberOutbox);
+        // 2. 조회하지 않고 이미 전송된(SENT, FAIL) 가장 오래된 Outbox 하나만 PROCESSED로 변경합니다. (PENDING은 변경하지 않음)
+        updateMemberOutboxPort.markOldestDispatchedMemberOutboxProcessed(event.getPayload(), eventType, LocalDateTime.now());
     }
 
 
     /**
-     * @param event OutboxEvent
-     * @apiNote OutboxEvent를 성공(SUCCESS)로 변경
-     * 만약 Feign 요청이 성공해서 데이터를 전달한 후 오류가 없다면 이 메서드를 호출한다.
+     * @param outboxIds Kafka 메시지의 outbox-id 헤더 값 목록
+     * @return 처리완료(PROCESSED)로 변경된 건수
+     * @apiNote Outbox를 조회하지 않고 UPDATE ... WHERE id IN (...) 한 번으로 처리완료(PROCESSED)로 변경
      */
     @Transactional
     @Override
-    public void markOutboxEventSuccess(OutboxEvent event) {
-        // 1. 이벤트 타입에 따라 적절한 토픽 이름을 반환합니다.
-        String eventType = getKafkaTopic(event);
+    public int markOutboxEventsProcessed(List<Long> outboxIds) {
+        // 1. 이미 PROCESSED인 행은 변경되지 않습니다. (중복 수신)
+        int updated = updateMemberOutboxPort.updateMemberOutboxStatus(outboxIds, MessageStatus.PROCESSED, LocalDateTime.now());
+        if (updated < outboxIds.size()) {
+            log.debug("Outbox already processed or not found - requested: {}, updated: {}", outboxIds.size(), updated);
+        }
+        return updated;
+    }
 
-        // 2. 영속화를 위해 OutboxEvent를 찾습니다.
-        MemberOutbox memberOutbox = findMemberOutboxPort.findMemberOutboxBy(event.getPayload(), eventType);
 
-        // 3. OutboxEvent의 상태를 SUCCESS로 변경합니다.
-        memberOutbox.changeStatus(MessageStatus.PROCESSED);
-        memberOutbox.changeProcessedAt(LocalDateTime.now());
-        createMemberOutboxPort.saveMemberOutboxEvent(memberOutbox);
+    /**
+     * @param eventType  Outbox 이벤트 타입 (토픽)
+     * @param processed  처리완료로 수신한 건수
+     * @param createdAts 처리완료로 수신한 Outbox의 생성 시각 목록 (outbox-created-at 헤더가 있는 메시지만)
+     * @apiNote 처리완료 건수와 Outbox 생성부터 처리완료까지의 지연을 기록합니다. (DB를 사용하지 않으므로 트랜잭션 없이 실행)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public void recordOutboxEventsProcessed(String eventType, int processed, List<LocalDateTime> createdAts) {
+        recordMemberOutboxMetricsPort.recordMemberOutboxProcessed(eventType, processed, createdAts, LocalDateTime.now());
     }
 
 
     /**
-     * @param event OutboxEvent
-     * @apiNote OutboxEvent를 실패(FAIL)로 변경
+     * @param batchSize 한 번에 가져올 최대 Outbox 건수
+     * @return 가져온(전송을 시도한) Outbox 건수
+     * @apiNote PENDING 상태의 Outbox를 SKIP LOCKED로 가져와 Kafka로 전송하고, 결과를 상태별 UPDATE 한 번으로 기록한다.
+     * 일시적인 Kafka 오류는 멱등 프로듀서가 delivery.timeout.ms 안에서 같은 레코드로 재전송하므로(중복, 순서 뒤바뀜 없음) 애플리케이션에서는 다시 전송하지 않는다.
+     * delivery.timeout.ms가 지나 최종 실패한 Outbox만 FAIL로 기록하고, 재전송 간격이 지나면 기한 안에서 다시 가져간다. (이 재전송은 새 레코드이므로 at-least-once이며, 같은 회원의 이후 이벤트보다 늦게 도착할 수 있음)
+     * relaySendTimeoutMs 안에 결과를 알 수 없는 Outbox는 프로듀서가 아직 전송 중이므로 SENT로 기록하고, 최종 실패하면 그때 FAIL로 기록한다.
+     * 행 잠금은 이 트랜잭션이 끝날 때까지 유지되므로 여러 인스턴스가 동시에 실행해도 같은 행을 중복 전송하지 않는다.
+     * 병합 대상 이벤트 타입은 병합 구간이 지난 뒤 가져오고, 같은 회원의 Outbox 중 가장 최근 것만 전송하고 나머지는 MERGED로 기록한다.
      */
     @Transactional
     @Override
-    public void markOutboxEventFailed(OutboxEvent event) {
-        // 1. 이벤트 타입에 따라 적절한 토픽 이름을 반환합니다.
-        String eventType = getKafkaTopic(event);
+    public int relayPendingOutboxEvents(int batchSize) {
+        // 1. 다른 인스턴스가 잠그지 않은 PENDING, 재전송할 FAIL Outbox를 잠금과 함께 가져옵니다. (병합 대상 타입은 병합 구간이 지난 행만)
+        LocalDateTime claimedAt = LocalDateTime.now();
+        LocalDateTime failRetryBefore = claimedAt.minus(relayFailRetryDelayMs, ChronoUnit.MILLIS);
+        LocalDateTime failRetryAfter = claimedAt.minus(relayFailRetryMaxAgeMs, ChronoUnit.MILLIS);
+        List<MemberOutbox> outboxes = coalesceEventTypes.isEmpty()
+                ? findMemberOutboxPort.claimPendingMemberOutboxes(batchSize, failRetryBefore, failRetryAfter)
+                : findMemberOutboxPort.claimPendingMemberOutboxes(batchSize, failRetryBefore, failRetryAfter, coalesceEventTypes,
+                        claimedAt.minus(coalesceWindowMs, ChronoUnit.MILLIS));
+        if (outboxes.isEmpty()) {
+            return 0;
+        }
 
-        // 2. 영속화를 위해 OutboxEvent를 찾습니다.
-        MemberOutbox memberOutbox = findMemberOutboxPort.findMemberOutboxBy(event.getPayload(), eventType);
+        // 2. 같은 회원/이벤트 타입의 Outbox는 가장 최근 것만 전송하고, 나머지는 MERGED로 기록합니다.
+        List<MemberOutbox> dispatches = coalesce(outboxes);
 
-        // 3. OutboxEvent의 상태를 FAIL로 변경합니다.
-        memberOutbox.changeStatus(MessageStatus.FAIL);
-        memberOutbox.changeProcessedAt(LocalDateTime.now());
-        createMemberOutboxPort.saveMemberOutboxEvent(memberOutbox);
+        // 3. 전송할 Outbox를 모두 비동기로 전송한 뒤, 버퍼를 한 번에 flush 합니다. (outbox-id 헤더로 수신 측에서 PK로 상태 변경)
+        //    회원 ID를 key로 전송하므로 같은 회원의 이벤트는 같은 파티션에 순서대로 쌓이고, 프로듀서는 파티션별 batch로 묶어 전송합니다.
+        //    일시적인 오류는 멱등 프로듀서가 delivery.timeout.ms 안에서 재전송하며, 그 시간이 지나면 결과가 실패로 완료됩니다.
+        Map<MemberOutbox, CompletableFuture<LocalDateTime>> sends = new LinkedHashMap<>();
+        List<Long> failedIds = new ArrayList<>();
+        for (MemberOutbox outbox : dispatches) {
+            try {
+                sends.put(outbox, kafkaProducerPort.sendMessageWithHeaders(
+                        outbox.getEventType(), String.valueOf(outbox.getPayload()), createRelayValue(outbox),
+                        createRelayHeaders(outbox), Context.current()).thenApply(result -> LocalDateTime.now()));
+            } catch (Exception e) {
+                log.warn("Outbox relay send failed - id: {}, reason: {}", outbox.getId(), e.getMessage());
+                failedIds.add(outbox.getId());
+                recordMemberOutboxMetricsPort.recordMemberOutboxFailed(outbox.getEventType());
+            }
+        }
+        kafkaProducerPort.flush();
+
+        // 4. 전송 결과를 기다리고, 이벤트 타입별 건수와 생성부터 Kafka ack까지의 지연을 기록합니다. (배치 전체에 relaySendTimeoutMs를 적용)
+        List<Long> sentIds = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(relaySendTimeoutMs);
+        for (Map.Entry<MemberOutbox, CompletableFuture<LocalDateTime>> send : sends.entrySet()) {
+            MemberOutbox outbox = send.getKey();
+            try {
+                LocalDateTime ackedAt = send.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                sentIds.add(outbox.getId());
+                recordMemberOutboxMetricsPort.recordMemberOutboxSent(outbox.getEventType(), outbox.getCreatedAt(), ackedAt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failedIds.add(outbox.getId());
+                recordMemberOutboxMetricsPort.recordMemberOutboxFailed(outbox.getEventType());
+            } catch (ExecutionException e) {
+                log.warn("Outbox relay send failed - id: {}, reason: {}", outbox.getId(), e.getMessage());
+                failedIds.add(outbox.getId());
+                recordMemberOutboxMetricsPort.recordMemberOutboxFailed(outbox.getEventType());
+            } catch (TimeoutException e) {
+                // exception: 결과를 알 수 없으면 프로듀서가 아직 전송 중이므로 다시 전송하지 않고, 최종 결과가 나오면 기록합니다.
+                log.warn("Outbox relay send still in flight - id: {}", outbox.getId());
+                sentIds.add(outbox.getId());
+                recordInFlightOutcome(outbox, send.getValue());
+            }
+        }
+
+        // 5. 전송 결과를 상태별로 한 번에 UPDATE 합니다. (성공, 전송 중: SENT, 실패: FAIL, 그 사이 PROCESSED가 된 행은 변경하지 않음)
+        LocalDateTime now = LocalDateTime.now();
+        if (!sentIds.isEmpty()) {
+            updateMemberOutboxPort.updateMemberOutboxStatus(sentIds, MessageStatus.SENT, now);
+        }
+        if (!failedIds.isEmpty()) {
+            updateMemberOutboxPort.updateMemberOutboxStatus(failedIds, MessageStatus.FAIL, now);
+        }
+        return outboxes.size();
     }
 
 
     /**
-     * @param event OutboxEvent
-     * @return String
-     * @apiNote OutboxEvent의 이벤트 타입(ENUM)에 따라 적절한 토픽 이름을 반환한다. (kafka topic 으로 사용)
+     * @param outbox MemberOutbox
+     * @param send   relaySendTimeoutMs 안에 완료되지 않은 전송 결과
+     * @apiNote 전송이 끝나면 별도 스레드에서 결과를 기록한다. 최종 실패하면 SENT를 FAIL로 바꿔 relay가 다시 가져가도록 한다.
+     * 상태 변경은 relay 트랜잭션이 행 잠금을 놓을 때까지 기다리므로 relay가 기록한 SENT보다 먼저 반영되지 않는다.
+     */
+    private void recordInFlightOutcome(MemberOutbox outbox, CompletableFuture<LocalDateTime> send) {
+        send.whenCompleteAsync((ackedAt, ex) -> {
+            if (ex == null) {
+                recordMemberOutboxMetricsPort.recordMemberOutboxSent(outbox.getEventType(), outbox.getCreatedAt(), ackedAt);
+                return;
+            }
+            log.warn("Outbox relay send failed after timeout - id: {}, reason: {}", outbox.getId(), ex.getMessage());
+            updateMemberOutboxPort.updateMemberOutboxStatus(List.of(outbox.getId()), MessageStatus.FAIL, LocalDateTime.now());
+            recordMemberOutboxMetricsPort.recordMemberOutboxFailed(outbox.getEventType());
+        });
+    }
+
+
+    /**
+     * @param outboxes 가져온 PENDING, FAIL Outbox 목록 (id 순)
+     * @return 전송할 Outbox 목록 (병합 대상 타입은 같은 회원/이벤트 타입마다 가장 최근 Outbox 하나)
+     * @apiNote 병합 대상 타입의 나머지 Outbox는 UPDATE 한 번으로 MERGED로 변경하고, 이벤트 타입별 병합 건수를 기록한다.
+     * 가장 최근 Outbox를 전송하므로 fat event는 마지막 변경의 스냅샷을 전달한다.
+     */
+    private List<MemberOutbox> coalesce(List<MemberOutbox> outboxes) {
+        if (coalesceEventTypes.isEmpty()) {
+            return outboxes;
+        }
+
+        // 1. (이벤트 타입, 회원 ID)별로 가장 최근(id가 가장 큰) Outbox만 남기고, 앞선 Outbox는 병합 대상으로 모읍니다.
+        Map<String, MemberOutbox> latest = new HashMap<>();
+        List<MemberOutbox> mergedOutboxes = new ArrayList<>();
+        for (MemberOutbox outbox : outboxes) {
+            if (coalesceEventTypes.contains(outbox.getEventType())) {
+                MemberOutbox previous = latest.put(outbox.getEventType() + ":" + outbox.getPayload(), outbox);
+                if (previous != null) {
+                    mergedOutboxes.add(previous);
+                }
+            }
+        }
+        if (mergedOutboxes.isEmpty()) {
+            return outboxes;
+        }
+
+        // 2. 합쳐진 Outbox를 MERGED로 변경하고 이벤트 타입별 병합 건수를 기록합니다.
+        updateMemberOutboxPort.updateMemberOutboxStatus(
+                mergedOutboxes.stream().map(MemberOutbox::getId).toList(), MessageStatus.MERGED, LocalDateTime.now());
+        mergedOutboxes.stream()
+                .collect(Collectors.groupingBy(MemberOutbox::getEventType, Collectors.counting()))
+                .forEach((eventType, merged) -> recordMemberOutboxMetricsPort.recordMemberOutboxMerged(eventType, merged.intValue()));
+        return outboxes.stream()
+                .filter(outbox -> !mergedOutboxes.contains(outbox))
+                .toList();
+    }
+
+
+    /**
+     * @param statuses 집계할 메시지 상태 목록
+     * @return 상태별 Outbox 건수 (outbox.metricsRowCountCap을 넘으면 그 값)
+     * @apiNote 주어진 상태의 Outbox 건수를 상태별로 최대 metricsRowCountCap 건까지 집계한다. (backlog 메트릭용)
      */
     @Override
-    public String getKafkaTopic(OutboxEvent event) {
-        return event.getEventType();
+    public Map<MessageStatus, Long> countOutboxEventsByStatus(Collection<MessageStatus> statuses) {
+        return findMemberOutboxPort.countMemberOutboxesByStatus(statuses, metricsRowCountCap);
     }
 
 
     /**
-     * @param event OutboxEvent
-     * @apiNote OutboxEvent를 처리완료(PROCESSED)로 변경
+     * @param status 메시지 상태
+     * @return 해당 상태에서 가장 오래된 Outbox의 생성 시각 (없으면 empty)
+     * @apiNote backlog의 가장 오래된 행이 얼마나 기다렸는지 확인한다. (backlog 메트릭용)
      */
-    @Transactional
     @Override
-    public void markOutboxEventProcessed(OutboxEvent event) {
-        // 1. 이벤트 타입에 따라 적절한 토픽 이름을 반환합니다.
-        String eventType = getKafkaTopic(event);
+    public Optional<LocalDateTime> findOldestOutboxCreatedAt(MessageStatus status) {
+        return findMemberOutboxPort.findOldestMemberOutboxCreatedAt(status);
+    }
+
+
+    /**
+     * @param days 오늘 이후로 미리 준비할 일 수
+     * @apiNote 어제부터 days일 뒤까지 Outbox 일자별 파티션을 미리 생성한다. (기본 파티션이 없으므로 DB와 시간대가 달라도 어제 시각의 행을 받을 수 있도록)
+     * 생성 문장마다 자체 트랜잭션으로 실행해야 하므로 트랜잭션 없이 실행한다. (하나가 실패해도 나머지 일자를 생성)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public void prepareOutboxPartitions(int days) {
+        memberOutboxRetentionPort.prepareMemberOutboxPartitions(LocalDate.now().minusDays(1), days + 1);
+    }
+
+
+    /**
+     * @param retentionDays Outbox 보존 일 수
+     * @param chunkSize     행 단위로 삭제하는 경우 한 번에 삭제할 최대 건수
+     * @return 정리된 행 수
+     * @apiNote 오늘 0시 기준 retentionDays일 이전에 생성된 처리완료(PROCESSED) Outbox를 정리한다. (전송/처리되지 않은 행은 남김)
+     * 파티션 분리(DETACH ... CONCURRENTLY)는 트랜잭션 블록 안에서 실행할 수 없으므로 트랜잭션 없이 실행한다. (행 단위 삭제는 저장소가 자체 트랜잭션으로 실행)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public int purgeExpiredOutboxEvents(int retentionDays, int chunkSize) {
+        return memberOutboxRetentionPort.deleteMemberOutboxesCreatedBefore(retentionCutoff(retentionDays), chunkSize);
+    }
 
-        // 2. 영속화를 위해 OutboxEvent를 찾습니다.
-        MemberOutbox memberOutbox = findMemberOutboxPort.findMemberOutboxBy(event.getPayload(), eventType);
 
-        // 3. OutboxEvent의 상태를 PROCESSED로 변경합니다.
-        memberOutbox.changeStatus(MessageStatus.PROCESSED);
-        memberOutbox.changeProcessedAt(LocalDateTime.now());
-        createMemberOutboxPort.saveMemberOutboxEvent(memberOutbox);
+    /**
+     * @param retentionDays Outbox 보존 일 수
+     * @return 보존 기간이 지났지만 처리완료되지 않아 정리하지 않은 Outbox 수
+     * @apiNote 정리 대상에서 제외된 PENDING, FAIL, SENT 행을 센다. (보존 기간 안에 전달되지 못한 이벤트 확인용)
+     */
+    @Override
+    public long countUnprocessedExpiredOutboxEvents(int retentionDays) {
+        return memberOutboxRetentionPort.countUnprocessedMemberOutboxesCreatedBefore(retentionCutoff(retentionDays));
+    }
+
+
+    /**
+     * @param retentionDays Outbox 보존 일 수
+     * @return 이 시각 이전에 생성된 Outbox가 정리 대상 (오늘 0시 기준 retentionDays일 전)
+     */
+    private LocalDateTime retentionCutoff(int retentionDays) {
+        return LocalDate.now().minusDays(retentionDays).atStartOfDay();
+    }
+
+
+    /**
+     * @param memberId 회원 ID
+     * @return 회원 스냅샷 (MemberProto.MemberRetrieveResponse 직렬화, GetMemberById 응답과 같은 메시지)
+     */
+    private byte[] createMemberSnapshot(Long memberId) {
+        Member member = findMemberPort.findMemberById(memberId);
+        return memberMapper.toProto(memberMapper.domainToResponseDTO(member)).toByteArray();
+    }
+
+
+    /**
+     * @param outbox MemberOutbox
+     * @return relay가 전송하는 record 값 (MemberOutboxEvent를 protobuf로 직렬화한 bytes, fat 이벤트는 회원 스냅샷 포함)
+     * @throws InvalidProtocolBufferException 저장된 스냅샷을 읽을 수 없는 경우
+     */
+    private byte[] createRelayValue(MemberOutbox outbox) throws InvalidProtocolBufferException {
+        MemberOutboxEvent.Builder event = MemberOutboxEvent.newBuilder().setMemberId(outbox.getPayload());
+        if (outbox.hasSnapshot()) {
+            event.setSnapshot(MemberProto.MemberRetrieveResponse.parseFrom(outbox.getSnapshot()));
+        }
+        return event.build().toByteArray();
+    }
+
+
+    /**
+     * @param outbox MemberOutbox
+     * @return relay가 전송하는 Kafka 헤더 (outbox-id, outbox-payload-type, schema-version, 생성 시각이 있으면 outbox-created-at)
+     */
+    private Map<String, String> createRelayHeaders(MemberOutbox outbox) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put(OUTBOX_ID_HEADER, String.valueOf(outbox.getId()));
+        headers.put(OUTBOX_PAYLOAD_TYPE_HEADER, outbox.hasSnapshot() ? PAYLOAD_TYPE_MEMBER_SNAPSHOT : PAYLOAD_TYPE_THIN);
+        headers.put(SCHEMA_VERSION_HEADER, MEMBER_OUTBOX_EVENT_SCHEMA_VERSION);
+        if (outbox.getCreatedAt() != null) {
+            headers.put(OUTBOX_CREATED_AT_HEADER,
+                    String.valueOf(outbox.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+        }
+        return headers;
     }
 
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.pulse.member.application.service;
 
 import com.pulse.member.adapter.in.web.dto.response.MemberResponseDTO;
+import com.pulse.member.adapter.out.event.MemberDeleteEvent;
 import com.pulse.member.application.port.in.member.CreateMemberUseCase;
 import com.pulse.member.application.port.in.member.DeleteMemberUseCase;
 import com.pulse.member.application.port.in.member.FindMemberUseCase;
@@ -13,6 +14,7 @@ import com.pulse.member.common.annotation.UseCase;
 import com.pulse.member.domain.Member;
 import com.pulse.member.mapper.MemberMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional(readOnly = true)
@@ -24,6 +26,7 @@ public class MemberService implements CreateMemberUseCase, FindMemberUseCase, Up
     private final FindMemberPort findMemberPort;
     private final DeleteMemberPort deleteMemberPort;
 
+    private final ApplicationEventPublisher eventPublisher;
     private final MemberMapper memberMapper;
 
 
@@ -80,12 +83,19 @@ public class MemberService implements CreateMemberUseCase, FindMemberUseCase, Up
     /**
      * @param member 회원
      * @return 삭제 여부
-     * @apiNote 회원 삭제
+     * @apiNote 회원 삭제 + 회원 삭제 이벤트 발행 (실제로 삭제된 경우에만 발행)
      */
     @Transactional
     @Override
     public Boolean deleteMemberById(Member member) {
-        return deleteMemberPort.deleteMemberById(member);
+        // 1. 회원 삭제
+        Boolean deleted = deleteMemberPort.deleteMemberById(member);
+
+        // 2. 회원 삭제 이벤트 발행 (커밋 후 인증 정보 캐시 무효화)
+        if (Boolean.TRUE.equals(deleted)) {
+            eventPublisher.publishEvent(MemberDeleteEvent.of(member.getId()));
+        }
+        return deleted;
     }
 
 }
@@ -13,8 +13,11 @@ import com.pulse.member.domain.Member;
 import com.pulse.member.domain.RefreshToken;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 /**
  * JWT 관련 비즈니스 로직을 처리하는 서비스 클래스
  * 주로 RefreshToken을 생성, 조회, 삭제하는 로직을 처리합니다.
@@ -55,6 +58,27 @@ public class RefreshTokenService implements CreateRefreshTokenUseCase, FindRefre
         return deleteRefreshTokenPort.deleteRefreshToken(member);
     }
 
+    /**
+     * @param chunkSize 한 번에 삭제할 최대 건수
+     * @return 삭제된 건수
+     * @apiNote 만료된 RefreshToken을 chunkSize 만큼 삭제 (호출 단위로 커밋되어 잠금 유지 시간을 짧게 유지)
+     */
+    @Transactional
+    @Override
+    public int deleteExpiredRefreshTokens(int chunkSize) {
+        return deleteRefreshTokenPort.deleteExpiredRefreshTokens(LocalDateTime.now(), chunkSize);
+    }
+
+    /**
+     * @param memberId 회원 ID
+     * @apiNote 다른 인스턴스에서 폐기된 회원의 RefreshToken을 이 인스턴스의 캐시에서 제거 (DB를 사용하지 않으므로 트랜잭션 없이 실행)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public void evictCachedRefreshTokens(Long memberId) {
+        deleteRefreshTokenPort.evictCachedRefreshTokens(memberId);
+    }
+
     /**
      * @param refreshToken RefreshToken
      * @return RefreshToken
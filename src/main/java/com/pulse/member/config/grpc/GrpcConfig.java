@@ -2,10 +2,17 @@ package com.pulse.member.config.grpc;
 
 import com.pulse.member.config.grpc.interceptor.ExceptionHandlingInterceptor;
 import com.pulse.member.config.grpc.interceptor.GrpcMetadataInterceptor;
+import com.pulse.member.config.grpc.interceptor.JwtGrpcInterceptor;
+import com.pulse.member.config.jwt.JwtTokenProvider;
+import com.pulse.member.config.jwt.TokenRevocationRegistry;
+import com.pulse.member.config.security.http.user.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
 import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Set;
+
 /**
  * gRPC 서버 설정 - 인터셉터를 설정하는 클래스
  * gRPC 인터셉터는 Spring Boot에서 @GrpcGlobalServerInterceptor 어노테이션을 사용하여 전역적으로 등록할 수 있습니다.
@@ -17,7 +24,13 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class GrpcConfig {
 
-//    private final CustomGrpcAuthenticationReader customGrpcAuthenticationReader;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final UserDetailsCache userDetailsCache;
+
+    // 토큰 검증 없이 호출할 수 있는 내부 서비스 간 호출 메서드 (예: MemberService/GetMemberById)
+    @Value("${grpc.auth.unauthenticatedMethods:}")
+    private Set<String> unauthenticatedMethods;
 
     /**
      * gRPC 서버 메서드 호출 시, 요청 헤더에서 traceparent 헤더를 추출하여 SpanContext를 생성합니다.
@@ -40,10 +53,9 @@ public class GrpcConfig {
     /**
      * gRPC 서버 인터셉터 클래스. 이 클래스는 gRPC 요청에서 JWT 토큰을 추출하고 인증을 수행합니다.
      */
-//    @Bean
-//    @GrpcGlobalServerInterceptor
-//    JwtGrpcInterceptor jwtGrpcInterceptor() {
-//        return new JwtGrpcInterceptor(customGrpcAuthenticationReader);
-//    }
+    @GrpcGlobalServerInterceptor
+    JwtGrpcInterceptor jwtGrpcInterceptor() {
+        return new JwtGrpcInterceptor(jwtTokenProvider, tokenRevocationRegistry, userDetailsCache, unauthenticatedMethods);
+    }
 
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.pulse.member.config.grpc.interceptor;
+
+import com.pulse.member.config.security.http.user.UserDetailsImpl;
+
+import java.util.Optional;
+
+/**
+ * gRPC 서비스 메서드에서 현재 호출의 인증 정보를 조회하기 위한 클래스
+ * JwtGrpcInterceptor가 io.grpc.Context에 담은 사용자 정보를 반환하므로, 호출을 처리하는 스레드와 관계없이 같은 호출의 인증 정보만 조회됩니다.
+ */
+public class GrpcAuthContext {
+
+    private GrpcAuthContext() {
+    }
+
+
+    /**
+     * @return 현재 호출의 인증된 사용자 정보 (허용 목록 메서드처럼 인증 없이 호출된 경우 empty)
+     * @apiNote 현재 gRPC 호출의 인증 정보를 조회하는 메서드
+     */
+    public static Optional<UserDetailsImpl> currentPrincipal() {
+        return Optional.ofNullable(GrpcMetadata.PRINCIPAL_KEY.get());
+    }
+
+}
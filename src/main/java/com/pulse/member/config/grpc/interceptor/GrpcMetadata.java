@@ -1,5 +1,6 @@
 package com.pulse.member.config.grpc.interceptor;
 
+import com.pulse.member.config.security.http.user.UserDetailsImpl;
 import io.grpc.Context;
 import io.grpc.Metadata;
 
@@ -9,6 +10,8 @@ import io.grpc.Metadata;
 public class GrpcMetadata {
 
     public static final Metadata.Key<String> TRACEPARENT_KEY = Metadata.Key.of("traceparent", Metadata.ASCII_STRING_MARSHALLER);
+    public static final Metadata.Key<String> AUTHORIZATION_KEY = Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
     public static final Context.Key<io.opentelemetry.context.Context> OTEL_CONTEXT_KEY = Context.key("otelContext");
+    public static final Context.Key<UserDetailsImpl> PRINCIPAL_KEY = Context.key("principal");
 
 }
@@ -1,22 +1,38 @@
 package com.pulse.member.config.grpc.interceptor;
 
+import com.pulse.member.config.jwt.JwtTokenProvider;
+import com.pulse.member.config.jwt.TokenRevocationRegistry;
+import com.pulse.member.config.security.http.user.UserDetailsCache;
+import com.pulse.member.config.security.http.user.UserDetailsImpl;
 import io.grpc.*;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.stereotype.Component;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Set;
 
 /**
  * gRPC 서버 인터셉터 클래스. 이 클래스는 gRPC 요청에서 JWT 토큰을 추출하고 인증을 수행합니다.
+ * 인증된 사용자 정보는 SecurityContextHolder(ThreadLocal)가 아닌 io.grpc.Context에 담아서 전달합니다.
+ * gRPC는 interceptCall과 서비스 메서드를 서로 다른 스레드(공유 executor)에서 실행할 수 있는데,
+ * Contexts.interceptCall은 리스너 콜백마다 이 호출의 Context를 붙였다가 떼어내므로 다른 호출과 인증 정보가 섞이지 않습니다.
+ * 허용 목록(grpc.auth.unauthenticatedMethods)에 등록된 메서드는 내부 서비스 간 호출로 보고 토큰 검증을 생략합니다.
  */
+@Slf4j
 @RequiredArgsConstructor
-@Component
 public class JwtGrpcInterceptor implements ServerInterceptor {
 
-    private final CustomGrpcAuthenticationReader customGrpcAuthenticationReader;
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final UserDetailsCache userDetailsCache;
+    private final Set<String> unauthenticatedMethods;
 
     /**
-     * gRPC 호출을 인터셉트하여 JWT 토큰을 검증하고 인증 정보를 설정합니다.
+     * gRPC 호출을 인터셉트하여 JWT 토큰을 검증하고 인증 정보를 gRPC Context에 설정합니다.
      *
      * @param call    gRPC 서버 콜 객체
      * @param headers gRPC 메타데이터(헤더) 객체
@@ -31,18 +47,51 @@ public class JwtGrpcInterceptor implements ServerInterceptor {
             Metadata headers,
             ServerCallHandler<ReqT, RespT> next
     ) {
-        // CustomGrpcAuthenticationReader를 사용하여 인증 정보를 읽어옵니다.
-        Authentication authentication = customGrpcAuthenticationReader.readAuthentication(call, headers);
-        if (authentication != null) {
-            // 인증 정보를 SecurityContext에 설정합니다.
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        // 1. 허용 목록에 등록된 메서드는 토큰 검증 없이 호출합니다.
+        if (unauthenticatedMethods.contains(call.getMethodDescriptor().getFullMethodName())) {
             return next.startCall(call, headers);
         }
 
-        // 인증 실패 시 호출을 종료합니다.
-        call.close(Status.UNAUTHENTICATED.withDescription("Invalid JWT token"), headers);
-        return new ServerCall.Listener<ReqT>() {
-        };
+        // 2. 호출당 한 번 토큰을 검증하고 인증 정보를 만듭니다. (검증 결과는 JwtVerificationCache에 캐시됨)
+        UserDetailsImpl principal = authenticate(headers.get(GrpcMetadata.AUTHORIZATION_KEY));
+        if (principal == null) {
+            // 인증 실패 시 호출을 종료합니다.
+            call.close(Status.UNAUTHENTICATED.withDescription("Invalid JWT token"), new Metadata());
+            return new ServerCall.Listener<ReqT>() {
+            };
+        }
+
+        // 3. 인증 정보를 이 호출의 gRPC Context에 담아서 다음 인터셉터를 호출합니다.
+        Context context = Context.current().withValue(GrpcMetadata.PRINCIPAL_KEY, principal);
+        return Contexts.interceptCall(context, call, headers, next);
+    }
+
+
+    /**
+     * @param authorizationHeader Authorization 헤더 값
+     * @return 인증된 사용자 정보, 토큰이 없거나 유효하지 않으면 null
+     * @apiNote 토큰을 검증하고 폐기 여부를 확인한 뒤, 클레임(없으면 캐시된 UserDetails)으로 사용자 정보를 구성하는 메서드
+     */
+    private UserDetailsImpl authenticate(String authorizationHeader) {
+        // 1. 헤더가 존재하고 'Bearer '로 시작하는지 확인합니다.
+        if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+
+        try {
+            // 2. 토큰을 검증하고 폐기된 토큰인지 확인합니다.
+            Claims claims = jwtTokenProvider.getVerifiedClaims(authorizationHeader.substring(BEARER_PREFIX.length()));
+            if (tokenRevocationRegistry.isRevoked(claims)) {
+                return null;
+            }
+
+            // 3. 클레임으로 사용자 정보를 구성하고, 클레임이 없는 이전 토큰이면 이메일로 조회합니다.
+            UserDetailsImpl principal = UserDetailsImpl.fromClaims(claims);
+            return principal != null ? principal : userDetailsCache.get(claims.getSubject());
+        } catch (JwtException | IllegalArgumentException | UsernameNotFoundException e) {
+            log.warn("gRPC authentication failed: {}", e.getMessage());
+            return null;
+        }
     }
 
 }
@@ -0,0 +1,36 @@
+package com.pulse.member.config.jpa;
+
+import com.pulse.member.adapter.out.persistence.outbox.MemberOutboxNotifier;
+import com.pulse.member.adapter.out.persistence.outbox.PostgresMemberOutboxNotifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Outbox 저장 알림 설정 클래스
+ * outbox.relayWakeup 값(listen, poll)에 따라 Outbox 저장 시 relay를 깨우는 방식을 선택합니다.
+ * listen은 PostgreSQL LISTEN/NOTIFY를 사용하며, H2처럼 지원하지 않는 DB는 poll을 사용합니다. (MemberOutboxNotificationListener 참고)
+ */
+@Configuration
+public class MemberOutboxNotifierConfig {
+
+    @Value("${outbox.relayWakeup:poll}")
+    private String relayWakeup;
+
+
+    /**
+     * @return 선택된 MemberOutboxNotifier
+     * @apiNote Outbox 저장 알림 설정
+     */
+    @Bean
+    public MemberOutboxNotifier memberOutboxNotifier(JdbcTemplate jdbcTemplate) {
+        return switch (relayWakeup) {
+            case "listen" -> new PostgresMemberOutboxNotifier(jdbcTemplate);
+            case "poll" -> () -> {
+            };
+            default -> throw new IllegalArgumentException("Unsupported outbox.relayWakeup: " + relayWakeup);
+        };
+    }
+
+}
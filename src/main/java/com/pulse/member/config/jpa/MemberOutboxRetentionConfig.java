@@ -0,0 +1,40 @@
+package com.pulse.member.config.jpa;
+
+import com.pulse.member.adapter.out.persistence.outbox.DeletingMemberOutboxRetentionStore;
+import com.pulse.member.adapter.out.persistence.outbox.MemberOutboxRetentionStore;
+import com.pulse.member.adapter.out.persistence.outbox.PartitionedMemberOutboxRetentionStore;
+import com.pulse.member.adapter.out.persistence.repository.MemberOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Outbox 정리 저장소 설정 클래스
+ * outbox.retentionStore 값(partition, delete)에 따라 보존 기간이 지난 Outbox를 정리하는 방식을 선택합니다.
+ * partition은 schema-postgresql.sql로 생성한 파티션 테이블이 필요하며, H2처럼 파티션을 지원하지 않는 DB는 delete를 사용합니다.
+ */
+@Configuration
+public class MemberOutboxRetentionConfig {
+
+    @Value("${outbox.retentionStore:delete}")
+    private String retentionStore;
+
+
+    /**
+     * @return 선택된 MemberOutboxRetentionStore
+     * @apiNote Outbox 정리 저장소 설정
+     */
+    @Bean
+    public MemberOutboxRetentionStore memberOutboxRetentionStore(
+            MemberOutboxRepository memberOutboxRepository,
+            JdbcTemplate jdbcTemplate
+    ) {
+        return switch (retentionStore) {
+            case "partition" -> new PartitionedMemberOutboxRetentionStore(jdbcTemplate);
+            case "delete" -> new DeletingMemberOutboxRetentionStore(memberOutboxRepository);
+            default -> throw new IllegalArgumentException("Unsupported outbox.retentionStore: " + retentionStore);
+        };
+    }
+
+}
@@ -0,0 +1,226 @@
+package com.pulse.member.config.jwt;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.PrivateJwk;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JWT 서명/검증 키를 관리하는 키 링
+ * HS256 모드에서는 기존처럼 jwt.jwtSecret으로 만든 HMAC 키로 서명합니다.
+ * ES256/EdDSA 모드에서는 jwt.signingJwks(JWK Set JSON)에 등록된 키 중 jwt.activeKid 키로 서명하고, 토큰 헤더에 kid를 기록합니다.
+ * 비대칭 모드에서 kid 없는 HMAC 토큰(전환 이전에 발급된 토큰)은 jwt.acceptLegacyHmac이 true일 때만 공유 비밀키로 검증합니다.
+ * 공유 비밀키를 아는 누구나 토큰을 만들 수 있으므로, 전환 후 access 토큰 수명(jwt.jwtExpirationMs)이 지나면 false로 되돌립니다.
+ * 키 교체 시 새 키를 추가하고 activeKid만 바꾸면, 이전 키는 검증용으로 남아 있다가 기존 토큰이 만료된 뒤 제거할 수 있습니다.
+ * 공개키는 JWKS 엔드포인트로 노출되어 다른 서비스가 네트워크 호출 없이 토큰을 검증할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    private static final String HS256 = "HS256";
+    private static final String ES256 = "ES256";
+    private static final String EDDSA = "EdDSA";
+    private static final String JWKS_KEYS = "keys";
+
+    private final SecretKey hmacKey;
+    private final boolean acceptHmac; // kid 없는 HMAC 토큰을 검증할지 여부 (HS256 모드이거나 이전 토큰 허용 설정)
+    private final SignatureAlgorithm signatureAlgorithm;
+    private final String activeKid;
+    private final PrivateKey signingKey;
+    private final Map<String, PublicKey> verificationKeys = new LinkedHashMap<>();
+    private final Map<String, Object> publicJwkSet;
+
+
+    public JwtKeyRing(
+            @Value("${jwt.jwtSecret}") String jwtSecret,
+            @Value("${jwt.signingAlgorithm:HS256}") String algorithm,
+            @Value("${jwt.signingJwks:}") String signingJwks,
+            @Value("${jwt.activeKid:}") String activeKid,
+            @Value("${jwt.acceptLegacyHmac:false}") boolean acceptLegacyHmac
+    ) {
+        // 1. HMAC 키 생성 (HS256 모드의 서명 키이자, jwt.acceptLegacyHmac인 경우 비대칭 모드 전환 이전에 발급된 토큰의 검증 키)
+        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length < 32) {
+            throw new IllegalArgumentException("The key length should be at least 32 bytes");
+        }
+        this.hmacKey = Keys.hmacShaKeyFor(keyBytes);
+
+        // 2. HS256 모드라면 비대칭 키를 사용하지 않음
+        if (HS256.equals(algorithm)) {
+            this.acceptHmac = true;
+            this.signatureAlgorithm = null;
+            this.activeKid = null;
+            this.signingKey = null;
+            this.publicJwkSet = Map.of(JWKS_KEYS, List.of());
+            return;
+        }
+
+        // 3. 비대칭 서명 알고리즘 결정 (전환 이전 HMAC 토큰은 설정한 경우에만 허용)
+        this.signatureAlgorithm = resolveAlgorithm(algorithm);
+        this.acceptHmac = acceptLegacyHmac;
+        if (acceptLegacyHmac) {
+            log.warn("jwt.acceptLegacyHmac is enabled. Tokens signed with jwt.jwtSecret are still accepted; disable it once tokens issued before the switch to {} have expired.", algorithm);
+        }
+
+        // 4. 설정된 JWK Set에서 키를 로드하고, 없으면 임시 키 생성
+        Map<String, PrivateKey> privateKeys = new LinkedHashMap<>();
+        if (StringUtils.hasText(signingJwks)) {
+            loadJwks(signingJwks, privateKeys);
+        } else {
+            String generatedKid = UUID.randomUUID().toString();
+            KeyPair keyPair = generateKeyPair(algorithm);
+            privateKeys.put(generatedKid, keyPair.getPrivate());
+            verificationKeys.put(generatedKid, keyPair.getPublic());
+            log.warn("jwt.signingJwks is empty. Generated an ephemeral {} key (kid: {}). Tokens will not survive a restart and cannot be shared across instances.", algorithm, generatedKid);
+        }
+
+        // 5. 서명에 사용할 활성 키 결정 (activeKid가 없으면 첫 번째 개인키 사용)
+        this.activeKid = StringUtils.hasText(activeKid) ? activeKid : privateKeys.keySet().stream().findFirst()
+                .orElseThrow(() -> new IllegalStateException("jwt.signingJwks does not contain any private key"));
+        this.signingKey = privateKeys.get(this.activeKid);
+        if (this.signingKey == null) {
+            throw new IllegalStateException("No private key found for jwt.activeKid: " + this.activeKid);
+        }
+
+        // 6. JWKS 엔드포인트로 노출할 공개키 JWK Set 생성
+        this.publicJwkSet = buildPublicJwkSet(algorithm);
+    }
+
+
+    /**
+     * @param builder JWT 빌더
+     * @return 서명 키와 kid 헤더가 설정된 JWT 빌더
+     * @apiNote 현재 활성 키로 서명하도록 JWT 빌더를 설정하는 메서드
+     */
+    public JwtBuilder signWith(JwtBuilder builder) {
+        if (signatureAlgorithm == null) {
+            return builder.signWith(hmacKey);
+        }
+        return builder.header().keyId(activeKid).and()
+                .signWith(signingKey, signatureAlgorithm);
+    }
+
+
+    /**
+     * @return 토큰 헤더의 kid로 검증 키를 찾는 Locator
+     * @apiNote JwtParser에 등록할 검증 키 Locator를 반환하는 메서드
+     */
+    public Locator<Key> keyLocator() {
+        return new LocatorAdapter<>() {
+            @Override
+            protected Key locate(JwsHeader header) {
+                // 1. kid가 없는 HMAC 토큰은 공유 비밀키로 검증 (HS256 모드 또는 jwt.acceptLegacyHmac인 경우만, 아니면 null -> 검증 실패)
+                String kid = header.getKeyId();
+                if (kid == null) {
+                    return acceptHmac && header.getAlgorithm() != null && header.getAlgorithm().startsWith("HS") ? hmacKey : null;
+                }
+
+                // 2. kid에 해당하는 공개키로 검증 (알 수 없는 kid면 null -> 검증 실패)
+                return verificationKeys.get(kid);
+            }
+        };
+    }
+
+
+    /**
+     * @return 공개키 JWK Set ({"keys": [...]} 형식, HS256 모드에서는 빈 목록)
+     * @apiNote JWKS 엔드포인트에서 노출할 공개키 목록을 반환하는 메서드
+     */
+    public Map<String, Object> getPublicJwkSet() {
+        return publicJwkSet;
+    }
+
+
+    /**
+     * @param signingJwks JWK Set JSON
+     * @param privateKeys kid별 개인키를 담을 Map
+     * @apiNote JWK Set을 파싱하여 개인키(서명용)와 공개키(검증용)를 등록하는 메서드
+     * 공개키만 있는 JWK는 교체되어 더 이상 서명하지 않지만, 아직 유효한 토큰을 검증하기 위한 키로 사용합니다.
+     */
+    private void loadJwks(String signingJwks, Map<String, PrivateKey> privateKeys) {
+        JwkSet jwkSet = Jwks.setParser().build().parse(signingJwks);
+        for (Jwk<?> jwk : jwkSet) {
+            String kid = jwk.getId();
+            if (!StringUtils.hasText(kid)) {
+                throw new IllegalStateException("Every key in jwt.signingJwks must have a kid");
+            }
+
+            if (jwk instanceof PrivateJwk<?, ?, ?> privateJwk) {
+                privateKeys.put(kid, privateJwk.toKeyPair().getPrivate());
+                verificationKeys.put(kid, privateJwk.toKeyPair().getPublic());
+            } else if (jwk instanceof PublicJwk<?> publicJwk) {
+                verificationKeys.put(kid, publicJwk.toKey());
+            }
+        }
+    }
+
+
+    /**
+     * @param algorithm 서명 알고리즘 이름
+     * @return 공개키 JWK Set
+     * @apiNote 등록된 모든 검증 키를 공개키 JWK로 변환하는 메서드
+     */
+    private Map<String, Object> buildPublicJwkSet(String algorithm) {
+        List<Jwk<?>> publicJwks = verificationKeys.entrySet().stream()
+                .<Jwk<?>>map(entry -> Jwks.builder().key(entry.getValue())
+                        .id(entry.getKey())
+                        .algorithm(algorithm)
+                        .publicKeyUse("sig")
+                        .build())
+                .toList();
+        return Map.of(JWKS_KEYS, publicJwks);
+    }
+
+
+    /**
+     * @param algorithm 서명 알고리즘 이름
+     * @return 서명 알고리즘
+     * @apiNote 설정값을 jjwt 서명 알고리즘으로 변환하는 메서드
+     */
+    private static SignatureAlgorithm resolveAlgorithm(String algorithm) {
+        return switch (algorithm) {
+            case ES256 -> Jwts.SIG.ES256;
+            case EDDSA -> Jwts.SIG.EdDSA;
+            default -> throw new IllegalArgumentException("Unsupported jwt.signingAlgorithm: " + algorithm);
+        };
+    }
+
+
+    /**
+     * @param algorithm 서명 알고리즘 이름
+     * @return 생성된 키 쌍
+     * @apiNote 설정된 키가 없을 때 사용할 임시 키 쌍을 생성하는 메서드 (EdDSA는 Ed25519 곡선 사용)
+     */
+    private static KeyPair generateKeyPair(String algorithm) {
+        return switch (algorithm) {
+            case ES256 -> Jwts.SIG.ES256.keyPair().build();
+            case EDDSA -> Jwks.CRV.Ed25519.keyPair().build();
+            default -> throw new IllegalArgumentException("Unsupported jwt.signingAlgorithm: " + algorithm);
+        };
+    }
+
+}
@@ -1,70 +1,71 @@
 package com.pulse.member.config.jwt;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
-import java.time.Instant;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+
+import static com.pulse.member.util.Constant.*;
 
 /**
  * JWT 토큰 생성 및 검증을 담당하는 클래스
  */
 @Slf4j
+@RequiredArgsConstructor
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.jwtSecret}")
-    private String jwtSecret;
+    private final JwtKeyRing jwtKeyRing;
+    private final JwtVerificationCache jwtVerificationCache;
 
     @Value("${jwt.jwtExpirationMs}")
     private int jwtExpirationMs;
 
-    private SecretKey secretKey;
+    private JwtParser jwtParser;
 
     /**
-     * 객체 초기화 메서드, JWT 비밀 키를 설정
+     * 객체 초기화 메서드, 토큰 헤더의 kid로 검증 키를 찾는 파서를 설정
      */
     @PostConstruct
     public void init() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        if (keyBytes.length < 32) {
-            throw new IllegalArgumentException("The key length should be at least 32 bytes");
-        }
-        this.secretKey = Keys.hmacShaKeyFor(keyBytes); // Secret Key 생성
+        this.jwtParser = Jwts.parser().keyLocator(jwtKeyRing.keyLocator()).build(); // 파서는 thread-safe 하므로 한 번만 생성
     }
 
 
     /**
-     * @param email    사용자 이메일
-     * @param nickname 사용자 닉네임
+     * @param memberId  회원 ID
+     * @param email     사용자 이메일
+     * @param nickname  사용자 닉네임
+     * @param roleCodes 회원 권한 코드 목록
      * @return 생성된 JWT Access 토큰
      * @apiNote JWT Access 토큰을 생성하는 메서드
+     * 회원 ID, 닉네임, 권한 코드를 클레임에 담아서 필터가 DB 조회 없이 인증 정보를 만들 수 있도록 합니다.
      */
-    public String generateAccessToken(String email, String nickname) {
+    public String generateAccessToken(Long memberId, String email, String nickname, Collection<String> roleCodes) {
         // 시간 정보 생성
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
-        // JWT 토큰 생성
-        return Jwts.builder()
+        // JWT 토큰 생성 (키 링의 활성 키로 서명)
+        JwtBuilder builder = Jwts.builder()
                 .subject(email)
-                .claim("nickname", nickname)
+                .claim(MEMBER_ID, memberId)
+                .claim(NICKNAME, nickname)
+                .claim(ROLES, List.copyOf(roleCodes))
+                .claim(ISSUED_AT_MS, now.getTime())
                 .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(secretKey)
-                .compact();
+                .expiration(expiryDate);
+        return jwtKeyRing.signWith(builder).compact();
     }
 
 
@@ -72,19 +73,36 @@ public class JwtTokenProvider {
      * @return 생성된 JWT Access 토큰
      * @apiNote JWT Access 토큰을 재발행하는 메서드
      */
-    public String regenerateAccessToken(String email, String nickname) {
-        // 시간 정보 생성
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
+    public String regenerateAccessToken(Long memberId, String email, String nickname, Collection<String> roleCodes) {
+        return generateAccessToken(memberId, email, nickname, roleCodes);
+    }
 
-        // JWT 토큰 생성
-        return Jwts.builder()
-                .subject(email)
-                .claim("nickname", nickname)
-                .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(secretKey)
-                .compact();
+
+    /**
+     * @param token JWT 토큰
+     * @return 서명과 만료 시간 검증이 끝난 Claims
+     * @throws JwtException 토큰이 유효하지 않거나 만료된 경우
+     * @apiNote JWT 토큰을 한 번만 파싱/검증하고 결과 Claims를 반환하는 메서드
+     * 검증된 토큰은 JwtVerificationCache에 저장되어, 같은 토큰이 다시 들어오면 서명 검증과 디코딩을 생략합니다.
+     */
+    public Claims getVerifiedClaims(String token) {
+        // 1. 이미 검증된 토큰이면 캐시된 Claims 반환 (토큰 만료 시 캐시에서도 제거됨)
+        Claims cachedClaims = jwtVerificationCache.get(token);
+        if (cachedClaims != null) {
+            return cachedClaims;
+        }
+
+        // 2. JWT 토큰 파싱 및 서명 검증 (만료된 토큰은 ExpiredJwtException 발생)
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+
+        // 3. 만료 시간이 없는 토큰은 허용하지 않음
+        if (claims.getExpiration() == null) {
+            throw new JwtException("JWT token does not have an expiration date.");
+        }
+
+        // 4. 검증된 Claims를 캐시에 저장하고 반환
+        jwtVerificationCache.put(token, claims);
+        return claims;
     }
 
 
@@ -94,11 +112,7 @@ public class JwtTokenProvider {
      * @apiNote JWT 토큰에서 사용자 이름(이메일)을 추출하는 메서드
      */
     public String getEmailFromJwtToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey).build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return getVerifiedClaims(token).getSubject();
     }
 
 
@@ -109,42 +123,11 @@ public class JwtTokenProvider {
      */
     public boolean validateJwtToken(String token) {
         try {
-            // JWT 토큰 파싱
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey).build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-
-            // 만료 시간 검증
-            Date expiration = claims.getExpiration();
-            if (expiration == null) {
-                throw new JwtException("JWT token does not have an expiration date.");
-            }
-
-            // 만료 시간이 현재 시간보다 이전인지 확인
-            if (expiration.before(Date.from(Instant.now()))) {
-                throw new ExpiredJwtException(null, claims, "JWT token is expired.");
-            }
-
-            // 유효한 토큰이면 true 반환
+            getVerifiedClaims(token);
             return true;
-        } catch (Exception e) {
+        } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
 
-
-    /**
-     * @param token gRPC 토큰
-     * @return 추출된 Authentication 객체
-     * @apiNote gRPC 토큰에서 Authentication 객체를 추출하는 메서드
-     */
-    public Authentication getAuthenticationFromGrpcToken(String token) {
-        if (validateJwtToken(token)) {
-            String email = getEmailFromJwtToken(token);
-            return new UsernamePasswordAuthenticationToken(email, null, Collections.emptyList());
-        }
-        return null;
-    }
-
 }
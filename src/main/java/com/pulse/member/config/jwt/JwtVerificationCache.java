@@ -0,0 +1,108 @@
+package com.pulse.member.config.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 JWT의 Claims를 보관하는 캐시
+ * 같은 bearer 토큰이 반복해서 들어오면 서명 검증과 Base64/JSON 디코딩을 건너뛰고 캐시된 Claims를 반환합니다.
+ * 키는 토큰 원문이 아닌 SHA-256 digest를 사용하고, 각 항목은 토큰의 만료 시간(exp)에 맞춰 제거됩니다.
+ */
+@Component
+public class JwtVerificationCache {
+
+    private final Cache<String, Claims> cache;
+
+
+    public JwtVerificationCache(
+            @Value("${jwt.verificationCacheMaxSize:10000}") long maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpireAtTokenExpiration())
+                .recordStats()
+                .build();
+
+        // 캐시 적중률, 제거 횟수 등을 actuator 메트릭으로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtVerification");
+    }
+
+
+    /**
+     * @param token JWT 토큰
+     * @return 캐시된 Claims, 없거나 만료되었으면 null
+     * @apiNote 검증이 끝난 토큰의 Claims를 조회합니다.
+     */
+    public Claims get(String token) {
+        return cache.getIfPresent(digest(token));
+    }
+
+
+    /**
+     * @param token  JWT 토큰
+     * @param claims 서명 검증이 끝난 Claims
+     * @apiNote 검증이 끝난 토큰의 Claims를 저장합니다. 만료 시간이 없는 Claims는 저장하지 않습니다.
+     */
+    public void put(String token, Claims claims) {
+        if (claims.getExpiration() == null) {
+            return;
+        }
+        cache.put(digest(token), claims);
+    }
+
+
+    /**
+     * @param token JWT 토큰
+     * @return SHA-256 digest (Base64)
+     * @apiNote 토큰 원문을 메모리에 키로 남기지 않기 위해 digest를 계산합니다.
+     */
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+
+
+    /**
+     * 캐시 항목의 수명을 토큰의 exp 클레임까지로 제한하는 Expiry 구현
+     */
+    private static class ExpireAtTokenExpiration implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.pulse.member.config.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pulse.member.adapter.out.persistence.refreshtoken.InMemoryRefreshTokenStore;
+import com.pulse.member.adapter.out.persistence.refreshtoken.JpaRefreshTokenStore;
+import com.pulse.member.adapter.out.persistence.refreshtoken.RedisKeyValueClient;
+import com.pulse.member.adapter.out.persistence.refreshtoken.RedisRefreshTokenStore;
+import com.pulse.member.adapter.out.persistence.refreshtoken.RefreshTokenStore;
+import com.pulse.member.adapter.out.persistence.repository.RefreshTokenRepository;
+import com.pulse.member.adapter.out.persistence.repository.SignInJdbcRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * Refresh 토큰 저장소 설정 클래스
+ * jwt.refreshTokenStore 값(jpa, memory, redis)에 따라 refresh 토큰 port가 사용할 저장소를 선택합니다.
+ */
+@Configuration
+public class RefreshTokenStoreConfig {
+
+    @Value("${jwt.refreshTokenStore:jpa}")
+    private String refreshTokenStore;
+
+    @Value("${jwt.refreshTokenCacheMaxSize:100000}")
+    private long refreshTokenCacheMaxSize;
+
+    @Value("${jwt.refreshTokenCacheTtlSeconds:600}")
+    private long refreshTokenCacheTtlSeconds;
+
+
+    /**
+     * @return 선택된 RefreshTokenStore
+     * @apiNote refresh 토큰 저장소 설정
+     */
+    @Bean
+    public RefreshTokenStore refreshTokenStore(
+            RefreshTokenRepository refreshTokenRepository,
+            SignInJdbcRepository signInJdbcRepository,
+            ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        JpaRefreshTokenStore jpaRefreshTokenStore = new JpaRefreshTokenStore(refreshTokenRepository, signInJdbcRepository);
+
+        return switch (refreshTokenStore) {
+            case "jpa" -> jpaRefreshTokenStore;
+            case "memory" -> new InMemoryRefreshTokenStore(
+                    jpaRefreshTokenStore,
+                    refreshTokenCacheMaxSize,
+                    Duration.ofSeconds(refreshTokenCacheTtlSeconds),
+                    meterRegistry
+            );
+            case "redis" -> new RedisRefreshTokenStore(
+                    new RedisKeyValueClient(redisTemplateProvider.getObject()),
+                    objectMapper,
+                    signInJdbcRepository
+            );
+            default -> throw new IllegalArgumentException("Unsupported jwt.refreshTokenStore: " + refreshTokenStore);
+        };
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.pulse.member.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.pulse.member.util.Constant.ISSUED_AT_MS;
+import static com.pulse.member.util.Constant.MEMBER_ID;
+
+/**
+ * 회원별 access 토큰 폐기 시각(token epoch)을 보관하는 레지스트리
+ * 로그아웃/회원 삭제 시 회원 ID -> 폐기 시각(epoch 밀리초)을 기록하고, 그 시각보다 먼저 발급된 토큰은 폐기된 것으로 판단합니다.
+ * 발급 시각은 밀리초 클레임(iatMs)을 사용하므로 폐기와 같은 초에 다시 로그인해 받은 토큰은 유효합니다. (iatMs가 없는 이전 토큰은 iat 초의 시작 시각으로 비교)
+ * 폐기 정보는 Kafka 토픽으로 모든 인스턴스에 전파되어 각 인스턴스의 메모리에 반영되므로, 요청 처리 중에는 DB를 조회하지 않습니다.
+ * access 토큰 수명(jwt.jwtExpirationMs)이 지난 항목은 해당 시각 이전에 발급된 토큰이 모두 만료되었으므로 주기적으로 제거합니다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+    private final Map<Long, Long> revokedAtByMemberId = new ConcurrentHashMap<>();
+    private final long accessTokenTtlMs;
+
+
+    public TokenRevocationRegistry(
+            @Value("${jwt.jwtExpirationMs}") long jwtExpirationMs,
+            MeterRegistry meterRegistry
+    ) {
+        this.accessTokenTtlMs = jwtExpirationMs;
+
+        // 현재 보관 중인 폐기 항목 수를 actuator 메트릭으로 노출
+        Gauge.builder("jwt.revocation.entries", revokedAtByMemberId, Map::size)
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * @param memberId  회원 ID
+     * @param revokedAt 폐기 시각 (epoch 밀리초)
+     * @apiNote 회원의 토큰 폐기 시각을 기록합니다. 같은 회원의 폐기 정보가 여러 번 도착하면 가장 늦은 시각을 유지합니다.
+     */
+    public void revoke(Long memberId, long revokedAt) {
+        revokedAtByMemberId.merge(memberId, revokedAt, Math::max);
+    }
+
+
+    /**
+     * @param claims 서명 검증이 끝난 JWT Claims
+     * @return 폐기된 토큰이면 true
+     * @apiNote 토큰의 회원 ID와 발급 시각(iatMs, 없으면 iat)을 폐기 시각과 비교합니다. (회원 ID 클레임이 없는 이전 토큰은 확인하지 않음)
+     */
+    public boolean isRevoked(Claims claims) {
+        Number memberId = claims.get(MEMBER_ID, Number.class);
+        Number issuedAtMs = claims.get(ISSUED_AT_MS, Number.class);
+        Date issuedAt = claims.getIssuedAt();
+        if (memberId == null || (issuedAtMs == null && issuedAt == null)) {
+            return false;
+        }
+        return isRevoked(memberId.longValue(), issuedAtMs != null ? issuedAtMs.longValue() : issuedAt.getTime());
+    }
+
+
+    /**
+     * @param memberId 회원 ID
+     * @param issuedAt 토큰 발급 시각 (epoch 밀리초)
+     * @return 폐기된 토큰이면 true
+     * @apiNote 폐기 시각보다 먼저 발급된 토큰만 폐기된 것으로 판단합니다. (폐기 이후에 발급된 토큰은 유효)
+     */
+    public boolean isRevoked(Long memberId, long issuedAt) {
+        Long revokedAt = revokedAtByMemberId.get(memberId);
+        return revokedAt != null && issuedAt < revokedAt;
+    }
+
+
+    /**
+     * @apiNote access 토큰 수명이 지난 폐기 항목을 제거합니다. (해당 시각 이전에 발급된 토큰은 이미 만료되어 검증에서 거부됨)
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocationPruneIntervalMs:60000}")
+    public void pruneExpired() {
+        long threshold = Instant.now().toEpochMilli() - accessTokenTtlMs;
+        int before = revokedAtByMemberId.size();
+        revokedAtByMemberId.values().removeIf(revokedAt -> revokedAt < threshold);
+        log.debug("Pruned {} token revocation entries", before - revokedAtByMemberId.size());
+    }
+
+}
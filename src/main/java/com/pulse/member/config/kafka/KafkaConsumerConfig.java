@@ -1,6 +1,11 @@
 package com.pulse.member.config.kafka;
 
+import com.pulse.member.config.kafka.serde.MemberOutboxEventDeserializer;
+import com.pulse.member.grpc.MemberEventProto.MemberOutboxEvent;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.SerializationException;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -9,42 +14,54 @@ import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerConsumerListener;
 import org.springframework.kafka.listener.CommonErrorHandler;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
 
+import static com.pulse.member.util.Constant.DLT_SUFFIX;
+
 /**
  * Kafka 컨슈머의 설정을 담당합니다.
+ * 리스너마다 구독하는 토픽에 맞춰 동시성, fetch, poll 설정을 적용합니다. (KafkaListenerTuning 참고)
+ * 컨슈머 클라이언트 메트릭(kafka.consumer.fetch.manager.records.lag 등 파티션별 lag 포함)은 Micrometer로 기록합니다.
  */
 @Configuration
 @EnableKafka
 public class KafkaConsumerConfig {
 
+    // Kafka 컨슈머의 max.poll.records 기본값 (토픽별로 지정하지 않은 단건 리스너용)
+    private static final int DEFAULT_MAX_POLL_RECORDS = 500;
+
     @Value("${spring.kafka.consumer.bootstrap-servers}")
     private String bootstrapServers;
 
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${outbox.ackMaxPollRecords:500}")
+    private int outboxAckMaxPollRecords;
+
     /**
      * Kafka 컨슈머 팩토리를 설정합니다.
      * 이 팩토리는 Kafka 브로커로부터 메시지를 수신하는 컨슈머를 생성하는 데 사용됩니다.
      * 컨슈머 팩토리는 컨슈머 구성 설정을 포함합니다.
      *
+     * @param meterRegistry 컨슈머 클라이언트 메트릭을 기록할 레지스트리
      * @return Kafka 컨슈머 팩토리
      */
     @Bean
-    public ConsumerFactory<String, String> consumerFactory() {
-        Map<String, Object> props = new HashMap<>();
-        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        return new DefaultKafkaConsumerFactory<>(props);
+    public ConsumerFactory<String, String> consumerFactory(MeterRegistry meterRegistry) {
+        DefaultKafkaConsumerFactory<String, String> consumerFactory = new DefaultKafkaConsumerFactory<>(consumerProps());
+        consumerFactory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return consumerFactory;
     }
 
     /**
@@ -56,14 +73,49 @@ public class KafkaConsumerConfig {
      * MANUAL_IMMEDIATE ACK 모드는 메시지가 처리된 후 수동으로 즉시 ACK를 전송합니다. 리스너 메서드에서 Acknowledgment.acknowledge() 메서드를 호출하여 수동으로 ACK를 전송합니다.
      * 이 모드는 메시지가 제대로 처리되었을 때만 Kafka 브로커에 ACK를 보내므로, 메시지의 신뢰성을 높입니다.
      *
+     * @param consumerFactory     Kafka 컨슈머 팩토리
+     * @param kafkaListenerTuning 토픽별 동시성, fetch, poll 설정
      * @return Kafka 리스너 컨테이너 팩토리
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory(
+            ConsumerFactory<String, String> consumerFactory,
+            KafkaListenerTuning kafkaListenerTuning
+    ) {
         ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(consumerFactory());
+        factory.setConsumerFactory(consumerFactory);
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
         factory.setCommonErrorHandler(kafkaErrorHandler());
+        factory.setContainerCustomizer(container -> kafkaListenerTuning.customize(container, DEFAULT_MAX_POLL_RECORDS));
+        return factory;
+    }
+
+    /**
+     * 토큰 폐기 리스너처럼 모든 인스턴스가 토픽 전체를 읽어야 하는 리스너의 컨테이너 팩토리를 설정합니다.
+     * TokenRevocationListenerContainer가 모든 파티션을 직접 할당한 컨테이너를 만들므로 컨슈머 그룹에 참여하지 않고(group.id 없음), offset도 커밋하지 않습니다.
+     * 시작 위치는 리스너가 ConsumerSeekAware로 정합니다. (재시작하면 다시 정한 시각부터 읽음)
+     *
+     * @param kafkaListenerTuning 토픽별 동시성, fetch, poll 설정
+     * @param meterRegistry       컨슈머 클라이언트 메트릭을 기록할 레지스트리
+     * @return 그룹 없는 수동 할당 리스너 컨테이너 팩토리
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> broadcastKafkaListenerContainerFactory(
+            KafkaListenerTuning kafkaListenerTuning,
+            MeterRegistry meterRegistry
+    ) {
+        Map<String, Object> props = consumerProps();
+        props.remove(ConsumerConfig.GROUP_ID_CONFIG);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        DefaultKafkaConsumerFactory<String, String> consumerFactory = new DefaultKafkaConsumerFactory<>(props);
+        consumerFactory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAssignmentCommitOption(ContainerProperties.AssignmentCommitOption.NEVER);
+        factory.setCommonErrorHandler(kafkaErrorHandler());
+        factory.setContainerCustomizer(container -> kafkaListenerTuning.customize(container, DEFAULT_MAX_POLL_RECORDS));
         return factory;
     }
 
@@ -87,4 +139,68 @@ public class KafkaConsumerConfig {
         return errorHandler;
     }
 
+    /**
+     * Outbox 처리완료 메시지를 batch로 수신하는 리스너 컨테이너 팩토리를 설정합니다.
+     * poll 한 번에 최대 outbox.ackMaxPollRecords 건을 List로 전달하고, 리스너가 batch 전체를 처리한 뒤 오프셋을 한 번 커밋합니다. (MANUAL)
+     * <p>
+     * 리스너가 BatchListenerFailedException으로 실패한 레코드의 위치를 알려주면, 그 앞의 레코드는 커밋하고 실패한 레코드부터 재시도합니다.
+     * 재시도 후에도 실패하거나 재시도해도 결과가 같은 예외(역직렬화 실패, 잘못된 outbox-id 헤더)는 {topic}.DLT 토픽으로 보냅니다.
+     * <p>
+     * record 값은 MemberOutboxEventDeserializer가 schema-version 헤더에 맞춰 protobuf로 역직렬화합니다.
+     * 역직렬화에 실패한 레코드는 ErrorHandlingDeserializer가 값을 비워서 전달하므로, 리스너가 그 위치를 오류 핸들러에 알려줍니다.
+     *
+     * 토픽별 max.poll.records를 지정하지 않은 리스너는 outbox.ackMaxPollRecords를 사용합니다.
+     *
+     * @param deadLetterKafkaTemplate DLT 전송에 사용할 Kafka 템플릿
+     * @param kafkaListenerTuning     토픽별 동시성, fetch, poll 설정
+     * @param meterRegistry           컨슈머 클라이언트 메트릭을 기록할 레지스트리
+     * @return batch 리스너 컨테이너 팩토리
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, MemberOutboxEvent> batchKafkaListenerContainerFactory(
+            KafkaTemplate<String, Object> deadLetterKafkaTemplate,
+            KafkaListenerTuning kafkaListenerTuning,
+            MeterRegistry meterRegistry
+    ) {
+        Map<String, Object> props = consumerProps();
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, outboxAckMaxPollRecords);
+        DefaultKafkaConsumerFactory<String, MemberOutboxEvent> consumerFactory = new DefaultKafkaConsumerFactory<>(props,
+                new StringDeserializer(), new ErrorHandlingDeserializer<>(new MemberOutboxEventDeserializer()));
+        consumerFactory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+
+        ConcurrentKafkaListenerContainerFactory<String, MemberOutboxEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setCommonErrorHandler(deadLetterErrorHandler(deadLetterKafkaTemplate));
+        factory.setContainerCustomizer(container -> kafkaListenerTuning.customize(container, outboxAckMaxPollRecords));
+        return factory;
+    }
+
+    /**
+     * @param deadLetterKafkaTemplate DLT 전송에 사용할 Kafka 템플릿 (KafkaProducerConfig.deadLetterKafkaTemplate)
+     * @return 재시도 후 실패한 레코드를 DLT로 보내는 오류 핸들러
+     * @apiNote DLT 파티션은 지정하지 않으므로(-1) DLT 토픽의 파티션 수가 원본과 달라도 전송됩니다.
+     */
+    private CommonErrorHandler deadLetterErrorHandler(KafkaTemplate<String, Object> deadLetterKafkaTemplate) {
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(deadLetterKafkaTemplate,
+                (record, ex) -> new TopicPartition(record.topic() + DLT_SUFFIX, -1));
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer, new FixedBackOff(1000L, 2));
+        errorHandler.addNotRetryableExceptions(SerializationException.class, NumberFormatException.class);
+        return errorHandler;
+    }
+
+    /**
+     * @return 컨슈머 공통 설정
+     * @apiNote 컨슈머 팩토리에서 공통으로 사용하는 설정 생성
+     */
+    private Map<String, Object> consumerProps() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        return props;
+    }
+
 }
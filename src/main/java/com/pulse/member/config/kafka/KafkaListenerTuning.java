@@ -0,0 +1,173 @@
+package com.pulse.member.config.kafka;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.support.TopicPartitionOffset;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Kafka 리스너 컨테이너의 토픽별 동시성, fetch, poll 설정 (kafka.listener)
+ * kafka.listener.topics.{토픽}.{항목}으로 토픽별 값을, kafka.listener.{항목}으로 기본값을 지정합니다.
+ * - concurrency: 컨테이너가 띄우는 컨슈머 스레드 수 (토픽 파티션 수에 맞춤, 파티션 수보다 많으면 남는 스레드는 할당받지 못함)
+ * - maxPollRecords: poll 한 번에 가져올 최대 건수 (지정하지 않으면 컨테이너 팩토리의 기본값)
+ * - fetchMinBytes, fetchMaxWaitMs: 브로커가 응답하기 전에 모을 최소 bytes와 최대 대기 시간 (batch 크기와 지연의 균형)
+ * - pollTimeoutMs: 레코드가 없을 때 poll이 기다리는 최대 시간
+ * 처리 시간은 컨테이너의 spring.kafka.listener 타이머에 topic, group 태그로 기록하고, 스레드 수는 kafka.consumer.concurrency 게이지로 남깁니다.
+ * 컨테이너는 파티션 재할당 때 다시 만들어질 수 있으므로, 게이지는 토픽/그룹마다 한 번만 등록하고 마지막으로 적용한 값을 보고합니다.
+ */
+@Slf4j
+@Component
+public class KafkaListenerTuning {
+
+    private static final String TOPIC_PREFIX = "kafka.listener.topics.";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final int defaultConcurrency;
+    private final int defaultFetchMinBytes;
+    private final int defaultFetchMaxWaitMs;
+    private final long defaultPollTimeoutMs;
+    private final Map<String, AtomicInteger> concurrencyByListener = new ConcurrentHashMap<>();
+
+
+    public KafkaListenerTuning(
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${kafka.listener.concurrency:1}") int defaultConcurrency,
+            @Value("${kafka.listener.fetchMinBytes:1}") int defaultFetchMinBytes,
+            @Value("${kafka.listener.fetchMaxWaitMs:500}") int defaultFetchMaxWaitMs,
+            @Value("${kafka.listener.pollTimeoutMs:5000}") long defaultPollTimeoutMs
+    ) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.defaultConcurrency = defaultConcurrency;
+        this.defaultFetchMinBytes = defaultFetchMinBytes;
+        this.defaultFetchMaxWaitMs = defaultFetchMaxWaitMs;
+        this.defaultPollTimeoutMs = defaultPollTimeoutMs;
+    }
+
+
+    /**
+     * 토픽별 리스너 설정
+     *
+     * @param concurrency    컨슈머 스레드 수
+     * @param maxPollRecords poll 한 번에 가져올 최대 건수
+     * @param fetchMinBytes  fetch 최소 bytes
+     * @param fetchMaxWaitMs fetch 최대 대기 시간
+     * @param pollTimeoutMs  poll 최대 대기 시간
+     */
+    public record TopicSettings(int concurrency, int maxPollRecords, int fetchMinBytes, int fetchMaxWaitMs, long pollTimeoutMs) {
+    }
+
+
+    /**
+     * @param topic                 리스너가 구독하는 토픽
+     * @param defaultMaxPollRecords 토픽에 지정하지 않은 경우 사용할 max.poll.records (컨테이너 팩토리의 기본값)
+     * @return 토픽별 값이 있으면 토픽별 값, 없으면 기본값으로 채운 설정
+     */
+    public TopicSettings settingsFor(String topic, int defaultMaxPollRecords) {
+        return new TopicSettings(
+                Math.max(1, topicProperty(topic, "concurrency", Integer.class, defaultConcurrency)),
+                topicProperty(topic, "maxPollRecords", Integer.class, defaultMaxPollRecords),
+                topicProperty(topic, "fetchMinBytes", Integer.class, defaultFetchMinBytes),
+                topicProperty(topic, "fetchMaxWaitMs", Integer.class, defaultFetchMaxWaitMs),
+                topicProperty(topic, "pollTimeoutMs", Long.class, defaultPollTimeoutMs));
+    }
+
+
+    /**
+     * @param container             리스너 컨테이너 (시작 전)
+     * @param defaultMaxPollRecords 토픽에 지정하지 않은 경우 사용할 max.poll.records
+     * @apiNote 컨테이너 팩토리의 ContainerCustomizer로 사용합니다. 컨테이너의 첫 번째 토픽(수동 할당이면 첫 번째 파티션의 토픽) 설정을 적용합니다.
+     * 컨슈머 설정은 컨테이너 단위로 덮어쓰므로 같은 컨슈머 팩토리를 쓰는 다른 리스너에는 영향을 주지 않습니다.
+     */
+    public void customize(ConcurrentMessageListenerContainer<?, ?> container, int defaultMaxPollRecords) {
+        ContainerProperties containerProperties = container.getContainerProperties();
+        String topic = firstTopic(containerProperties);
+        if (topic == null) {
+            return;
+        }
+
+        // 1. 토픽 설정을 찾습니다.
+        TopicSettings settings = settingsFor(topic, defaultMaxPollRecords);
+
+        // 2. 컨슈머 스레드 수와 poll 대기 시간을 적용합니다.
+        container.setConcurrency(settings.concurrency());
+        containerProperties.setPollTimeout(settings.pollTimeoutMs());
+
+        // 3. fetch, max.poll.records를 컨테이너의 컨슈머 설정으로 덮어씁니다.
+        Properties consumerProperties = new Properties();
+        consumerProperties.putAll(containerProperties.getKafkaConsumerProperties());
+        consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(settings.maxPollRecords()));
+        consumerProperties.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, String.valueOf(settings.fetchMinBytes()));
+        consumerProperties.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, String.valueOf(settings.fetchMaxWaitMs()));
+        containerProperties.setKafkaConsumerProperties(consumerProperties);
+
+        // 4. 처리 시간 타이머(spring.kafka.listener)에 토픽과 그룹 태그를 붙이고, 스레드 수를 게이지로 남깁니다.
+        String groupId = containerProperties.getGroupId() != null ? containerProperties.getGroupId() : "";
+        containerProperties.setMicrometerEnabled(true);
+        containerProperties.setMicrometerTags(Map.of("topic", topic, "group", groupId));
+        concurrencyGauge(topic, groupId).set(settings.concurrency());
+        log.info("Kafka listener tuned - topic: {}, group: {}, settings: {}", topic, groupId, settings);
+    }
+
+
+    /**
+     * @param topic   토픽
+     * @param groupId 컨슈머 그룹 ID
+     * @return 토픽/그룹의 컨슈머 스레드 수 (처음 요청할 때 kafka.consumer.concurrency 게이지를 등록)
+     * @apiNote 게이지가 컨테이너를 참조하면 컨테이너를 다시 만들 때 처음 컨테이너에 묶여 남으므로, 이 컴포넌트가 가진 값에 등록합니다.
+     */
+    private AtomicInteger concurrencyGauge(String topic, String groupId) {
+        return concurrencyByListener.computeIfAbsent(topic + "/" + groupId, key -> {
+            AtomicInteger concurrency = new AtomicInteger();
+            Gauge.builder("kafka.consumer.concurrency", concurrency, AtomicInteger::get)
+                    .description("Consumer threads started by a listener container")
+                    .tag("topic", topic)
+                    .tag("group", groupId)
+                    .register(meterRegistry);
+            return concurrency;
+        });
+    }
+
+
+    /**
+     * @param containerProperties 컨테이너 설정
+     * @return 구독하는 첫 번째 토픽 또는 수동 할당한 첫 번째 파티션의 토픽 (토픽 패턴 구독이면 null)
+     */
+    private String firstTopic(ContainerProperties containerProperties) {
+        String[] topics = containerProperties.getTopics();
+        if (topics != null && topics.length > 0) {
+            return topics[0];
+        }
+        TopicPartitionOffset[] topicPartitions = containerProperties.getTopicPartitions();
+        if (topicPartitions != null && topicPartitions.length > 0) {
+            return topicPartitions[0].getTopic();
+        }
+        return null;
+    }
+
+
+    /**
+     * @param topic        토픽
+     * @param name         설정 항목 이름
+     * @param type         설정 값 타입
+     * @param defaultValue 토픽별 값이 없을 때 사용할 값
+     * @return kafka.listener.topics.{토픽}.{항목} 값 (없으면 기본값)
+     */
+    private <T> T topicProperty(String topic, String name, Class<T> type, T defaultValue) {
+        return environment.getProperty(TOPIC_PREFIX + topic + "." + name, type, defaultValue);
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.pulse.member.config.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.PartitionInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * 수동 파티션 할당 리스너(토큰 폐기)가 사용할 토픽의 파티션 목록을 찾는 컴포넌트
+ * 시작할 때는 kafka.partitionLookupAttempts 번까지 다시 조회하고, 그래도 실패하면 일부 파티션만 할당한 채 폐기 이벤트를 놓치지 않도록 예외로 시작을 중단합니다.
+ * 실행 중에는 주기적으로 한 번씩 조회하여 파티션 수 변경을 감지합니다. (실패하면 기존 할당 유지)
+ */
+@Slf4j
+@Component
+public class KafkaPartitionFinder {
+
+    private final ConsumerFactory<String, String> consumerFactory;
+    private final long lookupTimeoutMs;
+    private final int lookupAttempts;
+    private final long retryDelayMs;
+
+
+    public KafkaPartitionFinder(
+            ConsumerFactory<String, String> consumerFactory,
+            @Value("${kafka.partitionLookupTimeoutMs:5000}") long lookupTimeoutMs,
+            @Value("${kafka.partitionLookupAttempts:5}") int lookupAttempts,
+            @Value("${kafka.partitionLookupRetryDelayMs:2000}") long retryDelayMs
+    ) {
+        this.consumerFactory = consumerFactory;
+        this.lookupTimeoutMs = lookupTimeoutMs;
+        this.lookupAttempts = Math.max(1, lookupAttempts);
+        this.retryDelayMs = retryDelayMs;
+    }
+
+
+    /**
+     * @param topic 토픽
+     * @return 토픽의 파티션 번호 목록 (오름차순)
+     * @throws IllegalStateException lookupAttempts 번 모두 조회하지 못한 경우
+     * @apiNote 조회에 실패하면 retryDelayMs 만큼 기다렸다가 다시 조회합니다.
+     */
+    public List<Integer> partitions(String topic) {
+        for (int attempt = 1; attempt <= lookupAttempts; attempt++) {
+            Optional<List<Integer>> partitions = findPartitions(topic);
+            if (partitions.isPresent()) {
+                return partitions.get();
+            }
+            if (attempt < lookupAttempts) {
+                log.warn("Kafka partition lookup retrying - topic: {}, attempt: {}/{}", topic, attempt, lookupAttempts);
+                sleep(retryDelayMs);
+            }
+        }
+        throw new IllegalStateException("Kafka partition lookup failed after " + lookupAttempts + " attempts - topic: " + topic);
+    }
+
+
+    /**
+     * @param topic 토픽
+     * @return 토픽의 파티션 번호 목록 (오름차순, 조회에 실패하면 empty)
+     * @apiNote 구독하지 않은 컨슈머로 메타데이터만 한 번 조회합니다. (그룹에 참여하거나 offset을 커밋하지 않음)
+     */
+    public Optional<List<Integer>> findPartitions(String topic) {
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.DEFAULT_API_TIMEOUT_MS_CONFIG, (int) lookupTimeoutMs);
+        try (Consumer<String, String> consumer = consumerFactory.createConsumer(null, null, null, overrides)) {
+            List<PartitionInfo> partitionInfos = consumer.partitionsFor(topic, Duration.ofMillis(lookupTimeoutMs));
+            if (partitionInfos != null && !partitionInfos.isEmpty()) {
+                return Optional.of(partitionInfos.stream()
+                        .map(PartitionInfo::partition)
+                        .sorted()
+                        .toList());
+            }
+            log.warn("Kafka partition lookup returned no partitions - topic: {}", topic);
+        } catch (RuntimeException e) {
+            log.warn("Kafka partition lookup failed - topic: {}, reason: {}", topic, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+
+    /**
+     * @param millis 대기 시간
+     * @apiNote 인터럽트되면 인터럽트 상태를 복원하고 시작을 중단합니다.
+     */
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry Kafka partition lookup", e);
+        }
+    }
+
+}
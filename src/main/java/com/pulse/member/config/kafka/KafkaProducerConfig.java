@@ -1,20 +1,31 @@
 package com.pulse.member.config.kafka;
 
+import com.pulse.member.config.kafka.serde.ProtobufSerializer;
+import com.pulse.member.grpc.MemberEventProto.MemberOutboxEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
 import org.springframework.retry.support.RetryTemplate;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Kafka 프로듀서의 설정을 담당합니다.
+ * record 값은 bytes로 전송합니다. (Outbox 이벤트는 protobuf, 문자열 메시지는 UTF-8)
+ * 멱등성, acks, 압축, linger, batch 크기, in-flight 수는 kafka.producerProfile(low-latency, throughput)로 선택합니다. (KafkaProducerProfile 참고)
+ * 압축, linger, batch 크기, buffer, timeout은 kafka.producerCompressionType 등으로 프로필 값을 속성별로 덮어쓸 수 있습니다. (KafkaProducerOverrides 참고)
  */
 @Configuration
 public class KafkaProducerConfig {
@@ -22,20 +33,103 @@ public class KafkaProducerConfig {
     @Value("${spring.kafka.producer.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${kafka.producerProfile:low-latency}")
+    private String producerProfile;
+
+    @Value("${kafka.producerCompressionType:#{null}}")
+    private String producerCompressionType;
+
+    @Value("${kafka.producerLingerMs:#{null}}")
+    private Integer producerLingerMs;
+
+    @Value("${kafka.producerBatchSize:#{null}}")
+    private Integer producerBatchSize;
+
+    @Value("${kafka.producerBufferMemory:#{null}}")
+    private Long producerBufferMemory;
+
+    @Value("${kafka.producerRequestTimeoutMs:#{null}}")
+    private Integer producerRequestTimeoutMs;
+
+    @Value("${kafka.producerDeliveryTimeoutMs:#{null}}")
+    private Integer producerDeliveryTimeoutMs;
+
+    @Value("${outbox.relaySendTimeoutMs:10000}")
+    private long relaySendTimeoutMs;
+
     /**
      * Kafka 프로듀서 팩토리를 설정합니다.
      * 이 팩토리는 Kafka 브로커에 메시지를 전송하는 프로듀서를 생성하는 데 사용됩니다.
      * 프로듀서 팩토리는 프로듀서 구성 설정을 포함합니다.
      *
+     * @param meterRegistry 프로듀서 메트릭을 등록할 MeterRegistry
      * @return Kafka 프로듀서 팩토리
      */
     @Bean
-    public ProducerFactory<String, String> producerFactory() {
-        Map<String, Object> configProps = new HashMap<>();
-        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+    public ProducerFactory<String, byte[]> producerFactory(MeterRegistry meterRegistry) {
+        return createProducerFactory(bootstrapServers, producerProfile(), producerOverrides(), meterRegistry);
+    }
+
+
+    /**
+     * 재시도 후에도 처리하지 못한 레코드를 {topic}.DLT 토픽으로 보내는 프로듀서 팩토리를 설정합니다.
+     * 역직렬화에 실패한 레코드는 원본 bytes를, 처리에 실패한 레코드는 protobuf 메시지를 다시 직렬화하여 보냅니다.
+     * 빈으로 등록하여 애플리케이션 종료 시 프로듀서가 닫히도록 하고, 프로듀서 메트릭은 profile, purpose=dead-letter 태그로 구분합니다.
+     *
+     * @param meterRegistry 프로듀서 메트릭을 등록할 MeterRegistry
+     * @return DLT 프로듀서 팩토리
+     */
+    @Bean
+    public ProducerFactory<String, Object> deadLetterProducerFactory(MeterRegistry meterRegistry) {
+        KafkaProducerProfile profile = producerProfile();
+        DelegatingByTypeSerializer valueSerializer = new DelegatingByTypeSerializer(Map.of(
+                byte[].class, new ByteArraySerializer(),
+                MemberOutboxEvent.class, new ProtobufSerializer<MemberOutboxEvent>()));
+        DefaultKafkaProducerFactory<String, Object> producerFactory = new DefaultKafkaProducerFactory<>(
+                producerProps(bootstrapServers, profile, producerOverrides()), new StringSerializer(), valueSerializer);
+        producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry,
+                List.of(Tag.of("profile", profile.getName()), Tag.of("purpose", "dead-letter"))));
+        return producerFactory;
+    }
+
+
+    /**
+     * @param bootstrapServers Kafka 브로커 주소
+     * @param profile          프로듀서 설정 프로필
+     * @param meterRegistry    프로듀서 메트릭을 등록할 MeterRegistry
+     * @return 프로필 설정을 적용한 Kafka 프로듀서 팩토리
+     * @apiNote 생성되는 프로듀서마다 Kafka 클라이언트 메트릭(kafka.producer.record.send.rate, batch.size.avg, request.latency.avg 등)을
+     * profile 태그와 함께 Micrometer에 등록합니다.
+     */
+    public static DefaultKafkaProducerFactory<String, byte[]> createProducerFactory(
+            String bootstrapServers,
+            KafkaProducerProfile profile,
+            MeterRegistry meterRegistry
+    ) {
+        return createProducerFactory(bootstrapServers, profile, KafkaProducerOverrides.none(), meterRegistry);
+    }
+
+
+    /**
+     * @param bootstrapServers Kafka 브로커 주소
+     * @param profile          프로듀서 설정 프로필
+     * @param overrides        프로필 위에 속성별로 덮어쓸 값
+     * @param meterRegistry    프로듀서 메트릭을 등록할 MeterRegistry
+     * @return 프로필 설정에 덮어쓸 값을 적용한 Kafka 프로듀서 팩토리
+     */
+    public static DefaultKafkaProducerFactory<String, byte[]> createProducerFactory(
+            String bootstrapServers,
+            KafkaProducerProfile profile,
+            KafkaProducerOverrides overrides,
+            MeterRegistry meterRegistry
+    ) {
+        Map<String, Object> configProps = producerProps(bootstrapServers, profile, overrides);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        return new DefaultKafkaProducerFactory<>(configProps);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+
+        DefaultKafkaProducerFactory<String, byte[]> producerFactory = new DefaultKafkaProducerFactory<>(configProps);
+        producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry, List.of(Tag.of("profile", profile.getName()))));
+        return producerFactory;
     }
 
 
@@ -44,11 +138,24 @@ public class KafkaProducerConfig {
      * Kafka 템플릿은 메시지를 Kafka 토픽으로 전송하는 데 사용됩니다.
      * 프로듀서 팩토리를 통해 생성된 프로듀서를 사용하여 메시지를 전송합니다.
      *
+     * @param producerFactory Kafka 프로듀서 팩토리
      * @return Kafka 템플릿
      */
     @Bean
-    public KafkaTemplate<String, String> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+    public KafkaTemplate<String, byte[]> kafkaTemplate(ProducerFactory<String, byte[]> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+
+    /**
+     * DLT 전송에 사용할 Kafka 템플릿을 설정합니다.
+     *
+     * @param deadLetterProducerFactory DLT 프로듀서 팩토리
+     * @return DLT Kafka 템플릿
+     */
+    @Bean
+    public KafkaTemplate<String, Object> deadLetterKafkaTemplate(ProducerFactory<String, Object> deadLetterProducerFactory) {
+        return new KafkaTemplate<>(deadLetterProducerFactory);
     }
 
 
@@ -65,4 +172,55 @@ public class KafkaProducerConfig {
         return new RetryTemplate();
     }
 
+
+    /**
+     * @return kafka.producerProfile로 선택한 프로듀서 설정 프로필
+     * @throws IllegalStateException 덮어쓴 값까지 적용한 delivery.timeout.ms가 outbox.relaySendTimeoutMs 이상인 경우
+     * (relay가 결과를 기다리다 포기한 뒤에도 프로듀서가 재전송하고 있으면 relay의 재전송과 겹쳐 중복, 순서 뒤바뀜이 생김)
+     * 또는 linger.ms + request.timeout.ms보다 짧은 경우 (Kafka 프로듀서가 생성되지 않음)
+     */
+    private KafkaProducerProfile producerProfile() {
+        KafkaProducerProfile profile = KafkaProducerProfile.of(producerProfile);
+        KafkaProducerOverrides overrides = producerOverrides();
+        int deliveryTimeoutMs = overrides.deliveryTimeoutMs(profile);
+        if (deliveryTimeoutMs >= relaySendTimeoutMs) {
+            throw new IllegalStateException("delivery.timeout.ms (" + deliveryTimeoutMs
+                    + ") must be less than outbox.relaySendTimeoutMs (" + relaySendTimeoutMs + ")");
+        }
+        if (deliveryTimeoutMs < overrides.lingerMs(profile) + overrides.requestTimeoutMs(profile)) {
+            throw new IllegalStateException("delivery.timeout.ms (" + deliveryTimeoutMs
+                    + ") must be at least linger.ms + request.timeout.ms ("
+                    + (overrides.lingerMs(profile) + overrides.requestTimeoutMs(profile)) + ")");
+        }
+        return profile;
+    }
+
+
+    /**
+     * @return kafka.producerCompressionType 등으로 설정한 속성별 덮어쓸 값 (설정하지 않은 속성은 null)
+     */
+    private KafkaProducerOverrides producerOverrides() {
+        return KafkaProducerOverrides.builder()
+                .compressionType(producerCompressionType)
+                .lingerMs(producerLingerMs)
+                .batchSize(producerBatchSize)
+                .bufferMemory(producerBufferMemory)
+                .requestTimeoutMs(producerRequestTimeoutMs)
+                .deliveryTimeoutMs(producerDeliveryTimeoutMs)
+                .build();
+    }
+
+
+    /**
+     * @param bootstrapServers Kafka 브로커 주소
+     * @param profile          프로듀서 설정 프로필
+     * @param overrides        프로필 위에 속성별로 덮어쓸 값
+     * @return 프로필 설정, 덮어쓸 값, 브로커 주소를 담은 프로듀서 설정 (serializer 제외)
+     */
+    private static Map<String, Object> producerProps(String bootstrapServers, KafkaProducerProfile profile, KafkaProducerOverrides overrides) {
+        Map<String, Object> configProps = new HashMap<>(profile.toProducerProps(overrides));
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        return configProps;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.pulse.member.config.kafka;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 프로듀서 설정 프로필(KafkaProducerProfile) 위에 속성별로 덮어쓸 값 (kafka.producerLingerMs 등)
+ * 값이 없는(null) 속성은 프로필 값을 그대로 사용합니다.
+ * 멱등 프로듀서 조건(acks, enable.idempotence, max.in.flight)은 파티션 안의 순서 보장에 필요하므로 덮어쓰지 않습니다.
+ */
+@Getter
+@Builder
+public class KafkaProducerOverrides {
+
+    private final String compressionType;
+    private final Integer lingerMs;
+    private final Integer batchSize;
+    private final Long bufferMemory;
+    private final Integer requestTimeoutMs;
+    private final Integer deliveryTimeoutMs;
+
+
+    /**
+     * @return 아무 속성도 덮어쓰지 않는 KafkaProducerOverrides
+     */
+    public static KafkaProducerOverrides none() {
+        return KafkaProducerOverrides.builder().build();
+    }
+
+
+    public String compressionType(KafkaProducerProfile profile) {
+        return compressionType != null ? compressionType : profile.getCompressionType();
+    }
+
+
+    public int lingerMs(KafkaProducerProfile profile) {
+        return lingerMs != null ? lingerMs : profile.getLingerMs();
+    }
+
+
+    public int batchSize(KafkaProducerProfile profile) {
+        return batchSize != null ? batchSize : profile.getBatchSize();
+    }
+
+
+    public long bufferMemory(KafkaProducerProfile profile) {
+        return bufferMemory != null ? bufferMemory : profile.getBufferMemory();
+    }
+
+
+    public int requestTimeoutMs(KafkaProducerProfile profile) {
+        return requestTimeoutMs != null ? requestTimeoutMs : profile.getRequestTimeoutMs();
+    }
+
+
+    /**
+     * @param profile 프로듀서 설정 프로필
+     * @return 실제로 적용되는 delivery.timeout.ms (덮어쓴 값이 없으면 프로필 값)
+     */
+    public int deliveryTimeoutMs(KafkaProducerProfile profile) {
+        return deliveryTimeoutMs != null ? deliveryTimeoutMs : profile.getDeliveryTimeoutMs();
+    }
+
+}
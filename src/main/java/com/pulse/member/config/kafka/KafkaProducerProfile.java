@@ -0,0 +1,79 @@
+package com.pulse.member.config.kafka;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kafka 프로듀서 설정 프로필 (kafka.producerProfile)
+ * 두 프로필 모두 멱등 프로듀서(acks=all, in-flight 5 이하)를 사용하므로 프로듀서가 delivery.timeout.ms 안에서 재전송해도 파티션 안에서 중복/순서 뒤바뀜이 없습니다.
+ * delivery.timeout.ms는 outbox relay가 전송 결과를 기다리는 시간(outbox.relaySendTimeoutMs)보다 짧아야 합니다. (relay가 기다리는 동안 최종 결과가 나오도록)
+ * delivery.timeout.ms가 지나 최종 실패한 레코드를 애플리케이션이 다시 전송하면 새 레코드이므로 중복/순서 보장이 없습니다.
+ * - low-latency: linger 없이 바로 전송하고, CPU 부담이 적은 lz4로 압축합니다.
+ * - throughput: linger 동안 파티션별로 큰 batch를 모아 zstd로 압축합니다. (relay는 batch마다 flush 하므로 linger만큼 기다리지 않음)
+ * 압축, linger, batch 크기, buffer, timeout은 KafkaProducerOverrides로 속성별로 덮어쓸 수 있습니다.
+ */
+@Getter
+@AllArgsConstructor
+public enum KafkaProducerProfile {
+
+    LOW_LATENCY("low-latency", "all", true, "lz4", 0, 16 * 1024, 5, 32L * 1024 * 1024, 3000, 5000),
+    THROUGHPUT("throughput", "all", true, "zstd", 20, 256 * 1024, 5, 64L * 1024 * 1024, 5000, 8000);
+
+    private final String name;
+    private final String acks;
+    private final boolean idempotence;
+    private final String compressionType;
+    private final int lingerMs;
+    private final int batchSize;
+    private final int maxInFlightRequestsPerConnection;
+    private final long bufferMemory;
+    private final int requestTimeoutMs;
+    private final int deliveryTimeoutMs; // linger.ms + request.timeout.ms 이상이어야 함
+
+
+    /**
+     * 이름으로 KafkaProducerProfile 찾기
+     *
+     * @param name 프로필 이름 (low-latency, throughput)
+     * @return KafkaProducerProfile
+     */
+    public static KafkaProducerProfile of(String name) {
+        return switch (name) {
+            case "low-latency" -> LOW_LATENCY;
+            case "throughput" -> THROUGHPUT;
+            default -> throw new IllegalArgumentException("Unsupported kafka.producerProfile: " + name);
+        };
+    }
+
+
+    /**
+     * @return 프로필에 해당하는 Kafka 프로듀서 설정 (bootstrap servers, serializer 제외)
+     */
+    public Map<String, Object> toProducerProps() {
+        return toProducerProps(KafkaProducerOverrides.none());
+    }
+
+
+    /**
+     * @param overrides 속성별로 덮어쓸 값
+     * @return 프로필 설정에 덮어쓸 값을 적용한 Kafka 프로듀서 설정 (bootstrap servers, serializer 제외)
+     */
+    public Map<String, Object> toProducerProps(KafkaProducerOverrides overrides) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.ACKS_CONFIG, acks);
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, idempotence);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, overrides.compressionType(this));
+        props.put(ProducerConfig.LINGER_MS_CONFIG, overrides.lingerMs(this));
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, overrides.batchSize(this));
+        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, maxInFlightRequestsPerConnection);
+        props.put(ProducerConfig.BUFFER_MEMORY_CONFIG, overrides.bufferMemory(this));
+        props.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, overrides.requestTimeoutMs(this));
+        props.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, overrides.deliveryTimeoutMs(this));
+        return props;
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.pulse.member.config.kafka;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.context.Context;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * batch 리스너가 poll 한 번에 받은 레코드를 key(회원 ID)별로 나누어 병렬로 처리하는 스레드 풀 (outbox.ackKeyParallelism)
+ * 같은 key의 레코드는 항상 같은 lane에서 오프셋 순서대로 처리되므로 회원별 순서를 유지하면서, 서로 다른 회원의 레코드는 여러 코어에서 동시에 처리합니다.
+ * 병렬 수가 1이면 스레드 풀을 만들지 않고 호출한 리스너 스레드에서 batch 전체를 그대로 처리합니다.
+ */
+@Slf4j
+@Component
+public class KeyOrderedBatchExecutor {
+
+    private final int parallelism;
+    private final ExecutorService executor;
+
+
+    public KeyOrderedBatchExecutor(
+            @Value("${outbox.ackKeyParallelism:1}") int parallelism,
+            MeterRegistry meterRegistry
+    ) {
+        // 1. 병렬 수가 0이면 CPU 코어 수만큼 사용
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+
+        // 2. 병렬 처리하는 경우에만 lane 수만큼의 고정 크기 풀을 생성
+        if (this.parallelism <= 1) {
+            this.executor = null;
+            return;
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "kafka-key-lane-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("kafka.consumer.key.lanes", this, KeyOrderedBatchExecutor::getParallelism)
+                .description("Lanes used to process a consumer batch in parallel by record key")
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * @return 한 batch를 나누어 처리하는 최대 lane 수
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+
+    /**
+     * @param records       poll 한 번에 수신한 Kafka 메시지 목록
+     * @param laneProcessor lane 하나에 속한 레코드 목록을 순서대로 처리하는 함수
+     *                      (실패한 레코드가 있으면 lane 안에서의 위치로 BatchListenerFailedException을 던짐)
+     * @throws BatchListenerFailedException 실패한 레코드가 있는 경우 (원래 batch에서의 위치, 여러 lane이 실패하면 가장 앞의 위치)
+     * @apiNote key의 해시로 레코드를 lane에 나누고 모든 lane이 끝날 때까지 기다립니다.
+     * 실패한 위치 앞의 레코드는 모두 처리되었으므로 오류 핸들러가 그 앞까지 커밋해도 되며, 뒤의 레코드는 다시 처리될 수 있습니다. (상태 변경은 멱등)
+     */
+    public <K, V> void execute(List<ConsumerRecord<K, V>> records, Consumer<List<ConsumerRecord<K, V>>> laneProcessor) {
+        // 1. 병렬 처리하지 않거나 레코드가 한 건이면 호출한 스레드에서 그대로 처리합니다.
+        int laneCount = Math.min(parallelism, records.size());
+        if (laneCount <= 1) {
+            laneProcessor.accept(records);
+            return;
+        }
+
+        // 2. key의 해시로 lane을 정합니다. (같은 key는 같은 lane, lane 안에서는 오프셋 순서 유지)
+        List<List<Integer>> laneIndexes = new ArrayList<>();
+        for (int lane = 0; lane < laneCount; lane++) {
+            laneIndexes.add(new ArrayList<>());
+        }
+        for (int index = 0; index < records.size(); index++) {
+            laneIndexes.get(Math.floorMod(Objects.hashCode(records.get(index).key()), laneCount)).add(index);
+        }
+
+        // 3. 비어 있지 않은 lane을 스레드 풀에 제출합니다. (리스너 스레드의 trace context를 그대로 전달)
+        List<Future<?>> futures = new ArrayList<>();
+        List<List<Integer>> submittedLanes = new ArrayList<>();
+        for (List<Integer> indexes : laneIndexes) {
+            if (indexes.isEmpty()) {
+                continue;
+            }
+            List<ConsumerRecord<K, V>> laneRecords = indexes.stream().map(records::get).toList();
+            futures.add(executor.submit(Context.current().wrap(() -> laneProcessor.accept(laneRecords))));
+            submittedLanes.add(indexes);
+        }
+
+        // 4. 모든 lane이 끝날 때까지 기다리고, 실패한 lane이 있으면 원래 batch에서 가장 앞의 실패 위치를 알립니다.
+        BatchListenerFailedException firstFailure = null;
+        RuntimeException otherFailure = null;
+        for (int lane = 0; lane < futures.size(); lane++) {
+            try {
+                futures.get(lane).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                otherFailure = new IllegalStateException("Interrupted while waiting for key lanes", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof BatchListenerFailedException failed) {
+                    int index = submittedLanes.get(lane).get(failed.getIndex());
+                    if (firstFailure == null || index < firstFailure.getIndex()) {
+                        firstFailure = new BatchListenerFailedException(failed.getMessage(), failed.getCause(), index);
+                    }
+                } else {
+                    otherFailure = e.getCause() instanceof RuntimeException runtimeException
+                            ? runtimeException
+                            : new IllegalStateException(e.getCause());
+                }
+            }
+        }
+
+        // 5. 위치를 알 수 없는 실패는 batch 전체를 다시 처리하도록 그대로 던집니다.
+        if (otherFailure != null) {
+            throw otherFailure;
+        }
+        if (firstFailure != null) {
+            throw firstFailure;
+        }
+    }
+
+
+    /**
+     * 애플리케이션 종료 시 스레드 풀 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.pulse.member.config.kafka.serde;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.pulse.member.grpc.MemberEventProto.MemberOutboxEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static com.pulse.member.util.Constant.MEMBER_OUTBOX_EVENT_SCHEMA_VERSION;
+import static com.pulse.member.util.Constant.SCHEMA_VERSION_HEADER;
+
+/**
+ * Outbox 토픽의 record 값을 MemberOutboxEvent로 역직렬화하는 Kafka Deserializer
+ * schema-version 헤더로 형식을 구분합니다.
+ * - 1: MemberEventProto.MemberOutboxEvent
+ * - 없음: schema-version 헤더를 보내기 전에 전송된 메시지 (relay가 보낸 회원 ID 문자열, 또는 이전 발행 방식의 이벤트 JSON)
+ */
+public class MemberOutboxEventDeserializer implements Deserializer<MemberOutboxEvent> {
+
+    private static final ObjectMapper LEGACY_MAPPER = new ObjectMapper();
+
+
+    /**
+     * @param topic Kafka 토픽
+     * @param data  record 값
+     * @return MemberOutboxEvent (헤더를 알 수 없으므로 현재 스키마로 역직렬화)
+     */
+    @Override
+    public MemberOutboxEvent deserialize(String topic, byte[] data) {
+        return parse(topic, data);
+    }
+
+
+    /**
+     * @param topic   Kafka 토픽
+     * @param headers record 헤더
+     * @param data    record 값
+     * @return MemberOutboxEvent
+     * @apiNote schema-version 헤더에 맞는 형식으로 역직렬화합니다. (지원하지 않는 버전이면 예외)
+     */
+    @Override
+    public MemberOutboxEvent deserialize(String topic, Headers headers, byte[] data) {
+        Header schemaVersion = headers.lastHeader(SCHEMA_VERSION_HEADER);
+        if (schemaVersion == null) {
+            return parseLegacy(topic, data);
+        }
+
+        String version = new String(schemaVersion.value(), StandardCharsets.UTF_8);
+        if (!MEMBER_OUTBOX_EVENT_SCHEMA_VERSION.equals(version)) {
+            throw new SerializationException("Unsupported outbox schema-version " + version + " on topic " + topic);
+        }
+        return parse(topic, data);
+    }
+
+
+    /**
+     * @param topic Kafka 토픽
+     * @param data  record 값
+     * @return MemberEventProto.MemberOutboxEvent로 역직렬화한 이벤트
+     */
+    private MemberOutboxEvent parse(String topic, byte[] data) {
+        try {
+            return MemberOutboxEvent.parseFrom(data);
+        } catch (InvalidProtocolBufferException e) {
+            throw new SerializationException("Invalid outbox event on topic " + topic, e);
+        }
+    }
+
+
+    /**
+     * @param topic Kafka 토픽
+     * @param data  회원 ID 문자열 또는 payload 필드를 가진 이벤트 JSON
+     * @return 회원 ID만 담은 이벤트
+     */
+    private MemberOutboxEvent parseLegacy(String topic, byte[] data) {
+        try {
+            String value = new String(data, StandardCharsets.UTF_8).trim();
+            long memberId;
+            if (value.startsWith("{")) {
+                JsonNode payload = LEGACY_MAPPER.readTree(value).get("payload");
+                if (payload == null || !payload.canConvertToLong()) {
+                    throw new SerializationException("Legacy outbox event without payload on topic " + topic);
+                }
+                memberId = payload.asLong();
+            } else {
+                memberId = Long.parseLong(value);
+            }
+            return MemberOutboxEvent.newBuilder().setMemberId(memberId).build();
+        } catch (IOException | NumberFormatException e) {
+            throw new SerializationException("Invalid legacy outbox event on topic " + topic, e);
+        }
+    }
+
+}
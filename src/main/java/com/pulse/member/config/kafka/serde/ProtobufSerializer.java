@@ -0,0 +1,24 @@
+package com.pulse.member.config.kafka.serde;
+
+import com.google.protobuf.MessageLite;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * protobuf 메시지를 그대로 bytes로 직렬화하는 Kafka Serializer
+ * 스키마 버전은 메시지에 포함하지 않고 schema-version 헤더로 전달합니다.
+ *
+ * @param <T> protobuf 메시지 타입
+ */
+public class ProtobufSerializer<T extends MessageLite> implements Serializer<T> {
+
+    /**
+     * @param topic Kafka 토픽
+     * @param data  protobuf 메시지
+     * @return 직렬화된 bytes (메시지가 없으면 null)
+     */
+    @Override
+    public byte[] serialize(String topic, T data) {
+        return data == null ? null : data.toByteArray();
+    }
+
+}
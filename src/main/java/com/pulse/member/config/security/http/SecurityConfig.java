@@ -1,7 +1,10 @@
 package com.pulse.member.config.security.http;
 
 import com.pulse.member.config.security.http.filter.JwtTokenFilter;
-import lombok.AllArgsConstructor;
+import com.pulse.member.config.security.password.PasswordHashingExecutor;
+import com.pulse.member.config.security.password.PooledPasswordEncoder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -27,12 +30,16 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class SecurityConfig {
 
     private final UserDetailsService userDetailsService;
     private final AuthenticationEntryPoint authenticationEntryPoint;
     private final JwtTokenFilter jwtTokenFilter;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    @Value("${password.bcryptStrength:10}")
+    private int bcryptStrength;
 
 
     /**
@@ -79,12 +86,13 @@ public class SecurityConfig {
 
     /**
      * 비밀번호 인코더 설정.
+     * BCrypt cost는 password.bcryptStrength로 지정하고, 해시/검증 연산은 전용 스레드 풀(PasswordHashingExecutor)에서 실행합니다.
      *
      * @return PasswordEncoder
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new PooledPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), passwordHashingExecutor);
     }
 
 
@@ -125,6 +133,7 @@ public class SecurityConfig {
                             .requestMatchers("/member/auth/signUp").permitAll()
                             .requestMatchers("/member/role/create").permitAll()
                             .requestMatchers("/member/role/createRoles").permitAll()
+                            .requestMatchers("/.well-known/jwks.json").permitAll()
                             .anyRequest().authenticated();
                 })
                 .authenticationProvider(authenticationProvider())
@@ -2,6 +2,10 @@ package com.pulse.member.config.security.http.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pulse.member.config.jwt.JwtTokenProvider;
+import com.pulse.member.config.jwt.TokenRevocationRegistry;
+import com.pulse.member.config.security.http.user.UserDetailsCache;
+import com.pulse.member.config.security.http.user.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -10,11 +14,11 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -34,14 +38,20 @@ import java.util.Set;
 public class JwtTokenFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final UserDetailsCache userDetailsCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
     private final ObjectMapper mapper = new ObjectMapper();
 
+    // true이면 JWT 클레임만으로 인증 정보를 구성 (클레임이 없는 이전 토큰은 DB 조회로 대체)
+    @Value("${jwt.claimsPrincipalEnabled:true}")
+    private boolean claimsPrincipalEnabled;
+
     // 특정 경로를 필터링에서 제외
     private static final Set<String> EXCLUDE_URLS = Set.of(
             "/member/auth/signUp",
             "/member/auth/signIn",
             "/member/role/create",
+            "/.well-known/jwks.json",
             "/actuator/info",
             "/actuator/health",
             "/actuator/env",
@@ -81,13 +91,19 @@ public class JwtTokenFilter extends OncePerRequestFilter {
                 throw new JwtAuthenticationException("JWT token is missing");
             }
 
-            // 3. JWT 토큰이 유효한 경우, 사용자 인증 정보 설정
-            if (notValidJwtToken(jwt)) {
+            // 3. JWT 토큰을 한 번만 파싱/검증하고 Claims를 추출 (유효하지 않으면 null)
+            Claims claims = verifiedClaimsFrom(jwt);
+            if (claims == null) {
                 throw new JwtAuthenticationException("Invalid JWT token");
             }
 
-            // 4. JWT에 문제가 없다면 사용자 인증 정보 설정
-            authenticationFrom(jwt);
+            // 4. 로그아웃 등으로 폐기된 토큰인지 확인 (메모리 조회만 수행)
+            if (tokenRevocationRegistry.isRevoked(claims)) {
+                throw new JwtAuthenticationException("Revoked JWT token");
+            }
+
+            // 5. JWT에 문제가 없다면 사용자 인증 정보 설정
+            authenticationFrom(claims);
 
         } catch (JwtAuthenticationException e) {
             response.setContentType(MediaType.APPLICATION_JSON_VALUE);
@@ -148,24 +164,28 @@ public class JwtTokenFilter extends OncePerRequestFilter {
 
     /**
      * @param jwt JWT 토큰 문자열
-     * @return JWT 토큰이 유효하지 않은 경우 true, 유효한 경우 false
-     * @apiNote JWT 토큰이 유효하지 않은 경우를 확인하는 메서드
+     * @return 검증된 Claims, JWT 토큰이 유효하지 않은 경우 null
+     * @apiNote JWT 토큰을 검증하고 Claims를 반환하는 메서드 (검증된 토큰은 캐시되어 재검증하지 않음)
      */
-    private boolean notValidJwtToken(String jwt) {
-        return !jwtTokenProvider.validateJwtToken(jwt);
+    private Claims verifiedClaimsFrom(String jwt) {
+        try {
+            return jwtTokenProvider.getVerifiedClaims(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
     }
 
 
     /**
-     * @param jwt JWT 토큰 문자열
-     * @apiNote JWT 토큰을 사용하여 사용자 인증 정보를 설정하는 메서드
+     * @param claims 검증된 JWT Claims
+     * @apiNote JWT Claims를 사용하여 사용자 인증 정보를 설정하는 메서드
+     * claimsPrincipalEnabled 모드에서는 클레임(memberId, nickname, roles)만으로 인증 정보를 만들어 DB를 조회하지 않습니다.
      */
-    private void authenticationFrom(String jwt) {
-        // 1. 이메일 추출
-        String email = jwtTokenProvider.getEmailFromJwtToken(jwt);
+    private void authenticationFrom(Claims claims) {
+        // 1. 사용자 정보 로드 (클레임 우선, 없으면 DB 조회)
+        UserDetails userDetails = loadUserDetails(claims);
 
-        // 2. 사용자 정보 로드 및 인증 설정
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        // 2. 인증 토큰 생성
         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                 userDetails, null, userDetails.getAuthorities()
         );
@@ -174,4 +194,23 @@ public class JwtTokenFilter extends OncePerRequestFilter {
         SecurityContextHolder.getContext().setAuthentication(authToken);
     }
 
+
+    /**
+     * @param claims 검증된 JWT Claims
+     * @return 사용자 정보
+     * @apiNote 클레임으로 사용자 정보를 구성하고, 클레임 전환 이전에 발급된 토큰이면 이메일로 DB에서 조회하는 메서드
+     */
+    private UserDetails loadUserDetails(Claims claims) {
+        // 1. 클레임 모드라면 클레임만으로 사용자 정보 구성
+        if (claimsPrincipalEnabled) {
+            UserDetailsImpl userDetails = UserDetailsImpl.fromClaims(claims);
+            if (userDetails != null) {
+                return userDetails;
+            }
+        }
+
+        // 2. 클레임에 회원 정보가 없는 경우 이메일로 조회 (캐시 미스일 때만 DB 조회)
+        return userDetailsCache.get(claims.getSubject());
+    }
+
 }
@@ -0,0 +1,140 @@
+package com.pulse.member.config.security.http.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * UserDetailsService 앞단에 위치하는 UserDetails 캐시
+ * 최대 크기와 TTL로 제한되며, 같은 이메일에 대한 동시 요청은 한 번의 조회만 수행합니다. (Caffeine의 키 단위 single-flight 로딩)
+ * 회원 정보가 변경되거나 삭제되면 회원 ID로 항목을 제거할 수 있도록 memberId -> email 역인덱스를 함께 유지합니다.
+ * 역인덱스는 조회가 끝나야 회원 ID를 알 수 있으므로, 조회 중에 같은 회원이 무효화되면 (역인덱스가 없어 제거할 항목을 찾지 못함) 조회를 다시 수행합니다.
+ * 무효화 시점은 회원 ID별로 기록하므로 다른 회원의 무효화는 진행 중인 조회에 영향을 주지 않으며, MAX_LOAD_ATTEMPTS 번 조회해도 무효화가 계속되면 마지막 값을 캐시하지 않고 반환합니다.
+ */
+@Slf4j
+@Component
+public class UserDetailsCache {
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final UserDetailsService userDetailsService;
+    private final Cache<String, UserDetailsImpl> cache;
+    private final Map<Long, String> emailByMemberId = new ConcurrentHashMap<>();
+    private final AtomicLong evictionSequence = new AtomicLong(); // 무효화마다 증가하는 순번 (조회 시작 시점과 비교)
+    private final Cache<Long, Long> evictedAtByMemberId; // 회원 ID -> 마지막 무효화 순번 (진행 중인 조회보다 오래 보관할 필요 없으므로 TTL로 제거)
+
+
+    public UserDetailsCache(
+            UserDetailsService userDetailsService,
+            @Value("${jwt.userDetailsCacheMaxSize:10000}") long maxSize,
+            @Value("${jwt.userDetailsCacheTtlSeconds:60}") long ttlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.userDetailsService = userDetailsService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .removalListener(this::removeIndex)
+                .recordStats()
+                .build();
+        this.evictedAtByMemberId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+
+        // 캐시 적중률, 제거 횟수 등을 actuator 메트릭으로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userDetails");
+    }
+
+
+    /**
+     * @param email 사용자 이메일
+     * @return 캐시된 사용자 정보 (없으면 UserDetailsService로 조회 후 캐시)
+     * @apiNote 이메일로 사용자 정보를 조회합니다. 같은 이메일로 동시에 들어온 요청은 하나의 조회 결과를 공유합니다.
+     */
+    public UserDetailsImpl get(String email) {
+        AtomicReference<UserDetailsImpl> uncached = new AtomicReference<>();
+        UserDetailsImpl userDetails = cache.get(email, key -> load(key, uncached));
+        return userDetails != null ? userDetails : uncached.get();
+    }
+
+
+    /**
+     * @param memberId 회원 ID
+     * @apiNote 회원 ID에 해당하는 캐시 항목을 제거합니다. (닉네임/프로필 이미지 변경, 회원 삭제 시 호출)
+     */
+    public void evictByMemberId(Long memberId) {
+        // 진행 중인 조회가 무효화 전에 읽은 값을 캐시하지 않도록 먼저 회원의 무효화 순번을 기록합니다.
+        evictedAtByMemberId.put(memberId, evictionSequence.incrementAndGet());
+        String email = emailByMemberId.remove(memberId);
+        if (email != null) {
+            cache.invalidate(email);
+            log.debug("UserDetails cache evicted - memberId: {}", memberId);
+        }
+    }
+
+
+    /**
+     * @param email    사용자 이메일
+     * @param uncached 캐시하지 않고 반환할 값을 담을 참조
+     * @return 캐시할 사용자 정보 (무효화가 계속되어 캐시하지 않는 경우 null)
+     * @apiNote 캐시 미스 시 사용자 정보를 조회하고 역인덱스를 등록합니다.
+     * 조회하는 동안 같은 회원이 무효화되었다면 변경 전 값을 읽었을 수 있으므로 다시 조회합니다. (무효화는 변경 커밋 이후 호출되므로 다시 조회하면 변경된 값을 읽음)
+     * MAX_LOAD_ATTEMPTS 번 모두 무효화와 겹치면 마지막 값을 uncached에 담고 null을 반환하여 캐시하지 않습니다.
+     */
+    private UserDetailsImpl load(String email, AtomicReference<UserDetailsImpl> uncached) {
+        UserDetailsImpl userDetails = null;
+        for (int attempt = 1; attempt <= MAX_LOAD_ATTEMPTS; attempt++) {
+            long loadStartedAt = evictionSequence.get();
+            userDetails = (UserDetailsImpl) userDetailsService.loadUserByUsername(email);
+            emailByMemberId.put(userDetails.getMemberId(), email);
+            if (!evictedSince(userDetails.getMemberId(), loadStartedAt)) {
+                return userDetails;
+            }
+            // 캐시하지 않는 값의 역인덱스는 제거합니다. (다시 조회하면 다시 등록)
+            emailByMemberId.remove(userDetails.getMemberId(), email);
+            log.debug("UserDetails reloaded after concurrent eviction - memberId: {}, attempt: {}", userDetails.getMemberId(), attempt);
+        }
+
+        // 계속 무효화되는 회원은 캐시하지 않고 마지막으로 읽은 값을 반환합니다.
+        uncached.set(userDetails);
+        return null;
+    }
+
+
+    /**
+     * @param memberId      회원 ID
+     * @param loadStartedAt 조회를 시작할 때의 무효화 순번
+     * @return 조회를 시작한 뒤에 회원이 무효화되었으면 true
+     */
+    private boolean evictedSince(Long memberId, long loadStartedAt) {
+        Long evictedAt = evictedAtByMemberId.getIfPresent(memberId);
+        return evictedAt != null && evictedAt > loadStartedAt;
+    }
+
+
+    /**
+     * @param email       제거된 항목의 이메일
+     * @param userDetails 제거된 사용자 정보
+     * @param cause       제거 원인
+     * @apiNote 캐시 항목이 제거되면 역인덱스에서도 제거합니다. (다른 이메일로 다시 등록된 경우는 유지)
+     */
+    private void removeIndex(String email, UserDetailsImpl userDetails, RemovalCause cause) {
+        if (userDetails != null && cause != RemovalCause.REPLACED) {
+            emailByMemberId.remove(userDetails.getMemberId(), email);
+        }
+    }
+
+}
@@ -4,6 +4,7 @@ import com.pulse.member.adapter.out.persistence.entity.MemberEntity;
 import com.pulse.member.adapter.out.persistence.entity.constant.RoleName;
 import com.pulse.member.exception.ErrorCode;
 import com.pulse.member.exception.MemberException;
+import io.jsonwebtoken.Claims;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -16,6 +17,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
+import static com.pulse.member.util.Constant.*;
+
 @Getter
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class UserDetailsImpl implements UserDetails {
@@ -50,6 +53,34 @@ public class UserDetailsImpl implements UserDetails {
         );
     }
 
+    /**
+     * @param claims 서명 검증이 끝난 JWT Claims
+     * @return 클레임만으로 구성한 UserDetailsImpl (memberId 클레임이 없으면 null)
+     * @apiNote DB 조회 없이 JWT 클레임(memberId, nickname, roles)으로 인증 정보를 구성하는 팩토리 메서드
+     * 클레임 전환 이전에 발급된 토큰은 memberId가 없으므로 null을 반환하고, 호출 측에서 DB 조회로 대체합니다.
+     */
+    public static UserDetailsImpl fromClaims(Claims claims) {
+        // 1. 회원 ID 클레임 확인 (JSON 숫자는 Integer/Long 어느 쪽으로도 역직렬화될 수 있음)
+        Number memberId = claims.get(MEMBER_ID, Number.class);
+        if (memberId == null) {
+            return null;
+        }
+
+        // 2. 권한 코드 클레임을 GrantedAuthority로 변환
+        List<?> roleCodes = claims.get(ROLES, List.class);
+        List<GrantedAuthority> authorities = roleCodes == null ? List.of() : roleCodes.stream()
+                .map(roleCode -> (GrantedAuthority) new SimpleGrantedAuthority(String.valueOf(roleCode)))
+                .toList();
+
+        // 3. UserDetailsImpl 객체를 생성하여 반환 (클레임 정보를 기반으로)
+        return new UserDetailsImpl(
+                memberId.longValue(),
+                claims.getSubject(),
+                claims.get(NICKNAME, String.class),
+                authorities
+        );
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
@@ -31,7 +31,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        log.info("UserDetailsServiceImpl.loadUserByUsername() - getEmail: {}", email);
+        log.debug("UserDetailsServiceImpl.loadUserByUsername() - getEmail: {}", email);
 
         // 1. 이메일을 기반으로 사용자 정보를 조회
         MemberEntity memberEntity = memberRepository.findMemberEntityByEmail(email)
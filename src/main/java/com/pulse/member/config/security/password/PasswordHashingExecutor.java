@@ -0,0 +1,119 @@
+package com.pulse.member.config.security.password;
+
+import com.pulse.member.exception.ErrorCode;
+import com.pulse.member.exception.MemberException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시/검증 전용 스레드 풀
+ * BCrypt 연산은 CPU를 수백 ms 점유하므로 Tomcat 요청 스레드가 아닌 CPU 코어 수 크기의 전용 풀에서 실행합니다.
+ * 대기 큐가 가득 차면 즉시 RejectedExecutionException을 던져서 (503 응답) 요청이 쌓이지 않도록 합니다.
+ * 요청 스레드는 대기와 연산을 합쳐 password.hashingTimeoutMs까지만 기다리며, 넘으면 작업을 취소하고 같은 503으로 응답합니다.
+ * 대기하는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 호출해야 합니다. (AuthService의 로그인, 회원가입 참고)
+ * 큐 깊이와 연산 시간은 actuator 메트릭(password.hashing.*)으로 노출합니다.
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final MeterRegistry meterRegistry;
+
+
+    public PasswordHashingExecutor(
+            @Value("${password.hashingThreads:0}") int threads,
+            @Value("${password.hashingQueueCapacity:64}") int queueCapacity,
+            @Value("${password.hashingTimeoutMs:5000}") long timeoutMs,
+            MeterRegistry meterRegistry
+    ) {
+        // 1. 스레드 수가 지정되지 않으면 CPU 코어 수만큼 사용
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        // 2. 고정 크기 풀 + 제한된 큐 + AbortPolicy (큐가 가득 차면 즉시 거절)
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.timeoutMs = timeoutMs;
+        this.meterRegistry = meterRegistry;
+
+        // 3. 큐 깊이와 활성 스레드 수를 게이지로 노출
+        Gauge.builder("password.hashing.queue.depth", executor, e -> e.getQueue().size())
+                .description("Password hashing tasks waiting in the queue")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing tasks currently running")
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * @param operation 연산 이름 (encode, matches) - 메트릭 태그로 사용
+     * @param task      실행할 해시 연산
+     * @return 연산 결과
+     * @throws RejectedExecutionException 대기 큐가 가득 찬 경우, 또는 대기와 연산이 timeoutMs 안에 끝나지 않은 경우
+     * @apiNote 해시 연산을 전용 풀에서 실행하고 결과를 기다리는 메서드 (실행 시간은 password.hashing.duration 타이머로 기록)
+     */
+    public <T> T execute(String operation, Callable<T> task) {
+        // 1. 전용 풀에 작업 제출 (큐가 가득 차면 RejectedExecutionException)
+        Timer timer = Timer.builder("password.hashing.duration")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        Future<T> future = executor.submit(() -> timer.recordCallable(task));
+
+        // 2. 결과 대기 (timeoutMs까지만 대기)
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // exception: 대기 중이거나 실행 중인 작업을 취소하고, 큐가 가득 찬 경우와 같이 503으로 응답합니다.
+            future.cancel(true);
+            meterRegistry.counter("password.hashing.timeout", "operation", operation).increment();
+            log.warn("Password hashing timed out - operation: {}, timeoutMs: {}", operation, timeoutMs);
+            throw new RejectedExecutionException("Password hashing timed out after " + timeoutMs + "ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new MemberException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+
+    /**
+     * 애플리케이션 종료 시 스레드 풀 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+}
@@ -3,8 +3,9 @@ package com.pulse.member.config.trace.aop;
 import com.pulse.member.util.TraceUtil;
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.Tracer;
-import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +16,8 @@ import org.aspectj.lang.annotation.Aspect;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Kafka 리스너 동작 시 Span을 생성하고 종료하는 Aspect
  */
@@ -28,30 +31,35 @@ public class TraceOutboxKafkaAspect {
     private final TraceUtil traceUtil;
 
     /**
-     * Kafka 리스너 호출 시 Span을 생성하고 종료한다.
+     * Kafka batch 리스너 호출 시 Span을 생성하고 종료한다.
+     * batch의 레코드마다 부모 Trace가 다르므로, 부모를 하나로 정하지 않고 각 레코드의 SpanContext를 링크로 연결한다.
      *
-     * @param joinPoint - 프록시 대상 메서드
-     * @param record    - Kafka 메시지
+     * @param joinPoint      - 프록시 대상 메서드
+     * @param records        - poll 한 번에 수신한 Kafka 메시지 목록
+     * @param acknowledgment - Kafka ACK
      * @throws Throwable - 예외
      */
     @Around(value = "@annotation(com.pulse.member.config.trace.annotation.TraceOutboxKafka) && " +
-            "args(record, acknowledgment, partition, offset)",
-            argNames = "joinPoint,record,acknowledgment,partition,offset"
+            "args(records, acknowledgment)",
+            argNames = "joinPoint,records,acknowledgment"
     )
     public Object traceKafkaListener(
             ProceedingJoinPoint joinPoint,
-            ConsumerRecord<String, String> record,
-            Acknowledgment acknowledgment,
-            int partition,
-            long offset
+            List<ConsumerRecord<String, ?>> records,
+            Acknowledgment acknowledgment
     ) throws Throwable {
-        // 1. Context를 추출한다.
-        Context extractedContext = traceUtil.extractContextFromRecord(record);
+        // 1. batch Span을 생성한다.
+        SpanBuilder spanBuilder = tracer.spanBuilder("Member [kafka-consume] outbox process change [PROCESSED]")
+                .setAttribute("messaging.batch.message_count", records.size());
 
-        // 2. 기존 Trace를 기반으로 새로운 Span을 생성
-        Span span = tracer.spanBuilder("Member [kafka-consume] outbox process change [PROCESSED]")
-                .setParent(extractedContext)  // 기존 Trace의 Context를 부모로 설정
-                .startSpan();
+        // 2. 각 레코드의 Context를 추출하여 링크로 연결한다.
+        for (ConsumerRecord<String, ?> record : records) {
+            SpanContext linkedContext = Span.fromContext(traceUtil.extractContextFromRecord(record)).getSpanContext();
+            if (linkedContext.isValid()) {
+                spanBuilder.addLink(linkedContext);
+            }
+        }
+        Span span = spanBuilder.startSpan();
 
         // 3. Span을 현재 컨텍스트에 설정
         try (Scope scope = span.makeCurrent()) {
@@ -6,6 +6,7 @@ import lombok.*;
 import org.springframework.util.ObjectUtils;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 회원
@@ -33,6 +34,7 @@ public class Member {
     private LocalDateTime joinedDate; // 가입일
     private LocalDateTime lastLogin;  // 마지막 로그인 시간
     private Jwt jwt;                  // JWT Object 객체
+    private List<String> roleNames;   // 권한 이름 목록 (로그인 시 회원과 함께 조회)
 
     // factory method
     public static Member of(long id) {
@@ -65,6 +67,15 @@ public class Member {
     }
 
 
+    /**
+     * @param roleNames 권한 이름 목록
+     * @apiNote 권한 이름 목록을 변경합니다.
+     */
+    public void changeRoleNames(List<String> roleNames) {
+        this.roleNames = roleNames;
+    }
+
+
     /**
      * @param jwt JWT 객체
      * @apiNote JWT 객체를 변경합니다.
@@ -7,9 +7,21 @@ import lombok.*;
 import org.springframework.util.ObjectUtils;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 이벤트 발행 및 Kafka 메시지 송/수신을 관리하기 위한 Outbox
+ * <p>
+ * 상태 전이 규칙 (상태 -> 허용되는 이전 상태)
+ * - PENDING   <- FAIL (재전송 대기)
+ * - SENT      <- PENDING, FAIL
+ * - FAIL      <- PENDING, SENT, FAIL (relay가 다시 가져가 전송했지만 또 실패한 경우, 실패 시각 갱신)
+ * - PROCESSED <- PENDING, SENT, FAIL (relay가 SENT/FAIL을 기록하기 전에 수신될 수 있음)
+ * - SUCCESS   <- PENDING, SENT, PROCESSED, FAIL
+ * - MERGED    <- PENDING, FAIL (같은 회원/이벤트 타입의 최신 Outbox로 합쳐져 전송하지 않음)
+ * PROCESSED, SUCCESS, MERGED는 되돌아가지 않으므로, 늦게 도착한 상태 변경이 처리완료를 덮어쓰지 않습니다.
  */
 @Builder
 @Getter
@@ -21,8 +33,19 @@ public class MemberOutbox {
     private String eventType;   // 토픽정보 ex.MemberCreatedEvent
     private Long payload;       // 이벤트 내부의 id 필드를 저장. ex) memberId: 1L
     private String traceId;     // Kafka 메시지 처리 시, traceId
-    private MessageStatus status;      // Kafka 메시지 처리 상태 (예: PENDING, PROCESSED, SUCCESS, FAIL)
+    private MessageStatus status;      // Kafka 메시지 처리 상태 (예: PENDING, SENT, PROCESSED, SUCCESS, FAIL, MERGED)
     private LocalDateTime processedAt; // Kafka 메시지 처리 시간 (처리된 경우)
+    private LocalDateTime createdAt;   // Outbox 생성 시간 (relay의 전송 지연 측정용)
+    private byte[] snapshot;           // fat event의 회원 스냅샷 (MemberProto.MemberRetrieveResponse 직렬화, thin event면 null)
+
+    private static final Map<MessageStatus, Set<MessageStatus>> PREDECESSORS = Map.of(
+            MessageStatus.PENDING, EnumSet.of(MessageStatus.FAIL),
+            MessageStatus.SENT, EnumSet.of(MessageStatus.PENDING, MessageStatus.FAIL),
+            MessageStatus.FAIL, EnumSet.of(MessageStatus.PENDING, MessageStatus.SENT, MessageStatus.FAIL),
+            MessageStatus.PROCESSED, EnumSet.of(MessageStatus.PENDING, MessageStatus.SENT, MessageStatus.FAIL),
+            MessageStatus.SUCCESS, EnumSet.of(MessageStatus.PENDING, MessageStatus.SENT, MessageStatus.PROCESSED, MessageStatus.FAIL),
+            MessageStatus.MERGED, EnumSet.of(MessageStatus.PENDING, MessageStatus.FAIL)
+    );
 
 
     // factory method
@@ -36,14 +59,50 @@ public class MemberOutbox {
     }
 
 
+    // factory method (fat event)
+    public static MemberOutbox of(String eventType, Long payload, String nowTraceId, MessageStatus messageStatus, byte[] snapshot) {
+        return MemberOutbox.builder()
+                .eventType(eventType)
+                .payload(payload)
+                .traceId(nowTraceId)
+                .status(messageStatus)
+                .snapshot(snapshot)
+                .build();
+    }
+
+
+    /**
+     * @return fat event 여부 (회원 스냅샷을 담고 있으면 true)
+     */
+    public boolean hasSnapshot() {
+        return snapshot != null;
+    }
+
+
+    /**
+     * @param messageStatus 변경할 상태
+     * @return 변경할 상태로 전이할 수 있는 이전 상태 목록
+     * @apiNote 상태 전이 규칙에서 허용되는 이전 상태를 반환 (UPDATE ... WHERE status IN (...) 조건으로 사용)
+     */
+    public static Set<MessageStatus> predecessorsOf(MessageStatus messageStatus) {
+        if (ObjectUtils.isEmpty(messageStatus)) {
+            throw new MemberException(ErrorCode.OUTBOX_STATUS_NOT_FOUND);
+        }
+        return PREDECESSORS.get(messageStatus);
+    }
+
+
     /**
      * @param messageStatus 메시지 상태
-     * @apiNote OutboxEvent의 상태를 변경
+     * @apiNote OutboxEvent의 상태를 변경 (상태 전이 규칙에서 허용되지 않으면 예외)
      */
     public void changeStatus(MessageStatus messageStatus) {
         if (ObjectUtils.isEmpty(messageStatus)) {
             throw new MemberException(ErrorCode.OUTBOX_STATUS_NOT_FOUND);
         }
+        if (this.status != null && !predecessorsOf(messageStatus).contains(this.status)) {
+            throw new MemberException(ErrorCode.OUTBOX_STATUS_TRANSITION_NOT_ALLOWED);
+        }
         this.status = messageStatus;
     }
 
@@ -17,8 +17,11 @@ import java.util.UUID;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class RefreshToken {
 
+    public static final String DEFAULT_DEVICE_ID = "default";
+
     private Long id;
     private Member member;
+    private String deviceId;   // 회원당 기기별로 하나의 refresh 토큰만 유지
     private String token;
     private LocalDateTime expiryDate;
 
@@ -33,8 +36,15 @@ public class RefreshToken {
 
     // factory method
     public static RefreshToken of(Member member, long refreshTokenDurationMinutes) {
+        return of(member, DEFAULT_DEVICE_ID, refreshTokenDurationMinutes);
+    }
+
+
+    // factory method (기기 ID가 없으면 기본 기기로 취급)
+    public static RefreshToken of(Member member, String deviceId, long refreshTokenDurationMinutes) {
         return RefreshToken.builder()
                 .member(member)
+                .deviceId(ObjectUtils.isEmpty(deviceId) ? DEFAULT_DEVICE_ID : deviceId)
                 .token(UUID.randomUUID().toString())
                 .expiryDate(LocalDateTime.now().plusMinutes(refreshTokenDurationMinutes))
                 .build();
@@ -20,6 +20,7 @@ public enum ErrorCode {
 
     // Internal errors
     INTERNAL_SERVER_ERROR("MEM500", "Internal server error"),
+    SERVER_BUSY("MEM503", "Server is busy, please retry later"),
     UNEXPECTED_ERROR("MEM999", "Unexpected error"),
     REFRESH_TOKEN_EXPIRED("MEM997", "Refresh token expired"),
     TOKEN_NOT_FOUND("MEM998", "Token not found"),
@@ -50,12 +51,15 @@ public enum ErrorCode {
     MEMBER_CREATE_EMAIL_NOT_FOUND("MEM011", "Member create email not found"),
     MEMBER_CREATE_PASSWORD_NOT_FOUND("MEM012", "Member create password not found"),
     MEMBER_CREATE_NAME_NOT_FOUND("MEM013", "Member create name not found"),
+    // sign in
+    MEMBER_PASSWORD_NOT_MATCH("MEM014", "Member password not match"),
 
     // outbox errors
     OUTBOX_STATUS_NOT_FOUND("MEMBOX001", "Outbox status not found"),
     OUTBOX_PROCESSED_AT_NOT_FOUND("MEMBOX002", "Outbox processedAt not found"),
     REFRESH_TOKEN_EXPIRATION_DATE_NOT_FOUND("MEMBOX003", "Refresh token expiration date not found"),
     REFRESH_TOKEN_NOT_EXIST("MEMBOX004", "Refresh token not exist"),
+    OUTBOX_STATUS_TRANSITION_NOT_ALLOWED("MEMBOX005", "Outbox status transition not allowed"),
 
 
     SECURITY_USER_NOT_FOUND("SEC001", "Security user not found")
@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -28,6 +29,17 @@ public class GlobalExceptionHandler {
     }
 
 
+    /**
+     * 전용 스레드 풀(비밀번호 해시 등)의 대기 큐가 가득 차서 작업이 거절된 경우를 처리하기 위해 사용됩니다.
+     * 클라이언트가 잠시 후 재시도할 수 있도록 503을 반환합니다.
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ApiResponse<String>> handleRejectedExecutionException(RejectedExecutionException e) {
+        ApiResponse<String> response = ApiResponse.fail(ErrorCode.SERVER_BUSY);
+        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+
     /**
      * 애플리케이션에서 발생하는 모든 예외를 처리하기 위해 사용됩니다.
      */
@@ -8,8 +8,10 @@ import com.pulse.member.application.command.auth.SignInCommand;
 import com.pulse.member.application.command.auth.SignUpCommand;
 import com.pulse.member.domain.Member;
 import com.pulse.member.grpc.MemberProto;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.NullValueCheckStrategy;
 import org.mapstruct.ReportingPolicy;
 
 /**
@@ -23,6 +25,8 @@ import org.mapstruct.ReportingPolicy;
 )
 public interface MemberMapper {
 
+    // protobuf builder는 null을 받지 않으므로 값이 있는 필드만 설정한다. (없는 필드는 기본값 "")
+    @BeanMapping(nullValueCheckStrategy = NullValueCheckStrategy.ALWAYS)
     MemberProto.MemberRetrieveResponse toProto(MemberResponseDTO memberResponseDTO);
 
     // 응답 도메인을 회원가입 응답 DTO로 변환
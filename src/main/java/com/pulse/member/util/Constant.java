@@ -8,6 +8,12 @@ public class Constant {
     public static final String EMAIL = "email";
     public static final String AUTHORITIES = "authorities";
 
+    // jwt claims
+    public static final String MEMBER_ID = "memberId";
+    public static final String NICKNAME = "nickname";
+    public static final String ROLES = "roles";
+    public static final String ISSUED_AT_MS = "iatMs"; // 발급 시각 (epoch 밀리초, 표준 iat는 초 단위)
+
     // activity log
     public static final String LOGOUT = "LOGOUT";
     public static final String LOGIN = "LOGIN";
@@ -19,6 +25,22 @@ public class Constant {
     public static final String EMAIL_CERTIFICATION_RESEND = "EMAIL_CERTIFICATION_RESEND";
     public static final String REISSUE_REFRESH_TOKEN = "REISSUE_REFRESH_TOKEN";
 
+    // kafka topic
+    public static final String TOKEN_REVOCATION_TOPIC = "member-token-revocation";
+    public static final String DLT_SUFFIX = ".DLT";
+
+    // outbox
+    public static final String OUTBOX_NOTIFY_CHANNEL = "member_outbox";
+
+    // kafka header
+    public static final String OUTBOX_ID_HEADER = "outbox-id";
+    public static final String OUTBOX_CREATED_AT_HEADER = "outbox-created-at"; // Outbox 생성 시각 (epoch millis, 처리완료까지의 지연 측정용)
+    public static final String OUTBOX_PAYLOAD_TYPE_HEADER = "outbox-payload-type"; // record 값의 형식 (thin: 회원 ID, member-snapshot: 회원 스냅샷)
+    public static final String PAYLOAD_TYPE_THIN = "thin";
+    public static final String PAYLOAD_TYPE_MEMBER_SNAPSHOT = "member-snapshot";
+    public static final String SCHEMA_VERSION_HEADER = "schema-version"; // record 값의 protobuf 스키마 버전 (없으면 회원 ID 문자열인 이전 메시지)
+    public static final String MEMBER_OUTBOX_EVENT_SCHEMA_VERSION = "1"; // MemberEventProto.MemberOutboxEvent
+
     // trace
     public static final String TRACE_PARENT = "traceparent";
 
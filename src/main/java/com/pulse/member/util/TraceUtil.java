@@ -25,7 +25,7 @@ public class TraceUtil {
      * @return 추출한 SpanContext를 포함한 Context
      * @apiNote Kafka 메시지에서 traceparent 헤더를 추출하여 기존의 Context와 연결한다.
      */
-    public Context extractContextFromRecord(ConsumerRecord<String, String> record) {
+    public Context extractContextFromRecord(ConsumerRecord<String, ?> record) {
         String traceParent = null;
 
         // kafka 헤더에서 traceparent를 추출한다.
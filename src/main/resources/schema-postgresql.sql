@@ -0,0 +1,24 @@
+-- member_outbox를 created_at 기준 일 단위 파티션 테이블로 다시 생성합니다. (Hibernate가 만든 일반 테이블을 대체)
+-- 파티션 키(created_at)가 PK에 포함되어야 하므로 PK는 (id, created_at)이며, 인덱스는 MemberOutboxEntity의 @Index와 맞춰야 합니다.
+-- created_at 인덱스는 파티션 pruning으로 대체합니다.
+-- 일자별 파티션(member_outbox_pYYYYMMDD)은 MemberOutboxRetentionScheduler가 미리 생성하고, 보존 기간이 지나면 DETACH ... CONCURRENTLY로 분리한 뒤 DROP 합니다.
+-- (처리완료(PROCESSED)되지 않은 행이 남아 있는 파티션은 분리하지 않음)
+-- DETACH ... CONCURRENTLY는 기본(DEFAULT) 파티션이 있으면 사용할 수 없으므로 기본 파티션을 두지 않습니다.
+-- (파티션은 outbox.partitionPrecreateDays일 앞까지 미리 생성되며, 해당 일자의 파티션이 없으면 INSERT가 실패합니다)
+DROP TABLE IF EXISTS member_outbox;
+
+CREATE TABLE member_outbox (
+    id             BIGSERIAL    NOT NULL,
+    event_type     VARCHAR(255) NOT NULL,
+    payload        BIGINT       NOT NULL,
+    trace_id       VARCHAR(255) NOT NULL,
+    message_status VARCHAR(255) NOT NULL,
+    processed_at   TIMESTAMP(6),
+    snapshot       BYTEA,
+    created_at     TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at     TIMESTAMP(6),
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX idx_member_outbox_status_id ON member_outbox (message_status, id);
+CREATE INDEX idx_member_outbox_payload_event_type ON member_outbox (payload, event_type);
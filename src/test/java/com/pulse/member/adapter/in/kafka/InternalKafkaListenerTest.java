@@ -0,0 +1,145 @@
+package com.pulse.member.adapter.in.kafka;
+
+import com.pulse.member.adapter.out.event.outbox.OutboxEvent;
+import com.pulse.member.application.port.in.outbox.MemberOutboxUseCase;
+import com.pulse.member.config.kafka.KeyOrderedBatchExecutor;
+import com.pulse.member.grpc.MemberEventProto.MemberOutboxEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.pulse.member.util.Constant.OUTBOX_CREATED_AT_HEADER;
+import static com.pulse.member.util.Constant.OUTBOX_ID_HEADER;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[Adapter] InternalKafkaListener 단위 테스트")
+class InternalKafkaListenerTest {
+
+    @Mock private MemberOutboxUseCase memberOutboxUseCase;
+    @Mock private Acknowledgment acknowledgment;
+    @Spy private KeyOrderedBatchExecutor keyOrderedBatchExecutor = new KeyOrderedBatchExecutor(1, new SimpleMeterRegistry());
+
+    @InjectMocks private InternalKafkaListener sut;
+
+
+    @DisplayName("[happy] outbox-id 헤더가 있는 batch는 UPDATE 한 번으로 처리완료를 기록하고 오프셋을 한 번 커밋한다.")
+    @Test
+    void listenInternalMemberCreate_bulkUpdate() {
+        // given
+        List<ConsumerRecord<String, MemberOutboxEvent>> records = List.of(createRecord(0L, 1L, "10"), createRecord(1L, 2L, "11"));
+
+        // when
+        sut.listenInternalMemberCreate(records, acknowledgment);
+
+        // then
+        verify(memberOutboxUseCase, times(1)).markOutboxEventsProcessed(List.of(10L, 11L));
+        verify(memberOutboxUseCase, never()).markOutboxEventProcessed(any(OutboxEvent.class));
+        verify(acknowledgment, times(1)).acknowledge();
+    }
+
+
+    @DisplayName("[happy] outbox-id 헤더가 없는 이전 메시지는 payload와 이벤트 타입으로 처리완료를 기록한다.")
+    @Test
+    void listenInternalMemberCreate_withoutHeader() {
+        // given
+        List<ConsumerRecord<String, MemberOutboxEvent>> records = List.of(createRecord(0L, 1L, null));
+
+        // when
+        sut.listenInternalMemberCreate(records, acknowledgment);
+
+        // then
+        verify(memberOutboxUseCase).markOutboxEventProcessed(any(OutboxEvent.class));
+        verify(memberOutboxUseCase, never()).markOutboxEventsProcessed(any());
+        verify(acknowledgment).acknowledge();
+    }
+
+
+    @DisplayName("[happy] 처리완료 건수와 outbox-created-at 헤더 기준의 생성부터 처리완료까지의 지연을 이벤트 타입별로 기록한다.")
+    @Test
+    void listenInternalMemberCreate_recordMetrics() {
+        // given
+        ConsumerRecord<String, MemberOutboxEvent> record = createRecord(0L, 1L, "10");
+        record.headers().add(OUTBOX_CREATED_AT_HEADER,
+                String.valueOf(System.currentTimeMillis() - 1000).getBytes(StandardCharsets.UTF_8));
+        List<ConsumerRecord<String, MemberOutboxEvent>> records = List.of(record, createRecord(1L, 2L, "11"));
+
+        // when
+        sut.listenInternalMemberCreate(records, acknowledgment);
+
+        // then
+        ArgumentCaptor<List<LocalDateTime>> createdAts = ArgumentCaptor.forClass(List.class);
+        verify(memberOutboxUseCase).recordOutboxEventsProcessed(eq("member-created-outbox"), eq(2), createdAts.capture());
+        Assertions.assertThat(createdAts.getValue())
+                .singleElement()
+                .satisfies(createdAt -> Assertions.assertThat(createdAt).isBefore(LocalDateTime.now()));
+    }
+
+
+    @DisplayName("[bad] 변환할 수 없는 레코드가 있으면 그 앞까지 처리하고 실패한 레코드의 위치를 오류 핸들러에 전달한다.")
+    @Test
+    void listenInternalMemberCreate_failedRecord() {
+        // given
+        List<ConsumerRecord<String, MemberOutboxEvent>> records = List.of(
+                createRecord(0L, 1L, "10"), createRecord(1L, 2L, "not-a-number"), createRecord(2L, 3L, "12"));
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> sut.listenInternalMemberCreate(records, acknowledgment))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> Assertions.assertThat(e.getIndex()).isEqualTo(1));
+        verify(memberOutboxUseCase).markOutboxEventsProcessed(List.of(10L));
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+
+    @DisplayName("[bad] 역직렬화에 실패한 레코드(값이 null)가 있으면 그 앞까지 처리하고 실패한 레코드의 위치를 오류 핸들러에 전달한다.")
+    @Test
+    void listenInternalMemberCreate_deserializationFailure() {
+        // given
+        ConsumerRecord<String, MemberOutboxEvent> failed = new ConsumerRecord<>("member-created-outbox", 0, 1L, null, null);
+        List<ConsumerRecord<String, MemberOutboxEvent>> records = List.of(createRecord(0L, 1L, "10"), failed);
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> sut.listenInternalMemberCreate(records, acknowledgment))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> Assertions.assertThat(e.getIndex()).isEqualTo(1));
+        verify(memberOutboxUseCase).markOutboxEventsProcessed(List.of(10L));
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+
+    /**
+     * @param offset   레코드 오프셋
+     * @param memberId 이벤트의 회원 ID
+     * @param outboxId outbox-id 헤더 값 (없으면 null)
+     * @return member-created-outbox 토픽의 ConsumerRecord
+     * @apiNote test를 위한 ConsumerRecord 생성
+     */
+    private ConsumerRecord<String, MemberOutboxEvent> createRecord(long offset, long memberId, String outboxId) {
+        MemberOutboxEvent value = MemberOutboxEvent.newBuilder().setMemberId(memberId).build();
+        ConsumerRecord<String, MemberOutboxEvent> record = new ConsumerRecord<>("member-created-outbox", 0, offset, null, value);
+        if (outboxId != null) {
+            record.headers().add(OUTBOX_ID_HEADER, outboxId.getBytes(StandardCharsets.UTF_8));
+        }
+        return record;
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.pulse.member.adapter.in.scheduler;
+
+import com.pulse.member.adapter.out.persistence.entity.constant.MessageStatus;
+import com.pulse.member.application.port.in.outbox.MemberOutboxUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[Scheduler] MemberOutboxMetricsScheduler 단위 테스트")
+class MemberOutboxMetricsSchedulerTest {
+
+    @Mock private MemberOutboxUseCase memberOutboxUseCase;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MemberOutboxMetricsScheduler sut;
+
+
+    @BeforeEach
+    void setUp() {
+        sut = new MemberOutboxMetricsScheduler(memberOutboxUseCase, meterRegistry);
+    }
+
+
+    @DisplayName("[happy] 갱신하면 backlog 상태(PENDING/SENT/FAIL)별 행 수와 가장 오래된 PENDING 행의 대기 시간을 gauge로 노출한다.")
+    @Test
+    void refreshBacklogMetrics() {
+        // given
+        Map<MessageStatus, Long> counts = new EnumMap<>(MessageStatus.class);
+        counts.put(MessageStatus.PENDING, 3L);
+        counts.put(MessageStatus.SENT, 2L);
+        counts.put(MessageStatus.FAIL, 0L);
+        given(memberOutboxUseCase.countOutboxEventsByStatus(MemberOutboxMetricsScheduler.BACKLOG_STATUSES)).willReturn(counts);
+        given(memberOutboxUseCase.findOldestOutboxCreatedAt(MessageStatus.PENDING))
+                .willReturn(Optional.of(LocalDateTime.now().minusMinutes(1)));
+        given(memberOutboxUseCase.findOldestOutboxCreatedAt(MessageStatus.FAIL)).willReturn(Optional.empty());
+
+        // when
+        sut.refreshBacklogMetrics();
+
+        // then
+        Assertions.assertThat(meterRegistry.get("outbox.rows").tag("status", "PENDING").gauge().value()).isEqualTo(3);
+        Assertions.assertThat(meterRegistry.get("outbox.rows").tag("status", "SENT").gauge().value()).isEqualTo(2);
+        Assertions.assertThat(meterRegistry.get("outbox.rows").tag("status", "FAIL").gauge().value()).isZero();
+        Assertions.assertThat(meterRegistry.find("outbox.rows").tag("status", "PROCESSED").gauge()).isNull();
+        Assertions.assertThat(meterRegistry.get("outbox.oldest.age").tag("status", "PENDING").gauge().value()).isGreaterThanOrEqualTo(60);
+        Assertions.assertThat(meterRegistry.get("outbox.oldest.age").tag("status", "FAIL").gauge().value()).isZero();
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.pulse.member.adapter.in.scheduler;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[Scheduler] MemberOutboxNotificationListener 단위 테스트")
+class MemberOutboxNotificationListenerTest {
+
+    @Mock private DataSource dataSource;
+    @Mock private Connection connection;
+    @Mock private Statement statement;
+    @Mock private PGConnection pgConnection;
+    @Mock private PGNotification notification;
+    @Mock private MemberOutboxRelayScheduler memberOutboxRelayScheduler;
+
+    private MemberOutboxNotificationListener sut;
+
+
+    @BeforeEach
+    void setUp() {
+        sut = new MemberOutboxNotificationListener(dataSource, memberOutboxRelayScheduler);
+        ReflectionTestUtils.setField(sut, "listenTimeoutMs", 10);
+        ReflectionTestUtils.setField(sut, "running", true);
+    }
+
+
+    @DisplayName("[happy] NOTIFY를 받으면 relay를 깨우고, 연결이 끊기면 relay를 polling으로 전환한다.")
+    @Test
+    void listenUntilDisconnected() throws Exception {
+        // given
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.createStatement()).willReturn(statement);
+        given(connection.unwrap(PGConnection.class)).willReturn(pgConnection);
+        given(pgConnection.getNotifications(anyInt()))
+                .willReturn(new PGNotification[]{notification})
+                .willThrow(new SQLException("connection reset"));
+
+        // when
+        boolean result = sut.listenUntilDisconnected();
+
+        // then
+        Assertions.assertThat(result).isFalse();
+        verify(statement).execute("LISTEN member_outbox");
+        InOrder inOrder = inOrder(memberOutboxRelayScheduler);
+        inOrder.verify(memberOutboxRelayScheduler).changeListening(true);
+        inOrder.verify(memberOutboxRelayScheduler).wakeUp();
+        inOrder.verify(memberOutboxRelayScheduler).changeListening(false);
+    }
+
+
+    @DisplayName("[bad] LISTEN 연결에 실패하면 relay는 polling으로 동작한다.")
+    @Test
+    void listenUntilDisconnected_connectionFailed() throws Exception {
+        // given
+        given(dataSource.getConnection()).willThrow(new SQLException("connection refused"));
+
+        // when
+        boolean result = sut.listenUntilDisconnected();
+
+        // then
+        Assertions.assertThat(result).isFalse();
+        verify(memberOutboxRelayScheduler).changeListening(false);
+        verify(memberOutboxRelayScheduler, never()).changeListening(true);
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.pulse.member.adapter.in.scheduler;
+
+import com.pulse.member.application.port.in.outbox.MemberOutboxUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[Scheduler] MemberOutboxRelayScheduler 단위 테스트")
+class MemberOutboxRelaySchedulerTest {
+
+    @Mock private MemberOutboxUseCase memberOutboxUseCase;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MemberOutboxRelayScheduler sut;
+
+
+    @BeforeEach
+    void setUp() {
+        sut = new MemberOutboxRelayScheduler(memberOutboxUseCase, meterRegistry);
+        ReflectionTestUtils.setField(sut, "batchSize", 100);
+        ReflectionTestUtils.setField(sut, "maxBatches", 10);
+        ReflectionTestUtils.setField(sut, "minIntervalMs", 10L);
+        ReflectionTestUtils.setField(sut, "maxIntervalMs", 40L);
+        ReflectionTestUtils.setField(sut, "listenIntervalMs", 60000L);
+        ReflectionTestUtils.setField(sut, "coalesceEventTypes", Set.of());
+        ReflectionTestUtils.setField(sut, "coalesceWindowMs", 1000L);
+    }
+
+
+    @DisplayName("[happy] 가져온 건수가 batch 크기보다 적어질 때까지 batch 단위로 전송하고 전송 건수를 기록한다.")
+    @Test
+    void relayUntilLastBatch() {
+        // given
+        given(memberOutboxUseCase.relayPendingOutboxEvents(100)).willReturn(100, 40);
+
+        // when
+        sut.relayPendingOutboxEvents();
+
+        // then
+        verify(memberOutboxUseCase, times(2)).relayPendingOutboxEvents(100);
+        Assertions.assertThat(meterRegistry.get("outbox.relay.relayed").counter().count()).isEqualTo(140);
+    }
+
+
+    @DisplayName("[happy] 한 번 실행에서 최대 batch 수를 넘겨서 전송하지 않는다.")
+    @Test
+    void relayStopsAtMaxBatches() {
+        // given
+        given(memberOutboxUseCase.relayPendingOutboxEvents(100)).willReturn(100);
+
+        // when
+        sut.relayPendingOutboxEvents();
+
+        // then
+        verify(memberOutboxUseCase, times(10)).relayPendingOutboxEvents(100);
+    }
+
+
+    @DisplayName("[happy] LISTEN 연결 중에는 polling 주기를 기다리지 않고 NOTIFY로 깨어났을 때 바로 전송한다.")
+    @Test
+    void relayOnNotify() {
+        // given
+        given(memberOutboxUseCase.relayPendingOutboxEvents(100)).willReturn(1);
+        sut.changeListening(true);
+
+        // when
+        sut.start();
+        try {
+            verify(memberOutboxUseCase, timeout(1000).times(1)).relayPendingOutboxEvents(100);
+            sut.wakeUp();
+
+            // then
+            verify(memberOutboxUseCase, timeout(1000).times(2)).relayPendingOutboxEvents(100);
+        } finally {
+            sut.stop();
+        }
+    }
+
+
+    @DisplayName("[happy] LISTEN 연결 중이라도 직전 실행이 최대 건수를 채웠다면 NOTIFY 없이 이어서 전송한다.")
+    @Test
+    void relayBacklogWithoutNotify() {
+        // given
+        given(memberOutboxUseCase.relayPendingOutboxEvents(100)).willReturn(100, 100, 100, 100, 100, 100, 100, 100, 100, 100, 30);
+        sut.changeListening(true);
+
+        // when
+        sut.start();
+        try {
+            // then
+            verify(memberOutboxUseCase, timeout(1000).times(11)).relayPendingOutboxEvents(100);
+        } finally {
+            sut.stop();
+        }
+    }
+
+
+    @DisplayName("[happy] 최대 건수를 채운 실행 뒤에는 최소 주기만 기다리고, 아니면 LISTEN 여부에 따라 기다린다.")
+    @Test
+    void nextWaitMs() {
+        // when & then
+        Assertions.assertThat(sut.nextWaitMs(40L, 1000)).isEqualTo(10L);
+        Assertions.assertThat(sut.nextWaitMs(40L, 999)).isEqualTo(40L);
+
+        sut.changeListening(true);
+        Assertions.assertThat(sut.nextWaitMs(40L, 1000)).isEqualTo(10L);
+        Assertions.assertThat(sut.nextWaitMs(40L, 999)).isEqualTo(60000L);
+    }
+
+
+    @DisplayName("[happy] LISTEN을 사용할 수 없으면 NOTIFY 없이도 적응형 주기로 polling 한다.")
+    @Test
+    void relayByPollingWithoutListen() {
+        // given
+        given(memberOutboxUseCase.relayPendingOutboxEvents(100)).willReturn(0);
+
+        // when
+        sut.start();
+        try {
+            // then
+            verify(memberOutboxUseCase, timeout(1000).atLeast(3)).relayPendingOutboxEvents(100);
+        } finally {
+            sut.stop();
+        }
+    }
+
+
+    @DisplayName("[happy] 빈 조회마다 polling 주기를 두 배로 늘리되 최대 주기를 넘지 않고, 전송한 건이 있으면 최소 주기로 돌아간다.")
+    @Test
+    void nextIntervalMs() {
+        // when & then
+        Assertions.assertThat(sut.nextIntervalMs(10L, 0)).isEqualTo(20L);
+        Assertions.assertThat(sut.nextIntervalMs(20L, 0)).isEqualTo(40L);
+        Assertions.assertThat(sut.nextIntervalMs(40L, 0)).isEqualTo(40L);
+        Assertions.assertThat(sut.nextIntervalMs(40L, 5)).isEqualTo(10L);
+    }
+
+
+    @DisplayName("[happy] 병합 대상 이벤트 타입이 있으면 LISTEN 중에도 병합 구간마다 조회한다.")
+    @Test
+    void listenWaitMs() {
+        // when & then
+        Assertions.assertThat(sut.listenWaitMs()).isEqualTo(60000L);
+
+        ReflectionTestUtils.setField(sut, "coalesceEventTypes", Set.of("member-nickname-change-outbox"));
+        Assertions.assertThat(sut.listenWaitMs()).isEqualTo(1000L);
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.pulse.member.adapter.in.scheduler;
+
+import com.pulse.member.application.port.in.outbox.MemberOutboxUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[Scheduler] MemberOutboxRetentionScheduler 단위 테스트")
+class MemberOutboxRetentionSchedulerTest {
+
+    @Mock private MemberOutboxUseCase memberOutboxUseCase;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MemberOutboxRetentionScheduler sut;
+
+
+    @BeforeEach
+    void setUp() {
+        sut = new MemberOutboxRetentionScheduler(memberOutboxUseCase, meterRegistry);
+        ReflectionTestUtils.setField(sut, "retentionDays", 7);
+        ReflectionTestUtils.setField(sut, "partitionPrecreateDays", 3);
+        ReflectionTestUtils.setField(sut, "chunkSize", 100);
+        ReflectionTestUtils.setField(sut, "maxChunks", 10);
+    }
+
+
+    @DisplayName("[happy] 파티션을 미리 준비한 뒤 보존 기간이 지난 Outbox를 정리하고, 정리한 행 수를 기록한다.")
+    @Test
+    void purgeAfterPreparingPartitions() {
+        // given
+        given(memberOutboxUseCase.purgeExpiredOutboxEvents(7, 100)).willReturn(2500, 0);
+
+        // when
+        sut.purgeExpiredOutboxEvents();
+
+        // then
+        InOrder inOrder = inOrder(memberOutboxUseCase);
+        inOrder.verify(memberOutboxUseCase).prepareOutboxPartitions(3);
+        inOrder.verify(memberOutboxUseCase, times(2)).purgeExpiredOutboxEvents(7, 100);
+        Assertions.assertThat(meterRegistry.get("outbox.retention.reclaimed").counter().count()).isEqualTo(2500);
+        Assertions.assertThat(meterRegistry.get("outbox.retention.unprocessed").counter().count()).isZero();
+    }
+
+
+    @DisplayName("[exception] 보존 기간이 지났지만 처리되지 않아 남긴 행 수를 정리 건수와 따로 기록한다.")
+    @Test
+    void recordUnprocessedExpiredRows() {
+        // given
+        given(memberOutboxUseCase.purgeExpiredOutboxEvents(7, 100)).willReturn(0);
+        given(memberOutboxUseCase.countUnprocessedExpiredOutboxEvents(7)).willReturn(3L);
+
+        // when
+        sut.purgeExpiredOutboxEvents();
+
+        // then
+        Assertions.assertThat(meterRegistry.get("outbox.retention.reclaimed").counter().count()).isZero();
+        Assertions.assertThat(meterRegistry.get("outbox.retention.unprocessed").counter().count()).isEqualTo(3);
+    }
+
+}
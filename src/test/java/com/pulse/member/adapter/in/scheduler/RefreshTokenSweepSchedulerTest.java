@@ -0,0 +1,64 @@
+package com.pulse.member.adapter.in.scheduler;
+
+import com.pulse.member.application.port.in.refreshtoken.DeleteRefreshTokenUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[Scheduler] RefreshTokenSweepScheduler 단위 테스트")
+class RefreshTokenSweepSchedulerTest {
+
+    @Mock private DeleteRefreshTokenUseCase deleteRefreshTokenUseCase;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RefreshTokenSweepScheduler sut;
+
+
+    @BeforeEach
+    void setUp() {
+        sut = new RefreshTokenSweepScheduler(deleteRefreshTokenUseCase, meterRegistry);
+        ReflectionTestUtils.setField(sut, "chunkSize", 100);
+        ReflectionTestUtils.setField(sut, "maxChunks", 10);
+    }
+
+
+    @DisplayName("[happy] 삭제 건수가 chunk 크기보다 적어질 때까지 chunk 단위로 삭제하고 삭제 건수를 기록한다.")
+    @Test
+    void sweepUntilLastChunk() {
+        // given
+        given(deleteRefreshTokenUseCase.deleteExpiredRefreshTokens(100)).willReturn(100, 100, 30);
+
+        // when
+        sut.sweepExpiredRefreshTokens();
+
+        // then
+        verify(deleteRefreshTokenUseCase, times(3)).deleteExpiredRefreshTokens(100);
+        Assertions.assertThat(meterRegistry.get("refresh.token.sweep.deleted").counter().count()).isEqualTo(230);
+    }
+
+
+    @DisplayName("[happy] 한 번 실행에서 최대 chunk 수를 넘겨서 삭제하지 않는다.")
+    @Test
+    void sweepStopsAtMaxChunks() {
+        // given
+        given(deleteRefreshTokenUseCase.deleteExpiredRefreshTokens(100)).willReturn(100);
+
+        // when
+        sut.sweepExpiredRefreshTokens();
+
+        // then
+        verify(deleteRefreshTokenUseCase, times(10)).deleteExpiredRefreshTokens(100);
+    }
+
+}
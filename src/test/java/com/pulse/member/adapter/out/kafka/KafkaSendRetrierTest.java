@@ -0,0 +1,101 @@
+package com.pulse.member.adapter.out.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("[Adapter] KafkaSendRetrier 단위 테스트")
+class KafkaSendRetrierTest {
+
+    private static final String TOPIC = "member-created-outbox";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final KafkaSendRetrier sut = new KafkaSendRetrier(3, 10, 40, meterRegistry);
+
+
+    @AfterEach
+    void tearDown() {
+        sut.shutdown();
+    }
+
+
+    @DisplayName("[happy] 일시적인 오류로 실패한 전송은 backoff 뒤 다시 전송하고, 성공하면 결과로 완료한다.")
+    @Test
+    void execute_retrySuccess() throws Exception {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        CompletableFuture<String> result = sut.execute(TOPIC, () -> attempts.incrementAndGet() < 3
+                ? CompletableFuture.failedFuture(new TimeoutException("broker down"))
+                : CompletableFuture.completedFuture("sent"));
+
+        // then
+        Assertions.assertThat(result.get()).isEqualTo("sent");
+        Assertions.assertThat(attempts).hasValue(3);
+        Assertions.assertThat(meterRegistry.get("kafka.producer.send.retry").tag("result", "retried").counter().count()).isEqualTo(2);
+    }
+
+
+    @DisplayName("[bad] 재시도를 모두 소진하면 마지막 전송 실패 예외로 완료한다.")
+    @Test
+    void execute_exhausted() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        CompletableFuture<String> result = sut.execute(TOPIC, () -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.failedFuture(new TimeoutException("broker down"));
+        });
+
+        // then
+        Assertions.assertThatThrownBy(result::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        Assertions.assertThat(attempts).hasValue(3);
+        Assertions.assertThat(meterRegistry.get("kafka.producer.send.retry").tag("result", "exhausted").counter().count()).isEqualTo(1);
+    }
+
+
+    @DisplayName("[bad] 재시도해도 결과가 같은 오류는 다시 전송하지 않고 바로 실패로 완료한다.")
+    @Test
+    void execute_notRetryable() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        CompletableFuture<String> result = sut.execute(TOPIC, () -> {
+            attempts.incrementAndGet();
+            throw new RecordTooLargeException("too large");
+        });
+
+        // then
+        Assertions.assertThatThrownBy(result::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RecordTooLargeException.class);
+        Assertions.assertThat(attempts).hasValue(1);
+        Assertions.assertThat(meterRegistry.get("kafka.producer.send.retry").tag("result", "not_retryable").counter().count()).isEqualTo(1);
+    }
+
+
+    @DisplayName("[happy] backoff는 시도마다 두 배로 늘어난 값의 절반~전체 사이이며, 상한을 넘지 않는다.")
+    @Test
+    void backoffMs() {
+        for (int i = 0; i < 100; i++) {
+            // when & then
+            Assertions.assertThat(sut.backoffMs(1)).isBetween(5L, 10L);
+            Assertions.assertThat(sut.backoffMs(2)).isBetween(10L, 20L);
+            Assertions.assertThat(sut.backoffMs(5)).isBetween(20L, 40L);
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.pulse.member.adapter.out.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("[Adapter] MemberOutboxMetricsAdapter 단위 테스트")
+class MemberOutboxMetricsAdapterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MemberOutboxMetricsAdapter sut = new MemberOutboxMetricsAdapter(meterRegistry);
+
+
+    @DisplayName("[happy] 처리완료 건수와 생성 시각이 있는 Outbox의 생성부터 처리완료까지의 지연을 이벤트 타입별로 기록한다.")
+    @Test
+    void recordMemberOutboxProcessed() {
+        // given
+        LocalDateTime processedAt = LocalDateTime.now();
+
+        // when
+        sut.recordMemberOutboxProcessed("member-created-outbox", 2, List.of(processedAt.minusSeconds(1)), processedAt);
+
+        // then
+        Assertions.assertThat(meterRegistry.get("outbox.events")
+                .tags("event_type", "member-created-outbox", "result", "processed").counter().count()).isEqualTo(2);
+        Assertions.assertThat(meterRegistry.get("outbox.dispatch.lag")
+                .tags("event_type", "member-created-outbox", "stage", "processed").timer().totalTime(TimeUnit.MILLISECONDS))
+                .isEqualTo(1000);
+    }
+
+
+    @DisplayName("[exception] 서버 간 시계 차이로 생성 시각이 처리완료 시각보다 늦으면 지연을 0으로 기록한다.")
+    @Test
+    void recordMemberOutboxProcessed_clockSkew() {
+        // given
+        LocalDateTime processedAt = LocalDateTime.now();
+
+        // when
+        sut.recordMemberOutboxProcessed("member-created-outbox", 1, List.of(processedAt.plusSeconds(1)), processedAt);
+
+        // then
+        Assertions.assertThat(meterRegistry.get("outbox.dispatch.lag")
+                .tags("event_type", "member-created-outbox", "stage", "processed").timer().totalTime(TimeUnit.MILLISECONDS))
+                .isZero();
+    }
+
+}
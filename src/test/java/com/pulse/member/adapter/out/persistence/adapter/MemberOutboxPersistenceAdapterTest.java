@@ -0,0 +1,90 @@
+package com.pulse.member.adapter.out.persistence.adapter;
+
+import com.pulse.member.adapter.out.persistence.entity.constant.MessageStatus;
+import com.pulse.member.adapter.out.persistence.outbox.MemberOutboxNotifier;
+import com.pulse.member.adapter.out.persistence.outbox.MemberOutboxRetentionStore;
+import com.pulse.member.adapter.out.persistence.repository.MemberOutboxRepository;
+import com.pulse.member.mapper.MemberOutboxMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[Adapter] MemberOutboxPersistenceAdapter 단위 테스트")
+class MemberOutboxPersistenceAdapterTest {
+
+    @Mock private MemberOutboxRepository memberOutboxRepository;
+    @Mock private MemberOutboxMapper memberOutboxMapper;
+    @Mock private MemberOutboxRetentionStore memberOutboxRetentionStore;
+    @Mock private MemberOutboxNotifier memberOutboxNotifier;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MemberOutboxPersistenceAdapter sut;
+
+
+    @BeforeEach
+    void setUp() {
+        sut = new MemberOutboxPersistenceAdapter(
+                memberOutboxRepository, memberOutboxMapper, memberOutboxRetentionStore, memberOutboxNotifier, meterRegistry);
+    }
+
+
+    @DisplayName("[happy] 허용된 이전 상태 조건으로 UPDATE 하고, 변경되지 않은 건수를 순서가 뒤바뀐 상태 변경으로 기록한다.")
+    @Test
+    void updateMemberOutboxStatus_countOutOfOrder() {
+        // given
+        given(memberOutboxRepository.updateStatusByIdInAndStatusIn(eq(List.of(1L, 2L, 3L)), eq(MessageStatus.SENT), any(),
+                eq(EnumSet.of(MessageStatus.PENDING, MessageStatus.FAIL)))).willReturn(2);
+
+        // when
+        int updated = sut.updateMemberOutboxStatus(List.of(1L, 2L, 3L), MessageStatus.SENT, LocalDateTime.now());
+
+        // then
+        Assertions.assertThat(updated).isEqualTo(2);
+        Assertions.assertThat(meterRegistry.get("outbox.status.out_of_order").tag("status", "SENT").counter().count()).isEqualTo(1);
+    }
+
+
+    @DisplayName("[happy] 모든 행이 전이되면 순서가 뒤바뀐 상태 변경을 기록하지 않는다.")
+    @Test
+    void updateMemberOutboxStatus_inOrder() {
+        // given
+        given(memberOutboxRepository.markOldestDispatchedProcessed(eq(1L), eq("member-created-outbox"), any())).willReturn(1);
+
+        // when
+        int updated = sut.markOldestDispatchedMemberOutboxProcessed(1L, "member-created-outbox", LocalDateTime.now());
+
+        // then
+        Assertions.assertThat(updated).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.find("outbox.status.out_of_order").counter()).isNull();
+    }
+
+
+    @DisplayName("[happy] outbox-id 헤더가 없는 메시지에 해당하는 전송된 Outbox가 없으면 한 건을 순서가 뒤바뀐 상태 변경으로 기록한다.")
+    @Test
+    void markOldestDispatchedMemberOutboxProcessed_noDispatchedRow() {
+        // given
+        given(memberOutboxRepository.markOldestDispatchedProcessed(eq(1L), eq("member-created-outbox"), any())).willReturn(0);
+
+        // when
+        int updated = sut.markOldestDispatchedMemberOutboxProcessed(1L, "member-created-outbox", LocalDateTime.now());
+
+        // then
+        Assertions.assertThat(updated).isZero();
+        Assertions.assertThat(meterRegistry.get("outbox.status.out_of_order").tag("status", "PROCESSED").counter().count()).isEqualTo(1);
+    }
+
+}
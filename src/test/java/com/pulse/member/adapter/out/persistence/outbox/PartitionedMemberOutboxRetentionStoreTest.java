@@ -0,0 +1,148 @@
+package com.pulse.member.adapter.out.persistence.outbox;
+
+import com.pulse.member.adapter.out.persistence.outbox.PartitionedMemberOutboxRetentionStore.OutboxPartition;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[Adapter] PartitionedMemberOutboxRetentionStore 단위 테스트")
+class PartitionedMemberOutboxRetentionStoreTest {
+
+    @Mock private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks private PartitionedMemberOutboxRetentionStore sut;
+
+
+    @DisplayName("[happy] 보존 기간이 지난 일자별 파티션은 CONCURRENTLY로 분리한 뒤 DROP 하고, 정리한 행 수를 반환한다.")
+    @Test
+    void deleteCreatedBefore_detachAndDropExpiredPartitions() {
+        // given
+        LocalDateTime cutoff = LocalDate.of(2025, 1, 8).atStartOfDay();
+        given(jdbcTemplate.query(anyString(), any(RowMapper.class))).willReturn(List.of(
+                new OutboxPartition("member_outbox_p20250107", true, false),
+                new OutboxPartition("member_outbox_p20250108", true, false)));
+        given(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM member_outbox_p20250107 WHERE message_status <> 'PROCESSED'", Integer.class)).willReturn(0);
+        given(jdbcTemplate.queryForObject("SELECT count(*) FROM member_outbox_p20250107", Integer.class)).willReturn(500);
+
+        // when
+        int reclaimed = sut.deleteCreatedBefore(cutoff, 1000);
+
+        // then
+        Assertions.assertThat(reclaimed).isEqualTo(500);
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE member_outbox DETACH PARTITION member_outbox_p20250107 CONCURRENTLY");
+        inOrder.verify(jdbcTemplate).execute("DROP TABLE IF EXISTS member_outbox_p20250107");
+        verify(jdbcTemplate, never()).execute(contains("member_outbox_p20250108"));
+    }
+
+
+    @DisplayName("[happy] 이전 실행에서 분리가 중단된 파티션은 FINALIZE로 분리를 마치고, 분리만 된 테이블은 바로 DROP 한다.")
+    @Test
+    void deleteCreatedBefore_finishInterruptedDetach() {
+        // given
+        LocalDateTime cutoff = LocalDate.of(2025, 1, 8).atStartOfDay();
+        given(jdbcTemplate.query(anyString(), any(RowMapper.class))).willReturn(List.of(
+                new OutboxPartition("member_outbox_p20250105", true, true),
+                new OutboxPartition("member_outbox_p20250106", false, false)));
+        given(jdbcTemplate.queryForObject(startsWith("SELECT count(*)"), eq(Integer.class))).willReturn(10);
+
+        // when
+        int reclaimed = sut.deleteCreatedBefore(cutoff, 1000);
+
+        // then
+        Assertions.assertThat(reclaimed).isEqualTo(20);
+        verify(jdbcTemplate).execute("ALTER TABLE member_outbox DETACH PARTITION member_outbox_p20250105 FINALIZE");
+        verify(jdbcTemplate).execute("DROP TABLE IF EXISTS member_outbox_p20250105");
+        verify(jdbcTemplate, never()).execute(startsWith("ALTER TABLE member_outbox DETACH PARTITION member_outbox_p20250106"));
+        verify(jdbcTemplate).execute("DROP TABLE IF EXISTS member_outbox_p20250106");
+    }
+
+
+    @DisplayName("[exception] 보존 기간이 지났어도 처리완료되지 않은 행이 남아 있는 파티션은 분리하지 않고 남긴다.")
+    @Test
+    void deleteCreatedBefore_keepPartitionWithUnprocessedRows() {
+        // given
+        LocalDateTime cutoff = LocalDate.of(2025, 1, 8).atStartOfDay();
+        given(jdbcTemplate.query(anyString(), any(RowMapper.class))).willReturn(List.of(
+                new OutboxPartition("member_outbox_p20250107", true, false)));
+        given(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM member_outbox_p20250107 WHERE message_status <> 'PROCESSED'", Integer.class)).willReturn(3);
+
+        // when
+        int reclaimed = sut.deleteCreatedBefore(cutoff, 1000);
+
+        // then
+        Assertions.assertThat(reclaimed).isZero();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+
+    @DisplayName("[happy] 보존 기간이 지났지만 처리완료되지 않은 행 수를 부모 테이블에서 센다.")
+    @Test
+    void countUnprocessedCreatedBefore() {
+        // given
+        LocalDateTime cutoff = LocalDate.of(2025, 1, 8).atStartOfDay();
+        given(jdbcTemplate.queryForObject(contains("message_status <> 'PROCESSED'"), eq(Long.class), eq(cutoff))).willReturn(3L);
+
+        // when & then
+        Assertions.assertThat(sut.countUnprocessedCreatedBefore(cutoff)).isEqualTo(3);
+    }
+
+
+    @DisplayName("[bad] 한 일자의 파티션 생성이 실패해도 나머지 일자의 파티션은 생성한다.")
+    @Test
+    void preparePartitions_continueAfterFailure() {
+        // given
+        willThrow(new DataIntegrityViolationException("updated partition constraint for default partition would be violated"))
+                .given(jdbcTemplate).execute(contains("member_outbox_p20250131"));
+
+        // when
+        sut.preparePartitions(LocalDate.of(2025, 1, 31), 1);
+
+        // then
+        verify(jdbcTemplate).execute(
+                "CREATE TABLE IF NOT EXISTS member_outbox_p20250201 PARTITION OF member_outbox FOR VALUES FROM ('2025-02-01') TO ('2025-02-02')");
+    }
+
+
+    @DisplayName("[happy] 시작 일자부터 지정한 일 수만큼 일자별 파티션을 생성한다.")
+    @Test
+    void preparePartitions() {
+        // when
+        sut.preparePartitions(LocalDate.of(2025, 1, 31), 1);
+
+        // then
+        verify(jdbcTemplate).execute(
+                "CREATE TABLE IF NOT EXISTS member_outbox_p20250131 PARTITION OF member_outbox FOR VALUES FROM ('2025-01-31') TO ('2025-02-01')");
+        verify(jdbcTemplate).execute(
+                "CREATE TABLE IF NOT EXISTS member_outbox_p20250201 PARTITION OF member_outbox FOR VALUES FROM ('2025-02-01') TO ('2025-02-02')");
+        verify(jdbcTemplate, times(2)).execute(anyString());
+    }
+
+}
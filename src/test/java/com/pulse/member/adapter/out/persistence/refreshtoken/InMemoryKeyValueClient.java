@@ -0,0 +1,45 @@
+package com.pulse.member.adapter.out.persistence.refreshtoken;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트용 KeyValueClient (redis 대신 사용하는 인메모리 구현, TTL은 무시)
+ */
+class InMemoryKeyValueClient implements KeyValueClient {
+
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> sets = new ConcurrentHashMap<>();
+
+
+    @Override
+    public void set(String key, String value, Duration ttl) {
+        values.put(key, value);
+    }
+
+    @Override
+    public String get(String key) {
+        return values.get(key);
+    }
+
+    @Override
+    public void delete(Set<String> keys) {
+        keys.forEach(key -> {
+            values.remove(key);
+            sets.remove(key);
+        });
+    }
+
+    @Override
+    public void addToSet(String key, String value, Duration ttl) {
+        sets.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(value);
+    }
+
+    @Override
+    public Set<String> getSet(String key) {
+        return sets.getOrDefault(key, Set.of());
+    }
+
+}
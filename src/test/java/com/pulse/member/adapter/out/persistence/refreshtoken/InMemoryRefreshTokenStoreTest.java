@@ -0,0 +1,135 @@
+package com.pulse.member.adapter.out.persistence.refreshtoken;
+
+import com.pulse.member.domain.Member;
+import com.pulse.member.domain.RefreshToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[Adapter] InMemoryRefreshTokenStore 단위 테스트")
+class InMemoryRefreshTokenStoreTest {
+
+    @Mock private RefreshTokenStore delegate;
+
+    private InMemoryRefreshTokenStore sut;
+
+
+    @BeforeEach
+    void setUp() {
+        sut = new InMemoryRefreshTokenStore(delegate, 100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+    }
+
+
+    @DisplayName("[happy] 저장한 토큰은 DB 조회 없이 메모리에서 조회된다.")
+    @Test
+    void saveWriteThroughAndFindFromMemory() {
+        // given
+        RefreshToken refreshToken = RefreshToken.of(createMember(), 60);
+        given(delegate.save(refreshToken)).willReturn(refreshToken);
+
+        // when
+        sut.save(refreshToken);
+        Optional<RefreshToken> result = sut.findByToken(refreshToken.getToken());
+
+        // then
+        Assertions.assertThat(result).containsSame(refreshToken);
+        verify(delegate, times(1)).save(refreshToken);
+        verify(delegate, never()).findByToken(anyString());
+    }
+
+
+    @DisplayName("[happy] 메모리에 없는 토큰은 DB에서 조회한 뒤 캐시한다.")
+    @Test
+    void findFallbackToDelegate() {
+        // given
+        RefreshToken refreshToken = RefreshToken.of(createMember(), 60);
+        given(delegate.findByToken(refreshToken.getToken())).willReturn(Optional.of(refreshToken));
+
+        // when
+        sut.findByToken(refreshToken.getToken());
+        sut.findByToken(refreshToken.getToken());
+
+        // then
+        verify(delegate, times(1)).findByToken(refreshToken.getToken());
+    }
+
+
+    @DisplayName("[happy] 회원 ID로 삭제하면 메모리와 DB에서 모두 제거된다.")
+    @Test
+    void deleteByMemberId() {
+        // given
+        RefreshToken refreshToken = RefreshToken.of(createMember(), 60);
+        given(delegate.save(refreshToken)).willReturn(refreshToken);
+        sut.save(refreshToken);
+
+        // when
+        sut.deleteByMemberId(1L);
+
+        // then
+        Assertions.assertThat(sut.findByToken(refreshToken.getToken())).isEmpty();
+        verify(delegate).deleteByMemberId(1L);
+    }
+
+
+    @DisplayName("[happy] 다른 인스턴스에서 폐기된 회원의 토큰은 DB를 건드리지 않고 메모리에서만 제거된다.")
+    @Test
+    void evictCachedOnRemoteRevocation() {
+        // given
+        RefreshToken refreshToken = RefreshToken.of(createMember(), 60);
+        given(delegate.save(refreshToken)).willReturn(refreshToken);
+        sut.save(refreshToken);
+
+        // when
+        sut.evictCached(1L);
+
+        // then
+        Assertions.assertThat(sut.findByToken(refreshToken.getToken())).isEmpty();
+        verify(delegate).findByToken(refreshToken.getToken());
+        verify(delegate, never()).deleteByMemberId(1L);
+    }
+
+
+    @DisplayName("[happy] 같은 기기로 새 토큰을 저장하면 이전 토큰은 메모리에서 제거된다.")
+    @Test
+    void saveEvictsPreviousTokenOfSameDevice() {
+        // given
+        RefreshToken oldToken = RefreshToken.of(createMember(), "phone", 60);
+        RefreshToken newToken = RefreshToken.of(createMember(), "phone", 60);
+        given(delegate.save(oldToken)).willReturn(oldToken);
+        given(delegate.save(newToken)).willReturn(newToken);
+        sut.save(oldToken);
+
+        // when
+        sut.save(newToken);
+
+        // then
+        Assertions.assertThat(sut.findByToken(newToken.getToken())).containsSame(newToken);
+        Assertions.assertThat(sut.findByToken(oldToken.getToken())).isEmpty();
+        verify(delegate).findByToken(oldToken.getToken());
+    }
+
+
+    /**
+     * @return 테스트용 회원
+     * @apiNote test를 위한 회원 생성
+     */
+    private Member createMember() {
+        return Member.builder().id(1L).email("test@test.com").nickname("tester").build();
+    }
+
+}
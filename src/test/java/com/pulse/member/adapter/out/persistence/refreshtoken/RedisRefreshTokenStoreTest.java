@@ -0,0 +1,105 @@
+package com.pulse.member.adapter.out.persistence.refreshtoken;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pulse.member.adapter.out.persistence.repository.SignInJdbcRepository;
+import com.pulse.member.domain.Member;
+import com.pulse.member.domain.RefreshToken;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("[Adapter] RedisRefreshTokenStore 단위 테스트")
+class RedisRefreshTokenStoreTest {
+
+    private final SignInJdbcRepository signInJdbcRepository = mock(SignInJdbcRepository.class);
+    private final RedisRefreshTokenStore sut = new RedisRefreshTokenStore(new InMemoryKeyValueClient(), new ObjectMapper(), signInJdbcRepository);
+
+
+    @DisplayName("[happy] 저장한 토큰을 토큰 값으로 조회하면 회원 정보가 포함되어 있다.")
+    @Test
+    void saveAndFind() {
+        // given
+        RefreshToken refreshToken = RefreshToken.of(createMember(), 60);
+        sut.save(refreshToken);
+
+        // when
+        Optional<RefreshToken> result = sut.findByToken(refreshToken.getToken());
+
+        // then
+        Assertions.assertThat(result).isPresent();
+        Assertions.assertThat(result.get().getMember().getId()).isEqualTo(1L);
+        Assertions.assertThat(result.get().getMember().getEmail()).isEqualTo("test@test.com");
+        Assertions.assertThat(result.get().getMember().getNickname()).isEqualTo("tester");
+    }
+
+
+    @DisplayName("[happy] 회원 ID로 삭제하면 회원의 모든 토큰이 조회되지 않는다.")
+    @Test
+    void deleteByMemberId() {
+        // given
+        RefreshToken first = RefreshToken.of(createMember(), "phone", 60);
+        RefreshToken second = RefreshToken.of(createMember(), "laptop", 60);
+        sut.save(first);
+        sut.save(second);
+
+        // when
+        sut.deleteByMemberId(1L);
+
+        // then
+        Assertions.assertThat(sut.findByToken(first.getToken())).isEmpty();
+        Assertions.assertThat(sut.findByToken(second.getToken())).isEmpty();
+    }
+
+
+    @DisplayName("[happy] 같은 기기로 다시 저장하면 이전 토큰은 삭제되고 다른 기기의 토큰은 유지된다.")
+    @Test
+    void saveRotatesTokenPerDevice() {
+        // given
+        RefreshToken oldPhoneToken = RefreshToken.of(createMember(), "phone", 60);
+        RefreshToken laptopToken = RefreshToken.of(createMember(), "laptop", 60);
+        sut.save(oldPhoneToken);
+        sut.save(laptopToken);
+
+        // when
+        RefreshToken newPhoneToken = RefreshToken.of(createMember(), "phone", 60);
+        sut.save(newPhoneToken);
+
+        // then
+        Assertions.assertThat(sut.findByToken(oldPhoneToken.getToken())).isEmpty();
+        Assertions.assertThat(sut.findByToken(newPhoneToken.getToken()))
+                .hasValueSatisfying(token -> Assertions.assertThat(token.getDeviceId()).isEqualTo("phone"));
+        Assertions.assertThat(sut.findByToken(laptopToken.getToken())).isPresent();
+    }
+
+
+    @DisplayName("[happy] 로그인 시 토큰은 redis에 저장하고 로그인 기록만 DB에 저장한다.")
+    @Test
+    void saveOnSignIn() {
+        // given
+        RefreshToken refreshToken = RefreshToken.of(createMember(), "phone", 60);
+        LocalDateTime loginAt = LocalDateTime.now();
+
+        // when
+        sut.saveOnSignIn(refreshToken, loginAt);
+
+        // then
+        Assertions.assertThat(sut.findByToken(refreshToken.getToken())).isPresent();
+        verify(signInJdbcRepository).recordSignIn(1L, loginAt);
+    }
+
+
+    /**
+     * @return 테스트용 회원
+     * @apiNote test를 위한 회원 생성
+     */
+    private Member createMember() {
+        return Member.builder().id(1L).email("test@test.com").nickname("tester").build();
+    }
+
+}
@@ -0,0 +1,231 @@
+package com.pulse.member.adapter.out.persistence.repository;
+
+import com.pulse.member.adapter.out.persistence.entity.MemberOutboxEntity;
+import com.pulse.member.adapter.out.persistence.entity.constant.MessageStatus;
+import com.pulse.member.config.jpa.AuditingConfig;
+import com.pulse.member.support.TestJpaSupporter;
+import jakarta.persistence.EntityManager;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Import(AuditingConfig.class)
+@DisplayName("[Repository] MemberOutboxRepository 테스트")
+class MemberOutboxRepositoryTest extends TestJpaSupporter {
+
+    private static final String MEMBER_CREATED = "member-created-outbox";
+    private static final String NICKNAME_CHANGE = "member-nickname-change-outbox";
+
+    @Autowired private MemberOutboxRepository memberOutboxRepository;
+    @Autowired private EntityManager entityManager;
+
+
+    @DisplayName("[happy] PENDING 행과 재전송 간격이 지났고 재전송 기한 안에 생성된 FAIL 행을 id 순으로 limit만큼 가져온다.")
+    @Test
+    void claimPending() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Long pending = saveOutbox(MEMBER_CREATED, 1L, MessageStatus.PENDING, now, null);
+        Long retryableFail = saveOutbox(MEMBER_CREATED, 2L, MessageStatus.FAIL, now.minusMinutes(10), now.minusMinutes(5));
+        saveOutbox(MEMBER_CREATED, 3L, MessageStatus.FAIL, now.minusMinutes(10), now.minusSeconds(5)); // 재전송 간격 전
+        saveOutbox(MEMBER_CREATED, 4L, MessageStatus.FAIL, now.minusHours(2), now.minusMinutes(5)); // 재전송 기한 지남
+        saveOutbox(MEMBER_CREATED, 5L, MessageStatus.SENT, now, now);
+        saveOutbox(MEMBER_CREATED, 6L, MessageStatus.PROCESSED, now, now);
+        Long overLimit = saveOutbox(MEMBER_CREATED, 7L, MessageStatus.PENDING, now, null);
+
+        // when
+        List<MemberOutboxEntity> claimed = memberOutboxRepository.claimPending(2, now.minusSeconds(30), now.minusHours(1));
+        List<MemberOutboxEntity> claimedAll = memberOutboxRepository.claimPending(100, now.minusSeconds(30), now.minusHours(1));
+
+        // then
+        Assertions.assertThat(claimed).extracting(MemberOutboxEntity::getId).containsExactly(pending, retryableFail);
+        Assertions.assertThat(claimedAll).extracting(MemberOutboxEntity::getId).containsExactly(pending, retryableFail, overLimit);
+    }
+
+
+    @DisplayName("[happy] 병합 대상 타입은 병합 구간 안의 행은 가져오지 않고, 가장 오래된 행이 구간을 지나면 같은 회원의 행을 함께 가져온다.")
+    @Test
+    void claimPendingCoalesced() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusSeconds(1);
+        Long created = saveOutbox(MEMBER_CREATED, 1L, MessageStatus.PENDING, now, null); // 병합 대상이 아닌 타입
+        Long windowClosedOldest = saveOutbox(NICKNAME_CHANGE, 1L, MessageStatus.PENDING, now.minusSeconds(5), null);
+        Long windowClosedNewest = saveOutbox(NICKNAME_CHANGE, 1L, MessageStatus.PENDING, now, null);
+        saveOutbox(NICKNAME_CHANGE, 2L, MessageStatus.PENDING, now, null); // 병합 구간 안
+        saveOutbox(NICKNAME_CHANGE, 2L, MessageStatus.PENDING, now, null); // 병합 구간 안
+
+        // when
+        List<MemberOutboxEntity> claimed = memberOutboxRepository.claimPendingCoalesced(
+                100, now.minusSeconds(30), now.minusHours(1), Set.of(NICKNAME_CHANGE), cutoff);
+
+        // then
+        Assertions.assertThat(claimed).extracting(MemberOutboxEntity::getId)
+                .containsExactly(created, windowClosedOldest, windowClosedNewest);
+    }
+
+
+    @DisplayName("[happy] 다시 가져가는 FAIL 행은 병합 구간과 관계없이 가져온다.")
+    @Test
+    void claimPendingCoalesced_failBypassesWindow() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Long retryableFail = saveOutbox(NICKNAME_CHANGE, 1L, MessageStatus.FAIL, now.minusMinutes(10), now.minusMinutes(5));
+        saveOutbox(NICKNAME_CHANGE, 1L, MessageStatus.PENDING, now, null); // 병합 구간 안
+
+        // when
+        List<MemberOutboxEntity> claimed = memberOutboxRepository.claimPendingCoalesced(
+                100, now.minusSeconds(30), now.minusHours(1), Set.of(NICKNAME_CHANGE), now.minusSeconds(1));
+
+        // then
+        Assertions.assertThat(claimed).extracting(MemberOutboxEntity::getId).containsExactly(retryableFail);
+    }
+
+
+    @DisplayName("[happy] 허용된 이전 상태인 행만 상태를 바꾸고, 이미 다른 상태가 된 행은 바꾸지 않는다.")
+    @Test
+    void updateStatusByIdInAndStatusIn() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Long pending = saveOutbox(MEMBER_CREATED, 1L, MessageStatus.PENDING, now, null);
+        Long fail = saveOutbox(MEMBER_CREATED, 2L, MessageStatus.FAIL, now, now);
+        Long processed = saveOutbox(MEMBER_CREATED, 3L, MessageStatus.PROCESSED, now, now);
+        Long notRequested = saveOutbox(MEMBER_CREATED, 4L, MessageStatus.PENDING, now, null);
+
+        // when
+        int updated = memberOutboxRepository.updateStatusByIdInAndStatusIn(
+                List.of(pending, fail, processed), MessageStatus.SENT, now, List.of(MessageStatus.PENDING, MessageStatus.FAIL));
+        int lateUpdate = memberOutboxRepository.updateStatusByIdInAndStatusIn(
+                List.of(processed), MessageStatus.SENT, now, List.of(MessageStatus.PENDING, MessageStatus.FAIL));
+
+        // then
+        Assertions.assertThat(updated).isEqualTo(2);
+        Assertions.assertThat(lateUpdate).isZero();
+        Assertions.assertThat(statusOf(pending)).isEqualTo(MessageStatus.SENT);
+        Assertions.assertThat(statusOf(fail)).isEqualTo(MessageStatus.SENT);
+        Assertions.assertThat(statusOf(processed)).isEqualTo(MessageStatus.PROCESSED);
+        Assertions.assertThat(statusOf(notRequested)).isEqualTo(MessageStatus.PENDING);
+    }
+
+
+    @DisplayName("[happy] 기준 시각 이전에 생성된 처리완료 행을 chunk 크기만큼씩 삭제하고, 이후에 생성된 행과 처리되지 않은 행은 남긴다.")
+    @Test
+    void deleteCreatedBefore() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        for (long payload = 1; payload <= 5; payload++) {
+            saveOutbox(MEMBER_CREATED, payload, MessageStatus.PROCESSED, now.minusDays(10), now.minusDays(10));
+        }
+        Long recent = saveOutbox(MEMBER_CREATED, 6L, MessageStatus.PROCESSED, now, now);
+        Long pending = saveOutbox(MEMBER_CREATED, 7L, MessageStatus.PENDING, now.minusDays(10), null);
+        Long fail = saveOutbox(MEMBER_CREATED, 8L, MessageStatus.FAIL, now.minusDays(10), now.minusDays(10));
+        Long sent = saveOutbox(MEMBER_CREATED, 9L, MessageStatus.SENT, now.minusDays(10), now.minusDays(10));
+
+        // when
+        List<Integer> deletedPerChunk = new ArrayList<>();
+        int deleted;
+        do {
+            deleted = memberOutboxRepository.deleteCreatedBefore(now.minusDays(7), 2);
+            deletedPerChunk.add(deleted);
+        } while (deleted > 0);
+
+        // then
+        Assertions.assertThat(deletedPerChunk).containsExactly(2, 2, 1, 0);
+        Assertions.assertThat(memberOutboxRepository.findAll()).extracting(MemberOutboxEntity::getId)
+                .containsExactlyInAnyOrder(recent, pending, fail, sent);
+        Assertions.assertThat(memberOutboxRepository.countUnprocessedCreatedBefore(now.minusDays(7))).isEqualTo(3);
+    }
+
+
+    @DisplayName("[happy] 한 상태의 행 수를 최대 cap 건까지만 세고, 다른 상태의 행은 세지 않는다.")
+    @Test
+    void countByStatusUpTo() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        for (long payload = 1; payload <= 3; payload++) {
+            saveOutbox(MEMBER_CREATED, payload, MessageStatus.PENDING, now, null);
+        }
+        saveOutbox(MEMBER_CREATED, 4L, MessageStatus.PROCESSED, now, now);
+
+        // when
+        long pendingUnderCap = memberOutboxRepository.countByStatusUpTo(MessageStatus.PENDING.name(), 100);
+        long pendingOverCap = memberOutboxRepository.countByStatusUpTo(MessageStatus.PENDING.name(), 2);
+        long fail = memberOutboxRepository.countByStatusUpTo(MessageStatus.FAIL.name(), 100);
+
+        // then
+        Assertions.assertThat(pendingUnderCap).isEqualTo(3);
+        Assertions.assertThat(pendingOverCap).isEqualTo(2);
+        Assertions.assertThat(fail).isZero();
+    }
+
+
+    @DisplayName("[happy] outbox-id 헤더가 없는 메시지는 이미 전송된 가장 오래된 Outbox 하나만 처리완료로 바꾸고, PENDING은 바꾸지 않는다.")
+    @Test
+    void markOldestDispatchedProcessed() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Long processed = saveOutbox(MEMBER_CREATED, 1L, MessageStatus.PROCESSED, now, now);
+        Long oldestSent = saveOutbox(MEMBER_CREATED, 1L, MessageStatus.SENT, now, now);
+        Long newerFail = saveOutbox(MEMBER_CREATED, 1L, MessageStatus.FAIL, now, now);
+        Long pending = saveOutbox(MEMBER_CREATED, 1L, MessageStatus.PENDING, now, null);
+
+        // when
+        int first = memberOutboxRepository.markOldestDispatchedProcessed(1L, MEMBER_CREATED, now);
+        int second = memberOutboxRepository.markOldestDispatchedProcessed(1L, MEMBER_CREATED, now);
+        int third = memberOutboxRepository.markOldestDispatchedProcessed(1L, MEMBER_CREATED, now);
+
+        // then
+        Assertions.assertThat(first).isEqualTo(1);
+        Assertions.assertThat(second).isEqualTo(1);
+        Assertions.assertThat(third).isZero();
+        Assertions.assertThat(statusOf(processed)).isEqualTo(MessageStatus.PROCESSED);
+        Assertions.assertThat(statusOf(oldestSent)).isEqualTo(MessageStatus.PROCESSED);
+        Assertions.assertThat(statusOf(newerFail)).isEqualTo(MessageStatus.PROCESSED);
+        Assertions.assertThat(statusOf(pending)).isEqualTo(MessageStatus.PENDING);
+    }
+
+
+    /**
+     * @param eventType   이벤트 타입
+     * @param payload     회원 ID
+     * @param status      메시지 상태
+     * @param createdAt   생성 시각
+     * @param processedAt 처리 시각 (없으면 null)
+     * @return 저장된 Outbox ID
+     * @apiNote test를 위한 MemberOutboxEntity 저장 (생성 시각은 auditing 이후 native UPDATE로 지정)
+     */
+    private Long saveOutbox(String eventType, Long payload, MessageStatus status, LocalDateTime createdAt, LocalDateTime processedAt) {
+        MemberOutboxEntity entity = memberOutboxRepository.saveAndFlush(MemberOutboxEntity.builder()
+                .eventType(eventType)
+                .payload(payload)
+                .traceId("traceId")
+                .status(status)
+                .processedAt(processedAt)
+                .build());
+        entityManager.createNativeQuery("UPDATE member_outbox SET created_at = :createdAt WHERE id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", entity.getId())
+                .executeUpdate();
+        entityManager.clear();
+        return entity.getId();
+    }
+
+
+    /**
+     * @param id Outbox ID
+     * @return DB에 저장된 현재 상태
+     * @apiNote test를 위한 상태 조회 (영속성 컨텍스트를 비우고 다시 조회)
+     */
+    private MessageStatus statusOf(Long id) {
+        entityManager.clear();
+        return memberOutboxRepository.findById(id).orElseThrow().getStatus();
+    }
+
+}
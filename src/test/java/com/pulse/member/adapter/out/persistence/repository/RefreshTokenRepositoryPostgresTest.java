@@ -0,0 +1,105 @@
+package com.pulse.member.adapter.out.persistence.repository;
+
+import com.pulse.member.adapter.out.persistence.entity.MemberEntity;
+import com.pulse.member.adapter.out.persistence.entity.RefreshTokenEntity;
+import com.pulse.member.config.jpa.AuditingConfig;
+import com.pulse.member.support.TestPostgresSupporter;
+import jakarta.persistence.EntityManager;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+/**
+ * RefreshTokenRepository의 native INSERT ... ON CONFLICT upsert를 실제 PostgreSQL에서 실행하는 테스트
+ */
+@Import(AuditingConfig.class)
+@DisplayName("[Repository] RefreshTokenRepository PostgreSQL 테스트")
+class RefreshTokenRepositoryPostgresTest extends TestPostgresSupporter {
+
+    private static final LocalDateTime EXPIRY_DATE = LocalDateTime.of(2025, 1, 2, 10, 0);
+
+    @Autowired private RefreshTokenRepository sut;
+    @Autowired private EntityManager entityManager;
+
+
+    @DisplayName("[happy] 회원+기기의 토큰이 없으면 새로 저장한다.")
+    @Test
+    void upsert_insert() {
+        // given
+        Long memberId = saveMember();
+
+        // when
+        int upserted = sut.upsert(memberId, "phone", "token-1", EXPIRY_DATE);
+
+        // then
+        Assertions.assertThat(upserted).isEqualTo(1);
+        Assertions.assertThat(sut.findByToken("token-1"))
+                .hasValueSatisfying(refreshToken -> {
+                    Assertions.assertThat(refreshToken.getDeviceId()).isEqualTo("phone");
+                    Assertions.assertThat(refreshToken.getExpiryDate()).isEqualTo(EXPIRY_DATE);
+                    Assertions.assertThat(refreshToken.getCreatedAt()).isNotNull();
+                });
+    }
+
+
+    @DisplayName("[happy] 같은 회원+기기의 토큰이 있으면 (member_id, device_id) 충돌로 토큰과 만료 시각만 교체한다.")
+    @Test
+    void upsert_conflict() {
+        // given
+        Long memberId = saveMember();
+        sut.upsert(memberId, "phone", "token-1", EXPIRY_DATE);
+        Long refreshTokenId = sut.findByToken("token-1").map(RefreshTokenEntity::getId).orElseThrow();
+
+        // when
+        int upserted = sut.upsert(memberId, "phone", "token-2", EXPIRY_DATE.plusDays(1));
+
+        // then
+        Assertions.assertThat(upserted).isEqualTo(1);
+        Assertions.assertThat(sut.findByToken("token-1")).isEmpty();
+        Assertions.assertThat(sut.findByToken("token-2"))
+                .hasValueSatisfying(refreshToken -> {
+                    Assertions.assertThat(refreshToken.getId()).isEqualTo(refreshTokenId);
+                    Assertions.assertThat(refreshToken.getExpiryDate()).isEqualTo(EXPIRY_DATE.plusDays(1));
+                });
+        Assertions.assertThat(sut.count()).isEqualTo(1);
+    }
+
+
+    @DisplayName("[happy] 같은 회원이라도 기기가 다르면 토큰을 각각 저장한다.")
+    @Test
+    void upsert_otherDevice() {
+        // given
+        Long memberId = saveMember();
+        sut.upsert(memberId, "phone", "token-1", EXPIRY_DATE);
+
+        // when
+        sut.upsert(memberId, "tablet", "token-2", EXPIRY_DATE);
+
+        // then
+        Assertions.assertThat(sut.findByToken("token-1")).isPresent();
+        Assertions.assertThat(sut.findByToken("token-2")).isPresent();
+        Assertions.assertThat(sut.count()).isEqualTo(2);
+    }
+
+
+    /**
+     * @return 저장된 회원 ID
+     * @apiNote test를 위한 회원 저장 (native 쿼리에서 보이도록 flush)
+     */
+    private Long saveMember() {
+        MemberEntity member = MemberEntity.builder()
+                .email("test@test.com")
+                .password("encodedPassword")
+                .nickname("tester")
+                .joinedDate(EXPIRY_DATE.minusDays(2))
+                .build();
+        entityManager.persist(member);
+        entityManager.flush();
+        return member.getId();
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.pulse.member.adapter.out.persistence.repository;
+
+import com.pulse.member.adapter.out.persistence.entity.MemberEntity;
+import com.pulse.member.config.jpa.AuditingConfig;
+import com.pulse.member.support.TestPostgresSupporter;
+import jakarta.persistence.EntityManager;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.pulse.member.util.Constant.LOGIN;
+
+/**
+ * SignInJdbcRepository의 data-modifying CTE를 실제 PostgreSQL에서 실행하는 테스트
+ * (SignInJdbcRepositoryTest는 SQL 문 하나로 전송되는지만, SignInStatementCountTest는 H2에서 DB 왕복 횟수만 확인)
+ */
+@Import({AuditingConfig.class, SignInJdbcRepository.class})
+@DisplayName("[Repository] SignInJdbcRepository PostgreSQL 테스트")
+class SignInJdbcRepositoryPostgresTest extends TestPostgresSupporter {
+
+    private static final LocalDateTime LOGIN_AT = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    @Autowired private SignInJdbcRepository sut;
+    @Autowired private EntityManager entityManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+
+    @DisplayName("[happy] 하나의 SQL 문으로 refresh 토큰 저장, 로그인 활동 로그 저장, 마지막 로그인 시각 갱신을 모두 실행한다.")
+    @Test
+    void upsertRefreshTokenAndRecordSignIn() {
+        // given
+        Long memberId = saveMember();
+
+        // when
+        int updated = sut.upsertRefreshTokenAndRecordSignIn(memberId, "phone", "token-1", LOGIN_AT.plusDays(1), LOGIN_AT);
+
+        // then
+        Assertions.assertThat(updated).isEqualTo(1);
+        Assertions.assertThat(findRefreshTokens(memberId)).containsExactly("token-1");
+        Assertions.assertThat(countLoginActivityLogs(memberId)).isEqualTo(1);
+        Assertions.assertThat(findLastLogin(memberId)).isEqualTo(LOGIN_AT);
+    }
+
+
+    @DisplayName("[happy] 같은 기기로 다시 로그인하면 refresh 토큰은 교체되고, 활동 로그는 추가되며, 마지막 로그인 시각은 갱신된다.")
+    @Test
+    void upsertRefreshTokenAndRecordSignIn_sameDevice() {
+        // given
+        Long memberId = saveMember();
+        sut.upsertRefreshTokenAndRecordSignIn(memberId, "phone", "token-1", LOGIN_AT.plusDays(1), LOGIN_AT);
+
+        // when
+        LocalDateTime secondLoginAt = LOGIN_AT.plusHours(1);
+        sut.upsertRefreshTokenAndRecordSignIn(memberId, "phone", "token-2", secondLoginAt.plusDays(1), secondLoginAt);
+        sut.upsertRefreshTokenAndRecordSignIn(memberId, "tablet", "token-3", secondLoginAt.plusDays(1), secondLoginAt);
+
+        // then
+        Assertions.assertThat(findRefreshTokens(memberId)).containsExactlyInAnyOrder("token-2", "token-3");
+        Assertions.assertThat(countLoginActivityLogs(memberId)).isEqualTo(3);
+        Assertions.assertThat(findLastLogin(memberId)).isEqualTo(secondLoginAt);
+    }
+
+
+    @DisplayName("[happy] refresh 토큰을 DB 밖에 저장하는 경우 로그인 활동 로그 저장과 마지막 로그인 시각 갱신만 실행한다.")
+    @Test
+    void recordSignIn() {
+        // given
+        Long memberId = saveMember();
+
+        // when
+        int updated = sut.recordSignIn(memberId, LOGIN_AT);
+
+        // then
+        Assertions.assertThat(updated).isEqualTo(1);
+        Assertions.assertThat(findRefreshTokens(memberId)).isEmpty();
+        Assertions.assertThat(countLoginActivityLogs(memberId)).isEqualTo(1);
+        Assertions.assertThat(findLastLogin(memberId)).isEqualTo(LOGIN_AT);
+    }
+
+
+    /**
+     * @return 저장된 회원 ID
+     * @apiNote test를 위한 회원 저장 (JDBC로 실행하는 SQL에서 보이도록 flush)
+     */
+    private Long saveMember() {
+        MemberEntity member = MemberEntity.builder()
+                .email("test@test.com")
+                .password("encodedPassword")
+                .nickname("tester")
+                .joinedDate(LOGIN_AT.minusDays(1))
+                .build();
+        entityManager.persist(member);
+        entityManager.flush();
+        return member.getId();
+    }
+
+
+    /**
+     * @param memberId 회원 ID
+     * @return 회원의 refresh 토큰 값 목록
+     */
+    private List<String> findRefreshTokens(Long memberId) {
+        return jdbcTemplate.queryForList("SELECT token FROM refresh_token WHERE member_id = ?", String.class, memberId);
+    }
+
+
+    /**
+     * @param memberId 회원 ID
+     * @return 회원의 로그인 활동 로그 수
+     */
+    private Integer countLoginActivityLogs(Long memberId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM activity_log WHERE member_id = ? AND action = ?", Integer.class, memberId, LOGIN);
+    }
+
+
+    /**
+     * @param memberId 회원 ID
+     * @return 회원의 마지막 로그인 시각
+     */
+    private LocalDateTime findLastLogin(Long memberId) {
+        return jdbcTemplate.queryForObject("SELECT last_login FROM member WHERE id = ?", LocalDateTime.class, memberId);
+    }
+
+}
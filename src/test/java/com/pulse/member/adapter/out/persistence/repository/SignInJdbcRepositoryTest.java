@@ -0,0 +1,82 @@
+package com.pulse.member.adapter.out.persistence.repository;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static com.pulse.member.util.Constant.LOGIN;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * 로그인 쓰기가 하나의 SQL 문으로 전송되는지만 확인하는 단위 테스트 (SQL은 실행하지 않음)
+ * data-modifying CTE의 실행 결과는 SignInJdbcRepositoryPostgresTest에서 PostgreSQL로 확인합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[Adapter] SignInJdbcRepository 단위 테스트")
+class SignInJdbcRepositoryTest {
+
+    @Mock private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks private SignInJdbcRepository sut;
+
+
+    @DisplayName("[happy] 로그인 쓰기(refresh 토큰, 활동 로그, 마지막 로그인 시각)는 하나의 SQL 문으로 전송된다.")
+    @Test
+    void upsertRefreshTokenAndRecordSignIn_singleStatement() {
+        // given
+        LocalDateTime loginAt = LocalDateTime.now();
+        given(jdbcTemplate.update(anyString(), any(MapSqlParameterSource.class))).willReturn(1);
+
+        // when
+        sut.upsertRefreshTokenAndRecordSignIn(1L, "phone", "token", loginAt.plusDays(1), loginAt);
+
+        // then
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<MapSqlParameterSource> paramsCaptor = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbcTemplate, times(1)).update(sqlCaptor.capture(), paramsCaptor.capture());
+        verifyNoMoreInteractions(jdbcTemplate);
+
+        Assertions.assertThat(sqlCaptor.getValue())
+                .contains("INSERT INTO refresh_token", "ON CONFLICT (member_id, device_id)")
+                .contains("INSERT INTO activity_log")
+                .contains("UPDATE member SET last_login");
+        Assertions.assertThat(paramsCaptor.getValue().getValue("memberId")).isEqualTo(1L);
+        Assertions.assertThat(paramsCaptor.getValue().getValue("action")).isEqualTo(LOGIN);
+        Assertions.assertThat(paramsCaptor.getValue().getValue("loginAt")).isEqualTo(loginAt);
+    }
+
+
+    @DisplayName("[happy] refresh 토큰을 DB 밖에 저장하는 경우 로그인 기록만 하나의 SQL 문으로 전송된다.")
+    @Test
+    void recordSignIn_singleStatement() {
+        // given
+        LocalDateTime loginAt = LocalDateTime.now();
+
+        // when
+        sut.recordSignIn(1L, loginAt);
+
+        // then
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(1)).update(sqlCaptor.capture(), any(MapSqlParameterSource.class));
+        verifyNoMoreInteractions(jdbcTemplate);
+
+        Assertions.assertThat(sqlCaptor.getValue())
+                .doesNotContain("refresh_token")
+                .contains("INSERT INTO activity_log", "UPDATE member SET last_login");
+    }
+
+}
@@ -0,0 +1,165 @@
+package com.pulse.member.adapter.out.persistence.repository;
+
+import com.pulse.member.adapter.out.persistence.adapter.MemberPersistenceAdapter;
+import com.pulse.member.adapter.out.persistence.adapter.MemberRolePersistenceAdapter;
+import com.pulse.member.adapter.out.persistence.adapter.RefreshTokenPersistenceAdapter;
+import com.pulse.member.adapter.out.persistence.adapter.RolePersistenceAdapter;
+import com.pulse.member.adapter.out.persistence.entity.MemberEntity;
+import com.pulse.member.adapter.out.persistence.entity.MemberRoleEntity;
+import com.pulse.member.adapter.out.persistence.entity.RoleEntity;
+import com.pulse.member.adapter.out.persistence.refreshtoken.JpaRefreshTokenStore;
+import com.pulse.member.adapter.out.persistence.refreshtoken.RefreshTokenStore;
+import com.pulse.member.application.command.auth.SignInCommand;
+import com.pulse.member.application.service.AuthService;
+import com.pulse.member.config.jpa.AuditingConfig;
+import com.pulse.member.config.jwt.JwtTokenProvider;
+import com.pulse.member.mapper.JwtMapperImpl;
+import com.pulse.member.mapper.MemberMapperImpl;
+import com.pulse.member.mapper.MemberRoleMapperImpl;
+import com.pulse.member.mapper.RoleMapperImpl;
+import com.pulse.member.support.TestJpaSupporter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 로그인 전체 경로(AuthService.signInAndPublishJwt)의 DB 왕복 횟수를 세는 테스트
+ * JPA로 실행되는 문장은 Hibernate Statistics로, 로그인 쓰기는 SignInJdbcRepository 호출 횟수로 셉니다.
+ * H2는 PostgreSQL의 data-modifying CTE(WITH ... INSERT ... RETURNING)를 실행하지 못하므로 SignInJdbcRepository는 mock으로 대체합니다.
+ * (SQL 문 하나로 전송되는지는 SignInJdbcRepositoryTest에서, CTE의 실행 결과는 SignInJdbcRepositoryPostgresTest에서 확인)
+ * 로그인은 비밀번호 검증을 트랜잭션 밖에서 실행하므로 테스트 트랜잭션 없이 실행하고, 저장한 데이터는 테스트가 끝나면 삭제합니다.
+ */
+@Import({
+        AuditingConfig.class, AuthService.class,
+        MemberPersistenceAdapter.class, MemberRolePersistenceAdapter.class, RolePersistenceAdapter.class, RefreshTokenPersistenceAdapter.class,
+        MemberMapperImpl.class, MemberRoleMapperImpl.class, RoleMapperImpl.class, JwtMapperImpl.class,
+        SignInStatementCountTest.RefreshTokenStoreTestConfig.class
+})
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "jwt.refreshTokenDurationMinutes=60"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("[Repository] 로그인 DB 왕복 횟수 테스트")
+class SignInStatementCountTest extends TestJpaSupporter {
+
+    private static final String EMAIL = "test@test.com";
+
+    @Autowired private AuthService authService;
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean private SignInJdbcRepository signInJdbcRepository;
+    @MockitoBean private PasswordEncoder passwordEncoder;
+    @MockitoBean private JwtTokenProvider jwtTokenProvider;
+
+    private Statistics statistics;
+    private boolean hashedInTransaction;
+
+
+    @TestConfiguration
+    static class RefreshTokenStoreTestConfig {
+
+        @Bean
+        RefreshTokenStore refreshTokenStore(RefreshTokenRepository refreshTokenRepository, SignInJdbcRepository signInJdbcRepository) {
+            return new JpaRefreshTokenStore(refreshTokenRepository, signInJdbcRepository);
+        }
+
+    }
+
+
+    @BeforeEach
+    void setUp() {
+        saveMemberWithRoles("ROLE_MEMBER", "ROLE_ADMIN");
+        given(passwordEncoder.matches(anyString(), anyString())).willAnswer(invocation -> {
+            hashedInTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+            return true;
+        });
+        given(jwtTokenProvider.generateAccessToken(anyLong(), anyString(), anyString(), any())).willReturn("accessToken");
+        given(signInJdbcRepository.upsertRefreshTokenAndRecordSignIn(anyLong(), anyString(), anyString(), any(), any())).willReturn(1);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM member_role");
+        jdbcTemplate.update("DELETE FROM role");
+        jdbcTemplate.update("DELETE FROM member");
+    }
+
+
+    @DisplayName("[happy] 로그인은 회원/권한 조회 1회와 로그인 쓰기 1회, 모두 2번의 DB 왕복으로 처리된다.")
+    @Test
+    void signInAndPublishJwt_twoRoundTrips() {
+        // given
+        SignInCommand command = SignInCommand.builder().email(EMAIL).password("password").deviceId("phone").build();
+
+        // when
+        authService.signInAndPublishJwt(command);
+
+        // then
+        long jpaStatements = statistics.getPrepareStatementCount();
+        long signInWrites = mockingDetails(signInJdbcRepository).getInvocations().size();
+        Assertions.assertThat(jpaStatements + signInWrites).isLessThanOrEqualTo(2);
+        Assertions.assertThat(jpaStatements).isEqualTo(1);
+        Assertions.assertThat(hashedInTransaction).isFalse();
+        verify(signInJdbcRepository, times(1)).upsertRefreshTokenAndRecordSignIn(anyLong(), anyString(), anyString(), any(), any());
+    }
+
+
+    /**
+     * @param roleNames 회원에게 부여할 권한 이름 목록
+     * @apiNote test를 위한 회원, 권한, 회원-권한 저장 (로그인의 트랜잭션 밖 조회에서 보이도록 커밋)
+     */
+    private void saveMemberWithRoles(String... roleNames) {
+        transactionTemplate.executeWithoutResult(status -> {
+            MemberEntity member = MemberEntity.builder()
+                    .email(EMAIL)
+                    .password("encodedPassword")
+                    .name("tester")
+                    .nickname("tester")
+                    .joinedDate(LocalDateTime.now())
+                    .build();
+            entityManager.persist(member);
+            for (String roleName : roleNames) {
+                RoleEntity role = RoleEntity.builder().name(roleName).build();
+                entityManager.persist(role);
+                entityManager.persist(MemberRoleEntity.builder().memberEntity(member).roleEntity(role).build());
+            }
+        });
+    }
+
+}
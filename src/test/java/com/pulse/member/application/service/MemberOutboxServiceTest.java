@@ -0,0 +1,376 @@
+package com.pulse.member.application.service;
+
+import com.pulse.member.adapter.in.web.dto.response.MemberResponseDTO;
+import com.pulse.member.adapter.out.event.MemberCreateEvent;
+import com.pulse.member.adapter.out.event.outbox.OutboxEvent;
+import com.pulse.member.adapter.out.persistence.entity.constant.MessageStatus;
+import com.pulse.member.application.port.out.kafka.KafkaProducerPort;
+import com.pulse.member.application.port.out.member.FindMemberPort;
+import com.pulse.member.application.port.out.outbox.CreateMemberOutboxPort;
+import com.pulse.member.application.port.out.outbox.FindMemberOutboxPort;
+import com.pulse.member.application.port.out.outbox.NotifyMemberOutboxPort;
+import com.pulse.member.application.port.out.outbox.RecordMemberOutboxMetricsPort;
+import com.pulse.member.application.port.out.outbox.UpdateMemberOutboxPort;
+import com.pulse.member.domain.Member;
+import com.pulse.member.domain.MemberOutbox;
+import com.pulse.member.grpc.MemberEventProto.MemberOutboxEvent;
+import com.pulse.member.grpc.MemberProto;
+import com.pulse.member.mapper.MemberMapper;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static com.pulse.member.util.Constant.MEMBER_OUTBOX_EVENT_SCHEMA_VERSION;
+import static com.pulse.member.util.Constant.OUTBOX_CREATED_AT_HEADER;
+import static com.pulse.member.util.Constant.OUTBOX_ID_HEADER;
+import static com.pulse.member.util.Constant.OUTBOX_PAYLOAD_TYPE_HEADER;
+import static com.pulse.member.util.Constant.PAYLOAD_TYPE_MEMBER_SNAPSHOT;
+import static com.pulse.member.util.Constant.PAYLOAD_TYPE_THIN;
+import static com.pulse.member.util.Constant.SCHEMA_VERSION_HEADER;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[Service] Outbox 서비스 단위 테스트")
+class MemberOutboxServiceTest {
+
+    @Mock private CreateMemberOutboxPort createMemberOutboxPort;
+    @Mock private FindMemberOutboxPort findMemberOutboxPort;
+    @Mock private UpdateMemberOutboxPort updateMemberOutboxPort;
+    @Mock private KafkaProducerPort kafkaProducerPort;
+    @Mock private RecordMemberOutboxMetricsPort recordMemberOutboxMetricsPort;
+    @Mock private NotifyMemberOutboxPort notifyMemberOutboxPort;
+    @Mock private FindMemberPort findMemberPort;
+    @Mock private MemberMapper memberMapper;
+
+    @InjectMocks private MemberOutboxService sut;
+
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(sut, "relaySendTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(sut, "fatEventTypes", Set.of("member-created-outbox"));
+        ReflectionTestUtils.setField(sut, "coalesceEventTypes", Set.of());
+        ReflectionTestUtils.setField(sut, "coalesceWindowMs", 1000L);
+        ReflectionTestUtils.setField(sut, "relayFailRetryDelayMs", 30000L);
+        ReflectionTestUtils.setField(sut, "relayFailRetryMaxAgeMs", 3600000L);
+    }
+
+
+    @DisplayName("[happy] 가져온 Outbox를 회원 ID를 key로 모두 전송하고 flush 한 번 뒤, 성공/실패를 상태별 UPDATE 한 번으로 기록한다.")
+    @Test
+    void relayPendingOutboxEvents_bulkStatusUpdate() {
+        // given
+        given(findMemberOutboxPort.claimPendingMemberOutboxes(eq(100), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(List.of(createOutbox(1L), createOutbox(2L), createOutbox(3L)));
+        given(kafkaProducerPort.sendMessageWithHeaders(anyString(), any(), any(byte[].class), anyMap(), any()))
+                .willReturn(CompletableFuture.completedFuture(null))
+                .willReturn(CompletableFuture.failedFuture(new TimeoutException("broker down")))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        int relayed = sut.relayPendingOutboxEvents(100);
+
+        // then
+        Assertions.assertThat(relayed).isEqualTo(3);
+        InOrder inOrder = inOrder(kafkaProducerPort, updateMemberOutboxPort);
+        inOrder.verify(kafkaProducerPort).sendMessageWithHeaders(eq("member-created-outbox"), eq("1"), aryEq(createThinEvent(1L)),
+                eq(Map.of(OUTBOX_ID_HEADER, "1", OUTBOX_PAYLOAD_TYPE_HEADER, PAYLOAD_TYPE_THIN, SCHEMA_VERSION_HEADER, MEMBER_OUTBOX_EVENT_SCHEMA_VERSION)), any());
+        inOrder.verify(kafkaProducerPort, times(2)).sendMessageWithHeaders(eq("member-created-outbox"), any(), any(byte[].class), anyMap(), any());
+        inOrder.verify(kafkaProducerPort).flush();
+        verify(updateMemberOutboxPort).updateMemberOutboxStatus(eq(List.of(1L, 3L)), eq(MessageStatus.SENT), any());
+        verify(updateMemberOutboxPort).updateMemberOutboxStatus(eq(List.of(2L)), eq(MessageStatus.FAIL), any());
+        verify(recordMemberOutboxMetricsPort, times(2)).recordMemberOutboxSent(eq("member-created-outbox"), any(), any());
+        verify(recordMemberOutboxMetricsPort).recordMemberOutboxFailed("member-created-outbox");
+    }
+
+
+    @DisplayName("[exception] 기다리는 시간 안에 결과가 나오지 않은 전송은 다시 전송하지 않고 SENT로 기록하며, 뒤늦게 실패하면 FAIL로 바꾼다.")
+    @Test
+    void relayPendingOutboxEvents_inFlight() {
+        // given
+        ReflectionTestUtils.setField(sut, "relaySendTimeoutMs", 50L);
+        CompletableFuture<SendResult<String, byte[]>> inFlight = new CompletableFuture<>();
+        given(findMemberOutboxPort.claimPendingMemberOutboxes(eq(100), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(List.of(createOutbox(1L)));
+        given(kafkaProducerPort.sendMessageWithHeaders(anyString(), any(), any(byte[].class), anyMap(), any())).willReturn(inFlight);
+
+        // when
+        sut.relayPendingOutboxEvents(100);
+        inFlight.completeExceptionally(new TimeoutException("delivery timeout"));
+
+        // then
+        verify(kafkaProducerPort, times(1)).sendMessageWithHeaders(anyString(), any(), any(byte[].class), anyMap(), any());
+        verify(updateMemberOutboxPort).updateMemberOutboxStatus(eq(List.of(1L)), eq(MessageStatus.SENT), any());
+        verify(updateMemberOutboxPort, timeout(1000)).updateMemberOutboxStatus(eq(List.of(1L)), eq(MessageStatus.FAIL), any());
+        verify(recordMemberOutboxMetricsPort, timeout(1000)).recordMemberOutboxFailed("member-created-outbox");
+    }
+
+
+    @DisplayName("[happy] 생성 시각이 있는 Outbox는 outbox-created-at 헤더에 생성 시각을 담아 전송한다.")
+    @Test
+    void relayPendingOutboxEvents_createdAtHeader() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        MemberOutbox outbox = MemberOutbox.builder()
+                .id(1L)
+                .eventType("member-created-outbox")
+                .payload(1L)
+                .status(MessageStatus.PENDING)
+                .createdAt(createdAt)
+                .build();
+        given(findMemberOutboxPort.claimPendingMemberOutboxes(eq(100), any(LocalDateTime.class), any(LocalDateTime.class))).willReturn(List.of(outbox));
+        given(kafkaProducerPort.sendMessageWithHeaders(anyString(), any(), any(byte[].class), anyMap(), any()))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        sut.relayPendingOutboxEvents(100);
+
+        // then
+        String createdAtMillis = String.valueOf(createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        verify(kafkaProducerPort).sendMessageWithHeaders(eq("member-created-outbox"), any(), aryEq(createThinEvent(1L)),
+                eq(Map.of(OUTBOX_ID_HEADER, "1", OUTBOX_PAYLOAD_TYPE_HEADER, PAYLOAD_TYPE_THIN,
+                        SCHEMA_VERSION_HEADER, MEMBER_OUTBOX_EVENT_SCHEMA_VERSION, OUTBOX_CREATED_AT_HEADER, createdAtMillis)), any());
+        verify(recordMemberOutboxMetricsPort).recordMemberOutboxSent(eq("member-created-outbox"), eq(createdAt), any());
+    }
+
+
+    @DisplayName("[happy] fat event로 설정된 이벤트 타입은 회원 스냅샷(MemberProto)을 함께 저장한다.")
+    @Test
+    void saveOutboxEvent_fatEvent() {
+        // given
+        MemberProto.MemberRetrieveResponse snapshot = createSnapshot();
+        given(findMemberPort.findMemberById(1L)).willReturn(Member.of(1L));
+        given(memberMapper.domainToResponseDTO(any(Member.class))).willReturn(MemberResponseDTO.builder().id(1L).build());
+        given(memberMapper.toProto(any(MemberResponseDTO.class))).willReturn(snapshot);
+
+        // when
+        sut.saveOutboxEvent(new MemberCreateEvent(1L));
+
+        // then
+        ArgumentCaptor<MemberOutbox> captor = ArgumentCaptor.forClass(MemberOutbox.class);
+        verify(createMemberOutboxPort).saveMemberOutboxEvent(captor.capture());
+        Assertions.assertThat(captor.getValue().getSnapshot()).isEqualTo(snapshot.toByteArray());
+    }
+
+
+    @DisplayName("[happy] fat event로 설정되지 않은 이벤트 타입은 회원을 조회하지 않고 회원 ID만 저장한다.")
+    @Test
+    void saveOutboxEvent_thinEvent() {
+        // given
+        ReflectionTestUtils.setField(sut, "fatEventTypes", Set.of());
+
+        // when
+        sut.saveOutboxEvent(new MemberCreateEvent(1L));
+
+        // then
+        ArgumentCaptor<MemberOutbox> captor = ArgumentCaptor.forClass(MemberOutbox.class);
+        verify(createMemberOutboxPort).saveMemberOutboxEvent(captor.capture());
+        Assertions.assertThat(captor.getValue().hasSnapshot()).isFalse();
+        verify(findMemberPort, never()).findMemberById(any(Long.class));
+    }
+
+
+    @DisplayName("[happy] 회원 스냅샷이 있는 Outbox는 스냅샷을 record 값으로 전송하여 수신 측이 회원을 다시 조회하지 않도록 한다.")
+    @Test
+    void relayPendingOutboxEvents_fatEvent() throws Exception {
+        // given
+        MemberProto.MemberRetrieveResponse snapshot = createSnapshot();
+        MemberOutbox outbox = MemberOutbox.builder()
+                .id(1L)
+                .eventType("member-created-outbox")
+                .payload(1L)
+                .status(MessageStatus.PENDING)
+                .snapshot(snapshot.toByteArray())
+                .build();
+        given(findMemberOutboxPort.claimPendingMemberOutboxes(eq(100), any(LocalDateTime.class), any(LocalDateTime.class))).willReturn(List.of(outbox));
+        given(kafkaProducerPort.sendMessageWithHeaders(anyString(), any(), any(byte[].class), anyMap(), any()))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        sut.relayPendingOutboxEvents(100);
+
+        // then
+        ArgumentCaptor<byte[]> valueCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(kafkaProducerPort).sendMessageWithHeaders(eq("member-created-outbox"), any(), valueCaptor.capture(),
+                eq(Map.of(OUTBOX_ID_HEADER, "1", OUTBOX_PAYLOAD_TYPE_HEADER, PAYLOAD_TYPE_MEMBER_SNAPSHOT,
+                        SCHEMA_VERSION_HEADER, MEMBER_OUTBOX_EVENT_SCHEMA_VERSION)), any());
+        MemberOutboxEvent event = MemberOutboxEvent.parseFrom(valueCaptor.getValue());
+        Assertions.assertThat(event.getMemberId()).isEqualTo(1L);
+        Assertions.assertThat(event.getSnapshot()).isEqualTo(snapshot);
+    }
+
+
+    @DisplayName("[happy] 병합 대상 이벤트 타입은 같은 회원의 Outbox 중 가장 최근 것만 전송하고 나머지는 MERGED로 기록한다.")
+    @Test
+    void relayPendingOutboxEvents_coalesce() {
+        // given
+        String nicknameChange = "member-nickname-change-outbox";
+        ReflectionTestUtils.setField(sut, "coalesceEventTypes", Set.of(nicknameChange));
+        given(findMemberOutboxPort.claimPendingMemberOutboxes(eq(100), any(LocalDateTime.class), any(LocalDateTime.class),
+                eq(Set.of(nicknameChange)), any(LocalDateTime.class)))
+                .willReturn(List.of(
+                        createOutbox(1L, nicknameChange, 7L),
+                        createOutbox(2L, "member-created-outbox", 7L),
+                        createOutbox(3L, nicknameChange, 7L),
+                        createOutbox(4L, nicknameChange, 8L)));
+        given(kafkaProducerPort.sendMessageWithHeaders(anyString(), any(), any(byte[].class), anyMap(), any()))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        int relayed = sut.relayPendingOutboxEvents(100);
+
+        // then
+        Assertions.assertThat(relayed).isEqualTo(4);
+        verify(updateMemberOutboxPort).updateMemberOutboxStatus(eq(List.of(1L)), eq(MessageStatus.MERGED), any());
+        verify(recordMemberOutboxMetricsPort).recordMemberOutboxMerged(nicknameChange, 1);
+        verify(kafkaProducerPort, times(3)).sendMessageWithHeaders(anyString(), any(), any(byte[].class), anyMap(), any());
+        verify(updateMemberOutboxPort).updateMemberOutboxStatus(eq(List.of(2L, 3L, 4L)), eq(MessageStatus.SENT), any());
+        verify(findMemberOutboxPort, never()).claimPendingMemberOutboxes(eq(100), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+
+    @DisplayName("[happy] 재전송 간격이 지났고 재전송 기한 안에 생성된 FAIL Outbox를 PENDING Outbox와 함께 다시 가져온다.")
+    @Test
+    void relayPendingOutboxEvents_failRetryWindow() {
+        // given
+        LocalDateTime before = LocalDateTime.now();
+        given(findMemberOutboxPort.claimPendingMemberOutboxes(eq(100), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(List.of());
+
+        // when
+        sut.relayPendingOutboxEvents(100);
+
+        // then
+        ArgumentCaptor<LocalDateTime> failRetryBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> failRetryAfter = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(findMemberOutboxPort).claimPendingMemberOutboxes(eq(100), failRetryBefore.capture(), failRetryAfter.capture());
+        Assertions.assertThat(failRetryBefore.getValue())
+                .isBetween(before.minusSeconds(30), LocalDateTime.now().minusSeconds(30));
+        Assertions.assertThat(failRetryAfter.getValue())
+                .isBetween(before.minusHours(1), LocalDateTime.now().minusHours(1));
+    }
+
+
+    @DisplayName("[happy] 가져올 PENDING Outbox가 없으면 Kafka로 전송하지 않는다.")
+    @Test
+    void relayPendingOutboxEvents_empty() {
+        // given
+        given(findMemberOutboxPort.claimPendingMemberOutboxes(eq(100), any(LocalDateTime.class), any(LocalDateTime.class))).willReturn(List.of());
+
+        // when
+        int relayed = sut.relayPendingOutboxEvents(100);
+
+        // then
+        Assertions.assertThat(relayed).isZero();
+        verify(kafkaProducerPort, never()).flush();
+        verify(updateMemberOutboxPort, never()).updateMemberOutboxStatus(anyList(), any(), any());
+    }
+
+
+    @DisplayName("[happy] outbox-id 목록으로 처리완료를 기록할 때는 Outbox를 조회하지 않고 UPDATE 한 번으로 변경한다.")
+    @Test
+    void markOutboxEventsProcessed_bulkUpdate() {
+        // given
+        given(updateMemberOutboxPort.updateMemberOutboxStatus(eq(List.of(1L, 2L)), eq(MessageStatus.PROCESSED), any())).willReturn(2);
+
+        // when
+        int updated = sut.markOutboxEventsProcessed(List.of(1L, 2L));
+
+        // then
+        Assertions.assertThat(updated).isEqualTo(2);
+    }
+
+
+    @DisplayName("[happy] outbox-id 헤더가 없는 메시지는 이미 전송된 가장 오래된 Outbox 하나만 조회 없이 처리완료로 기록한다.")
+    @Test
+    void markOutboxEventProcessed_oldestDispatched() {
+        // given
+        OutboxEvent event = new MemberCreateEvent(1L);
+
+        // when
+        sut.markOutboxEventProcessed(event);
+
+        // then
+        verify(updateMemberOutboxPort).markOldestDispatchedMemberOutboxProcessed(eq(1L), eq(event.getEventType()), any());
+        verify(createMemberOutboxPort, never()).saveMemberOutboxEvent(any());
+    }
+
+
+    /**
+     * @param memberId 회원 ID
+     * @return 스냅샷 없는 MemberOutboxEvent를 직렬화한 bytes
+     * @apiNote test를 위한 thin 이벤트 record 값 생성
+     */
+    private byte[] createThinEvent(Long memberId) {
+        return MemberOutboxEvent.newBuilder().setMemberId(memberId).build().toByteArray();
+    }
+
+
+    /**
+     * @return 회원 스냅샷
+     * @apiNote test를 위한 MemberProto.MemberRetrieveResponse 생성
+     */
+    private MemberProto.MemberRetrieveResponse createSnapshot() {
+        return MemberProto.MemberRetrieveResponse.newBuilder()
+                .setId(1L)
+                .setEmail("test@pulse.com")
+                .setName("pulse")
+                .build();
+    }
+
+
+    /**
+     * @param id Outbox ID
+     * @return PENDING 상태의 MemberOutbox
+     * @apiNote test를 위한 MemberOutbox 생성
+     */
+    private MemberOutbox createOutbox(Long id) {
+        return createOutbox(id, "member-created-outbox", id);
+    }
+
+
+    /**
+     * @param id        Outbox ID
+     * @param eventType 이벤트 타입
+     * @param payload   회원 ID
+     * @return PENDING 상태의 MemberOutbox
+     * @apiNote test를 위한 MemberOutbox 생성
+     */
+    private MemberOutbox createOutbox(Long id, String eventType, Long payload) {
+        return MemberOutbox.builder()
+                .id(id)
+                .eventType(eventType)
+                .payload(payload)
+                .status(MessageStatus.PENDING)
+                .build();
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.pulse.member.application.service;
 
 import com.pulse.member.adapter.in.web.dto.response.MemberResponseDTO;
+import com.pulse.member.adapter.out.event.MemberDeleteEvent;
 import com.pulse.member.application.port.out.member.CreateMemberPort;
 import com.pulse.member.application.port.out.member.DeleteMemberPort;
 import com.pulse.member.application.port.out.member.FindMemberPort;
@@ -16,9 +17,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("[Service] 멤버 서비스 단위 테스트")
@@ -28,6 +32,7 @@ class MemberServiceTest {
     @Mock private FindMemberPort findMemberPort;
     @Mock private DeleteMemberPort deleteMemberPort;
     @Mock private MemberMapper memberMapper;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks private MemberService sut;
 
@@ -85,4 +90,34 @@ class MemberServiceTest {
                 .hasMessageContaining(ErrorCode.MEMBER_CREATE_PASSWORD_NOT_FOUND.getMessage());
     }
 
+    @DisplayName("[happy] 회원이 삭제되면 회원 삭제 이벤트를 발행한다.")
+    @Test
+    void deleteMemberById() {
+        //given
+        Member member = Member.builder().id(1L).build();
+        given(deleteMemberPort.deleteMemberById(member)).willReturn(true);
+
+        // when
+        Boolean deleted = sut.deleteMemberById(member);
+
+        // then
+        Assertions.assertThat(deleted).isTrue();
+        verify(eventPublisher).publishEvent(any(MemberDeleteEvent.class));
+    }
+
+    @DisplayName("[bad] 삭제된 회원이 없으면 회원 삭제 이벤트를 발행하지 않는다.")
+    @Test
+    void deleteMemberByIdNotDeleted() {
+        //given
+        Member member = Member.builder().id(1L).build();
+        given(deleteMemberPort.deleteMemberById(member)).willReturn(false);
+
+        // when
+        Boolean deleted = sut.deleteMemberById(member);
+
+        // then
+        Assertions.assertThat(deleted).isFalse();
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
 }
\ No newline at end of file
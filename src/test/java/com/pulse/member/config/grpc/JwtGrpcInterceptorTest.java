@@ -0,0 +1,172 @@
+package com.pulse.member.config.grpc;
+
+import com.pulse.member.config.grpc.interceptor.GrpcAuthContext;
+import com.pulse.member.config.grpc.interceptor.GrpcMetadata;
+import com.pulse.member.config.grpc.interceptor.JwtGrpcInterceptor;
+import com.pulse.member.config.jwt.JwtKeyRing;
+import com.pulse.member.config.jwt.JwtTokenProvider;
+import com.pulse.member.config.jwt.JwtVerificationCache;
+import com.pulse.member.config.jwt.TokenRevocationRegistry;
+import com.pulse.member.config.security.http.user.UserDetailsCache;
+import com.pulse.member.config.security.http.user.UserDetailsImpl;
+import com.pulse.member.grpc.MemberServiceGrpc;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[Config] JwtGrpcInterceptor 단위 테스트")
+class JwtGrpcInterceptorTest {
+
+    private static final String SECRET = "aVeryLongSecretKeyThatIsAtLeast32BytesLongForSecurity";
+
+    @Mock private ServerCall<Object, Object> call;
+    @Mock private UserDetailsCache userDetailsCache;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtGrpcInterceptor sut;
+
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = createProvider();
+        TokenRevocationRegistry tokenRevocationRegistry = new TokenRevocationRegistry(3600000, new SimpleMeterRegistry());
+        sut = new JwtGrpcInterceptor(jwtTokenProvider, tokenRevocationRegistry, userDetailsCache,
+                Set.of(MemberServiceGrpc.getGetMemberByIdMethod().getFullMethodName()));
+    }
+
+
+    @DisplayName("[happy] 유효한 토큰으로 호출하면 다른 스레드에서 실행되는 핸들러에서도 해당 호출의 인증 정보를 조회할 수 있다.")
+    @Test
+    void interceptCall_principalInGrpcContext() throws Exception {
+        // given
+        given(call.getMethodDescriptor()).willReturn(castMethod(MemberServiceGrpc.getCreateMemberMethod()));
+        String token = jwtTokenProvider.generateAccessToken(1L, "test@test.com", "tester", List.of("MEMBER"));
+        AtomicReference<Optional<UserDetailsImpl>> principalInHandler = new AtomicReference<>();
+
+        // when
+        ServerCall.Listener<Object> listener = sut.interceptCall(call, bearer(token), capturingHandler(principalInHandler));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture.runAsync(listener::onHalfClose, executor).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        Assertions.assertThat(principalInHandler.get())
+                .hasValueSatisfying(principal -> Assertions.assertThat(principal.getMemberId()).isEqualTo(1L));
+        Assertions.assertThat(GrpcAuthContext.currentPrincipal()).isEmpty();
+        verify(call, never()).close(any(), any());
+    }
+
+
+    @DisplayName("[happy] 허용 목록에 등록된 메서드는 토큰 없이 호출할 수 있다.")
+    @Test
+    void interceptCall_unauthenticatedMethod() {
+        // given
+        given(call.getMethodDescriptor()).willReturn(castMethod(MemberServiceGrpc.getGetMemberByIdMethod()));
+        AtomicReference<Optional<UserDetailsImpl>> principalInHandler = new AtomicReference<>();
+
+        // when
+        sut.interceptCall(call, new Metadata(), capturingHandler(principalInHandler)).onHalfClose();
+
+        // then
+        Assertions.assertThat(principalInHandler.get()).isEmpty();
+        verify(call, never()).close(any(), any());
+    }
+
+
+    @DisplayName("[bad] 토큰이 없거나 유효하지 않으면 UNAUTHENTICATED로 호출을 종료한다.")
+    @Test
+    void interceptCall_invalidToken() {
+        // given
+        given(call.getMethodDescriptor()).willReturn(castMethod(MemberServiceGrpc.getCreateMemberMethod()));
+        AtomicReference<Optional<UserDetailsImpl>> principalInHandler = new AtomicReference<>();
+
+        // when
+        sut.interceptCall(call, bearer("invalid.jwt.token"), capturingHandler(principalInHandler)).onHalfClose();
+
+        // then
+        ArgumentCaptor<Status> statusCaptor = ArgumentCaptor.forClass(Status.class);
+        verify(call).close(statusCaptor.capture(), any());
+        Assertions.assertThat(statusCaptor.getValue().getCode()).isEqualTo(Status.Code.UNAUTHENTICATED);
+        Assertions.assertThat(principalInHandler.get()).isNull();
+    }
+
+
+    /**
+     * @param principalInHandler 핸들러에서 조회한 인증 정보를 담을 참조
+     * @return 테스트용 ServerCallHandler
+     * @apiNote test를 위한 ServerCallHandler 생성 (onHalfClose 시점의 인증 정보를 기록)
+     */
+    private ServerCallHandler<Object, Object> capturingHandler(AtomicReference<Optional<UserDetailsImpl>> principalInHandler) {
+        return (serverCall, headers) -> new ServerCall.Listener<>() {
+            @Override
+            public void onHalfClose() {
+                principalInHandler.set(GrpcAuthContext.currentPrincipal());
+            }
+        };
+    }
+
+
+    /**
+     * @param token JWT 토큰
+     * @return Authorization 헤더가 담긴 Metadata
+     * @apiNote test를 위한 gRPC 메타데이터 생성
+     */
+    private Metadata bearer(String token) {
+        Metadata headers = new Metadata();
+        headers.put(GrpcMetadata.AUTHORIZATION_KEY, "Bearer " + token);
+        return headers;
+    }
+
+
+    /**
+     * @param method gRPC 메서드
+     * @return 타입이 지워진 MethodDescriptor
+     * @apiNote test를 위한 MethodDescriptor 타입 변환
+     */
+    @SuppressWarnings("unchecked")
+    private MethodDescriptor<Object, Object> castMethod(MethodDescriptor<?, ?> method) {
+        return (MethodDescriptor<Object, Object>) method;
+    }
+
+
+    /**
+     * @return 테스트용 JwtTokenProvider
+     * @apiNote test를 위한 JwtTokenProvider 생성
+     */
+    private JwtTokenProvider createProvider() {
+        JwtTokenProvider provider = new JwtTokenProvider(new JwtKeyRing(SECRET, "HS256", "", "", false), new JwtVerificationCache(100, new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(provider, "jwtExpirationMs", 3600000);
+        provider.init();
+        return provider;
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.pulse.member.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.Jwks;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+@DisplayName("[Config] JwtKeyRing 단위 테스트")
+class JwtKeyRingTest {
+
+    private static final String SECRET = "aVeryLongSecretKeyThatIsAtLeast32BytesLongForSecurity";
+
+
+    @DisplayName("[happy] EdDSA 모드에서는 kid 헤더가 포함된 토큰을 발급하고 JWKS에는 공개키만 노출한다.")
+    @Test
+    void eddsaSigning() {
+        // given
+        JwtKeyRing sut = new JwtKeyRing(SECRET, "EdDSA", "", "", false);
+        JwtTokenProvider provider = createProvider(sut);
+
+        // when
+        String token = provider.generateAccessToken(1L, "test@test.com", "tester", List.of("MEMBER"));
+
+        // then
+        String kid = Jwts.parser().keyLocator(sut.keyLocator()).build().parseSignedClaims(token).getHeader().getKeyId();
+        Assertions.assertThat(kid).isNotBlank();
+        Assertions.assertThat((List<?>) sut.getPublicJwkSet().get("keys"))
+                .singleElement()
+                .satisfies(jwk -> {
+                    Assertions.assertThat(((Jwk<?>) jwk).getId()).isEqualTo(kid);
+                    Assertions.assertThat(((Jwk<?>) jwk).keySet()).doesNotContain("d");
+                });
+    }
+
+
+    @DisplayName("[happy] 활성 키를 교체해도 이전 키로 서명된 토큰은 검증된다.")
+    @Test
+    void rotation() {
+        // given
+        Jwk<?> oldKey = Jwks.builder().keyPair(Jwts.SIG.ES256.keyPair().build()).id("old").build();
+        Jwk<?> newKey = Jwks.builder().keyPair(Jwts.SIG.ES256.keyPair().build()).id("new").build();
+        String jwks = "{\"keys\":[" + Jwks.UNSAFE_JSON(oldKey) + "," + Jwks.UNSAFE_JSON(newKey) + "]}";
+
+        JwtTokenProvider before = createProvider(new JwtKeyRing(SECRET, "ES256", jwks, "old", false));
+        String oldToken = before.generateAccessToken(1L, "test@test.com", "tester", List.of("MEMBER"));
+
+        // when
+        JwtTokenProvider after = createProvider(new JwtKeyRing(SECRET, "ES256", jwks, "new", false));
+        Claims claims = after.getVerifiedClaims(oldToken);
+
+        // then
+        Assertions.assertThat(claims.getSubject()).isEqualTo("test@test.com");
+    }
+
+
+    @DisplayName("[bad] 알 수 없는 kid로 서명된 토큰은 검증에 실패한다.")
+    @Test
+    void unknownKid() {
+        // given
+        String token = createProvider(new JwtKeyRing(SECRET, "ES256", "", "", false))
+                .generateAccessToken(1L, "test@test.com", "tester", List.of("MEMBER"));
+
+        // when
+        JwtTokenProvider otherProvider = createProvider(new JwtKeyRing(SECRET, "ES256", "", "", false));
+
+        // then
+        Assertions.assertThatThrownBy(() -> otherProvider.getVerifiedClaims(token))
+                .isInstanceOf(JwtException.class);
+    }
+
+
+    @DisplayName("[bad] 비대칭 모드에서는 jwt.acceptLegacyHmac을 켠 경우에만 공유 비밀키로 서명된 이전 토큰을 검증한다.")
+    @Test
+    void legacyHmac() {
+        // given
+        String legacyToken = createProvider(new JwtKeyRing(SECRET, "HS256", "", "", false))
+                .generateAccessToken(1L, "test@test.com", "tester", List.of("MEMBER"));
+
+        // when
+        JwtTokenProvider rejecting = createProvider(new JwtKeyRing(SECRET, "ES256", "", "", false));
+        JwtTokenProvider accepting = createProvider(new JwtKeyRing(SECRET, "ES256", "", "", true));
+
+        // then
+        Assertions.assertThatThrownBy(() -> rejecting.getVerifiedClaims(legacyToken))
+                .isInstanceOf(JwtException.class);
+        Assertions.assertThat(accepting.getVerifiedClaims(legacyToken).getSubject()).isEqualTo("test@test.com");
+    }
+
+
+    /**
+     * @param jwtKeyRing 테스트할 키 링
+     * @return 테스트용 JwtTokenProvider
+     * @apiNote test를 위한 JwtTokenProvider 생성
+     */
+    private JwtTokenProvider createProvider(JwtKeyRing jwtKeyRing) {
+        JwtTokenProvider provider = new JwtTokenProvider(jwtKeyRing, new JwtVerificationCache(100, new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(provider, "jwtExpirationMs", 3600000);
+        provider.init();
+        return provider;
+    }
+
+}
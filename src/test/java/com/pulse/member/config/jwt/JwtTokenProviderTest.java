@@ -0,0 +1,107 @@
+package com.pulse.member.config.jwt;
+
+import com.pulse.member.config.security.http.user.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+@DisplayName("[Config] JwtTokenProvider 단위 테스트")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "aVeryLongSecretKeyThatIsAtLeast32BytesLongForSecurity";
+
+    private JwtTokenProvider sut;
+
+
+    @BeforeEach
+    void setUp() {
+        sut = createProvider(3600000);
+    }
+
+
+    @DisplayName("[happy] 같은 토큰을 다시 검증하면 캐시된 Claims를 그대로 반환한다.")
+    @Test
+    void getVerifiedClaims_cached() {
+        // given
+        String token = sut.generateAccessToken(1L, "test@test.com", "tester", List.of("MEMBER"));
+
+        // when
+        Claims first = sut.getVerifiedClaims(token);
+        Claims second = sut.getVerifiedClaims(token);
+
+        // then
+        Assertions.assertThat(first.getSubject()).isEqualTo("test@test.com");
+        Assertions.assertThat(second).isSameAs(first);
+    }
+
+
+    @DisplayName("[happy] 토큰 클레임만으로 회원 ID, 닉네임, 권한을 가진 UserDetailsImpl을 구성한다.")
+    @Test
+    void fromClaims() {
+        // given
+        String token = sut.generateAccessToken(1L, "test@test.com", "tester", List.of("MEMBER", "VIP"));
+
+        // when
+        UserDetailsImpl userDetails = UserDetailsImpl.fromClaims(sut.getVerifiedClaims(token));
+
+        // then
+        Assertions.assertThat(userDetails.getMemberId()).isEqualTo(1L);
+        Assertions.assertThat(userDetails.getEmail()).isEqualTo("test@test.com");
+        Assertions.assertThat(userDetails.getNickname()).isEqualTo("tester");
+        Assertions.assertThat(userDetails.getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("MEMBER", "VIP");
+    }
+
+
+    @DisplayName("[bad] 서명이 변조된 토큰은 검증에 실패한다.")
+    @Test
+    void getVerifiedClaims_tampered() {
+        // given
+        String token = sut.generateAccessToken(1L, "test@test.com", "tester", List.of("MEMBER"));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> sut.getVerifiedClaims(tampered))
+                .isInstanceOf(JwtException.class);
+        Assertions.assertThat(sut.validateJwtToken(tampered)).isFalse();
+    }
+
+
+    @DisplayName("[bad] 만료된 토큰은 검증에 실패하고 캐시되지 않는다.")
+    @Test
+    void getVerifiedClaims_expired() {
+        // given
+        JwtTokenProvider expiredProvider = createProvider(-1000);
+        String token = expiredProvider.generateAccessToken(1L, "test@test.com", "tester", List.of("MEMBER"));
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> expiredProvider.getVerifiedClaims(token))
+                .isInstanceOf(ExpiredJwtException.class);
+        Assertions.assertThat(expiredProvider.validateJwtToken(token)).isFalse();
+    }
+
+
+    /**
+     * @param expirationMs 토큰 만료 시간 (밀리초)
+     * @return 테스트용 JwtTokenProvider
+     * @apiNote test를 위한 JwtTokenProvider 생성
+     */
+    private JwtTokenProvider createProvider(int expirationMs) {
+        JwtKeyRing jwtKeyRing = new JwtKeyRing(SECRET, "HS256", "", "", false);
+        JwtTokenProvider provider = new JwtTokenProvider(jwtKeyRing, new JwtVerificationCache(100, new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(provider, "jwtExpirationMs", expirationMs);
+        provider.init();
+        return provider;
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.pulse.member.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static com.pulse.member.util.Constant.ISSUED_AT_MS;
+import static com.pulse.member.util.Constant.MEMBER_ID;
+
+@DisplayName("[Config] TokenRevocationRegistry 단위 테스트")
+class TokenRevocationRegistryTest {
+
+    private TokenRevocationRegistry sut;
+
+
+    @BeforeEach
+    void setUp() {
+        sut = new TokenRevocationRegistry(3600000, new SimpleMeterRegistry());
+    }
+
+
+    @DisplayName("[happy] 폐기 시각 이전에 발급된 토큰은 폐기되고, 이후에 발급된 토큰은 유효하다.")
+    @Test
+    void isRevoked() {
+        // given
+        long now = Instant.now().toEpochMilli();
+        sut.revoke(1L, now);
+
+        // when & then
+        Assertions.assertThat(sut.isRevoked(createClaims(1L, now - 10))).isTrue();
+        Assertions.assertThat(sut.isRevoked(createClaims(1L, now))).isFalse();
+        Assertions.assertThat(sut.isRevoked(createClaims(1L, now + 1))).isFalse();
+        Assertions.assertThat(sut.isRevoked(createClaims(2L, now - 10))).isFalse();
+    }
+
+
+    @DisplayName("[happy] 폐기와 같은 초에 다시 로그인해 받은 토큰은 밀리초 발급 시각으로 비교하므로 유효하다.")
+    @Test
+    void isRevoked_sameSecond() {
+        // given
+        long secondStart = Instant.now().getEpochSecond() * 1000;
+        sut.revoke(1L, secondStart + 100);
+
+        // when & then
+        Assertions.assertThat(sut.isRevoked(createClaims(1L, secondStart + 50))).isTrue();
+        Assertions.assertThat(sut.isRevoked(createClaims(1L, secondStart + 200))).isFalse();
+    }
+
+
+    @DisplayName("[happy] 밀리초 발급 시각 클레임이 없는 이전 토큰은 iat 초의 시작 시각으로 비교한다.")
+    @Test
+    void isRevoked_legacyIssuedAt() {
+        // given
+        long secondStart = Instant.now().getEpochSecond() * 1000;
+        sut.revoke(1L, secondStart + 100);
+        Claims claims = Jwts.claims()
+                .subject("test@test.com")
+                .add(MEMBER_ID, 1L)
+                .issuedAt(Date.from(Instant.ofEpochMilli(secondStart)))
+                .build();
+
+        // when & then
+        Assertions.assertThat(sut.isRevoked(claims)).isTrue();
+    }
+
+
+    @DisplayName("[happy] 폐기 정보가 순서 없이 도착해도 가장 늦은 폐기 시각을 유지한다.")
+    @Test
+    void revokeKeepsLatest() {
+        // given
+        long now = Instant.now().toEpochMilli();
+
+        // when
+        sut.revoke(1L, now);
+        sut.revoke(1L, now - 100000);
+
+        // then
+        Assertions.assertThat(sut.isRevoked(1L, now - 50000)).isTrue();
+    }
+
+
+    @DisplayName("[happy] access 토큰 수명이 지난 폐기 항목은 정리된다.")
+    @Test
+    void pruneExpired() {
+        // given
+        long now = Instant.now().toEpochMilli();
+        sut.revoke(1L, now - 7200000);
+        sut.revoke(2L, now);
+
+        // when
+        sut.pruneExpired();
+
+        // then
+        Assertions.assertThat(sut.isRevoked(1L, now - 7200000 - 1)).isFalse();
+        Assertions.assertThat(sut.isRevoked(2L, now - 1)).isTrue();
+    }
+
+
+    @DisplayName("[bad] 회원 ID 클레임이 없는 토큰은 폐기 여부를 확인하지 않는다.")
+    @Test
+    void isRevoked_withoutMemberId() {
+        // given
+        long now = Instant.now().toEpochMilli();
+        sut.revoke(1L, now);
+        Claims claims = Jwts.claims().subject("test@test.com").issuedAt(Date.from(Instant.ofEpochMilli(now - 10))).build();
+
+        // when & then
+        Assertions.assertThat(sut.isRevoked(claims)).isFalse();
+    }
+
+
+    /**
+     * @param memberId 회원 ID
+     * @param issuedAt 발급 시각 (epoch 밀리초)
+     * @return 테스트용 Claims
+     * @apiNote test를 위한 Claims 생성
+     */
+    private Claims createClaims(Long memberId, long issuedAt) {
+        return Jwts.claims()
+                .subject("test@test.com")
+                .add(MEMBER_ID, memberId)
+                .add(ISSUED_AT_MS, issuedAt)
+                .issuedAt(Date.from(Instant.ofEpochSecond(issuedAt / 1000)))
+                .build();
+    }
+
+}
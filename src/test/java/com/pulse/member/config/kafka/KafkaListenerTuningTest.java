@@ -0,0 +1,115 @@
+package com.pulse.member.config.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.support.TopicPartitionOffset;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Map;
+
+@DisplayName("[Config] KafkaListenerTuning 단위 테스트")
+class KafkaListenerTuningTest {
+
+    private static final String TOPIC = "member-created-outbox";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("kafka.listener.topics." + TOPIC + ".concurrency", "3")
+            .withProperty("kafka.listener.topics." + TOPIC + ".fetchMinBytes", "16384")
+            .withProperty("kafka.listener.topics." + TOPIC + ".maxPollRecords", "200");
+    private final KafkaListenerTuning sut = new KafkaListenerTuning(environment, meterRegistry, 1, 1, 500, 5000);
+
+
+    @DisplayName("[happy] 토픽별로 지정한 값은 토픽 설정을, 지정하지 않은 값은 기본값을 사용한다.")
+    @Test
+    void settingsFor() {
+        // when
+        KafkaListenerTuning.TopicSettings tuned = sut.settingsFor(TOPIC, 500);
+        KafkaListenerTuning.TopicSettings untuned = sut.settingsFor("member-token-revocation", 500);
+
+        // then
+        Assertions.assertThat(tuned).isEqualTo(new KafkaListenerTuning.TopicSettings(3, 200, 16384, 500, 5000));
+        Assertions.assertThat(untuned).isEqualTo(new KafkaListenerTuning.TopicSettings(1, 500, 1, 500, 5000));
+    }
+
+
+    @DisplayName("[happy] 컨테이너에 토픽의 동시성과 컨슈머 설정을 적용하고, 처리 시간 타이머에 토픽 태그를 붙인다.")
+    @Test
+    void customize() {
+        // given
+        ContainerProperties containerProperties = new ContainerProperties(TOPIC);
+        containerProperties.setGroupId("member-group-member-create");
+        ConcurrentMessageListenerContainer<String, String> container =
+                new ConcurrentMessageListenerContainer<>(new DefaultKafkaConsumerFactory<>(Map.of()), containerProperties);
+
+        // when
+        sut.customize(container, 500);
+
+        // then
+        Assertions.assertThat(container.getConcurrency()).isEqualTo(3);
+        Assertions.assertThat(container.getContainerProperties().getKafkaConsumerProperties())
+                .containsEntry(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, "200")
+                .containsEntry(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, "16384")
+                .containsEntry(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, "500");
+        Assertions.assertThat(container.getContainerProperties().getMicrometerTags())
+                .containsEntry("topic", TOPIC)
+                .containsEntry("group", "member-group-member-create");
+        Assertions.assertThat(meterRegistry.get("kafka.consumer.concurrency").tag("topic", TOPIC).gauge().value()).isEqualTo(3);
+    }
+
+
+    @DisplayName("[happy] 파티션을 직접 할당받는 컨테이너는 할당한 파티션의 토픽 설정을 적용한다.")
+    @Test
+    void customize_manualAssignment() {
+        // given
+        ContainerProperties containerProperties = new ContainerProperties(
+                new TopicPartitionOffset(TOPIC, 0), new TopicPartitionOffset(TOPIC, 1));
+        ConcurrentMessageListenerContainer<String, String> container =
+                new ConcurrentMessageListenerContainer<>(new DefaultKafkaConsumerFactory<>(Map.of()), containerProperties);
+
+        // when
+        sut.customize(container, 500);
+
+        // then
+        Assertions.assertThat(container.getConcurrency()).isEqualTo(3);
+        Assertions.assertThat(container.getContainerProperties().getMicrometerTags())
+                .containsEntry("topic", TOPIC)
+                .containsEntry("group", "");
+    }
+
+
+    @DisplayName("[happy] 같은 토픽/그룹의 컨테이너를 다시 만들어도 동시성 게이지는 하나만 남고 마지막으로 적용한 값을 보고한다.")
+    @Test
+    void customize_rebuiltContainer() {
+        // given
+        ConcurrentMessageListenerContainer<String, String> first = createContainer();
+        ConcurrentMessageListenerContainer<String, String> rebuilt = createContainer();
+        sut.customize(first, 500);
+        environment.setProperty("kafka.listener.topics." + TOPIC + ".concurrency", "2");
+
+        // when
+        sut.customize(rebuilt, 500);
+
+        // then
+        Assertions.assertThat(meterRegistry.find("kafka.consumer.concurrency").tag("topic", TOPIC).gauges()).hasSize(1);
+        Assertions.assertThat(meterRegistry.get("kafka.consumer.concurrency").tag("topic", TOPIC).gauge().value()).isEqualTo(2);
+    }
+
+
+    /**
+     * @return 토픽을 구독하는 테스트 컨테이너
+     * @apiNote test를 위한 컨테이너 생성 메서드
+     */
+    private ConcurrentMessageListenerContainer<String, String> createContainer() {
+        ContainerProperties containerProperties = new ContainerProperties(TOPIC);
+        containerProperties.setGroupId("member-group-member-create");
+        return new ConcurrentMessageListenerContainer<>(new DefaultKafkaConsumerFactory<>(Map.of()), containerProperties);
+    }
+
+}
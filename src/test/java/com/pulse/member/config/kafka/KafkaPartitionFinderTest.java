@@ -0,0 +1,95 @@
+package com.pulse.member.config.kafka;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[Config] KafkaPartitionFinder 단위 테스트")
+class KafkaPartitionFinderTest {
+
+    private static final String TOPIC = "member-token-revocation";
+
+    @Mock private ConsumerFactory<String, String> consumerFactory;
+    @Mock private Consumer<String, String> consumer;
+
+    private KafkaPartitionFinder sut;
+
+
+    @BeforeEach
+    void setUp() {
+        sut = new KafkaPartitionFinder(consumerFactory, 100, 3, 0);
+        given(consumerFactory.createConsumer(isNull(), isNull(), isNull(), any(Properties.class))).willReturn(consumer);
+    }
+
+
+    @DisplayName("[happy] 조회에 실패하면 다시 조회하고, 조회한 파티션 번호를 오름차순으로 반환한다.")
+    @Test
+    void partitionsRetriesUntilFound() {
+        // given
+        given(consumer.partitionsFor(eq(TOPIC), any(Duration.class)))
+                .willThrow(new TimeoutException("metadata timeout"))
+                .willReturn(List.of(partitionInfo(2), partitionInfo(0), partitionInfo(1)));
+
+        // when
+        List<Integer> result = sut.partitions(TOPIC);
+
+        // then
+        Assertions.assertThat(result).containsExactly(0, 1, 2);
+        verify(consumer, times(2)).partitionsFor(eq(TOPIC), any(Duration.class));
+    }
+
+
+    @DisplayName("[bad] 모든 시도에서 조회하지 못하면 0번 파티션으로 대체하지 않고 예외를 던진다.")
+    @Test
+    void partitionsFailsAfterAllAttempts() {
+        // given
+        given(consumer.partitionsFor(eq(TOPIC), any(Duration.class))).willThrow(new TimeoutException("metadata timeout"));
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> sut.partitions(TOPIC))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(TOPIC);
+        verify(consumer, times(3)).partitionsFor(eq(TOPIC), any(Duration.class));
+    }
+
+
+    @DisplayName("[bad] 한 번만 조회하는 경우 실패하면 empty를 반환한다.")
+    @Test
+    void findPartitionsReturnsEmptyOnFailure() {
+        // given
+        given(consumer.partitionsFor(eq(TOPIC), any(Duration.class))).willReturn(List.of());
+
+        // when & then
+        Assertions.assertThat(sut.findPartitions(TOPIC)).isEmpty();
+    }
+
+
+    /**
+     * @param partition 파티션 번호
+     * @return 테스트용 파티션 정보
+     */
+    private PartitionInfo partitionInfo(int partition) {
+        return new PartitionInfo(TOPIC, partition, null, null, null);
+    }
+
+}
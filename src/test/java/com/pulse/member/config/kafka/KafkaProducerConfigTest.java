@@ -0,0 +1,103 @@
+package com.pulse.member.config.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.MicrometerProducerListener;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("[Config] KafkaProducerConfig 단위 테스트")
+class KafkaProducerConfigTest {
+
+    private final KafkaProducerConfig sut = new KafkaProducerConfig();
+
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(sut, "bootstrapServers", "localhost:9092");
+        ReflectionTestUtils.setField(sut, "producerProfile", "throughput");
+        ReflectionTestUtils.setField(sut, "relaySendTimeoutMs", 10000L);
+    }
+
+
+    @DisplayName("[happy] DLT 프로듀서 팩토리는 프로필 설정과 타입별 value serializer를 사용하고, 프로듀서 메트릭 리스너를 등록한다.")
+    @Test
+    void deadLetterProducerFactory() {
+        // when
+        DefaultKafkaProducerFactory<String, Object> producerFactory =
+                (DefaultKafkaProducerFactory<String, Object>) sut.deadLetterProducerFactory(new SimpleMeterRegistry());
+
+        // then
+        Assertions.assertThat(producerFactory.getConfigurationProperties())
+                .containsEntry(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092")
+                .containsEntry(ProducerConfig.COMPRESSION_TYPE_CONFIG, "zstd");
+        Assertions.assertThat(producerFactory.getKeySerializerSupplier().get()).isInstanceOf(StringSerializer.class);
+        Assertions.assertThat(producerFactory.getValueSerializerSupplier().get()).isInstanceOf(DelegatingByTypeSerializer.class);
+        Assertions.assertThat(producerFactory.getListeners()).hasAtLeastOneElementOfType(MicrometerProducerListener.class);
+    }
+
+
+    @DisplayName("[happy] 속성별로 덮어쓴 값을 프로필 값 대신 프로듀서 설정에 적용한다.")
+    @Test
+    void producerFactory_overrides() {
+        // given
+        ReflectionTestUtils.setField(sut, "producerLingerMs", 5);
+        ReflectionTestUtils.setField(sut, "producerBatchSize", 64 * 1024);
+
+        // when
+        DefaultKafkaProducerFactory<String, byte[]> producerFactory =
+                (DefaultKafkaProducerFactory<String, byte[]>) sut.producerFactory(new SimpleMeterRegistry());
+
+        // then
+        Assertions.assertThat(producerFactory.getConfigurationProperties())
+                .containsEntry(ProducerConfig.LINGER_MS_CONFIG, 5)
+                .containsEntry(ProducerConfig.BATCH_SIZE_CONFIG, 64 * 1024)
+                .containsEntry(ProducerConfig.COMPRESSION_TYPE_CONFIG, "zstd");
+    }
+
+
+    @DisplayName("[exception] 덮어쓴 delivery.timeout.ms가 relay가 기다리는 시간 이상이면 프로필 값이 짧아도 IllegalStateException이 발생한다.")
+    @Test
+    void producerFactory_overriddenDeliveryTimeoutTooLong() {
+        // given
+        ReflectionTestUtils.setField(sut, "producerDeliveryTimeoutMs", 12000);
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> sut.producerFactory(new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("outbox.relaySendTimeoutMs");
+    }
+
+
+    @DisplayName("[exception] 덮어쓴 delivery.timeout.ms가 linger.ms + request.timeout.ms보다 짧으면 IllegalStateException이 발생한다.")
+    @Test
+    void producerFactory_deliveryTimeoutShorterThanRequestTimeout() {
+        // given
+        ReflectionTestUtils.setField(sut, "producerDeliveryTimeoutMs", 3000);
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> sut.producerFactory(new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("linger.ms + request.timeout.ms");
+    }
+
+
+    @DisplayName("[exception] 프로듀서의 delivery.timeout.ms가 relay가 기다리는 시간 이상이면 IllegalStateException이 발생한다.")
+    @Test
+    void producerFactory_deliveryTimeoutTooLong() {
+        // given
+        ReflectionTestUtils.setField(sut, "relaySendTimeoutMs", 5000L);
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> sut.producerFactory(new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("delivery.timeout.ms");
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.pulse.member.config.kafka;
+
+import com.pulse.member.grpc.MemberEventProto.MemberOutboxEvent;
+import com.pulse.member.grpc.MemberProto;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.test.condition.EmbeddedKafkaCondition;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내장 Kafka 브로커로 프로필별 프로듀서 처리량을 측정하는 벤치마크 (gradle benchmark 로 실행, 기본 test 작업에서는 제외)
+ * relay와 같은 방식으로 batch 단위로 전송 후 flush 하고 ack를 기다리며, 처리량과 프로듀서 메트릭을 로그로 남깁니다.
+ */
+@Tag("benchmark")
+@EmbeddedKafka(partitions = 6, topics = KafkaProducerProfileBenchmarkTest.TOPIC)
+@DisplayName("[Benchmark] KafkaProducerProfile 처리량 측정")
+class KafkaProducerProfileBenchmarkTest {
+
+    static final String TOPIC = "member-created-outbox";
+
+    private static final Logger log = LoggerFactory.getLogger(KafkaProducerProfileBenchmarkTest.class);
+
+    private static final int WARM_UP_RECORDS = 2_000;
+    private static final int RECORDS = 50_000;
+    private static final int RELAY_BATCH_SIZE = 500;
+    private static final int MEMBERS = 10_000;
+
+
+    @DisplayName("[happy] 프로필별로 회원 ID를 key로 outbox 이벤트를 전송하고 처리량과 프로듀서 메트릭을 기록한다.")
+    @ParameterizedTest
+    @EnumSource(KafkaProducerProfile.class)
+    void throughput(KafkaProducerProfile profile) throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DefaultKafkaProducerFactory<String, byte[]> producerFactory =
+                KafkaProducerConfig.createProducerFactory(EmbeddedKafkaCondition.getBroker().getBrokersAsString(), profile, meterRegistry);
+        KafkaTemplate<String, byte[]> kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        try {
+            send(kafkaTemplate, WARM_UP_RECORDS);
+
+            // when
+            long startNanos = System.nanoTime();
+            int acked = send(kafkaTemplate, RECORDS);
+            long elapsedNanos = System.nanoTime() - startNanos;
+
+            // then
+            Assertions.assertThat(acked).isEqualTo(RECORDS);
+            double recordsPerSecond = RECORDS / (elapsedNanos / 1_000_000_000.0);
+            log.info("[{}] {} records in {} ms -> {} records/s, batch.size.avg: {} bytes, request.latency.avg: {} ms",
+                    profile.getName(), RECORDS, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), String.format("%.0f", recordsPerSecond),
+                    String.format("%.0f", producerMetric(meterRegistry, profile, "kafka.producer.batch.size.avg")),
+                    String.format("%.2f", producerMetric(meterRegistry, profile, "kafka.producer.request.latency.avg")));
+            Assertions.assertThat(meterRegistry.find("kafka.producer.record.send.rate").tag("profile", profile.getName()).meter())
+                    .isNotNull();
+        } finally {
+            producerFactory.destroy();
+        }
+    }
+
+
+    /**
+     * @param kafkaTemplate Kafka 템플릿
+     * @param records       전송할 건수
+     * @return ack를 받은 건수
+     * @apiNote relay처럼 RELAY_BATCH_SIZE 건씩 전송하고 flush 한 뒤 ack를 기다립니다.
+     */
+    private int send(KafkaTemplate<String, byte[]> kafkaTemplate, int records) throws Exception {
+        int acked = 0;
+        for (int sent = 0; sent < records; sent += RELAY_BATCH_SIZE) {
+            List<CompletableFuture<SendResult<String, byte[]>>> futures = new ArrayList<>();
+            for (int index = sent; index < Math.min(sent + RELAY_BATCH_SIZE, records); index++) {
+                long memberId = index % MEMBERS;
+                futures.add(kafkaTemplate.send(new ProducerRecord<>(TOPIC, String.valueOf(memberId), createEvent(memberId))));
+            }
+            kafkaTemplate.flush();
+            for (CompletableFuture<SendResult<String, byte[]>> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+                acked++;
+            }
+        }
+        return acked;
+    }
+
+
+    /**
+     * @param memberId 회원 ID
+     * @return 회원 스냅샷을 포함한 fat event record 값
+     * @apiNote test를 위한 MemberOutboxEvent 생성
+     */
+    private byte[] createEvent(long memberId) {
+        return MemberOutboxEvent.newBuilder()
+                .setMemberId(memberId)
+                .setSnapshot(MemberProto.MemberRetrieveResponse.newBuilder()
+                        .setId(memberId)
+                        .setEmail("member" + memberId + "@pulse.com")
+                        .setName("member-" + memberId)
+                        .build())
+                .build()
+                .toByteArray();
+    }
+
+
+    /**
+     * @param meterRegistry MeterRegistry
+     * @param profile       프로듀서 설정 프로필
+     * @param name          프로듀서 메트릭 이름
+     * @return 메트릭 값 (없으면 NaN)
+     */
+    private double producerMetric(SimpleMeterRegistry meterRegistry, KafkaProducerProfile profile, String name) {
+        Meter meter = meterRegistry.find(name).tag("profile", profile.getName()).meter();
+        if (meter == null) {
+            return Double.NaN;
+        }
+        return meter.measure().iterator().next().getValue();
+    }
+
+}
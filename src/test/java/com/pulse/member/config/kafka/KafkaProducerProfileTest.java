@@ -0,0 +1,85 @@
+package com.pulse.member.config.kafka;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+@DisplayName("[Config] KafkaProducerProfile 단위 테스트")
+class KafkaProducerProfileTest {
+
+    @DisplayName("[happy] 두 프로필 모두 멱등 프로듀서 조건(acks=all, in-flight 5 이하)을 지키고, 프로필별 압축/linger/batch 크기를 적용한다.")
+    @Test
+    void toProducerProps() {
+        // when
+        Map<String, Object> lowLatency = KafkaProducerProfile.of("low-latency").toProducerProps();
+        Map<String, Object> throughput = KafkaProducerProfile.of("throughput").toProducerProps();
+
+        // then
+        for (Map<String, Object> props : List.of(lowLatency, throughput)) {
+            Assertions.assertThat(props)
+                    .containsEntry(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true)
+                    .containsEntry(ProducerConfig.ACKS_CONFIG, "all");
+            Assertions.assertThat((Integer) props.get(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION)).isLessThanOrEqualTo(5);
+        }
+        Assertions.assertThat(lowLatency)
+                .containsEntry(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4")
+                .containsEntry(ProducerConfig.LINGER_MS_CONFIG, 0);
+        Assertions.assertThat(throughput)
+                .containsEntry(ProducerConfig.COMPRESSION_TYPE_CONFIG, "zstd")
+                .containsEntry(ProducerConfig.LINGER_MS_CONFIG, 20);
+        Assertions.assertThat((Integer) throughput.get(ProducerConfig.BATCH_SIZE_CONFIG))
+                .isGreaterThan((Integer) lowLatency.get(ProducerConfig.BATCH_SIZE_CONFIG));
+    }
+
+
+    @DisplayName("[happy] 덮어쓴 속성만 바꾸고, 덮어쓰지 않은 속성과 멱등 프로듀서 조건은 프로필 값을 유지한다.")
+    @Test
+    void toProducerProps_overrides() {
+        // given
+        KafkaProducerOverrides overrides = KafkaProducerOverrides.builder()
+                .lingerMs(5)
+                .compressionType("lz4")
+                .deliveryTimeoutMs(9000)
+                .build();
+
+        // when
+        Map<String, Object> props = KafkaProducerProfile.THROUGHPUT.toProducerProps(overrides);
+
+        // then
+        Assertions.assertThat(props)
+                .containsEntry(ProducerConfig.LINGER_MS_CONFIG, 5)
+                .containsEntry(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4")
+                .containsEntry(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, 9000)
+                .containsEntry(ProducerConfig.BATCH_SIZE_CONFIG, KafkaProducerProfile.THROUGHPUT.getBatchSize())
+                .containsEntry(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, KafkaProducerProfile.THROUGHPUT.getRequestTimeoutMs())
+                .containsEntry(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true)
+                .containsEntry(ProducerConfig.ACKS_CONFIG, "all");
+    }
+
+
+    @DisplayName("[happy] 모든 프로필의 delivery.timeout.ms는 linger.ms + request.timeout.ms 이상이고, relay가 기다리는 기본 시간(10초)보다 짧다.")
+    @Test
+    void deliveryTimeoutMs() {
+        for (KafkaProducerProfile profile : KafkaProducerProfile.values()) {
+            // when & then
+            Assertions.assertThat(profile.getDeliveryTimeoutMs())
+                    .isGreaterThanOrEqualTo(profile.getLingerMs() + profile.getRequestTimeoutMs())
+                    .isLessThan(10000);
+        }
+    }
+
+
+    @DisplayName("[exception] 지원하지 않는 프로필 이름이면 IllegalArgumentException이 발생한다.")
+    @Test
+    void of_unsupported() {
+        // when & then
+        Assertions.assertThatThrownBy(() -> KafkaProducerProfile.of("fastest"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("kafka.producerProfile");
+    }
+
+}
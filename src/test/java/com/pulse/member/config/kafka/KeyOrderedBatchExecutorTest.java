@@ -0,0 +1,104 @@
+package com.pulse.member.config.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@DisplayName("[Config] KeyOrderedBatchExecutor 단위 테스트")
+class KeyOrderedBatchExecutorTest {
+
+    private final KeyOrderedBatchExecutor sut = new KeyOrderedBatchExecutor(4, new SimpleMeterRegistry());
+
+
+    @AfterEach
+    void tearDown() {
+        sut.shutdown();
+    }
+
+
+    @DisplayName("[happy] 같은 key의 레코드는 한 lane에서 오프셋 순서대로 처리하고, 서로 다른 key는 여러 스레드에서 처리한다.")
+    @Test
+    void execute_keyOrder() {
+        // given
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        for (int offset = 0; offset < 40; offset++) {
+            records.add(createRecord(offset, String.valueOf(offset % 8)));
+        }
+        Map<String, List<Long>> offsetsByKey = new ConcurrentHashMap<>();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        // when
+        sut.execute(records, lane -> {
+            threads.add(Thread.currentThread().getName());
+            lane.forEach(record -> offsetsByKey.computeIfAbsent(record.key(), key -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(record.offset()));
+        });
+
+        // then
+        Assertions.assertThat(offsetsByKey).hasSize(8);
+        offsetsByKey.values().forEach(offsets -> Assertions.assertThat(offsets).isSorted().hasSize(5));
+        Assertions.assertThat(threads).allMatch(name -> name.startsWith("kafka-key-lane-"));
+    }
+
+
+    @DisplayName("[happy] 병렬 수가 1이면 호출한 스레드에서 batch 전체를 한 번에 처리한다.")
+    @Test
+    void execute_sequential() {
+        // given
+        KeyOrderedBatchExecutor sequential = new KeyOrderedBatchExecutor(1, new SimpleMeterRegistry());
+        List<ConsumerRecord<String, String>> records = List.of(createRecord(0, "1"), createRecord(1, "2"));
+        List<List<ConsumerRecord<String, String>>> lanes = new ArrayList<>();
+
+        // when
+        sequential.execute(records, lanes::add);
+
+        // then
+        Assertions.assertThat(lanes).containsExactly(records);
+    }
+
+
+    @DisplayName("[bad] lane에서 실패한 레코드는 원래 batch에서의 위치로 알리고, 여러 lane이 실패하면 가장 앞의 위치를 알린다.")
+    @Test
+    void execute_failedIndex() {
+        // given
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        for (int offset = 0; offset < 20; offset++) {
+            records.add(createRecord(offset, String.valueOf(offset % 4)));
+        }
+        Set<Long> failedOffsets = Set.of(9L, 14L);
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> sut.execute(records, lane -> {
+                    for (int index = 0; index < lane.size(); index++) {
+                        if (failedOffsets.contains(lane.get(index).offset())) {
+                            throw new BatchListenerFailedException("failed", index);
+                        }
+                    }
+                }))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> Assertions.assertThat(e.getIndex()).isEqualTo(9));
+    }
+
+
+    /**
+     * @param offset 레코드 오프셋
+     * @param key    레코드 key (회원 ID)
+     * @return 같은 파티션의 ConsumerRecord
+     * @apiNote test를 위한 ConsumerRecord 생성
+     */
+    private ConsumerRecord<String, String> createRecord(long offset, String key) {
+        return new ConsumerRecord<>("member-created-outbox", 0, offset, key, "value");
+    }
+
+}
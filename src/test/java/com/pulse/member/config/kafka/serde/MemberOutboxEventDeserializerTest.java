@@ -0,0 +1,91 @@
+package com.pulse.member.config.kafka.serde;
+
+import com.pulse.member.grpc.MemberEventProto.MemberOutboxEvent;
+import com.pulse.member.grpc.MemberProto;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.pulse.member.util.Constant.MEMBER_OUTBOX_EVENT_SCHEMA_VERSION;
+import static com.pulse.member.util.Constant.SCHEMA_VERSION_HEADER;
+
+@DisplayName("[Config] MemberOutboxEventDeserializer 단위 테스트")
+class MemberOutboxEventDeserializerTest {
+
+    private static final String TOPIC = "member-created-outbox";
+
+    private final MemberOutboxEventDeserializer sut = new MemberOutboxEventDeserializer();
+
+
+    @DisplayName("[happy] 현재 schema-version의 record는 protobuf로 역직렬화하여 스냅샷까지 복원한다.")
+    @Test
+    void deserialize_currentVersion() {
+        // given
+        MemberOutboxEvent event = MemberOutboxEvent.newBuilder()
+                .setMemberId(1L)
+                .setSnapshot(MemberProto.MemberRetrieveResponse.newBuilder().setId(1L).setEmail("test@pulse.com").build())
+                .build();
+
+        // when
+        MemberOutboxEvent result = sut.deserialize(TOPIC, createHeaders(MEMBER_OUTBOX_EVENT_SCHEMA_VERSION), event.toByteArray());
+
+        // then
+        Assertions.assertThat(result).isEqualTo(event);
+    }
+
+
+    @DisplayName("[happy] schema-version 헤더가 없는 이전 메시지는 회원 ID 문자열 또는 이벤트 JSON에서 회원 ID를 읽는다.")
+    @Test
+    void deserialize_legacy() {
+        // when
+        MemberOutboxEvent fromId = sut.deserialize(TOPIC, new RecordHeaders(), "1".getBytes(StandardCharsets.UTF_8));
+        MemberOutboxEvent fromJson = sut.deserialize(TOPIC, new RecordHeaders(),
+                "{\"payload\":2,\"eventType\":\"member-created-outbox\"}".getBytes(StandardCharsets.UTF_8));
+
+        // then
+        Assertions.assertThat(fromId.getMemberId()).isEqualTo(1L);
+        Assertions.assertThat(fromId.hasSnapshot()).isFalse();
+        Assertions.assertThat(fromJson.getMemberId()).isEqualTo(2L);
+    }
+
+
+    @DisplayName("[bad] 지원하지 않는 schema-version의 record는 SerializationException으로 실패한다.")
+    @Test
+    void deserialize_unsupportedVersion() {
+        // given
+        byte[] data = MemberOutboxEvent.newBuilder().setMemberId(1L).build().toByteArray();
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> sut.deserialize(TOPIC, createHeaders("2"), data))
+                .isInstanceOf(SerializationException.class);
+    }
+
+
+    @DisplayName("[bad] 형식이 맞지 않는 record는 SerializationException으로 실패한다.")
+    @Test
+    void deserialize_malformed() {
+        // when & then
+        Assertions.assertThatThrownBy(() -> sut.deserialize(TOPIC, new RecordHeaders(), "not-a-number".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(SerializationException.class);
+        Assertions.assertThatThrownBy(() -> sut.deserialize(TOPIC, createHeaders(MEMBER_OUTBOX_EVENT_SCHEMA_VERSION), new byte[]{(byte) 0xff}))
+                .isInstanceOf(SerializationException.class);
+    }
+
+
+    /**
+     * @param schemaVersion schema-version 헤더 값
+     * @return schema-version 헤더를 담은 Kafka 헤더
+     * @apiNote test를 위한 Headers 생성
+     */
+    private Headers createHeaders(String schemaVersion) {
+        Headers headers = new RecordHeaders();
+        headers.add(SCHEMA_VERSION_HEADER, schemaVersion.getBytes(StandardCharsets.UTF_8));
+        return headers;
+    }
+
+}
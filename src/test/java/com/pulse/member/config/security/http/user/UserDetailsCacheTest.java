@@ -0,0 +1,138 @@
+package com.pulse.member.config.security.http.user;
+
+import com.pulse.member.adapter.out.persistence.entity.MemberEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[Config] UserDetailsCache 단위 테스트")
+class UserDetailsCacheTest {
+
+    private static final String EMAIL = "test@test.com";
+
+    @Mock private UserDetailsService userDetailsService;
+
+    private UserDetailsCache sut;
+
+
+    @BeforeEach
+    void setUp() {
+        sut = new UserDetailsCache(userDetailsService, 100, 60, new SimpleMeterRegistry());
+    }
+
+
+    @DisplayName("[happy] 같은 이메일로 여러 번 조회해도 UserDetailsService는 한 번만 호출된다.")
+    @Test
+    void get_cached() {
+        // given
+        given(userDetailsService.loadUserByUsername(EMAIL)).willReturn(createUserDetails());
+
+        // when
+        UserDetailsImpl first = sut.get(EMAIL);
+        UserDetailsImpl second = sut.get(EMAIL);
+
+        // then
+        Assertions.assertThat(second).isSameAs(first);
+        verify(userDetailsService, times(1)).loadUserByUsername(EMAIL);
+    }
+
+
+    @DisplayName("[happy] 회원 ID로 캐시를 무효화하면 다음 조회 시 다시 로드한다.")
+    @Test
+    void evictByMemberId() {
+        // given
+        given(userDetailsService.loadUserByUsername(EMAIL)).willReturn(createUserDetails());
+        sut.get(EMAIL);
+
+        // when
+        sut.evictByMemberId(1L);
+        sut.get(EMAIL);
+
+        // then
+        verify(userDetailsService, times(2)).loadUserByUsername(EMAIL);
+    }
+
+
+    @DisplayName("[exception] 조회하는 동안 회원 ID로 무효화되면 변경 전 값을 캐시하지 않고 다시 조회한다.")
+    @Test
+    void get_evictedDuringLoad() {
+        // given
+        UserDetailsImpl stale = createUserDetails();
+        UserDetailsImpl fresh = createUserDetails();
+        given(userDetailsService.loadUserByUsername(EMAIL))
+                .willAnswer(invocation -> {
+                    sut.evictByMemberId(1L);
+                    return stale;
+                })
+                .willReturn(fresh);
+
+        // when
+        UserDetailsImpl loaded = sut.get(EMAIL);
+
+        // then
+        Assertions.assertThat(loaded).isSameAs(fresh);
+        Assertions.assertThat(sut.get(EMAIL)).isSameAs(fresh);
+        verify(userDetailsService, times(2)).loadUserByUsername(EMAIL);
+    }
+
+
+    @DisplayName("[happy] 조회하는 동안 다른 회원이 무효화되어도 다시 조회하지 않는다.")
+    @Test
+    void get_otherMemberEvictedDuringLoad() {
+        // given
+        given(userDetailsService.loadUserByUsername(EMAIL))
+                .willAnswer(invocation -> {
+                    sut.evictByMemberId(2L);
+                    return createUserDetails();
+                });
+
+        // when
+        sut.get(EMAIL);
+
+        // then
+        verify(userDetailsService, times(1)).loadUserByUsername(EMAIL);
+    }
+
+
+    @DisplayName("[exception] 조회할 때마다 무효화되면 최대 횟수만 조회하고, 마지막 값을 캐시하지 않고 반환한다.")
+    @Test
+    void get_evictedOnEveryLoad() {
+        // given
+        given(userDetailsService.loadUserByUsername(EMAIL))
+                .willAnswer(invocation -> {
+                    sut.evictByMemberId(1L);
+                    return createUserDetails();
+                });
+
+        // when
+        UserDetailsImpl loaded = sut.get(EMAIL);
+
+        // then
+        Assertions.assertThat(loaded).isNotNull();
+        verify(userDetailsService, times(3)).loadUserByUsername(EMAIL);
+        sut.get(EMAIL);
+        verify(userDetailsService, times(6)).loadUserByUsername(EMAIL);
+    }
+
+
+    /**
+     * @return 테스트용 UserDetailsImpl
+     * @apiNote test를 위한 UserDetailsImpl 생성
+     */
+    private UserDetailsImpl createUserDetails() {
+        MemberEntity memberEntity = MemberEntity.builder().id(1L).email(EMAIL).nickname("tester").build();
+        return UserDetailsImpl.fromEntity(memberEntity);
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.pulse.member.config.security.password;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("[Config] PasswordHashingExecutor 단위 테스트")
+class PasswordHashingExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordHashingExecutor sut = new PasswordHashingExecutor(1, 1, 5000, meterRegistry);
+
+
+    @AfterEach
+    void tearDown() {
+        sut.shutdown();
+    }
+
+
+    @DisplayName("[happy] 전용 풀에서 해시/검증을 수행하고 연산 시간을 기록한다.")
+    @Test
+    void encodeAndMatches() {
+        // given
+        PooledPasswordEncoder encoder = new PooledPasswordEncoder(new BCryptPasswordEncoder(4), sut);
+
+        // when
+        String encoded = encoder.encode("password");
+
+        // then
+        Assertions.assertThat(encoder.matches("password", encoded)).isTrue();
+        Assertions.assertThat(encoder.matches("wrong", encoded)).isFalse();
+        Assertions.assertThat(meterRegistry.get("password.hashing.duration").tag("operation", "matches").timer().count())
+                .isEqualTo(2);
+    }
+
+
+    @DisplayName("[happy] 저장된 해시의 cost가 설정값보다 낮으면 재해시 대상이다.")
+    @Test
+    void upgradeEncoding() {
+        // given
+        String weakHash = new BCryptPasswordEncoder(4).encode("password");
+
+        // when
+        PooledPasswordEncoder encoder = new PooledPasswordEncoder(new BCryptPasswordEncoder(5), sut);
+
+        // then
+        Assertions.assertThat(encoder.upgradeEncoding(weakHash)).isTrue();
+        Assertions.assertThat(encoder.upgradeEncoding(encoder.encode("password"))).isFalse();
+    }
+
+
+    @DisplayName("[exception] 실행 중인 작업과 대기 큐가 모두 차 있으면 즉시 거절한다.")
+    @Test
+    void rejectWhenQueueIsFull() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture.runAsync(() -> sut.execute("block", () -> {
+                started.countDown();
+                return release.await(5, TimeUnit.SECONDS);
+            }));
+            Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture.runAsync(() -> sut.execute("queued", () -> true));
+            Awaitility.await().atMost(Duration.ofSeconds(5))
+                    .until(() -> meterRegistry.get("password.hashing.queue.depth").gauge().value() == 1);
+
+            // when & then
+            Assertions.assertThatThrownBy(() -> sut.execute("rejected", () -> true))
+                    .isInstanceOf(RejectedExecutionException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+
+    @DisplayName("[exception] 제한 시간 안에 끝나지 않으면 작업을 취소하고 503으로 응답하도록 거절한다.")
+    @Test
+    void rejectWhenTimedOut() throws InterruptedException {
+        // given
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 1, 50, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try {
+            // when & then
+            Assertions.assertThatThrownBy(() -> executor.execute("block", () -> {
+                        try {
+                            return release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            interrupted.countDown();
+                            throw e;
+                        }
+                    }))
+                    .isInstanceOf(RejectedExecutionException.class);
+            Assertions.assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+            Assertions.assertThat(meterRegistry.get("password.hashing.timeout").tag("operation", "block").counter().count())
+                    .isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+}
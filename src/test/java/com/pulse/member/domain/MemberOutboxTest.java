@@ -67,6 +67,52 @@ class MemberOutboxTest {
     }
 
 
+    @DisplayName("[exception] 처리완료(PROCESSED)된 아웃박스를 대기(PENDING)로 되돌리려고 하면 예외가 발생한다.")
+    @Test
+    void changeStatus_notAllowedTransition() {
+        // given
+        MemberOutbox memberOutbox = createMemberOutboxDomain();
+        memberOutbox.changeStatus(MessageStatus.PROCESSED);
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> memberOutbox.changeStatus(MessageStatus.PENDING))
+                .isInstanceOf(MemberException.class)
+                .hasMessage(ErrorCode.OUTBOX_STATUS_TRANSITION_NOT_ALLOWED.getMessage());
+    }
+
+
+    @DisplayName("[happy] 전송완료(SENT)나 실패(FAIL)는 처리완료(PROCESSED)보다 늦게 도착해도 처리완료를 덮어쓸 수 없다.")
+    @Test
+    void predecessorsOf() {
+        // when & then
+        Assertions.assertThat(MemberOutbox.predecessorsOf(MessageStatus.SENT)).doesNotContain(MessageStatus.PROCESSED);
+        Assertions.assertThat(MemberOutbox.predecessorsOf(MessageStatus.FAIL)).doesNotContain(MessageStatus.PROCESSED);
+        Assertions.assertThat(MemberOutbox.predecessorsOf(MessageStatus.PENDING)).doesNotContain(MessageStatus.PROCESSED);
+        Assertions.assertThat(MemberOutbox.predecessorsOf(MessageStatus.PROCESSED))
+                .containsExactlyInAnyOrder(MessageStatus.PENDING, MessageStatus.SENT, MessageStatus.FAIL);
+    }
+
+
+    @DisplayName("[happy] 병합(MERGED)은 전송 전(PENDING, FAIL)에서만 전이되고, 병합된 Outbox는 다른 상태로 바뀌지 않는다.")
+    @Test
+    void predecessorsOf_merged() {
+        // when & then
+        Assertions.assertThat(MemberOutbox.predecessorsOf(MessageStatus.MERGED))
+                .containsExactlyInAnyOrder(MessageStatus.PENDING, MessageStatus.FAIL);
+        for (MessageStatus status : MessageStatus.values()) {
+            Assertions.assertThat(MemberOutbox.predecessorsOf(status)).doesNotContain(MessageStatus.MERGED);
+        }
+    }
+
+
+    @DisplayName("[happy] 다시 전송했지만 또 실패한 Outbox는 실패(FAIL)로 다시 기록되어 재전송 간격이 새로 시작된다.")
+    @Test
+    void predecessorsOf_failAgain() {
+        // when & then
+        Assertions.assertThat(MemberOutbox.predecessorsOf(MessageStatus.FAIL)).contains(MessageStatus.FAIL);
+    }
+
+
     /**
      * @return MemberOutbox
      * @apiNote test를 위한 MemberOutbox 도메인 생성
@@ -0,0 +1,34 @@
+package com.pulse.member.support;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * H2가 실행하지 못하는 PostgreSQL 전용 SQL(data-modifying CTE, ON CONFLICT 등)을 실제 PostgreSQL에서 검증하는 테스트의 상위 클래스
+ * gradle postgresTest로 실행하며 (기본 test 작업에서는 제외), Docker를 사용할 수 없으면 건너뜁니다.
+ * 스키마는 운영과 같이 Hibernate(ddl-auto)와 schema-postgresql.sql로 생성합니다.
+ */
+@Tag("postgres")
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+public class TestPostgresSupporter {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+}